@@ -9,6 +9,7 @@ import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.*;
+import cloud.fogbow.ras.core.datastore.AuditableRequestSink;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
 import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
@@ -47,6 +48,15 @@ public class Main implements ApplicationRunner {
             DatabaseManager.getInstance().setRecoveryService(recoveryService);
             DatabaseManager.getInstance().setAuditableOrderStateChangeService(auditableOrderStateChangeService);
             DatabaseManager.getInstance().setAuditableRequestService(auditableRequestService);
+            int ordersWriteBatchSize = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.ORDERS_WRITE_BATCH_SIZE_KEY, ConfigurationPropertyDefaults.ORDERS_WRITE_BATCH_SIZE));
+            long ordersWriteFlushInterval = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.ORDERS_WRITE_FLUSH_INTERVAL_KEY, ConfigurationPropertyDefaults.ORDERS_WRITE_FLUSH_INTERVAL));
+            int ordersWriteQueueCapacity = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.ORDERS_WRITE_QUEUE_CAPACITY_KEY, ConfigurationPropertyDefaults.ORDERS_WRITE_QUEUE_CAPACITY));
+            DatabaseManager.getInstance().startWriteBehind(ordersWriteBatchSize, ordersWriteFlushInterval,
+                    ordersWriteQueueCapacity);
+            startAsyncAuditing();
 
             // Setting up asymmetric cryptography
             String publicKeyFilePath = PropertiesHolder.getInstance().getProperty(FogbowConstants.PUBLIC_KEY_FILE_PATH);
@@ -104,6 +114,25 @@ public class Main implements ApplicationRunner {
         }
     }
 
+    private void startAsyncAuditing() {
+        PropertiesHolder propertiesHolder = PropertiesHolder.getInstance();
+        int capacity = Integer.parseInt(propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.AUDIT_QUEUE_CAPACITY_KEY, ConfigurationPropertyDefaults.AUDIT_QUEUE_CAPACITY));
+        if (capacity <= 0) {
+            return;
+        }
+        int batchSize = Integer.parseInt(propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.AUDIT_BATCH_SIZE_KEY, ConfigurationPropertyDefaults.AUDIT_BATCH_SIZE));
+        String overflowPolicy = propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.AUDIT_OVERFLOW_POLICY_KEY, ConfigurationPropertyDefaults.AUDIT_OVERFLOW_POLICY);
+        String spillFilePath = propertiesHolder.getProperty(
+                ConfigurationPropertyKeys.AUDIT_SPILL_FILE_PATH_KEY, ConfigurationPropertyDefaults.AUDIT_SPILL_FILE_PATH);
+        AuditableRequestSink auditableRequestSink = new AuditableRequestSink(this.auditableRequestService, capacity,
+                Math.max(batchSize, 1), AuditableRequestSink.OverflowPolicy.valueOf(overflowPolicy.toUpperCase()),
+                spillFilePath);
+        DatabaseManager.getInstance().startAsyncAuditing(auditableRequestSink);
+    }
+
     private void tryExit() {
         if (!Boolean.parseBoolean(System.getenv("SKIP_TEST_ON_TRAVIS")))
             System.exit(1);
@@ -2,4 +2,5 @@ package cloud.fogbow.ras.api.http;
 
 public class CommonKeys {
     public static final String SYSTEM_USER_TOKEN_HEADER_KEY = "Fogbow-User-Token";
+    public static final String TOTAL_COUNT_HEADER_KEY = "X-Total-Count";
 }
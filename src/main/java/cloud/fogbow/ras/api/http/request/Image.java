@@ -1,6 +1,7 @@
 package cloud.fogbow.ras.api.http.request;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.ras.api.http.CommonKeys;
 import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.api.http.response.ImageSummary;
@@ -12,11 +13,16 @@ import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.apache.log4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @CrossOrigin
 @RestController
@@ -26,15 +32,31 @@ public class Image {
     public static final String IMAGE_SUFFIX_ENDPOINT = "images";
     public static final String IMAGE_ENDPOINT = SystemConstants.SERVICE_BASE_ENDPOINT + IMAGE_SUFFIX_ENDPOINT;
 
+    public static final String NAME_PARAMETER = "name";
+    public static final String PAGE_PARAMETER = "page";
+    public static final String PAGE_SIZE_PARAMETER = "size";
+
+    private static final Comparator<ImageSummary> IMAGE_ORDER = Comparator
+            .comparing(ImageSummary::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(ImageSummary::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     private final Logger LOGGER = Logger.getLogger(Image.class);
 
     @ApiOperation(value = ApiDocumentation.Image.GET_OPERATION)
+    @CrossOrigin(exposedHeaders = {CommonKeys.TOTAL_COUNT_HEADER_KEY, HttpHeaders.ETAG})
     @RequestMapping(value = "/{providerId:.+}" + "/{cloudName}", method = RequestMethod.GET)
     public ResponseEntity<List<ImageSummary>> getAllImages(
             @ApiParam(value = ApiDocumentation.CommonParameters.PROVIDER_ID)
             @PathVariable String providerId,
             @ApiParam(value = ApiDocumentation.CommonParameters.CLOUD_NAME)
             @PathVariable String cloudName,
+            @ApiParam(value = ApiDocumentation.Image.NAME)
+            @RequestParam(required = false, value = NAME_PARAMETER) String name,
+            @ApiParam(value = ApiDocumentation.Image.PAGE)
+            @RequestParam(required = false, value = PAGE_PARAMETER) Integer page,
+            @ApiParam(value = ApiDocumentation.Image.PAGE_SIZE)
+            @RequestParam(required = false, value = PAGE_SIZE_PARAMETER) Integer pageSize,
+            @RequestHeader(required = false, value = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
             @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
             throws FogbowException {
@@ -42,7 +64,21 @@ public class Image {
         try {
             LOGGER.info(Messages.Log.RECEIVING_GET_ALL_IMAGES_REQUEST);
             List<ImageSummary> imagesMap = ApplicationFacade.getInstance().getAllImages(providerId, cloudName, systemUserToken);
-            return new ResponseEntity<>(imagesMap, HttpStatus.OK);
+            List<ImageSummary> filteredImages = filterByName(imagesMap, name);
+            List<ImageSummary> images = getPage(filteredImages, page, pageSize);
+
+            String totalCount = String.valueOf(filteredImages.size());
+            String eTag = buildETag(images, filteredImages.size());
+            if (eTag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .header(CommonKeys.TOTAL_COUNT_HEADER_KEY, totalCount)
+                        .eTag(eTag)
+                        .build();
+            }
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(CommonKeys.TOTAL_COUNT_HEADER_KEY, totalCount)
+                    .eTag(eTag)
+                    .body(images);
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Log.GENERIC_EXCEPTION_S, e.getMessage()), e);
             throw e;
@@ -71,4 +107,46 @@ public class Image {
             throw e;
         }
     }
+
+    private List<ImageSummary> filterByName(List<ImageSummary> images, String name) {
+        if (name == null || name.isEmpty()) {
+            return images;
+        }
+        String lowerCaseName = name.toLowerCase();
+        return images.stream()
+                .filter(image -> image.getName() != null && image.getName().toLowerCase().contains(lowerCaseName))
+                .collect(Collectors.toList());
+    }
+
+    private List<ImageSummary> getPage(List<ImageSummary> images, Integer page, Integer pageSize)
+            throws InvalidParameterException {
+        if (pageSize == null) {
+            if (page != null) {
+                throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S,
+                        PAGE_SIZE_PARAMETER));
+            }
+            return images;
+        }
+        if (pageSize <= 0) {
+            throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S,
+                    PAGE_SIZE_PARAMETER));
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S, PAGE_PARAMETER));
+        }
+        // Pages are only meaningful over a stable order, which the clouds do not guarantee
+        List<ImageSummary> sortedImages = new ArrayList<>(images);
+        sortedImages.sort(IMAGE_ORDER);
+        long from = (long) pageNumber * pageSize;
+        if (from >= sortedImages.size()) {
+            return new ArrayList<>();
+        }
+        int to = (int) Math.min(from + pageSize, sortedImages.size());
+        return new ArrayList<>(sortedImages.subList((int) from, to));
+    }
+
+    private String buildETag(List<ImageSummary> images, int totalCount) {
+        return "\"" + Integer.toHexString(Objects.hash(images, totalCount)) + "\"";
+    }
 }
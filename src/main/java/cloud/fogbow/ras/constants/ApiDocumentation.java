@@ -42,9 +42,14 @@ public class ApiDocumentation {
 
     public static class Image {
         public static final String API = "Queries images.";
-        public static final String GET_OPERATION = "Lists all images available to the user at the indicated provider and cloud.";
+        public static final String GET_OPERATION = "Lists all images available to the user at the indicated provider and cloud. " +
+                "The total number of images matching the name filter is returned in the X-Total-Count header, and " +
+                "an ETag is returned so that unchanged listings can be revalidated with If-None-Match.";
         public static final String GET_BY_ID_OPERATION = "Lists a specific image available to the user at the indicated provider and cloud.";
         public static final String ID = "The ID of the specific image.";
+        public static final String NAME = "Only the images whose name contains this value (ignoring case) are listed.";
+        public static final String PAGE = "The page to be listed, starting at 0; requires the page size.";
+        public static final String PAGE_SIZE = "The number of images per page; when given, the images are ordered by name.";
     }
 
     public static class Network {
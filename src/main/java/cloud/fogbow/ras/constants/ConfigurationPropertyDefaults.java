@@ -18,6 +18,82 @@ public class ConfigurationPropertyDefaults {
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
     // reference value is 10 seconds
     public static final String UNABLE_TO_CHECK_ORDERS_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 4 workers
+    public static final String OPEN_ORDERS_WORKERS = Integer.toString(4);
+    // reference value is 4 workers
+    public static final String SPAWNING_ORDERS_WORKERS = Integer.toString(4);
+    // reference value is 8 workers
+    public static final String FULFILLED_ORDERS_WORKERS = Integer.toString(8);
+    // reference value is 2 workers
+    public static final String UNABLE_TO_CHECK_ORDERS_WORKERS = Integer.toString(2);
+    // reference value is 4 workers
+    public static final String CHECKING_DELETION_ORDERS_WORKERS = Integer.toString(4);
+    // reference value is 4 workers
+    public static final String ASSIGNED_FOR_DELETION_ORDERS_WORKERS = Integer.toString(4);
+    // reference value is 4 workers
+    public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_WORKERS = Integer.toString(4);
+    // reference value is 4 orders; 0 means no limit
+    public static final String MAX_CONCURRENT_ORDERS_PER_CLOUD = Integer.toString(4);
+    // reference value is 0 (spawning orders are checked on every pass)
+    public static final String SPAWNING_ORDERS_CHECK_MIN_INTERVAL = Long.toString(0);
+    // reference value is 0
+    public static final String SPAWNING_ORDERS_CHECK_MAX_INTERVAL = Long.toString(0);
+    // reference value is 1 (no backoff)
+    public static final String SPAWNING_ORDERS_CHECK_BACKOFF_FACTOR = Double.toString(1);
+    // reference value is 10 seconds
+    public static final String FULFILLED_ORDERS_CHECK_MIN_INTERVAL = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 10 minutes
+    public static final String FULFILLED_ORDERS_CHECK_MAX_INTERVAL = Long.toString(TimeUnit.MINUTES.toMillis(10));
+    // reference value is 2 (the interval doubles after each check that finds the instance unchanged)
+    public static final String FULFILLED_ORDERS_CHECK_BACKOFF_FACTOR = Double.toString(2);
+    // reference value is 100 orders per request to the cloud
+    public static final String INSTANCES_BATCH_SIZE = Integer.toString(100);
+    // reference value is 500 orders per request to the remote provider
+    public static final String REMOTE_ORDERS_BATCH_SIZE = Integer.toString(500);
+    // reference value is 10 seconds
+    public static final String REMOTE_ORDER_STATE_NOTIFICATION_RETRY_INTERVAL = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 1 minute (the providers known to push the state changes of their orders)
+    public static final String REMOTE_ORDER_STATE_RECONCILIATION_PERIOD = Long.toString(TimeUnit.MINUTES.toMillis(1));
+    // reference value is 100 orders per transaction; 1 writes each update as it happens
+    public static final String ORDERS_WRITE_BATCH_SIZE = Integer.toString(100);
+    // reference value is 1 second
+    public static final String ORDERS_WRITE_FLUSH_INTERVAL = Long.toString(TimeUnit.SECONDS.toMillis(1));
+    // reference value is 10000 orders; updates that do not fit are written as they happen
+    public static final String ORDERS_WRITE_QUEUE_CAPACITY = Integer.toString(10000);
+    // reference value is 10000 requests; 0 writes each audited request as it happens
+    public static final String AUDIT_QUEUE_CAPACITY = Integer.toString(10000);
+    // reference value is 100 requests per transaction
+    public static final String AUDIT_BATCH_SIZE = Integer.toString(100);
+    // reference value is spill (the requests that do not fit in the queue are appended to the spill file)
+    public static final String AUDIT_OVERFLOW_POLICY = "spill";
+    public static final String AUDIT_SPILL_FILE_PATH = "audit-spill.log";
+    // reference value is 5 minutes; 0 lists the images in the cloud on every request
+    public static final String IMAGE_CATALOG_TTL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 5 minutes, as the clouds of a provider change only when it is reconfigured
+    public static final String REMOTE_CLOUD_NAMES_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    // reference value is 1 minute; 0 asks the remote provider on every request
+    public static final String REMOTE_IMAGES_CACHE_TTL = Long.toString(TimeUnit.MINUTES.toMillis(1));
+    // reference value is 10 seconds (quotas are also forgotten when the remote provider signals order changes)
+    public static final String REMOTE_QUOTA_CACHE_TTL = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 1000 operations waiting per kind of Azure operation
+    public static final String AZURE_SCHEDULER_QUEUE_CAPACITY = Integer.toString(1000);
+    // reference value is caller_runs, which slows down the submitters instead of refusing operations
+    public static final String AZURE_SCHEDULER_REJECTION_POLICY = "caller_runs";
+    public static final String AZURE_ASYNC_CREATIONS_LOG_PATH = "azure-async-creations.log";
+    // reference value is 1 hour; Azure creations taking longer are looked up in the cloud
+    public static final String AZURE_ASYNC_CREATION_TIMEOUT = Long.toString(TimeUnit.HOURS.toMillis(1));
+    // reference value is 1 day; afterwards the failed instance is looked up in the cloud
+    public static final String AZURE_ASYNC_FAILED_CREATION_TTL = Long.toString(TimeUnit.DAYS.toMillis(1));
+    // reference value is 250 milliseconds, the first check of a CloudStack job
+    public static final String CLOUDSTACK_JOB_CHECK_MIN_INTERVAL = Long.toString(250);
+    // reference value is 4 seconds
+    public static final String CLOUDSTACK_JOB_CHECK_MAX_INTERVAL = Long.toString(TimeUnit.SECONDS.toMillis(4));
+    // reference value is 2 (the interval doubles each time the job is found still processing)
+    public static final String CLOUDSTACK_JOB_CHECK_BACKOFF_FACTOR = Double.toString(2);
+    // reference value is 30 seconds, as long as the 30 checks a second apart made before
+    public static final String CLOUDSTACK_JOB_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(30));
+    // reference value is 5 seconds; 0 lists the pools in the cloud on every sweep
+    public static final String OPENNEBULA_POOL_SNAPSHOT_TTL = Long.toString(TimeUnit.SECONDS.toMillis(5));
     public static final String BUILD_NUMBER = "[testing mode]";
 
     // INTERCOMPONENT CONF DEFAULT
@@ -25,6 +101,14 @@ public class ConfigurationPropertyDefaults {
     public static final String XMPP_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(5));
     // reference value is 5 seconds
     public static final String XMPP_CSC_PORT = Integer.toString(5347);
+    // reference value is 20 requests sent asynchronously awaiting a response from the same provider
+    public static final String XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER = Integer.toString(20);
+
+    // MAPPER CONF DEFAULTS
+    // reference value is 30 minutes (half of the default Keystone token lifetime)
+    public static final String CLOUD_USER_LIFETIME = Long.toString(TimeUnit.MINUTES.toMillis(30));
+    // reference value is 5 minutes
+    public static final String CLOUD_USER_REFRESH_AHEAD = Long.toString(TimeUnit.MINUTES.toMillis(5));
 
     // SSH CONF DEFAULTS
     public static final String SSH_COMMON_USER = "fogbow";
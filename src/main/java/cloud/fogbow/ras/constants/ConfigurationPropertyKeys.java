@@ -7,6 +7,7 @@ public class ConfigurationPropertyKeys {
     public static final String XMPP_SERVER_IP_KEY = "xmpp_server_ip";
     public static final String XMPP_C2C_PORT_KEY = "xmpp_c2c_port";
     public static final String XMPP_TIMEOUT_KEY = "xmpp_timeout";
+    public static final String XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER_KEY = "xmpp_max_in_flight_requests_per_provider";
 
     // RAS configuration
     public static final String PROVIDER_ID_KEY = "provider_id";
@@ -17,6 +18,48 @@ public class ConfigurationPropertyKeys {
     public static final String CHECKING_DELETION_ORDERS_SLEEP_TIME_KEY = "checking_deletion_orders_sleep_period";
     public static final String ASSIGNED_FOR_DELETION_ORDERS_SLEEP_TIME_KEY = "assigned_for_deletion_orders_sleep_period";
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME_KEY = "remote_order_state_synchronization_sleep_period";
+    public static final String OPEN_ORDERS_WORKERS_KEY = "open_orders_workers";
+    public static final String SPAWNING_ORDERS_WORKERS_KEY = "spawning_orders_workers";
+    public static final String FULFILLED_ORDERS_WORKERS_KEY = "fulfilled_orders_workers";
+    public static final String UNABLE_TO_CHECK_ORDERS_WORKERS_KEY = "unable_to_check_orders_workers";
+    public static final String CHECKING_DELETION_ORDERS_WORKERS_KEY = "checking_deletion_orders_workers";
+    public static final String ASSIGNED_FOR_DELETION_ORDERS_WORKERS_KEY = "assigned_for_deletion_orders_workers";
+    public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_WORKERS_KEY = "remote_order_state_synchronization_workers";
+    public static final String MAX_CONCURRENT_ORDERS_PER_CLOUD_KEY = "max_concurrent_orders_per_cloud";
+    // The check interval keys may be prefixed by a resource type (e.g. compute_fulfilled_orders_check_max_interval)
+    // to override them for the orders of that type
+    public static final String SPAWNING_ORDERS_CHECK_MIN_INTERVAL_KEY = "spawning_orders_check_min_interval";
+    public static final String SPAWNING_ORDERS_CHECK_MAX_INTERVAL_KEY = "spawning_orders_check_max_interval";
+    public static final String SPAWNING_ORDERS_CHECK_BACKOFF_FACTOR_KEY = "spawning_orders_check_backoff_factor";
+    public static final String FULFILLED_ORDERS_CHECK_MIN_INTERVAL_KEY = "fulfilled_orders_check_min_interval";
+    public static final String FULFILLED_ORDERS_CHECK_MAX_INTERVAL_KEY = "fulfilled_orders_check_max_interval";
+    public static final String FULFILLED_ORDERS_CHECK_BACKOFF_FACTOR_KEY = "fulfilled_orders_check_backoff_factor";
+    public static final String INSTANCES_BATCH_SIZE_KEY = "instances_batch_size";
+    public static final String REMOTE_ORDERS_BATCH_SIZE_KEY = "remote_orders_batch_size";
+    public static final String REMOTE_ORDER_STATE_NOTIFICATION_RETRY_INTERVAL_KEY = "remote_order_state_notification_retry_interval";
+    public static final String REMOTE_ORDER_STATE_RECONCILIATION_PERIOD_KEY = "remote_order_state_reconciliation_period";
+    public static final String ORDERS_WRITE_BATCH_SIZE_KEY = "orders_write_batch_size";
+    public static final String ORDERS_WRITE_FLUSH_INTERVAL_KEY = "orders_write_flush_interval";
+    public static final String ORDERS_WRITE_QUEUE_CAPACITY_KEY = "orders_write_queue_capacity";
+    public static final String AUDIT_QUEUE_CAPACITY_KEY = "audit_queue_capacity";
+    public static final String AUDIT_BATCH_SIZE_KEY = "audit_batch_size";
+    public static final String AUDIT_OVERFLOW_POLICY_KEY = "audit_overflow_policy";
+    public static final String AUDIT_SPILL_FILE_PATH_KEY = "audit_spill_file_path";
+    public static final String IMAGE_CATALOG_TTL_KEY = "image_catalog_ttl";
+    public static final String REMOTE_CLOUD_NAMES_CACHE_TTL_KEY = "remote_cloud_names_cache_ttl";
+    public static final String REMOTE_IMAGES_CACHE_TTL_KEY = "remote_images_cache_ttl";
+    public static final String REMOTE_QUOTA_CACHE_TTL_KEY = "remote_quota_cache_ttl";
+    public static final String AZURE_POOL_SIZE_KEY_FORMAT = "azure_%s_pool_size";
+    public static final String AZURE_SCHEDULER_QUEUE_CAPACITY_KEY = "azure_scheduler_queue_capacity";
+    public static final String AZURE_SCHEDULER_REJECTION_POLICY_KEY = "azure_scheduler_rejection_policy";
+    public static final String AZURE_ASYNC_CREATIONS_LOG_PATH_KEY = "azure_async_creations_log_path";
+    public static final String AZURE_ASYNC_CREATION_TIMEOUT_KEY = "azure_async_creation_timeout";
+    public static final String AZURE_ASYNC_FAILED_CREATION_TTL_KEY = "azure_async_failed_creation_ttl";
+    public static final String CLOUDSTACK_JOB_CHECK_MIN_INTERVAL_KEY = "cloudstack_job_check_min_interval";
+    public static final String CLOUDSTACK_JOB_CHECK_MAX_INTERVAL_KEY = "cloudstack_job_check_max_interval";
+    public static final String CLOUDSTACK_JOB_CHECK_BACKOFF_FACTOR_KEY = "cloudstack_job_check_backoff_factor";
+    public static final String CLOUDSTACK_JOB_TIMEOUT_KEY = "cloudstack_job_timeout";
+    public static final String OPENNEBULA_POOL_SNAPSHOT_TTL_KEY = "opennebula_pool_snapshot_ttl";
     public static final String CLOUD_NAMES_KEY = "cloud_names";
     public static final String BUILD_NUMBER_KEY = "build_number";
 
@@ -33,6 +76,10 @@ public class ConfigurationPropertyKeys {
     public static final String CLOUD_IDENTITY_PROVIDER_URL_KEY = "cloud_identity_provider_url";
     public static final String QUOTA_PLUGIN_CLASS_KEY = "quota_plugin_class";
 
+    // Mapper configuration
+    public static final String CLOUD_USER_LIFETIME_KEY = "cloud_user_lifetime";
+    public static final String CLOUD_USER_REFRESH_AHEAD_KEY = "cloud_user_refresh_ahead";
+
     // AS configuration
     public static final String AS_PORT_KEY = "as_port";
     public static final String AS_URL_KEY = "as_url";
@@ -84,6 +84,9 @@ public class Messages {
     public static class Log {
         public static final String ACTIVATING_NEW_REQUEST = "Activating new request.";
         public static final String ASYNCHRONOUS_PUBLIC_IP_STATE_S = "The asynchronous public ip request %s is in the state %s.";
+        public static final String ASYNC_INSTANCE_CREATION_S_INTERRUPTED = "The creation of instance %s was interrupted by a restart; its state will be read from the cloud.";
+        public static final String AUDIT_SINK_FULL_REQUEST_DROPPED = "The audit sink is full; the request will not be audited.";
+        public static final String AZURE_EXECUTOR_S_NOT_TERMINATED = "The Azure %s executor did not terminate in time; interrupting its threads.";
         public static final String CHANGE_TO_DEFAULT_RESOURCE_GROUP = "Changing to the default resource group.";
         public static final String CONNECTING_UP_PACKET_SENDER = "Connecting XMPP packet sender.";
         public static final String CONTENT_SECURITY_GROUP_NOT_DEFINED = "The content of SecuriryGroups in the VirtualNetwork template is not defined.";
@@ -137,6 +140,7 @@ public class Messages {
         public static final String ERROR_WHILE_CREATING_RESOURCE_S = "Error while creating %s.";
         public static final String ERROR_WHILE_CREATING_RESPONSE_BODY = "Error while creating response body.";
         public static final String ERROR_WHILE_CREATING_SECURITY_GROUPS_S = "Error while creating a security groups from template: %s.";
+        public static final String ERROR_WHILE_CREATING_SHARED_HTTP_CLIENT = "Error while creating the shared HTTP client; each AWS client will create its own.";
         public static final String ERROR_WHILE_DETACHING_VOLUME_S = "Error while detaching volume image disk: %s, with response: %s.";
         public static final String ERROR_WHILE_GETTING_DISK_SIZE = "Error while getting VM disk size.";
         public static final String ERROR_WHILE_GETTING_GROUP_S_S = "Error while getting info about group %s: %s.";
@@ -144,6 +148,7 @@ public class Messages {
         public static final String ERROR_WHILE_GETTING_TEMPLATES_S = "Error while getting info about templates: %s.";
         public static final String ERROR_WHILE_GETTING_USER_S_S = "Error while getting info about user %s: %s.";
         public static final String ERROR_WHILE_GETTING_USERS_S = "Error while getting info about users: %s.";
+        public static final String ERROR_WHILE_GETTING_VIRTUAL_MACHINES_S = "Error while getting info about virtual machines: %s.";
         public static final String ERROR_WHILE_GETTING_VOLUME_INSTANCE = "Error while getting volume instance.";
         public static final String ERROR_WHILE_INSTANTIATING_FROM_TEMPLATE_S = "Error while instantiating an instance from template: %s.";
         public static final String ERROR_WHILE_LOADING_IMAGE_S = "Error while loading the following image: %s";
@@ -159,8 +164,10 @@ public class Messages {
         public static final String FIRST_STEP_DETACH_RESOURCES_ASYNC_BEHAVIOUR = "First step: Public IP address and network security group disassociated from network instance.";
         public static final String GENERIC_EXCEPTION_S = "Operation returned error: %s.";
         public static final String GETTING_INSTANCE_S = "Getting instance %s.";
+        public static final String GETTING_INSTANCES_D = "Getting %d instances.";
         public static final String GETTING_QUOTA = "Getting quota.";
         public static final String GET_PUBLIC_KEY = "Get public key received.";
+        public static final String GIVING_UP_NOTIFYING_ORDER_STATES_S_D = "Giving up notifying requesting provider %s of the state of %d orders; it will learn them from its synchronization.";
         public static final String INCONSISTENT_DIRECTION_S = "The direction (%s) is inconsistent";
         public static final String INCONSISTENT_PROTOCOL_S = "The protocol (%s) is inconsistent";
         public static final String INCONSISTENT_RANGE_S = "The range(%s) is inconsistent";
@@ -178,6 +185,7 @@ public class Messages {
         public static final String NO_REMOTE_COMMUNICATION_CONFIGURED = "No remote communication configured.";
         public static final String ORDER_S_CHANGED_STATE_TO_S = "Order changed %s state to %s.";
         public static final String PACKET_SENDER_INITIALIZED = "XMPP packet sender initialized.";
+        public static final String PLUGINS_OF_CLOUD_S_BUILT_IN_D_MS = "Plugins of cloud %s built in %d ms.";
         public static final String RECEIVING_COMPUTE_QUOTA_REQUEST_S_S = "Get compute %s request for provider %s received.";
         public static final String RECEIVING_CREATE_REQUEST_S = "Create request for %s received.";
         public static final String RECEIVING_DELETE_REQUEST_S_S = "Delete request for %s %s received.";
@@ -189,9 +197,11 @@ public class Messages {
         public static final String RECEIVING_REMOTE_REQUEST_S = "Received remote request for request: %s.";
         public static final String RECEIVING_RESOURCE_S_REQUEST_S = "Get %s request for provider %s received.";
         public static final String RECOVERING_LIST_OF_ORDERS_S_D = "Recovering requests in %s list: %d requests recovered so far.";
+        public static final String RELOADING_PLUGINS_OF_CLOUD_S = "Reloading plugins of cloud %s.";
         public static final String REMOVING_ORDER_IN_SELECT_STATE_S = "Order %s might have left garbage in cloud.";
         public static final String REQUESTING_GET_ALL_FROM_PROVIDER = "Requesting all images from provider.";
         public static final String REQUESTING_INSTANCE_FROM_PROVIDER = "Requesting instance from provider.";
+        public static final String REQUESTING_PROVIDER_S_DOES_NOT_TAKE_NOTIFICATIONS = "Requesting provider %s does not take order state notifications; it will learn them from its synchronization.";
         public static final String REQUESTING_TO_CLOUD_S_S = "Requesting to the cloud by the user %s. URL: %s";
         public static final String RESOURCE_CREATION_FAILED_S = "Resource creation failed: %s";
         public static final String RESPONSE_RECEIVED_S = "Received response: %s.";
@@ -219,10 +229,22 @@ public class Messages {
         public static final String UNABLE_TO_LOAD_FLAVOURS = "Unable to load flavours.";
         public static final String UNABLE_TO_LOCATE_ORDER_S_S = "Unable to locate order %s notified by %s.";
         public static final String UNABLE_TO_MARSHALL_IN_XML = "Unable to marshall in xml.";
+        public static final String UNABLE_TO_NOTIFY_ORDER_STATES_S_D = "Unable to notify requesting provider %s of the state of %d orders; retrying later.";
         public static final String UNABLE_TO_NOTIFY_REQUESTING_PROVIDER_S_S = "Unable to notify requesting provider %s for request %s.";
+        public static final String UNABLE_TO_READ_ASYNC_CREATIONS_LOG_S = "Unable to read the asynchronous creations log %s; the creations in flight before the restart are unknown.";
+        public static final String UNABLE_TO_REFRESH_CLOUD_USER_S = "Unable to refresh cloud user: %s.";
+        public static final String UNABLE_TO_REFRESH_FLAVORS_S = "Unable to refresh the flavors of project %s; the previous ones will be used.";
+        public static final String UNABLE_TO_REFRESH_IMAGES_S = "Unable to refresh the images of cloud user %s; the previous ones will be used.";
         public static final String UNABLE_TO_RETRIEVE_NETWORK_ID_S = "Unable to retrieve network id from json %s.";
         public static final String UNABLE_TO_RETRIEVE_ROOT_VOLUME_S = "Unable to retrieve root volume for virtual machine %s; assigning -1 to disk size.";
+        public static final String UNABLE_TO_SPILL_AUDITABLE_REQUEST_S = "Unable to append auditable request to %s; it will not be audited.";
+        public static final String UNABLE_TO_SYNCHRONIZE_ORDERS_IN_BATCH_S = "Unable to synchronize the orders of provider %s in a batch; synchronizing them one at a time.";
         public static final String UNABLE_TO_UNMARSHALL_XML_S = "Unable to unmarshall xml: %s.";
+        public static final String UNABLE_TO_WRITE_ASYNC_CREATIONS_LOG_S = "Unable to write to the asynchronous creations log %s.";
+        public static final String UNABLE_TO_WRITE_AUDITABLE_REQUESTS_D = "Unable to write %d auditable requests.";
+        public static final String UNABLE_TO_WRITE_ORDER_S_D = "Unable to write order %s after %d attempts; dropping its update.";
+        public static final String UNABLE_TO_WRITE_PENDING_ORDERS_D = "Unable to write %d pending orders at once; writing them one at a time.";
+        public static final String UNABLE_TO_WRITE_STATE_CHANGE_S_D = "Unable to write a state change of order %s after %d attempts; dropping it.";
         public static final String UNDEFINED_INSTANCE_STATE_MAPPING_S_S = "State %s was not mapped to a Fogbow state by %s.";
         public static final String UNEXPECTED_ERROR = "Unexpected error.";
         public static final String UNEXPECTED_ERROR_WITH_MESSAGE_S = "Unexpected exception error: %s.";
@@ -0,0 +1,161 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.collect.ForwardingMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The map of active orders, keyed by order id, which also indexes the orders by user and resource type, so that
+ * the queries on the orders of a user cost as much as the orders returned, instead of a scan over all active
+ * orders.
+ * <p>
+ * The index follows the orders added to and removed from the map. The map also keeps the
+ * {@link AllocationCounters} of the fulfilled orders it holds; as the state of an order changes while it is in
+ * the map, whoever changes it must call {@link #reindex(Order)} afterwards.
+ */
+public class ActiveOrdersMap extends ForwardingMap<String, Order> {
+    private Map<String, Order> orders;
+    private Map<String, IndexKey> indexedKeys;
+    private Map<IndexKey, Set<Order>> ordersByUserAndType;
+    private AllocationCounters allocationCounters;
+
+    public ActiveOrdersMap() {
+        this.orders = new ConcurrentHashMap<>();
+        this.indexedKeys = new HashMap<>();
+        this.ordersByUserAndType = new HashMap<>();
+        this.allocationCounters = new AllocationCounters();
+    }
+
+    @Override
+    protected Map<String, Order> delegate() {
+        return this.orders;
+    }
+
+    @Override
+    public synchronized Order put(String orderId, Order order) {
+        Order previousOrder = this.orders.put(orderId, order);
+        if (previousOrder != null) {
+            unindex(previousOrder);
+        }
+        index(order);
+        return previousOrder;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Order> orders) {
+        standardPutAll(orders);
+    }
+
+    @Override
+    public synchronized Order remove(Object orderId) {
+        Order order = this.orders.remove(orderId);
+        if (order != null) {
+            unindex(order);
+        }
+        return order;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.orders.clear();
+        this.indexedKeys.clear();
+        this.ordersByUserAndType.clear();
+        this.allocationCounters.clear();
+    }
+
+    /**
+     * Updates the allocation counters after the state of an order in the map has changed; orders not in the map
+     * are ignored.
+     */
+    public synchronized void reindex(Order order) {
+        if (this.indexedKeys.containsKey(order.getId())) {
+            this.allocationCounters.update(order);
+        }
+    }
+
+    /**
+     * @return the active orders of the given type that belong to the user
+     */
+    public synchronized List<Order> getOrders(SystemUser systemUser, ResourceType resourceType) {
+        IndexKey key = new IndexKey(systemUser, resourceType);
+        return new ArrayList<>(this.ordersByUserAndType.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * @return the running totals of the resources allocated to the fulfilled orders in the map
+     */
+    public AllocationCounters getAllocationCounters() {
+        return this.allocationCounters;
+    }
+
+    private void index(Order order) {
+        IndexKey key = IndexKey.of(order);
+        this.indexedKeys.put(order.getId(), key);
+        addTo(this.ordersByUserAndType, key, order);
+        this.allocationCounters.update(order);
+    }
+
+    private void unindex(Order order) {
+        IndexKey key = this.indexedKeys.remove(order.getId());
+        if (key != null) {
+            removeFrom(this.ordersByUserAndType, key, order);
+        }
+        this.allocationCounters.remove(order.getId());
+    }
+
+    private void addTo(Map<IndexKey, Set<Order>> index, IndexKey key, Order order) {
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(order);
+    }
+
+    private void removeFrom(Map<IndexKey, Set<Order>> index, IndexKey key, Order order) {
+        Set<Order> orders = index.get(key);
+        if (orders != null) {
+            orders.remove(order);
+            if (orders.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static class IndexKey {
+        private String userId;
+        private String identityProviderId;
+        private ResourceType resourceType;
+
+        private IndexKey(SystemUser systemUser, ResourceType resourceType) {
+            this.userId = systemUser == null ? null : systemUser.getId();
+            this.identityProviderId = systemUser == null ? null : systemUser.getIdentityProviderId();
+            this.resourceType = resourceType;
+        }
+
+        private static IndexKey of(Order order) {
+            return new IndexKey(order.getSystemUser(), order.getType());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IndexKey indexKey = (IndexKey) o;
+            return Objects.equals(this.userId, indexKey.userId) &&
+                    Objects.equals(this.identityProviderId, indexKey.identityProviderId) &&
+                    this.resourceType == indexKey.resourceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.userId, this.identityProviderId, this.resourceType);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.NetworkAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.PublicIpAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Running totals of the resources allocated to the fulfilled orders of each user, per provider, cloud and
+ * resource type. The totals follow the orders as they enter and leave the FULFILLED state, so reading the
+ * allocation of a user neither walks its orders nor takes their locks.
+ * <p>
+ * The share of each order is recorded when it is counted, and that same share is subtracted when the order
+ * stops being counted, thus the totals stay consistent even if the allocation of the order changes meanwhile.
+ */
+public class AllocationCounters {
+    private Map<String, CountedOrder> countedOrders;
+    private Map<CounterKey, Usage> totals;
+
+    public AllocationCounters() {
+        this.countedOrders = new HashMap<>();
+        this.totals = new HashMap<>();
+    }
+
+    /**
+     * Counts the order if it is fulfilled, or stops counting it otherwise; must be called whenever the state,
+     * or the allocation, of an order changes.
+     */
+    public synchronized void update(Order order) {
+        uncount(order.getId());
+        if (order.getOrderState() == OrderState.FULFILLED) {
+            CounterKey key = new CounterKey(order.getSystemUser(), order.getProvider(), order.getCloudName(),
+                    order.getType());
+            Usage usage = Usage.of(order);
+            this.countedOrders.put(order.getId(), new CountedOrder(key, usage));
+            this.totals.computeIfAbsent(key, k -> new Usage()).add(usage);
+        }
+    }
+
+    public synchronized void remove(String orderId) {
+        uncount(orderId);
+    }
+
+    public synchronized void clear() {
+        this.countedOrders.clear();
+        this.totals.clear();
+    }
+
+    public synchronized ComputeAllocation getComputeAllocation(SystemUser systemUser, String providerId,
+                                                               String cloudName) {
+        Usage total = getTotal(systemUser, providerId, cloudName, ResourceType.COMPUTE);
+        return new ComputeAllocation(total.instances, total.vCPU, total.ram, total.disk);
+    }
+
+    public synchronized VolumeAllocation getVolumeAllocation(SystemUser systemUser, String providerId,
+                                                             String cloudName) {
+        Usage total = getTotal(systemUser, providerId, cloudName, ResourceType.VOLUME);
+        return new VolumeAllocation(total.instances, total.storage);
+    }
+
+    public synchronized NetworkAllocation getNetworkAllocation(SystemUser systemUser, String providerId,
+                                                               String cloudName) {
+        Usage total = getTotal(systemUser, providerId, cloudName, ResourceType.NETWORK);
+        return new NetworkAllocation(total.instances);
+    }
+
+    public synchronized PublicIpAllocation getPublicIpAllocation(SystemUser systemUser, String providerId,
+                                                                 String cloudName) {
+        Usage total = getTotal(systemUser, providerId, cloudName, ResourceType.PUBLIC_IP);
+        return new PublicIpAllocation(total.instances);
+    }
+
+    private Usage getTotal(SystemUser systemUser, String providerId, String cloudName, ResourceType resourceType) {
+        CounterKey key = new CounterKey(systemUser, providerId, cloudName, resourceType);
+        return this.totals.getOrDefault(key, new Usage());
+    }
+
+    private void uncount(String orderId) {
+        CountedOrder countedOrder = this.countedOrders.remove(orderId);
+        if (countedOrder != null) {
+            Usage total = this.totals.get(countedOrder.key);
+            total.subtract(countedOrder.usage);
+            if (total.instances == 0) {
+                this.totals.remove(countedOrder.key);
+            }
+        }
+    }
+
+    private static class CountedOrder {
+        private CounterKey key;
+        private Usage usage;
+
+        private CountedOrder(CounterKey key, Usage usage) {
+            this.key = key;
+            this.usage = usage;
+        }
+    }
+
+    private static class Usage {
+        private int instances;
+        private int vCPU;
+        private int ram;
+        private int disk;
+        private int storage;
+
+        private static Usage of(Order order) {
+            Usage usage = new Usage();
+            usage.instances = 1;
+            if (order instanceof ComputeOrder) {
+                ComputeAllocation allocation = ((ComputeOrder) order).getActualAllocation();
+                if (allocation != null) {
+                    usage.vCPU = allocation.getvCPU();
+                    usage.ram = allocation.getRam();
+                    usage.disk = allocation.getDisk();
+                }
+            } else if (order instanceof VolumeOrder) {
+                VolumeAllocation allocation = ((VolumeOrder) order).getActualAllocation();
+                if (allocation != null) {
+                    usage.storage = allocation.getStorage();
+                }
+            }
+            return usage;
+        }
+
+        private void add(Usage usage) {
+            this.instances += usage.instances;
+            this.vCPU += usage.vCPU;
+            this.ram += usage.ram;
+            this.disk += usage.disk;
+            this.storage += usage.storage;
+        }
+
+        private void subtract(Usage usage) {
+            this.instances -= usage.instances;
+            this.vCPU -= usage.vCPU;
+            this.ram -= usage.ram;
+            this.disk -= usage.disk;
+            this.storage -= usage.storage;
+        }
+    }
+
+    private static class CounterKey {
+        private String userId;
+        private String identityProviderId;
+        private String providerId;
+        private String cloudName;
+        private ResourceType resourceType;
+
+        private CounterKey(SystemUser systemUser, String providerId, String cloudName, ResourceType resourceType) {
+            this.userId = systemUser == null ? null : systemUser.getId();
+            this.identityProviderId = systemUser == null ? null : systemUser.getIdentityProviderId();
+            this.providerId = providerId;
+            this.cloudName = cloudName;
+            this.resourceType = resourceType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CounterKey that = (CounterKey) o;
+            return Objects.equals(this.userId, that.userId) &&
+                    Objects.equals(this.identityProviderId, that.identityProviderId) &&
+                    Objects.equals(this.providerId, that.providerId) &&
+                    Objects.equals(this.cloudName, that.cloudName) &&
+                    this.resourceType == that.resourceType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.userId, this.identityProviderId, this.providerId, this.cloudName,
+                    this.resourceType);
+        }
+    }
+}
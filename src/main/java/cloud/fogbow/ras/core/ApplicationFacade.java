@@ -40,6 +40,7 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.RemoteResponseCache;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteGetCloudNamesRequest;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.RasOperation;
@@ -117,17 +118,8 @@ public class ApplicationFacade {
         if (providerId.equals(this.providerId)) {
             return this.cloudListController.getCloudNames();
         } else {
-            try {
-                RemoteGetCloudNamesRequest remoteGetCloudNames = getCloudNamesFromRemoteRequest(providerId, requester);
-                List<String> cloudNames = remoteGetCloudNames.send();
-                return cloudNames;
-            } catch (FogbowException e) {
-                LOGGER.error(e.toString(), e);
-                throw e;
-            } catch (Exception e) {
-                LOGGER.error(e.toString(), e);
-                throw new InternalServerErrorException(e.getMessage());
-            }
+            return getRemoteResponseCache().get(RemoteResponseCache.Kind.CLOUD_NAMES, providerId, null, requester,
+                    () -> getRemoteCloudNames(providerId, requester));
         }
     }
 
@@ -320,6 +312,10 @@ public class ApplicationFacade {
         RemoteGetCloudNamesRequest remoteGetCloudNames = new RemoteGetCloudNamesRequest(providerId, requester);
         return remoteGetCloudNames;
     }
+
+    protected RemoteResponseCache getRemoteResponseCache() {
+        return RemoteResponseCache.getInstance();
+    }
     
     protected SystemUser authenticate(String userToken) throws FogbowException {
         RSAPublicKey keyRSA = getAsPublicKey();
@@ -468,4 +464,18 @@ public class ApplicationFacade {
         this.buildNumber = properties.getProperty(ConfigurationPropertyKeys.BUILD_NUMBER_KEY,
                 ConfigurationPropertyDefaults.BUILD_NUMBER);
     }
+
+    private List<String> getRemoteCloudNames(String providerId, SystemUser requester) throws FogbowException {
+        try {
+            RemoteGetCloudNamesRequest remoteGetCloudNames = getCloudNamesFromRemoteRequest(providerId, requester);
+            List<String> cloudNames = remoteGetCloudNames.send();
+            return cloudNames;
+        } catch (FogbowException e) {
+            LOGGER.error(e.toString(), e);
+            throw e;
+        } catch (Exception e) {
+            LOGGER.error(e.toString(), e);
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
 }
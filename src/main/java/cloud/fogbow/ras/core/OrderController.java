@@ -67,6 +67,7 @@ public class OrderController {
             order.setOrderState(OrderState.OPEN);
             activeOrdersMap.put(orderId, order);
             openOrdersList.addItem(order);
+            sharedOrderHolders.signal(OrderState.OPEN);
             // Sometimes an order depends on other orders (ex. an attachment depends on a volume and a compute).
             // We need to keep this information, so to disallow the deletion of an order on which another order
             // depends (ex. we should not allow the deletion of a volume, for which there is an active attachment),
@@ -180,73 +181,23 @@ public class OrderController {
     public Allocation getUserAllocation(String providerId, String cloudName, SystemUser systemUser, ResourceType resourceType)
             throws InternalServerErrorException {
 
-        Map<String, Order> activeOrdersMap = this.orderHolders.getActiveOrdersMap();
-
-        Collection<Order> orders = activeOrdersMap.values();
-
-        List<Order> filteredOrders = orders.stream()
-                .filter(order -> order.getType().equals(resourceType))
-                .filter(order -> order.getOrderState().equals(OrderState.FULFILLED))
-                .filter(order -> order.isProviderLocal(providerId))
-                .filter(order -> order.getSystemUser().equals(systemUser))
-                .filter(order -> order.getCloudName().equals(cloudName))
-                .collect(Collectors.toList());
+        // The totals are kept up to date as orders enter and leave the FULFILLED state
+        AllocationCounters allocationCounters = this.orderHolders.getActiveOrdersMap().getAllocationCounters();
 
         switch (resourceType) {
             case COMPUTE:
-                List<ComputeOrder> computeOrders = castOrders(filteredOrders);
-                return getUserComputeAllocation(computeOrders);
+                return allocationCounters.getComputeAllocation(systemUser, providerId, cloudName);
             case VOLUME:
-                List<VolumeOrder> volumeOrders = castOrders(filteredOrders);
-                return getUserVolumeAllocation(volumeOrders);
+                return allocationCounters.getVolumeAllocation(systemUser, providerId, cloudName);
             case NETWORK:
-                List<NetworkOrder> networkOrders = castOrders(filteredOrders);
-                return getUserNetworkAllocation(networkOrders);
+                return allocationCounters.getNetworkAllocation(systemUser, providerId, cloudName);
             case PUBLIC_IP:
-                List<PublicIpOrder> publicIpOrders = castOrders(filteredOrders);
-                return getUserPublicIpAllocation(publicIpOrders);
+                return allocationCounters.getPublicIpAllocation(systemUser, providerId, cloudName);
             default:
                 throw new InternalServerErrorException(Messages.Exception.RESOURCE_TYPE_NOT_IMPLEMENTED);
         }
     }
 
-    @VisibleForTesting
-    <T extends Order> List<T> castOrders(List<Order> orders) {
-        List<T> result = new ArrayList<>();
-        for (Order order : orders) {
-            result.add((T) order);
-        }
-        return result;
-    }
-
-    @VisibleForTesting
-    PublicIpAllocation getUserPublicIpAllocation(List<PublicIpOrder> publicIpOrders) {
-        int publicIps = publicIpOrders.size();
-        return new PublicIpAllocation(publicIps);
-    }
-
-    @VisibleForTesting
-    NetworkAllocation getUserNetworkAllocation(List<NetworkOrder> networkOrders) {
-        int networks = networkOrders.size();
-        return new NetworkAllocation(networks);
-    }
-
-    @VisibleForTesting
-    VolumeAllocation getUserVolumeAllocation(List<VolumeOrder> volumeOrders) {
-        int volumes = volumeOrders.size();
-        int storage = 0;
-
-        for (VolumeOrder order : volumeOrders) {
-            synchronized (order) {
-                VolumeAllocation actualAllocation = order.getActualAllocation();
-                storage += actualAllocation.getStorage();
-            }
-        }
-        return new VolumeAllocation(volumes, storage);
-    }
-
-    ;
-
     public List<InstanceStatus> getInstancesStatus(SystemUser systemUser, ResourceType resourceType) throws InternalServerErrorException {
         List<InstanceStatus> instanceStatusList = new ArrayList<>();
         List<Order> allOrders = getAllOrders(systemUser, resourceType);
@@ -290,32 +241,11 @@ public class OrderController {
         return CloudConnectorFactory.getInstance().getCloudConnector(order.getProvider(), order.getCloudName());
     }
 
-    @VisibleForTesting
-    ComputeAllocation getUserComputeAllocation(Collection<ComputeOrder> computeOrders) {
-        int instances = computeOrders.size();
-        int vCPU = 0;
-        int ram = 0;
-        int disk = 0;
-
-        for (ComputeOrder order : computeOrders) {
-            synchronized (order) {
-                ComputeAllocation actualAllocation = order.getActualAllocation();
-                vCPU += actualAllocation.getvCPU();
-                ram += actualAllocation.getRam();
-                disk += actualAllocation.getDisk();
-            }
-        }
-        return new ComputeAllocation(instances, vCPU, ram, disk);
-    }
-
     private List<Order> getAllOrders(SystemUser systemUser, ResourceType resourceType) {
-        Map<String, Order> activeOrdersMap = this.orderHolders.getActiveOrdersMap();
-
-        Collection<Order> orders = activeOrdersMap.values();
+        ActiveOrdersMap activeOrdersMap = this.orderHolders.getActiveOrdersMap();
 
         // Filter all orders of resourceType from the user systemUser.
-        List<Order> requestedOrders = orders.stream()
-                .filter(order -> order.getType().equals(resourceType))
+        List<Order> requestedOrders = activeOrdersMap.getOrders(systemUser, resourceType).stream()
                 .filter(order -> order.getSystemUser().equals(systemUser)).collect(Collectors.toList());
 
         return requestedOrders;
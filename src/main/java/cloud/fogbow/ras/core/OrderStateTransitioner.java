@@ -5,6 +5,7 @@ import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.processors.RemoteOrderStateNotifier;
 
 public class OrderStateTransitioner {
 
@@ -52,10 +53,20 @@ public class OrderStateTransitioner {
                 // In this case, there is nothing else to be done
                 if (origin.removeItem(order)) {
                     order.setOrderState(newStateOrder);
+                    ordersHolder.getActiveOrdersMap().reindex(order);
                     destination.addItem(order);
+                    ordersHolder.signal(newStateList);
+                    notifyRequester(ordersHolder, order);
                 }
             }
         }
     }
-    
+
+    private static void notifyRequester(SharedOrderHolders ordersHolder, Order order) {
+        RemoteOrderStateNotifier remoteOrderStateNotifier = ordersHolder.getRemoteOrderStateNotifier();
+        if (remoteOrderStateNotifier != null) {
+            // Only the orders requested by remote providers are notified
+            remoteOrderStateNotifier.enqueue(order);
+        }
+    }
 }
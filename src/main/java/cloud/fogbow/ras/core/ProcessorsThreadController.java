@@ -3,9 +3,16 @@ package cloud.fogbow.ras.core;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.OrderState;
 import cloud.fogbow.ras.core.processors.*;
 import org.apache.log4j.Logger;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class ProcessorsThreadController {
     private static final Logger LOGGER = Logger.getLogger(ProcessorsThreadController.class);
 
@@ -16,6 +23,9 @@ public class ProcessorsThreadController {
     private final Thread failedProcessorThread;
     private final Thread assignedForDeletionProcessorThread;
     private final Thread remoteOrdersStateSynchronizationProcessorThread;
+    private final Thread remoteOrderStateNotifierThread;
+    private final String maxConcurrentOrdersPerCloud;
+    private final Map<String, OrderDispatcher> dispatchers = new LinkedHashMap<>();
 
     private final static String OPEN_PROCESSOR_THREAD_NAME = "open-proc";
     private final static String SPAWNING_PROCESSOR_THREAD_NAME = "spawning-proc";
@@ -24,49 +34,110 @@ public class ProcessorsThreadController {
     private final static String FAILED_PROCESSOR_THREAD_NAME = "failed-proc";
     private final static String ASSIGNED_FOR_DELETION_PROCESSOR_THREAD_NAME = "assigned-for-deletion-proc";
     private final static String REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME = "remote-sync-proc";
+    private final static String REMOTE_ORDER_STATE_NOTIFIER_THREAD_NAME = "remote-notify-proc";
+
+    private final static String RESOURCE_TYPE_KEY_SEPARATOR = "_";
+    private final static ResourceType[] ORDER_RESOURCE_TYPES = {ResourceType.COMPUTE, ResourceType.VOLUME,
+            ResourceType.NETWORK, ResourceType.ATTACHMENT, ResourceType.PUBLIC_IP};
 
     public ProcessorsThreadController(String localProviderId, OrderController orderController) {
+        this.maxConcurrentOrdersPerCloud = PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.MAX_CONCURRENT_ORDERS_PER_CLOUD_KEY,
+                        ConfigurationPropertyDefaults.MAX_CONCURRENT_ORDERS_PER_CLOUD);
+
+        String instancesBatchSizeStr = PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.INSTANCES_BATCH_SIZE_KEY,
+                        ConfigurationPropertyDefaults.INSTANCES_BATCH_SIZE);
+        int instancesBatchSize = Integer.parseInt(instancesBatchSizeStr);
+
         String openOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.OPEN_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.OPEN_ORDERS_SLEEP_TIME);
 
-        OpenProcessor openProcessor = new OpenProcessor(localProviderId, openOrdersProcSleepTimeStr);
+        OpenProcessor openProcessor = new OpenProcessor(localProviderId, openOrdersProcSleepTimeStr,
+                createDispatcher(OPEN_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.OPEN_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.OPEN_ORDERS_WORKERS));
 
         String spawningOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.SPAWNING_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.SPAWNING_ORDERS_SLEEP_TIME);
 
-        SpawningProcessor spawningProcessor = new SpawningProcessor(localProviderId, spawningOrdersProcSleepTimeStr);
+        SpawningProcessor spawningProcessor = new SpawningProcessor(localProviderId, spawningOrdersProcSleepTimeStr,
+                createDispatcher(SPAWNING_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.SPAWNING_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.SPAWNING_ORDERS_WORKERS),
+                createCheckScheduler(OrderState.SPAWNING,
+                        ConfigurationPropertyKeys.SPAWNING_ORDERS_CHECK_MIN_INTERVAL_KEY,
+                        ConfigurationPropertyDefaults.SPAWNING_ORDERS_CHECK_MIN_INTERVAL,
+                        ConfigurationPropertyKeys.SPAWNING_ORDERS_CHECK_MAX_INTERVAL_KEY,
+                        ConfigurationPropertyDefaults.SPAWNING_ORDERS_CHECK_MAX_INTERVAL,
+                        ConfigurationPropertyKeys.SPAWNING_ORDERS_CHECK_BACKOFF_FACTOR_KEY,
+                        ConfigurationPropertyDefaults.SPAWNING_ORDERS_CHECK_BACKOFF_FACTOR),
+                new InstancePrefetcher(localProviderId, instancesBatchSize));
 
         String fulfilledOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.FULFILLED_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.FULFILLED_ORDERS_SLEEP_TIME);
 
-        FulfilledProcessor fulfilledProcessor = new FulfilledProcessor(localProviderId, fulfilledOrdersProcSleepTimeStr);
+        FulfilledProcessor fulfilledProcessor = new FulfilledProcessor(localProviderId, fulfilledOrdersProcSleepTimeStr,
+                createDispatcher(FULFILLED_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.FULFILLED_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.FULFILLED_ORDERS_WORKERS),
+                createCheckScheduler(OrderState.FULFILLED,
+                        ConfigurationPropertyKeys.FULFILLED_ORDERS_CHECK_MIN_INTERVAL_KEY,
+                        ConfigurationPropertyDefaults.FULFILLED_ORDERS_CHECK_MIN_INTERVAL,
+                        ConfigurationPropertyKeys.FULFILLED_ORDERS_CHECK_MAX_INTERVAL_KEY,
+                        ConfigurationPropertyDefaults.FULFILLED_ORDERS_CHECK_MAX_INTERVAL,
+                        ConfigurationPropertyKeys.FULFILLED_ORDERS_CHECK_BACKOFF_FACTOR_KEY,
+                        ConfigurationPropertyDefaults.FULFILLED_ORDERS_CHECK_BACKOFF_FACTOR),
+                new InstancePrefetcher(localProviderId, instancesBatchSize));
 
         String checkingDeletionOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.CHECKING_DELETION_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.CHECKING_DELETION_ORDERS_SLEEP_TIME);
 
-        CheckingDeletionProcessor checkingDeletionProcessor = new CheckingDeletionProcessor(orderController, localProviderId, checkingDeletionOrdersProcSleepTimeStr);
+        CheckingDeletionProcessor checkingDeletionProcessor = new CheckingDeletionProcessor(orderController, localProviderId, checkingDeletionOrdersProcSleepTimeStr,
+                createDispatcher(CHECKING_DELETION_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.CHECKING_DELETION_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.CHECKING_DELETION_ORDERS_WORKERS));
         
         String unableToCheckProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.UNABLE_TO_CHECK_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.UNABLE_TO_CHECK_ORDERS_SLEEP_TIME);
         
-        UnableToCheckStatusProcessor unableToCheckStatusProcessor = new UnableToCheckStatusProcessor(localProviderId, unableToCheckProcSleepTimeStr);
+        UnableToCheckStatusProcessor unableToCheckStatusProcessor = new UnableToCheckStatusProcessor(localProviderId, unableToCheckProcSleepTimeStr,
+                createDispatcher(FAILED_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.UNABLE_TO_CHECK_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.UNABLE_TO_CHECK_ORDERS_WORKERS));
 
         String assignedForDeletionOrdersProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.ASSIGNED_FOR_DELETION_ORDERS_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.ASSIGNED_FOR_DELETION_ORDERS_SLEEP_TIME);
 
-        AssignedForDeletionProcessor assignedForDeletionProcessor = new AssignedForDeletionProcessor(localProviderId, assignedForDeletionOrdersProcSleepTimeStr);
+        AssignedForDeletionProcessor assignedForDeletionProcessor = new AssignedForDeletionProcessor(localProviderId, assignedForDeletionOrdersProcSleepTimeStr,
+                createDispatcher(ASSIGNED_FOR_DELETION_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.ASSIGNED_FOR_DELETION_ORDERS_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.ASSIGNED_FOR_DELETION_ORDERS_WORKERS));
 
         String remoteOrdersStateSynchronizationProcSleepTimeStr = PropertiesHolder.getInstance().
                 getProperty(ConfigurationPropertyKeys.REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME_KEY,
                         ConfigurationPropertyDefaults.REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME);
 
-        RemoteOrdersStateSynchronizationProcessor remoteOrdersStateSynchronizationProcessor = new RemoteOrdersStateSynchronizationProcessor(localProviderId, remoteOrdersStateSynchronizationProcSleepTimeStr);
+        String remoteOrdersBatchSizeStr = PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.REMOTE_ORDERS_BATCH_SIZE_KEY,
+                        ConfigurationPropertyDefaults.REMOTE_ORDERS_BATCH_SIZE);
+
+        String remoteOrderStateReconciliationPeriodStr = PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.REMOTE_ORDER_STATE_RECONCILIATION_PERIOD_KEY,
+                        ConfigurationPropertyDefaults.REMOTE_ORDER_STATE_RECONCILIATION_PERIOD);
+
+        RemoteOrdersStateSynchronizationProcessor remoteOrdersStateSynchronizationProcessor = new RemoteOrdersStateSynchronizationProcessor(localProviderId, remoteOrdersStateSynchronizationProcSleepTimeStr,
+                createDispatcher(REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME, ConfigurationPropertyKeys.REMOTE_ORDER_STATE_SYNCHRONIZATION_WORKERS_KEY,
+                        ConfigurationPropertyDefaults.REMOTE_ORDER_STATE_SYNCHRONIZATION_WORKERS),
+                Integer.parseInt(remoteOrdersBatchSizeStr), Long.parseLong(remoteOrderStateReconciliationPeriodStr));
+
+        String remoteOrderStateNotificationRetryIntervalStr = PropertiesHolder.getInstance().
+                getProperty(ConfigurationPropertyKeys.REMOTE_ORDER_STATE_NOTIFICATION_RETRY_INTERVAL_KEY,
+                        ConfigurationPropertyDefaults.REMOTE_ORDER_STATE_NOTIFICATION_RETRY_INTERVAL);
+
+        RemoteOrderStateNotifier remoteOrderStateNotifier = new RemoteOrderStateNotifier(localProviderId,
+                Long.parseLong(remoteOrderStateNotificationRetryIntervalStr), Integer.parseInt(remoteOrdersBatchSizeStr));
+        SharedOrderHolders.getInstance().setRemoteOrderStateNotifier(remoteOrderStateNotifier);
 
         this.openProcessorThread = new Thread(openProcessor, OPEN_PROCESSOR_THREAD_NAME);
         this.spawningProcessorThread = new Thread(spawningProcessor, SPAWNING_PROCESSOR_THREAD_NAME);
@@ -75,6 +146,7 @@ public class ProcessorsThreadController {
         this.failedProcessorThread = new Thread(unableToCheckStatusProcessor, FAILED_PROCESSOR_THREAD_NAME);
         this.assignedForDeletionProcessorThread = new Thread(assignedForDeletionProcessor, ASSIGNED_FOR_DELETION_PROCESSOR_THREAD_NAME);
         this.remoteOrdersStateSynchronizationProcessorThread = new Thread(remoteOrdersStateSynchronizationProcessor, REMOTE_ORDER_STATE_SYNCHRONIZATION_PROCESSOR_THREAD_NAME);
+        this.remoteOrderStateNotifierThread = new Thread(remoteOrderStateNotifier, REMOTE_ORDER_STATE_NOTIFIER_THREAD_NAME);
     }
 
     /**
@@ -90,5 +162,53 @@ public class ProcessorsThreadController {
         this.failedProcessorThread.start();
         this.assignedForDeletionProcessorThread.start();
         this.remoteOrdersStateSynchronizationProcessorThread.start();
+        this.remoteOrderStateNotifierThread.start();
+    }
+
+    /**
+     * @return the dispatchers used by the processors, indexed by the name of the processor thread; they
+     * expose the queue depth and the processing latency of each processor
+     */
+    public Map<String, OrderDispatcher> getDispatchers() {
+        return Collections.unmodifiableMap(this.dispatchers);
+    }
+
+    private OrderDispatcher createDispatcher(String threadName, String workersKey, String defaultWorkers) {
+        String workersStr = PropertiesHolder.getInstance().getProperty(workersKey, defaultWorkers);
+        OrderDispatcher dispatcher = new OrderDispatcher(threadName, Integer.parseInt(workersStr),
+                this::getMaxConcurrentOrders);
+        this.dispatchers.put(threadName, dispatcher);
+        return dispatcher;
+    }
+
+    // The limit of a cloud may be set by prefixing the key with its name, e.g. cloud1_max_concurrent_orders_per_cloud
+    private int getMaxConcurrentOrders(String cloudName) {
+        String maxConcurrentOrdersStr = PropertiesHolder.getInstance().getProperty(cloudName +
+                RESOURCE_TYPE_KEY_SEPARATOR + ConfigurationPropertyKeys.MAX_CONCURRENT_ORDERS_PER_CLOUD_KEY,
+                this.maxConcurrentOrdersPerCloud);
+        return Integer.parseInt(maxConcurrentOrdersStr);
+    }
+
+    private OrderCheckScheduler createCheckScheduler(OrderState orderState,
+            String minIntervalKey, String defaultMinInterval,
+            String maxIntervalKey, String defaultMaxInterval,
+            String backoffFactorKey, String defaultBackoffFactor) {
+        PropertiesHolder properties = PropertiesHolder.getInstance();
+        String minIntervalStr = properties.getProperty(minIntervalKey, defaultMinInterval);
+        String maxIntervalStr = properties.getProperty(maxIntervalKey, defaultMaxInterval);
+        String backoffFactorStr = properties.getProperty(backoffFactorKey, defaultBackoffFactor);
+        OrderCheckPolicy defaultPolicy = new OrderCheckPolicy(Long.parseLong(minIntervalStr),
+                Long.parseLong(maxIntervalStr), Double.parseDouble(backoffFactorStr));
+
+        Map<ResourceType, OrderCheckPolicy> policies = new EnumMap<>(ResourceType.class);
+        for (ResourceType resourceType : ORDER_RESOURCE_TYPES) {
+            String prefix = resourceType.getValue() + RESOURCE_TYPE_KEY_SEPARATOR;
+            OrderCheckPolicy policy = new OrderCheckPolicy(
+                    Long.parseLong(properties.getProperty(prefix + minIntervalKey, minIntervalStr)),
+                    Long.parseLong(properties.getProperty(prefix + maxIntervalKey, maxIntervalStr)),
+                    Double.parseDouble(properties.getProperty(prefix + backoffFactorKey, backoffFactorStr)));
+            policies.put(resourceType, policy);
+        }
+        return new OrderCheckScheduler(orderState, defaultPolicy, policies);
     }
 }
@@ -8,9 +8,12 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.processors.RemoteOrderStateNotifier;
 import org.apache.log4j.Logger;
 
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class SharedOrderHolders {
@@ -18,7 +21,7 @@ public class SharedOrderHolders {
 
     private static SharedOrderHolders instance;
 
-    private Map<String, Order> activeOrdersMap;
+    private ActiveOrdersMap activeOrdersMap;
     private SynchronizedDoublyLinkedList<Order> openOrders;
     private SynchronizedDoublyLinkedList<Order> selectedOrders;
     private SynchronizedDoublyLinkedList<Order> spawningOrders;
@@ -29,10 +32,19 @@ public class SharedOrderHolders {
     private SynchronizedDoublyLinkedList<Order> remoteProviderOrders;
     private SynchronizedDoublyLinkedList<Order> assignedForDeletionOrders;
     private SynchronizedDoublyLinkedList<Order> checkingDeletionOrders;
+    private Map<OrderState, WakeUpSignal> wakeUpSignals;
+    private RemoteOrderStateNotifier remoteOrderStateNotifier;
+    // The providers that have pushed the state changes of their orders to this one
+    private Set<String> pushingProviders;
 
     public SharedOrderHolders() {
         DatabaseManager databaseManager = DatabaseManager.getInstance();
-        this.activeOrdersMap = new ConcurrentHashMap<>();
+        this.activeOrdersMap = new ActiveOrdersMap();
+        this.pushingProviders = ConcurrentHashMap.newKeySet();
+        this.wakeUpSignals = new EnumMap<>(OrderState.class);
+        for (OrderState orderState : OrderState.values()) {
+            this.wakeUpSignals.put(orderState, new WakeUpSignal());
+        }
 
         try {
             // All orders in the PENDING state have remote providers
@@ -113,7 +125,7 @@ public class SharedOrderHolders {
         }
     }
 
-    public Map<String, Order> getActiveOrdersMap() {
+    public ActiveOrdersMap getActiveOrdersMap() {
         return this.activeOrdersMap;
     }
 
@@ -157,6 +169,48 @@ public class SharedOrderHolders {
         return this.checkingDeletionOrders;
     }
 
+    /**
+     * @param orderState the state associated to the list (PENDING for the list of orders of remote providers)
+     * @return the signal used to wake up the processor of the orders in the list
+     */
+    public WakeUpSignal getWakeUpSignal(OrderState orderState) {
+        return this.wakeUpSignals.get(orderState);
+    }
+
+    /**
+     * Wakes up the processor of the list associated to the given state, as an order has just been added to it.
+     */
+    public void signal(OrderState orderState) {
+        WakeUpSignal wakeUpSignal = this.wakeUpSignals.get(orderState);
+        if (wakeUpSignal != null) {
+            wakeUpSignal.signal();
+        }
+    }
+
+    /**
+     * @return the notifier of the state changes of the orders requested by remote providers, or null if they
+     * are not notified
+     */
+    public RemoteOrderStateNotifier getRemoteOrderStateNotifier() {
+        return this.remoteOrderStateNotifier;
+    }
+
+    public void setRemoteOrderStateNotifier(RemoteOrderStateNotifier remoteOrderStateNotifier) {
+        this.remoteOrderStateNotifier = remoteOrderStateNotifier;
+    }
+
+    public void addPushingProvider(String provider) {
+        this.pushingProviders.add(provider);
+    }
+
+    /**
+     * @return true if the provider is known to push the state changes of its orders, thus its orders need only
+     * be synchronized now and then
+     */
+    public boolean isPushingProvider(String provider) {
+        return this.pushingProviders.contains(provider);
+    }
+
     public SynchronizedDoublyLinkedList<Order> getOrdersList(OrderState orderState) {
         SynchronizedDoublyLinkedList<Order> list = null;
         switch (orderState) {
@@ -0,0 +1,35 @@
+package cloud.fogbow.ras.core;
+
+/**
+ * Wakes up a processor that is waiting for orders to show up in its list. A signal sent while the processor
+ * is busy is not lost: the next call to {@link #await(long)} returns immediately.
+ */
+public class WakeUpSignal {
+    private boolean signaled;
+
+    public synchronized void signal() {
+        this.signaled = true;
+        notifyAll();
+    }
+
+    /**
+     * Blocks until the signal is sent or the timeout expires, whichever comes first. The timeout keeps the
+     * processors revisiting their lists even when no order changes state (e.g. to check the instances of
+     * fulfilled orders).
+     *
+     * @param timeout the maximum time to wait, in milliseconds
+     * @throws InterruptedException if the thread is interrupted before or while waiting
+     */
+    public synchronized void await(long timeout) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (!this.signaled && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        this.signaled = false;
+    }
+}
@@ -1,15 +1,43 @@
 package cloud.fogbow.ras.core.cloudconnector;
 
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
 import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class CloudConnectorFactory {
+    private static final Logger LOGGER = Logger.getLogger(CloudConnectorFactory.class);
+
+    private static final String KEY_SEPARATOR = "/";
+
     private static CloudConnectorFactory instance;
     private String localProviderId;
+    private InteroperabilityPluginInstantiator pluginInstantiator;
+    private final Object buildLock = new Object();
+    // Plugins are expensive to build (reflection plus the reading of their configuration files), so a single
+    // LocalCloudConnector is built per cloud and used as a prototype for the connectors handed to the callers.
+    private Map<String, LocalCloudConnector> localCloudConnectors;
+    private Map<String, RemoteCloudConnector> remoteCloudConnectors;
+    private Map<String, Long> buildTimes;
+    private AtomicLong hits;
+    private AtomicLong misses;
 
     private CloudConnectorFactory() {
         this.localProviderId = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
+        this.pluginInstantiator = new InteroperabilityPluginInstantiator();
+        this.localCloudConnectors = new ConcurrentHashMap<>();
+        this.remoteCloudConnectors = new ConcurrentHashMap<>();
+        this.buildTimes = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
     }
 
     public static synchronized CloudConnectorFactory getInstance() {
@@ -22,10 +50,87 @@ public class CloudConnectorFactory {
     public CloudConnector getCloudConnector(String providerId, String cloudName) {
         CloudConnector cloudConnector;
         if (providerId.equals(this.localProviderId)) {
-            cloudConnector = new LocalCloudConnector(new InteroperabilityPluginInstantiator(), cloudName);
+            // Each caller gets its own connector, since auditing can be switched off per connector, but all
+            // of them share the same plugin instances.
+            cloudConnector = new LocalCloudConnector(getLocalCloudConnectorPrototype(cloudName));
         } else {
-            cloudConnector = new RemoteCloudConnector(providerId, cloudName);
+            cloudConnector = this.remoteCloudConnectors.computeIfAbsent(getKey(providerId, cloudName),
+                    key -> new RemoteCloudConnector(providerId, cloudName));
         }
         return cloudConnector;
     }
+
+    /**
+     * Discards the plugins of the given cloud, so that they are built again (re-reading their configuration
+     * files) the next time a connector for this cloud is requested. Connectors already handed out keep using
+     * the old plugins until they are dropped by their callers.
+     *
+     * @param cloudName the name of the cloud whose plugins must be reloaded
+     */
+    public void reload(String cloudName) {
+        LOGGER.info(String.format(Messages.Log.RELOADING_PLUGINS_OF_CLOUD_S, cloudName));
+        synchronized (this.buildLock) {
+            this.localCloudConnectors.remove(cloudName);
+            this.buildTimes.remove(cloudName);
+            this.pluginInstantiator = new InteroperabilityPluginInstantiator();
+        }
+    }
+
+    /**
+     * Discards the plugins of all clouds. See {@link #reload(String)}.
+     */
+    public void reloadAll() {
+        for (String cloudName : this.localCloudConnectors.keySet()) {
+            reload(cloudName);
+        }
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * @return the time (in milliseconds) spent building the plugins of each cloud currently in the registry
+     */
+    public Map<String, Long> getBuildTimes() {
+        return Collections.unmodifiableMap(new HashMap<>(this.buildTimes));
+    }
+
+    @VisibleForTesting
+    LocalCloudConnector getLocalCloudConnectorPrototype(String cloudName) {
+        LocalCloudConnector prototype = this.localCloudConnectors.get(cloudName);
+        if (prototype != null) {
+            this.hits.incrementAndGet();
+            return prototype;
+        }
+        synchronized (this.buildLock) {
+            // Another thread may have built the plugins while this one was waiting for the lock
+            prototype = this.localCloudConnectors.get(cloudName);
+            if (prototype != null) {
+                this.hits.incrementAndGet();
+                return prototype;
+            }
+            this.misses.incrementAndGet();
+            long startTime = System.currentTimeMillis();
+            prototype = createLocalCloudConnector(cloudName);
+            long buildTime = System.currentTimeMillis() - startTime;
+            this.buildTimes.put(cloudName, buildTime);
+            this.localCloudConnectors.put(cloudName, prototype);
+            LOGGER.info(String.format(Messages.Log.PLUGINS_OF_CLOUD_S_BUILT_IN_D_MS, cloudName, buildTime));
+            return prototype;
+        }
+    }
+
+    @VisibleForTesting
+    LocalCloudConnector createLocalCloudConnector(String cloudName) {
+        return new LocalCloudConnector(this.pluginInstantiator, cloudName);
+    }
+
+    private String getKey(String providerId, String cloudName) {
+        return providerId + KEY_SEPARATOR + cloudName;
+    }
 }
@@ -0,0 +1,150 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.AzureUser;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.common.models.OpenStackV3User;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the images each cloud user can see in a cloud, so that listing them does not walk the whole image
+ * catalog of the cloud on every request. Once the images of a user are older than the time to live, the first
+ * caller to notice starts a refresh in the background and gets the images already known. The images are kept
+ * under the key given by {@link #getKey(CloudUser)}, which also tells apart the projects a user is scoped to.
+ * Users without an id are never cached, since their images could not be told apart from the images of other
+ * users.
+ */
+public class ImageCatalog {
+    private static final Logger LOGGER = Logger.getLogger(ImageCatalog.class);
+
+    @VisibleForTesting
+    static final String REFRESH_THREAD_NAME = "image-catalog-refresh";
+    @VisibleForTesting
+    static final String KEY_SEPARATOR = "@";
+    // Entries older than this many times the time to live belong to users that stopped listing images
+    private static final int EVICTION_FACTOR = 2;
+
+    @FunctionalInterface
+    public interface Loader {
+        List<ImageSummary> load() throws FogbowException;
+    }
+
+    private long timeToLive;
+    private Map<String, Entry> entries;
+    private Set<String> refreshingUsers;
+
+    /**
+     * @param timeToLive how long, in milliseconds, the images of a user are served before being refreshed;
+     *                   0 disables the catalog
+     */
+    public ImageCatalog(long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.entries = new ConcurrentHashMap<>();
+        this.refreshingUsers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * @return the key of the images of the cloud user, made of its id and of the project (OpenStack) or
+     * subscription (Azure) it is scoped to, since the same user may see different images in each; null if the
+     * user has no id
+     */
+    public static String getKey(CloudUser cloudUser) {
+        if (cloudUser == null || cloudUser.getId() == null) {
+            return null;
+        }
+        String scope = null;
+        if (cloudUser instanceof OpenStackV3User) {
+            scope = ((OpenStackV3User) cloudUser).getProjectId();
+        } else if (cloudUser instanceof AzureUser) {
+            scope = ((AzureUser) cloudUser).getSubscriptionId();
+        }
+        return scope == null ? cloudUser.getId() : cloudUser.getId() + KEY_SEPARATOR + scope;
+    }
+
+    /**
+     * @param userKey the key of the cloud user, see {@link #getKey(CloudUser)}
+     * @return the images the cloud user can see, loading them with the loader if they are not known yet
+     */
+    public List<ImageSummary> getImages(String userKey, Loader loader) throws FogbowException {
+        if (userKey == null || this.timeToLive <= 0) {
+            return loader.load();
+        }
+        Entry entry = this.entries.get(userKey);
+        if (entry == null) {
+            entry = loadImages(userKey, loader);
+        } else if (entry.isExpired(getCurrentTime(), this.timeToLive)) {
+            refreshInBackground(userKey, loader);
+        }
+        return entry.images;
+    }
+
+    /**
+     * Forgets the images of the cloud user, so that the next caller loads them again.
+     */
+    public void invalidate(String userKey) {
+        this.entries.remove(userKey);
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    @VisibleForTesting
+    void refreshInBackground(String userKey, Loader loader) {
+        // Only one refresh per user at a time
+        if (!this.refreshingUsers.add(userKey)) {
+            return;
+        }
+        Thread refreshThread = new Thread(() -> {
+            try {
+                loadImages(userKey, loader);
+            } catch (Throwable e) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_IMAGES_S, userKey), e);
+            } finally {
+                this.refreshingUsers.remove(userKey);
+            }
+        }, REFRESH_THREAD_NAME);
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+    }
+
+    @VisibleForTesting
+    Entry loadImages(String userKey, Loader loader) throws FogbowException {
+        Entry entry = new Entry(loader.load(), getCurrentTime());
+        // Loads are rare (once per time to live and user), so the entries of the users that stopped
+        // asking for their images are swept here instead of by a thread of their own
+        this.entries.values().removeIf(other -> other.isExpired(entry.loadTime, EVICTION_FACTOR * this.timeToLive));
+        this.entries.put(userKey, entry);
+        return entry;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @VisibleForTesting
+    static class Entry {
+        private List<ImageSummary> images;
+        private long loadTime;
+
+        private Entry(List<ImageSummary> images, long loadTime) {
+            this.images = Collections.unmodifiableList(new ArrayList<>(images));
+            this.loadTime = loadTime;
+        }
+
+        private boolean isExpired(long currentTime, long timeToLive) {
+            return currentTime - this.loadTime >= timeToLive;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package cloud.fogbow.ras.core.cloudconnector;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.*;
@@ -10,12 +13,16 @@ import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.UnauthenticatedUserException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
 import cloud.fogbow.ras.api.parameters.SecurityRule;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
+import cloud.fogbow.ras.core.PropertiesHolder;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.ResourceType;
@@ -41,6 +48,7 @@ public class LocalCloudConnector implements CloudConnector {
     private static final String GET_ALL_SECURITY_RULES_OPERATION = "getAllSecurityRules";
     private static final String GET_IMAGE_OPERATION = "getImage";
     private static final String GET_INSTANCE_OPERATION = "getInstance";
+    private static final String BATCH_KEY_SEPARATOR = "/";
     private static final String GET_QUOTA_OPERATION = "getQuota";
     private static final String REQUEST_INSTANCE_OPERATION = "requestInstance";
     private static final String REQUEST_SECURITY_RULES_OPERATION = "requestSecurityRules";
@@ -54,6 +62,7 @@ public class LocalCloudConnector implements CloudConnector {
     private ImagePlugin imagePlugin;
     private SecurityRulePlugin securityRulePlugin;
     private QuotaPlugin quotaPlugin;
+    private ImageCatalog imageCatalog;
 
     private boolean auditRequestsOn = true;
 
@@ -67,6 +76,27 @@ public class LocalCloudConnector implements CloudConnector {
         this.securityRulePlugin = instantiator.getSecurityRulePlugin(cloudName);
         this.mapperPlugin = instantiator.getSystemToCloudMapperPlugin(cloudName);
         this.quotaPlugin = instantiator.getQuotaPlugin(cloudName);
+        this.imageCatalog = new ImageCatalog(Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.IMAGE_CATALOG_TTL_KEY, ConfigurationPropertyDefaults.IMAGE_CATALOG_TTL)));
+    }
+
+    /**
+     * Creates a connector that shares the plugins of another one. Plugins are stateless with respect to
+     * the requests they serve, so the same instances can be safely used by all connectors of a cloud.
+     *
+     * @param prototype the connector whose plugins are going to be shared
+     */
+    public LocalCloudConnector(LocalCloudConnector prototype) {
+        this.attachmentPlugin = prototype.attachmentPlugin;
+        this.computePlugin = prototype.computePlugin;
+        this.networkPlugin = prototype.networkPlugin;
+        this.volumePlugin = prototype.volumePlugin;
+        this.imagePlugin = prototype.imagePlugin;
+        this.publicIpPlugin = prototype.publicIpPlugin;
+        this.securityRulePlugin = prototype.securityRulePlugin;
+        this.mapperPlugin = prototype.mapperPlugin;
+        this.quotaPlugin = prototype.quotaPlugin;
+        this.imageCatalog = prototype.imageCatalog;
     }
 
     @Override
@@ -80,6 +110,7 @@ public class LocalCloudConnector implements CloudConnector {
             response = doRequestInstance(order, cloudUser);
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
+            handleCloudUserRejection(e, order.getSystemUser());
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             response = e.getClass().getName();
             throw e;
@@ -101,6 +132,7 @@ public class LocalCloudConnector implements CloudConnector {
             doDeleteInstance(order, cloudUser);
             LOGGER.debug(Messages.Log.SUCCESS);
         } catch (Throwable e) {
+            handleCloudUserRejection(e, order.getSystemUser());
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             response = e.getClass().getName();
             throw e;
@@ -124,6 +156,7 @@ public class LocalCloudConnector implements CloudConnector {
                     true, instance.isReady(), instance.hasFailed()));
             auditableResponse = instance.toString();
         } catch (Throwable e) {
+            handleCloudUserRejection(e, order.getSystemUser());
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             auditableResponse = e.getClass().getName();
             throw e;
@@ -134,6 +167,46 @@ public class LocalCloudConnector implements CloudConnector {
         return instance;
     }
 
+    /**
+     * Gets the instances of several orders at once, grouping them by resource type and cloud user so that each
+     * plugin may fetch them in a single round-trip. Failures are not reported: the orders whose instance could
+     * not be obtained are just left out of the result, and must be checked through {@link #getInstance(Order)}.
+     *
+     * @param orders the orders whose instances are to be obtained
+     * @return the instances found, indexed by the id of their orders
+     */
+    public Map<String, OrderInstance> getInstances(List<Order> orders) {
+        Map<String, OrderInstance> instances = new HashMap<>();
+        Map<String, List<Order>> ordersByCloudUser = new HashMap<>();
+        Map<String, CloudUser> cloudUsers = new HashMap<>();
+        for (Order order : orders) {
+            if (order.getInstanceId() == null) {
+                continue;
+            }
+            try {
+                CloudUser cloudUser = this.mapperPlugin.map(order.getSystemUser());
+                String key = order.getType() + BATCH_KEY_SEPARATOR + cloudUser.getId() + BATCH_KEY_SEPARATOR
+                        + cloudUser.getToken();
+                cloudUsers.putIfAbsent(key, cloudUser);
+                ordersByCloudUser.computeIfAbsent(key, k -> new ArrayList<>()).add(order);
+            } catch (Throwable e) {
+                LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            }
+        }
+
+        for (Map.Entry<String, List<Order>> entry : ordersByCloudUser.entrySet()) {
+            List<Order> batch = entry.getValue();
+            Order firstOrder = batch.get(0);
+            try {
+                instances.putAll(doGetInstances(batch, firstOrder.getType(), cloudUsers.get(entry.getKey())));
+            } catch (Throwable e) {
+                handleCloudUserRejection(e, firstOrder.getSystemUser());
+                LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
+            }
+        }
+        return instances;
+    }
+
     @Override
     public Quota getUserQuota(SystemUser systemUser) throws FogbowException {
         LOGGER.debug(String.format(Messages.Log.MAPPING_USER_OP_S, GET_QUOTA_OPERATION, systemUser));
@@ -147,6 +220,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, quota));
             auditableResponse = quota.toString();
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             auditableResponse = e.getClass().getName();
             throw e;
@@ -166,10 +240,11 @@ public class LocalCloudConnector implements CloudConnector {
         List<ImageSummary> images = null;
         String auditableResponse = null;
         try {
-            images = doGetAllImages(cloudUser);
+            images = this.imageCatalog.getImages(ImageCatalog.getKey(cloudUser), () -> doGetAllImages(cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, images));
             auditableResponse = images.toString();
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             auditableResponse = e.getClass().getName();
             throw e;
@@ -193,6 +268,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, imageInstance));
             auditableResponse = imageInstance.toString();
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             auditableResponse = e.getClass().getName();
             throw e;
@@ -216,6 +292,7 @@ public class LocalCloudConnector implements CloudConnector {
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, securityRuleInstances));
             auditableResponse = securityRuleInstances.toString();
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             auditableResponse = e.getClass().getName();
             throw e;
@@ -237,6 +314,7 @@ public class LocalCloudConnector implements CloudConnector {
             response = doRequestSecurityRule(order, securityRule, cloudUser);
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
             response = e.getClass().getName();
             throw e;
@@ -258,6 +336,7 @@ public class LocalCloudConnector implements CloudConnector {
             doDeleteSecurityRule(securityRuleId, cloudUser);
             LOGGER.debug(Messages.Log.SUCCESS);
         } catch (Throwable e) {
+            handleCloudUserRejection(e, systemUser);
             response = e.getClass().getName();
             throw e;
         } finally {
@@ -322,6 +401,35 @@ public class LocalCloudConnector implements CloudConnector {
         }
     }
 
+    protected Map<String, OrderInstance> doGetInstances(List<Order> orders, ResourceType resourceType,
+                                                       CloudUser cloudUser) throws FogbowException {
+        OrderPlugin plugin = null;
+        for (Order order : orders) {
+            plugin = checkOrderCastingAndSetPlugin(order, resourceType);
+        }
+        Map<String, OrderInstance> instances = plugin.getInstances(orders, cloudUser);
+        Map<String, Order> ordersById = new HashMap<>();
+        for (Order order : orders) {
+            ordersById.put(order.getId(), order);
+        }
+
+        Map<String, OrderInstance> checkedInstances = new HashMap<>();
+        for (Map.Entry<String, OrderInstance> entry : instances.entrySet()) {
+            Order order = ordersById.get(entry.getKey());
+            OrderInstance instance = entry.getValue();
+            if (order == null || instance == null) {
+                continue;
+            }
+            if (plugin.hasFailed(instance.getCloudState())) instance.setHasFailed();
+            if (plugin.isReady(instance.getCloudState())) instance.setReady();
+            instance.setState(InstanceStatus.mapInstanceStateFromOrderState(order.getOrderState(),
+                    true, instance.isReady(), instance.hasFailed()));
+            auditRequest(Operation.GET, order.getType(), order.getSystemUser(), instance.toString());
+            checkedInstances.put(order.getId(), instance);
+        }
+        return checkedInstances;
+    }
+
     protected List<ImageSummary> doGetAllImages(CloudUser token) throws FogbowException {
         return this.imagePlugin.getAllImages(token);
     }
@@ -381,6 +489,16 @@ public class LocalCloudConnector implements CloudConnector {
         return plugin;
     }
 
+    /**
+     * When the cloud rejects the credentials of the mapped cloud user (e.g. its token has expired or has been
+     * revoked), the mapper plugin is told to discard it, so that a new one is obtained on the next operation.
+     */
+    protected void handleCloudUserRejection(Throwable e, SystemUser systemUser) {
+        if (e instanceof UnauthenticatedUserException) {
+            this.mapperPlugin.invalidate(systemUser);
+        }
+    }
+
     public void switchOffAuditing() {
         this.auditRequestsOn = false;
     }
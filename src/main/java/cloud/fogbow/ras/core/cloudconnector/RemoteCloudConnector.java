@@ -12,9 +12,13 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.*;
 import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
 import org.apache.log4j.Logger;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class RemoteCloudConnector implements CloudConnector {
     private static final Logger LOGGER = Logger.getLogger(RemoteCloudConnector.class);
@@ -38,6 +42,23 @@ public class RemoteCloudConnector implements CloudConnector {
         }
     }
 
+    /**
+     * @param versionsByOrderId the ids of orders of this provider, mapped to the version of their state last
+     *                          received (an empty version for an order never received)
+     * @return the updates of the orders whose state changed, and of the orders that could not be obtained
+     */
+    public List<RemoteOrderUpdate> getRemoteOrderUpdates(Map<String, String> versionsByOrderId)
+            throws FogbowException {
+        try {
+            RemoteGetOrdersBatchRequest remoteGetOrdersBatchRequest =
+                    new RemoteGetOrdersBatchRequest(this.destinationProvider, versionsByOrderId);
+            return remoteGetOrdersBatchRequest.send();
+        } catch (Exception e) {
+            LOGGER.error(e.toString(), e);
+            throw new FogbowException(e.getMessage());
+        }
+    }
+
     @Override
     public String requestInstance(Order order) throws FogbowException {
         try {
@@ -49,6 +70,9 @@ public class RemoteCloudConnector implements CloudConnector {
         } catch (Exception e) {
             LOGGER.error(e.toString(), e);
             throw new FogbowException(e.getMessage());
+        } finally {
+            // Even a failed request may have changed the quota at the remote provider
+            RemoteResponseCache.getInstance().invalidate(this.destinationProvider, RemoteResponseCache.Kind.QUOTA);
         }
     }
 
@@ -64,6 +88,8 @@ public class RemoteCloudConnector implements CloudConnector {
             String exceptionMessage = e.getMessage();
             LOGGER.error(exceptionMessage, e);
             throw new FogbowException(exceptionMessage);
+        } finally {
+            RemoteResponseCache.getInstance().invalidate(this.destinationProvider, RemoteResponseCache.Kind.QUOTA);
         }
     }
 
@@ -84,28 +110,14 @@ public class RemoteCloudConnector implements CloudConnector {
 
     @Override
     public Quota getUserQuota(SystemUser systemUser) throws FogbowException {
-        try {
-            RemoteGetUserQuotaRequest remoteGetUserQuotaRequest = new RemoteGetUserQuotaRequest(this.destinationProvider,
-                    this.cloudName, systemUser);
-            Quota quota = remoteGetUserQuotaRequest.send();
-            return quota;
-        } catch (Exception e) {
-            LOGGER.error(e.toString(), e);
-            throw new FogbowException(e.getMessage());
-        }
+        return RemoteResponseCache.getInstance().get(RemoteResponseCache.Kind.QUOTA, this.destinationProvider,
+                this.cloudName, systemUser, () -> requestUserQuota(systemUser));
     }
 
     @Override
     public List<ImageSummary> getAllImages(SystemUser systemUser) throws FogbowException {
-        try {
-            RemoteGetAllImagesRequest remoteGetAllImagesRequest = new RemoteGetAllImagesRequest(this.destinationProvider,
-                    this.cloudName, systemUser);
-            List<ImageSummary> imagesSummaryList = remoteGetAllImagesRequest.send();
-            return imagesSummaryList;
-        } catch (Exception e) {
-            LOGGER.error(e.toString(), e);
-            throw new FogbowException(e.getMessage());
-        }
+        return RemoteResponseCache.getInstance().get(RemoteResponseCache.Kind.IMAGES, this.destinationProvider,
+                this.cloudName, systemUser, () -> requestAllImages(systemUser));
     }
 
     @Override
@@ -159,4 +171,66 @@ public class RemoteCloudConnector implements CloudConnector {
             throw new FogbowException(e.getMessage());
         }
     }
+
+    /**
+     * Non-blocking counterpart of {@link #getRemoteOrderUpdates(Map)}, whose future completes exceptionally with
+     * the exceptions that method throws.
+     */
+    public CompletableFuture<List<RemoteOrderUpdate>> getRemoteOrderUpdatesAsync(
+            Map<String, String> versionsByOrderId) {
+        return sendAsync(new RemoteGetOrdersBatchRequest(this.destinationProvider, versionsByOrderId));
+    }
+
+    private Quota requestUserQuota(SystemUser systemUser) throws FogbowException {
+        try {
+            RemoteGetUserQuotaRequest remoteGetUserQuotaRequest = new RemoteGetUserQuotaRequest(this.destinationProvider,
+                    this.cloudName, systemUser);
+            Quota quota = remoteGetUserQuotaRequest.send();
+            return quota;
+        } catch (Exception e) {
+            LOGGER.error(e.toString(), e);
+            throw new FogbowException(e.getMessage());
+        }
+    }
+
+    private List<ImageSummary> requestAllImages(SystemUser systemUser) throws FogbowException {
+        try {
+            RemoteGetAllImagesRequest remoteGetAllImagesRequest = new RemoteGetAllImagesRequest(this.destinationProvider,
+                    this.cloudName, systemUser);
+            List<ImageSummary> imagesSummaryList = remoteGetAllImagesRequest.send();
+            return imagesSummaryList;
+        } catch (Exception e) {
+            LOGGER.error(e.toString(), e);
+            throw new FogbowException(e.getMessage());
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(AsyncRemoteRequest<T> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            request.sendAsync().whenComplete((value, exception) -> {
+                if (exception == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(translateException(exception));
+                }
+            });
+        } catch (Exception e) {
+            result.completeExceptionally(translateException(e));
+        }
+        return result;
+    }
+
+    private Throwable translateException(Throwable exception) {
+        Throwable cause = exception;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof InstanceNotFoundException) {
+            LOGGER.info(Messages.Exception.INSTANCE_NOT_FOUND);
+            return cause;
+        }
+        LOGGER.error(cause.toString(), cause);
+        return new FogbowException(cause.getMessage());
+    }
 }
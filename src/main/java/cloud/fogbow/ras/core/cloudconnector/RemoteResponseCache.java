@@ -0,0 +1,199 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the responses of remote providers to the requests dashboards send over and over (cloud names, images
+ * and quotas), per provider, cloud and user, for a short time to live that is set per kind of request. While a
+ * response is being obtained, the callers asking for the same one wait for it instead of sending identical
+ * requests. Failures are not kept. Users without an id are never cached, since their responses could not be
+ * told apart from the responses to other users. The responses kept are shared by all callers, thus must not
+ * be modified.
+ */
+public class RemoteResponseCache {
+    // Entries older than this many times their time to live belong to users that stopped asking for them
+    private static final int EVICTION_FACTOR = 2;
+
+    private static RemoteResponseCache instance;
+
+    public enum Kind {
+        CLOUD_NAMES, IMAGES, QUOTA
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws FogbowException;
+    }
+
+    private Map<Kind, Long> timeToLives;
+    private Map<Key, Entry> entries;
+    private Map<Key, CompletableFuture<Object>> loads;
+    // Bumped on every invalidation, so that a response obtained before it is not kept
+    private AtomicLong invalidations;
+
+    public static synchronized RemoteResponseCache getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            instance = new RemoteResponseCache(
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.REMOTE_CLOUD_NAMES_CACHE_TTL_KEY,
+                            ConfigurationPropertyDefaults.REMOTE_CLOUD_NAMES_CACHE_TTL)),
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.REMOTE_IMAGES_CACHE_TTL_KEY,
+                            ConfigurationPropertyDefaults.REMOTE_IMAGES_CACHE_TTL)),
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.REMOTE_QUOTA_CACHE_TTL_KEY,
+                            ConfigurationPropertyDefaults.REMOTE_QUOTA_CACHE_TTL)));
+        }
+        return instance;
+    }
+
+    /**
+     * The times to live are in milliseconds; 0 disables the cache for that kind of request.
+     */
+    public RemoteResponseCache(long cloudNamesTimeToLive, long imagesTimeToLive, long quotaTimeToLive) {
+        this.timeToLives = new EnumMap<>(Kind.class);
+        this.timeToLives.put(Kind.CLOUD_NAMES, cloudNamesTimeToLive);
+        this.timeToLives.put(Kind.IMAGES, imagesTimeToLive);
+        this.timeToLives.put(Kind.QUOTA, quotaTimeToLive);
+        this.entries = new ConcurrentHashMap<>();
+        this.loads = new ConcurrentHashMap<>();
+        this.invalidations = new AtomicLong();
+    }
+
+    /**
+     * @param cloudName the cloud the request is about, or null for requests about the provider as a whole
+     * @return the response kept, or the one the loader obtains if none is kept or it is too old
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Kind kind, String provider, String cloudName, SystemUser systemUser, Loader<T> loader)
+            throws FogbowException {
+        long timeToLive = this.timeToLives.get(kind);
+        if (timeToLive <= 0 || systemUser == null || systemUser.getId() == null) {
+            return loader.load();
+        }
+        Key key = new Key(kind, provider, cloudName, systemUser.getIdentityProviderId(), systemUser.getId());
+        Entry entry = this.entries.get(key);
+        if (entry != null && !entry.isExpired(getCurrentTime(), timeToLive)) {
+            return (T) entry.response;
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> ongoingLoad = this.loads.putIfAbsent(key, load);
+        if (ongoingLoad != null) {
+            return (T) await(ongoingLoad);
+        }
+        try {
+            long invalidations = this.invalidations.get();
+            T response = loader.load();
+            if (invalidations == this.invalidations.get()) {
+                store(key, new Entry(response, getCurrentTime()));
+            }
+            load.complete(response);
+            return response;
+        } catch (FogbowException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loads.remove(key, load);
+        }
+    }
+
+    /**
+     * Forgets the responses of the provider to the requests of the kind given, so that the next callers obtain
+     * them again; used when the provider signals something that changes them.
+     */
+    public void invalidate(String provider, Kind kind) {
+        this.invalidations.incrementAndGet();
+        this.entries.keySet().removeIf(key -> key.kind == kind && Objects.equals(key.provider, provider));
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private void store(Key key, Entry entry) {
+        // Loads happen at most once per time to live and key, so the entries of the users that stopped asking
+        // for them are swept here instead of by a thread of their own
+        this.entries.entrySet().removeIf(other -> other.getValue().isExpired(entry.loadTime,
+                EVICTION_FACTOR * this.timeToLives.get(other.getKey().kind)));
+        this.entries.put(key, entry);
+    }
+
+    private Object await(CompletableFuture<Object> load) throws FogbowException {
+        try {
+            return load.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FogbowException) {
+                throw (FogbowException) e.getCause();
+            }
+            throw new InternalServerErrorException(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    private static class Key {
+        private Kind kind;
+        private String provider;
+        private String cloudName;
+        private String identityProviderId;
+        private String userId;
+
+        private Key(Kind kind, String provider, String cloudName, String identityProviderId, String userId) {
+            this.kind = kind;
+            this.provider = provider;
+            this.cloudName = cloudName;
+            this.identityProviderId = identityProviderId;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return this.kind == key.kind &&
+                    Objects.equals(this.provider, key.provider) &&
+                    Objects.equals(this.cloudName, key.cloudName) &&
+                    Objects.equals(this.identityProviderId, key.identityProviderId) &&
+                    Objects.equals(this.userId, key.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.kind, this.provider, this.cloudName, this.identityProviderId, this.userId);
+        }
+    }
+
+    private static class Entry {
+        private Object response;
+        private long loadTime;
+
+        private Entry(Object response, long loadTime) {
+            this.response = response;
+            this.loadTime = loadTime;
+        }
+
+        private boolean isExpired(long currentTime, long timeToLive) {
+            return currentTime - this.loadTime >= timeToLive;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
+import cloud.fogbow.ras.core.models.auditing.AuditableRequest;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.JsonObject;
+import org.apache.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Receives the requests to be audited and writes them to the stable storage in the background, in batches, so
+ * that the requests being audited do not wait for the database. The sink holds at most capacity requests; what
+ * happens to the requests that arrive when it is full depends on its {@link OverflowPolicy}.
+ */
+public class AuditableRequestSink implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(AuditableRequestSink.class);
+
+    public enum OverflowPolicy {
+        // The caller waits until there is room in the sink
+        BLOCK,
+        // The request is discarded
+        DROP,
+        // The request is appended to a local file
+        SPILL
+    }
+
+    private static final String TIMESTAMP_FIELD = "timestamp";
+    private static final String OPERATION_FIELD = "operation";
+    private static final String RESOURCE_TYPE_FIELD = "resourceType";
+    private static final String USER_ID_FIELD = "userId";
+    private static final String IDENTITY_PROVIDER_ID_FIELD = "identityProviderId";
+    private static final String RESPONSE_FIELD = "response";
+
+    private AuditableRequestService auditableRequestService;
+    private BlockingQueue<AuditableRequest> queue;
+    private int batchSize;
+    private OverflowPolicy overflowPolicy;
+    private String spillFilePath;
+    private Writer spillWriter;
+
+    private AtomicLong submittedRequests;
+    private AtomicLong writtenRequests;
+    private AtomicLong droppedRequests;
+    private AtomicLong spilledRequests;
+    private AtomicLong failedRequests;
+
+    /**
+     * @param capacity       how many requests may be waiting to be written
+     * @param batchSize      the largest number of requests written in a single transaction
+     * @param overflowPolicy what to do with the requests that arrive when the sink is full
+     * @param spillFilePath  the file where requests are appended with {@link OverflowPolicy#SPILL}
+     */
+    public AuditableRequestSink(AuditableRequestService auditableRequestService, int capacity, int batchSize,
+                                OverflowPolicy overflowPolicy, String spillFilePath) {
+        this.auditableRequestService = auditableRequestService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.spillFilePath = spillFilePath;
+        this.submittedRequests = new AtomicLong();
+        this.writtenRequests = new AtomicLong();
+        this.droppedRequests = new AtomicLong();
+        this.spilledRequests = new AtomicLong();
+        this.failedRequests = new AtomicLong();
+    }
+
+    /**
+     * Hands the request over to be written; it only waits if the sink is full and its policy is
+     * {@link OverflowPolicy#BLOCK}.
+     */
+    public void submit(AuditableRequest request) throws InterruptedException {
+        this.submittedRequests.incrementAndGet();
+        if (this.queue.offer(request)) {
+            return;
+        }
+        switch (this.overflowPolicy) {
+            case BLOCK:
+                this.queue.put(request);
+                break;
+            case SPILL:
+                spill(request);
+                break;
+            default:
+                this.droppedRequests.incrementAndGet();
+                LOGGER.warn(Messages.Log.AUDIT_SINK_FULL_REQUEST_DROPPED);
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean isActive = true;
+        while (isActive) {
+            try {
+                List<AuditableRequest> batch = new ArrayList<>();
+                batch.add(this.queue.take());
+                this.queue.drainTo(batch, this.batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                isActive = false;
+                LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
+            }
+        }
+        // Writes whatever is left before leaving
+        flush();
+    }
+
+    /**
+     * Writes all requests waiting in the sink.
+     */
+    public void flush() {
+        List<AuditableRequest> batch = new ArrayList<>();
+        while (this.queue.drainTo(batch, this.batchSize) > 0) {
+            write(batch);
+            batch = new ArrayList<>();
+        }
+    }
+
+    public int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    public long getSubmittedRequests() {
+        return this.submittedRequests.get();
+    }
+
+    public long getWrittenRequests() {
+        return this.writtenRequests.get();
+    }
+
+    public long getDroppedRequests() {
+        return this.droppedRequests.get();
+    }
+
+    public long getSpilledRequests() {
+        return this.spilledRequests.get();
+    }
+
+    public long getFailedRequests() {
+        return this.failedRequests.get();
+    }
+
+    @VisibleForTesting
+    void write(List<AuditableRequest> batch) {
+        try {
+            this.auditableRequestService.registerSyncRequests(batch);
+            this.writtenRequests.addAndGet(batch.size());
+        } catch (Throwable e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_AUDITABLE_REQUESTS_D, batch.size()), e);
+            if (this.overflowPolicy == OverflowPolicy.SPILL) {
+                for (AuditableRequest request : batch) {
+                    spill(request);
+                }
+            } else {
+                this.failedRequests.addAndGet(batch.size());
+            }
+        }
+    }
+
+    @VisibleForTesting
+    synchronized void spill(AuditableRequest request) {
+        try {
+            if (this.spillWriter == null) {
+                this.spillWriter = createSpillWriter();
+            }
+            this.spillWriter.write(toJson(request));
+            this.spillWriter.write(System.lineSeparator());
+            this.spillWriter.flush();
+            this.spilledRequests.incrementAndGet();
+        } catch (IOException e) {
+            this.droppedRequests.incrementAndGet();
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_SPILL_AUDITABLE_REQUEST_S, this.spillFilePath), e);
+        }
+    }
+
+    @VisibleForTesting
+    Writer createSpillWriter() throws IOException {
+        // The file is only ever appended to
+        return new BufferedWriter(new FileWriter(this.spillFilePath, true));
+    }
+
+    @VisibleForTesting
+    String toJson(AuditableRequest request) {
+        JsonObject json = new JsonObject();
+        json.addProperty(TIMESTAMP_FIELD, request.getTimestamp() == null ? null : request.getTimestamp().getTime());
+        json.addProperty(OPERATION_FIELD, request.getOperation() == null ? null : request.getOperation().name());
+        json.addProperty(RESOURCE_TYPE_FIELD, request.getResourceType() == null ? null : request.getResourceType().name());
+        json.addProperty(USER_ID_FIELD, request.getUserId());
+        json.addProperty(IDENTITY_PROVIDER_ID_FIELD, request.getIdentityProviderId());
+        json.addProperty(RESPONSE_FIELD, request.getResponse());
+        return json.toString();
+    }
+}
@@ -10,14 +10,27 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public class DatabaseManager implements StableStorage {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class);
+    private static final String WRITE_BEHIND_THREAD_NAME = "orders-write-behind";
+    private static final String AUDIT_SINK_THREAD_NAME = "auditable-requests-sink";
+    private static final int WRITE_THROUGH = 1;
+    // SELECTED guards the requestInstance() call, which must happen at most once, and the states that follow it
+    // record its result (e.g. the instance id); losing any of them in a crash would leave the order to be
+    // requested again, or the instance created to be forgotten, thus they are never left pending
+    private static final Set<OrderState> WRITE_THROUGH_STATES = EnumSet.of(OrderState.SELECTED,
+            OrderState.SPAWNING, OrderState.PENDING, OrderState.FAILED_ON_REQUEST);
 
     private static DatabaseManager instance;
 
     private RecoveryService recoveryService;
     private AuditableOrderStateChangeService auditableOrderStateChangeService;
     private AuditableRequestService auditableRequestService;
+    private OrderWriteBehindQueue writeBehindQueue;
+    private AuditableRequestSink auditableRequestSink;
 
     private DatabaseManager() {
     }
@@ -37,6 +50,15 @@ public class DatabaseManager implements StableStorage {
 
     @Override
     public void update(Order order, boolean orderStateChanged) throws InternalServerErrorException {
+        if (this.writeBehindQueue != null) {
+            boolean mustWriteThrough = orderStateChanged && WRITE_THROUGH_STATES.contains(order.getOrderState());
+            // Updates that do not fit in the queue are written right away, which slows their callers down
+            // instead of letting the queue grow while the database is unable to keep up
+            if (mustWriteThrough || !this.writeBehindQueue.enqueue(order, orderStateChanged)) {
+                this.writeBehindQueue.write(order, orderStateChanged);
+            }
+            return;
+        }
         this.recoveryService.update(order);
         if (orderStateChanged) {
             this.auditableOrderStateChangeService.registerStateChange(order);
@@ -59,9 +81,70 @@ public class DatabaseManager implements StableStorage {
     }
 
     public void auditRequest(AuditableRequest request) throws InternalServerErrorException {
+        if (this.auditableRequestSink != null) {
+            try {
+                this.auditableRequestSink.submit(request);
+                return;
+            } catch (InterruptedException e) {
+                // Writes the request right away, and lets the caller see the interruption
+                Thread.currentThread().interrupt();
+            }
+        }
         this.auditableRequestService.registerSyncRequest(request);
     }
 
+    /**
+     * From now on, the audited requests are handed over to the sink, which writes them in the background,
+     * instead of being written by the thread that serves the request.
+     */
+    public synchronized void startAsyncAuditing(AuditableRequestSink auditableRequestSink) {
+        if (this.auditableRequestSink != null) {
+            return;
+        }
+        Thread sinkThread = new Thread(auditableRequestSink, AUDIT_SINK_THREAD_NAME);
+        sinkThread.setDaemon(true);
+        sinkThread.start();
+        // The requests still in the sink are written when the RAS is shut down
+        Runtime.getRuntime().addShutdownHook(new Thread(auditableRequestSink::flush));
+        this.auditableRequestSink = auditableRequestSink;
+    }
+
+    public AuditableRequestSink getAuditableRequestSink() {
+        return this.auditableRequestSink;
+    }
+
+    /**
+     * From now on, order updates are queued and written in the background, in batches, instead of being written
+     * by the thread that changes the order, except for the state changes that guard or record a call to the
+     * cloud, which are still written right away. It must be called after the services have been set.
+     *
+     * @param maxBatchSize  how many pending updates trigger a write; with 1, updates keep being written as they happen
+     * @param flushInterval the longest time (in milliseconds) an update stays pending
+     * @param capacity      how many updates may be pending; the ones that do not fit are written as they happen
+     */
+    public synchronized void startWriteBehind(int maxBatchSize, long flushInterval, int capacity) {
+        if (this.writeBehindQueue != null || maxBatchSize <= WRITE_THROUGH) {
+            return;
+        }
+        OrderWriteBehindQueue writeBehindQueue = new OrderWriteBehindQueue(this.recoveryService,
+                this.auditableOrderStateChangeService, maxBatchSize, flushInterval, capacity);
+        Thread writeBehindThread = new Thread(writeBehindQueue, WRITE_BEHIND_THREAD_NAME);
+        writeBehindThread.setDaemon(true);
+        writeBehindThread.start();
+        // The pending updates are written when the RAS is shut down
+        Runtime.getRuntime().addShutdownHook(new Thread(writeBehindQueue::flush));
+        this.writeBehindQueue = writeBehindQueue;
+    }
+
+    /**
+     * Writes the pending order updates, if updates are being written in the background.
+     *
+     * @return true if there was nothing left to write
+     */
+    public boolean flush() {
+        return this.writeBehindQueue == null || this.writeBehindQueue.flush();
+    }
+
     public void setRecoveryService(RecoveryService recoveryService) {
         this.recoveryService = recoveryService;
     }
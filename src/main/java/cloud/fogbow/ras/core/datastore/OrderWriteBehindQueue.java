@@ -0,0 +1,283 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.util.GsonHolder;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.datastore.orderstorage.AuditableOrderStateChange;
+import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
+import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the order updates waiting to be written to the stable storage, so that the threads changing the state
+ * of the orders do not wait for the database. Updates to the same order are coalesced, and only its latest
+ * version is written; the state changes are kept in the order they happened. What is queued is a copy of the
+ * order, taken while the caller holds the order lock, so that a flush never writes an order another thread is
+ * changing, e.g. with the new state but the old instance id. The pending updates are flushed
+ * in a single transaction whenever there are maxBatchSize of them, or flushInterval milliseconds have passed.
+ * If the transaction fails, the updates are written one at a time, so that the ones that cannot be written do not
+ * hold the others back, and the failed ones are put back in the queue and retried in the next flush. An update
+ * that keeps failing while others are written is dropped after MAX_WRITE_ATTEMPTS attempts; when none can be
+ * written, the database is taken to be unavailable and no attempt is counted. At most capacity updates are
+ * pending; the callers write the ones that do not fit, and the ones that must not be lost in a crash, right away,
+ * with {@link #write(Order, boolean)}. Such a write does not wait for an ongoing flush, unless the flush is writing
+ * an older version of the same order.
+ */
+public class OrderWriteBehindQueue implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(OrderWriteBehindQueue.class);
+    @VisibleForTesting
+    static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private RecoveryService recoveryService;
+    private AuditableOrderStateChangeService auditableOrderStateChangeService;
+    private int maxBatchSize;
+    private long flushInterval;
+    private int capacity;
+    private LinkedHashMap<String, Order> pendingOrders;
+    private List<AuditableOrderStateChange> pendingStateChanges;
+    // Failed attempts to write each order and state change
+    private Map<String, Integer> orderWriteAttempts;
+    private Map<AuditableOrderStateChange, Integer> stateChangeWriteAttempts;
+    // The orders taken by the ongoing flush, if any
+    private Set<String> flushingOrderIds;
+    // Keeps two flushes from writing at the same time, and thus out of order
+    private final Object flushLock = new Object();
+
+    public OrderWriteBehindQueue(RecoveryService recoveryService,
+                                 AuditableOrderStateChangeService auditableOrderStateChangeService,
+                                 int maxBatchSize, long flushInterval, int capacity) {
+        this.recoveryService = recoveryService;
+        this.auditableOrderStateChangeService = auditableOrderStateChangeService;
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = flushInterval;
+        this.capacity = capacity;
+        this.pendingOrders = new LinkedHashMap<>();
+        this.pendingStateChanges = new ArrayList<>();
+        this.orderWriteAttempts = new ConcurrentHashMap<>();
+        this.stateChangeWriteAttempts = new HashMap<>();
+        this.flushingOrderIds = new HashSet<>();
+    }
+
+    /**
+     * Queues the order to be written; if its state has changed, the new state is recorded with the current time.
+     *
+     * The caller must hold the order lock.
+     *
+     * @return false if the queue is full, in which case nothing is queued and the order must be written right away
+     */
+    public boolean enqueue(Order order, boolean orderStateChanged) {
+        Order snapshot = snapshot(order);
+        synchronized (this) {
+            boolean alreadyPending = this.pendingOrders.containsKey(snapshot.getId());
+            if ((!alreadyPending && this.pendingOrders.size() >= this.capacity)
+                    || (orderStateChanged && this.pendingStateChanges.size() >= this.capacity)) {
+                return false;
+            }
+            this.pendingOrders.put(snapshot.getId(), snapshot);
+            if (orderStateChanged) {
+                Timestamp currentTimestamp = new Timestamp(getCurrentTime());
+                this.pendingStateChanges.add(new AuditableOrderStateChange(currentTimestamp, snapshot,
+                        snapshot.getOrderState()));
+            }
+            if (isFull()) {
+                notifyAll();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes the order, and its new state if it has changed, right away, superseding its pending update. If the
+     * ongoing flush is writing an older version of the order, it is waited for, so that it does not overwrite the
+     * newer one; the flushes of other orders are not.
+     *
+     * The caller must hold the order lock, thus the order is not queued again while it is written.
+     */
+    public void write(Order order, boolean orderStateChanged) throws InternalServerErrorException {
+        synchronized (this) {
+            try {
+                while (this.flushingOrderIds.contains(order.getId())) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalServerErrorException(e.getMessage());
+            }
+            this.pendingOrders.remove(order.getId());
+        }
+        this.orderWriteAttempts.remove(order.getId());
+        this.recoveryService.update(order);
+        if (orderStateChanged) {
+            this.auditableOrderStateChangeService.registerStateChange(order);
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean isActive = true;
+        while (isActive) {
+            try {
+                awaitBatch();
+                flush();
+            } catch (InterruptedException e) {
+                isActive = false;
+                LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
+            }
+        }
+        // Writes whatever is left before leaving
+        flush();
+    }
+
+    /**
+     * Writes all pending updates to the stable storage.
+     *
+     * @return true if the pending updates, if any, were written
+     */
+    public boolean flush() {
+        synchronized (this.flushLock) {
+            Map<String, Order> orders;
+            List<AuditableOrderStateChange> stateChanges;
+            synchronized (this) {
+                if (this.pendingOrders.isEmpty() && this.pendingStateChanges.isEmpty()) {
+                    return true;
+                }
+                orders = this.pendingOrders;
+                stateChanges = this.pendingStateChanges;
+                this.pendingOrders = new LinkedHashMap<>();
+                this.pendingStateChanges = new ArrayList<>();
+                this.flushingOrderIds.addAll(orders.keySet());
+            }
+
+            try {
+                this.recoveryService.updateAll(orders.values());
+                this.auditableOrderStateChangeService.registerStateChanges(stateChanges);
+                return true;
+            } catch (Throwable e) {
+                LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_PENDING_ORDERS_D, orders.size()), e);
+                return writeOneAtATime(orders, stateChanges);
+            } finally {
+                synchronized (this) {
+                    this.flushingOrderIds.clear();
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    public synchronized int getPendingOrders() {
+        return this.pendingOrders.size();
+    }
+
+    public synchronized int getPendingStateChanges() {
+        return this.pendingStateChanges.size();
+    }
+
+    @VisibleForTesting
+    synchronized void awaitBatch() throws InterruptedException {
+        long deadline = getCurrentTime() + this.flushInterval;
+        long remaining = this.flushInterval;
+        while (!isFull() && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - getCurrentTime();
+        }
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    // The copy has every field the order has, persisted or not, thus it is written just like the order would be
+    private Order snapshot(Order order) {
+        return GsonHolder.getInstance().fromJson(GsonHolder.getInstance().toJson(order), order.getClass());
+    }
+
+    /**
+     * Writes the orders, and then the state changes, one at a time, putting the failed ones back in the queue.
+     * Writing an order again is harmless, thus the orders written by the failed batch, if any, are written again.
+     *
+     * @return true if all of them were written
+     */
+    private boolean writeOneAtATime(Map<String, Order> orders, List<AuditableOrderStateChange> stateChanges) {
+        boolean anyWritten = false;
+        Map<String, Order> failedOrders = new LinkedHashMap<>();
+        for (Order order : orders.values()) {
+            try {
+                this.recoveryService.updateAll(Collections.singletonList(order));
+                this.orderWriteAttempts.remove(order.getId());
+                anyWritten = true;
+            } catch (Throwable e) {
+                LOGGER.debug(e.getMessage(), e);
+                failedOrders.put(order.getId(), order);
+            }
+        }
+        List<AuditableOrderStateChange> failedStateChanges = new ArrayList<>();
+        for (AuditableOrderStateChange stateChange : stateChanges) {
+            try {
+                this.auditableOrderStateChangeService.registerStateChanges(Collections.singletonList(stateChange));
+                this.stateChangeWriteAttempts.remove(stateChange);
+                anyWritten = true;
+            } catch (Throwable e) {
+                LOGGER.debug(e.getMessage(), e);
+                failedStateChanges.add(stateChange);
+            }
+        }
+
+        boolean allWritten = failedOrders.isEmpty() && failedStateChanges.isEmpty();
+        if (anyWritten) {
+            // The database is up, thus the updates that failed are the ones to blame
+            dropExhausted(failedOrders, failedStateChanges);
+        }
+        requeue(failedOrders, failedStateChanges);
+        return allWritten;
+    }
+
+    private void dropExhausted(Map<String, Order> failedOrders, List<AuditableOrderStateChange> failedStateChanges) {
+        failedOrders.values().removeIf(order -> {
+            int attempts = this.orderWriteAttempts.merge(order.getId(), 1, Integer::sum);
+            if (attempts < MAX_WRITE_ATTEMPTS) {
+                return false;
+            }
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_ORDER_S_D, order.getId(), attempts));
+            this.orderWriteAttempts.remove(order.getId());
+            return true;
+        });
+        failedStateChanges.removeIf(stateChange -> {
+            int attempts = this.stateChangeWriteAttempts.merge(stateChange, 1, Integer::sum);
+            if (attempts < MAX_WRITE_ATTEMPTS) {
+                return false;
+            }
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_STATE_CHANGE_S_D, stateChange.getOrder().getId(),
+                    attempts));
+            this.stateChangeWriteAttempts.remove(stateChange);
+            return true;
+        });
+    }
+
+    private synchronized void requeue(Map<String, Order> orders, List<AuditableOrderStateChange> stateChanges) {
+        // Orders updated again in the meantime are already queued, and the older updates go before the newer ones
+        LinkedHashMap<String, Order> pendingOrders = new LinkedHashMap<>(orders);
+        pendingOrders.putAll(this.pendingOrders);
+        this.pendingOrders = pendingOrders;
+        List<AuditableOrderStateChange> pendingStateChanges = new ArrayList<>(stateChanges);
+        pendingStateChanges.addAll(this.pendingStateChanges);
+        this.pendingStateChanges = pendingStateChanges;
+    }
+
+    private boolean isFull() {
+        return this.pendingOrders.size() >= this.maxBatchSize || this.pendingStateChanges.size() >= this.maxBatchSize;
+    }
+}
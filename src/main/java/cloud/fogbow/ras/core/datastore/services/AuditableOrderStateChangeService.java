@@ -8,7 +8,9 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.transaction.Transactional;
 import java.sql.Timestamp;
+import java.util.List;
 
 @Service
 public class AuditableOrderStateChangeService extends FogbowDatabaseService<AuditableOrderStateChange> {
@@ -18,7 +20,16 @@ public class AuditableOrderStateChangeService extends FogbowDatabaseService<Audi
     public void registerStateChange(Order order) throws InternalServerErrorException {
         Timestamp currentTimestamp = new Timestamp(System.currentTimeMillis());
         AuditableOrderStateChange auditableOrderStateChange = new AuditableOrderStateChange(currentTimestamp, order, order.getOrderState());
-        this.orderTimestampRepository.save(auditableOrderStateChange);
         safeSave(auditableOrderStateChange, this.orderTimestampRepository);
     }
+
+    /**
+     * Writes the state changes in a single transaction, which lets them be inserted in JDBC batches.
+     */
+    @Transactional(rollbackOn = InternalServerErrorException.class)
+    public void registerStateChanges(List<AuditableOrderStateChange> stateChanges) throws InternalServerErrorException {
+        for (AuditableOrderStateChange stateChange : stateChanges) {
+            safeSave(stateChange, this.orderTimestampRepository);
+        }
+    }
 }
@@ -7,6 +7,9 @@ import cloud.fogbow.ras.core.models.auditing.AuditableRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.transaction.Transactional;
+import java.util.List;
+
 @Service
 public class AuditableRequestService extends FogbowDatabaseService<AuditableRequest> {
     @Autowired
@@ -15,4 +18,14 @@ public class AuditableRequestService extends FogbowDatabaseService<AuditableRequ
     public void registerSyncRequest(AuditableRequest request) throws InternalServerErrorException {
         safeSave(request, this.auditableRequestsRepository);
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the requests in a single transaction, which lets them be inserted in JDBC batches.
+     */
+    @Transactional(rollbackOn = InternalServerErrorException.class)
+    public void registerSyncRequests(List<AuditableRequest> requests) throws InternalServerErrorException {
+        for (AuditableRequest request : requests) {
+            safeSave(request, this.auditableRequestsRepository);
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -38,4 +40,15 @@ public class RecoveryService extends FogbowDatabaseService<Order> {
         safeSave(order, this.orderRepository);
     }
 
+    /**
+     * Writes the orders in a single transaction, so that they are either all written or none is. Unlike
+     * {@link #update(Order)}, it does not check whether each order exists, since only orders already added to
+     * the stable storage are queued for writing.
+     */
+    @Transactional(rollbackOn = InternalServerErrorException.class)
+    public void updateAll(Collection<Order> orders) throws InternalServerErrorException {
+        for (Order order : orders) {
+            safeSave(order, this.orderRepository);
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package cloud.fogbow.ras.core.intercomponent;
 
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.SystemUser;
@@ -17,12 +18,15 @@ import cloud.fogbow.ras.core.CloudListController;
 import cloud.fogbow.ras.core.OrderController;
 import cloud.fogbow.ras.core.PropertiesHolder;
 import cloud.fogbow.ras.core.SecurityRuleController;
+import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.RemoteResponseCache;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.RasOperation;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
 import org.apache.log4j.Logger;
 
 import java.util.List;
@@ -156,6 +160,8 @@ public class RemoteFacade {
                 }
                 this.orderController.closeOrder(localOrder);
             }
+            // The quota of the requester at the provider changed along with the order
+            RemoteResponseCache.getInstance().invalidate(signallingProvider, RemoteResponseCache.Kind.QUOTA);
         } else {
             // The order no longer exists locally. This may only happen in rare corner cases when the remote provider
             // previously signalled that the order was closed, but failed before could save its order in stable storage.
@@ -165,6 +171,31 @@ public class RemoteFacade {
         }
     }
 
+    /**
+     * Copies the state changes pushed by the provider of remote orders to their local counterparts. Each order
+     * is dealt with on its own, so that an order that cannot be updated does not prevent the others from being.
+     */
+    public void updateOrdersFromRemote(String signallingProvider, List<RemoteOrderUpdate> orderUpdates) {
+        // The quotas of the requesters at the provider change along with their orders
+        RemoteResponseCache.getInstance().invalidate(signallingProvider, RemoteResponseCache.Kind.QUOTA);
+        SharedOrderHolders.getInstance().addPushingProvider(signallingProvider);
+        for (RemoteOrderUpdate orderUpdate : orderUpdates) {
+            try {
+                Order localOrder = this.orderController.getOrder(orderUpdate.getOrderId());
+                if (!localOrder.getProvider().equals(signallingProvider)) {
+                    throw new InternalServerErrorException(String.format(Messages.Exception.SIGNALING_PROVIDER_DIFFERENT_OF_PROVIDER_S_S,
+                            signallingProvider, localOrder.getProvider()));
+                }
+                orderUpdate.applyTo(localOrder);
+            } catch (InstanceNotFoundException e) {
+                // The order may have been closed, or be a notification for an order this provider never had
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_LOCATE_ORDER_S_S, orderUpdate.getOrderId(), signallingProvider));
+            } catch (FogbowException e) {
+                LOGGER.warn(String.format(Messages.Log.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            }
+        }
+    }
+
     public void setAuthorizationPlugin(AuthorizationPlugin<RasOperation> authorizationPlugin) {
         this.authorizationPlugin = authorizationPlugin;
     }
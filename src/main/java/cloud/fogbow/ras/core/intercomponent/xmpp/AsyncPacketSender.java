@@ -0,0 +1,202 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jamppa.component.PacketSender;
+import org.xmpp.packet.IQ;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends IQs without waiting for their responses, so that many requests can be in flight over the same XMPP
+ * connection without a blocked thread each. The responses are matched to the requests by the IQ id, and a
+ * request with no response within the timeout is completed with a null response, just like the synchronous
+ * sender does. At most maxInFlightPerProvider requests are in flight to the same provider; the others wait in
+ * line and are sent as the responses arrive. Continuations registered on the futures run in the thread that
+ * receives the responses, so those that block must be registered with the asynchronous variants of the
+ * {@link CompletableFuture} methods.
+ */
+public class AsyncPacketSender {
+    @VisibleForTesting
+    static final String THREAD_NAME = "xmpp-async-timeouts";
+
+    private PacketSender packetSender;
+    private long timeout;
+    private int maxInFlightPerProvider;
+    private Map<String, PendingRequest> pendingRequests;
+    private Map<String, Destination> destinations;
+    private ScheduledExecutorService scheduler;
+
+    public AsyncPacketSender(PacketSender packetSender, long timeout, int maxInFlightPerProvider) {
+        this.packetSender = packetSender;
+        this.timeout = timeout;
+        this.maxInFlightPerProvider = maxInFlightPerProvider;
+        this.pendingRequests = new ConcurrentHashMap<>();
+        this.destinations = new HashMap<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return a future completed with the response to the IQ, or with null if none arrives within the timeout
+     */
+    public CompletableFuture<IQ> sendPacket(IQ iq) {
+        PendingRequest request = new PendingRequest(iq);
+        boolean canSend;
+        synchronized (this) {
+            Destination destination = this.destinations.computeIfAbsent(request.destination, key -> new Destination());
+            canSend = destination.inFlight < this.maxInFlightPerProvider;
+            if (canSend) {
+                destination.inFlight++;
+            } else {
+                destination.waiting.add(request);
+            }
+        }
+        if (canSend) {
+            dispatch(request);
+        }
+        return request.future;
+    }
+
+    /**
+     * Sends the IQ and reads its response with the reader given, once the errors the response carries have
+     * been translated into exceptions, just like the synchronous requesters do.
+     *
+     * @return a future completed with what the reader returns, or exceptionally with the exception raised
+     */
+    public <T> CompletableFuture<T> sendPacket(IQ iq, String provider, ResponseReader<T> reader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        sendPacket(iq).whenComplete((response, exception) -> {
+            if (exception != null) {
+                result.completeExceptionally(exception);
+                return;
+            }
+            try {
+                XmppErrorConditionToExceptionTranslator.handleError(response, provider);
+                result.complete(reader.read(response));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Completes the request the response answers, if it is one sent by this sender and it comes from the
+     * provider the request was sent to.
+     *
+     * @return true if the response has been consumed
+     */
+    public boolean handleResponse(IQ response) {
+        if (response.getID() == null || response.getFrom() == null) {
+            return false;
+        }
+        PendingRequest request = this.pendingRequests.get(response.getID());
+        if (request == null || !request.destination.equals(response.getFrom().toBareJID())) {
+            return false;
+        }
+        return complete(request, response);
+    }
+
+    public synchronized int getInFlightRequests(String destination) {
+        Destination state = this.destinations.get(destination);
+        return state == null ? 0 : state.inFlight;
+    }
+
+    public synchronized int getWaitingRequests(String destination) {
+        Destination state = this.destinations.get(destination);
+        return state == null ? 0 : state.waiting.size();
+    }
+
+    private void dispatch(PendingRequest request) {
+        // The ids of the IQs sent by some requesters are the ids of their orders, thus not unique among the
+        // requests in flight
+        while (this.pendingRequests.putIfAbsent(request.iq.getID(), request) != null) {
+            request.iq.setID(UUID.randomUUID().toString());
+        }
+        request.timeoutTask = this.scheduler.schedule(() -> complete(request, null), this.timeout,
+                TimeUnit.MILLISECONDS);
+        try {
+            this.packetSender.sendPacket(request.iq);
+        } catch (Throwable e) {
+            if (this.pendingRequests.remove(request.iq.getID(), request)) {
+                request.cancelTimeout();
+                release(request.destination);
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private boolean complete(PendingRequest request, IQ response) {
+        // Either the response or the timeout, whichever comes first
+        if (!this.pendingRequests.remove(request.iq.getID(), request)) {
+            return false;
+        }
+        if (response != null) {
+            request.cancelTimeout();
+        }
+        release(request.destination);
+        request.future.complete(response);
+        return true;
+    }
+
+    private void release(String destination) {
+        PendingRequest next;
+        synchronized (this) {
+            Destination state = this.destinations.get(destination);
+            next = state.waiting.poll();
+            if (next == null) {
+                state.inFlight--;
+                if (state.inFlight == 0) {
+                    this.destinations.remove(destination);
+                }
+            }
+        }
+        // The slot released is handed over to the next request in line
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    public interface ResponseReader<T> {
+        T read(IQ response) throws Exception;
+    }
+
+    private static class PendingRequest {
+        private IQ iq;
+        private String destination;
+        private CompletableFuture<IQ> future;
+        // Set once the request is sent, thus possibly after its response has arrived
+        private volatile ScheduledFuture<?> timeoutTask;
+
+        private PendingRequest(IQ iq) {
+            this.iq = iq;
+            this.destination = iq.getTo().toBareJID();
+            this.future = new CompletableFuture<>();
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> task = this.timeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private static class Destination {
+        private int inFlight;
+        private Queue<PendingRequest> waiting = new ArrayDeque<>();
+    }
+}
@@ -8,6 +8,8 @@ public enum IqElement {
     INSTANCE("instance"),
     INSTANCE_TYPE("instanceType"),
     ORDER_CLASS_NAME("orderClassName"),
+    ORDER_VERSIONS("orderVersions"),
+    ORDER_UPDATES("orderUpdates"),
     INSTANCE_CLASS_NAME("instanceClassName"),
     USER_QUOTA("userQuota"),
     USER_QUOTA_CLASS_NAME("userQuotaClassName"),
@@ -0,0 +1,54 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.util.GsonHolder;
+import com.google.gson.JsonElement;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes and decodes the payloads the intercomponent IQs carry as the text of their elements. It uses the Gson
+ * instance of {@link GsonHolder}, shared with the rest of the service, so that the type adapters Gson builds by
+ * reflection for the classes exchanged (orders, instances, system users, etc.) are built once instead of once per
+ * message, and the classes named in the messages are resolved once. The payloads are the JSON that Gson produces,
+ * thus messages are understood by members that do not use this codec.
+ */
+public class IqPayloadCodec {
+
+    private static final Map<String, Class<?>> CLASSES = new ConcurrentHashMap<>();
+
+    public static String encode(Object payload) {
+        return GsonHolder.getInstance().toJson(payload);
+    }
+
+    public static JsonElement encodeToTree(Object payload) {
+        return GsonHolder.getInstance().toJsonTree(payload);
+    }
+
+    public static <T> T decode(String payload, Class<T> type) {
+        return GsonHolder.getInstance().fromJson(payload, type);
+    }
+
+    public static <T> T decode(String payload, Type type) {
+        return GsonHolder.getInstance().fromJson(payload, type);
+    }
+
+    /**
+     * @param className the name of the class of the payload, as carried by the message
+     * @throws ClassNotFoundException if there is no such class
+     */
+    public static Object decode(String payload, String className) throws ClassNotFoundException {
+        return GsonHolder.getInstance().fromJson(payload, resolveClass(className));
+    }
+
+    private static Class<?> resolveClass(String className) throws ClassNotFoundException {
+        Class<?> type = CLASSES.get(className);
+        if (type == null) {
+            // Only names of existing classes are kept, thus unknown names sent by a peer do not fill the cache
+            type = Class.forName(className);
+            CLASSES.put(className, type);
+        }
+        return type;
+    }
+}
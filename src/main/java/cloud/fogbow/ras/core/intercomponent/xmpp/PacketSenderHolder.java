@@ -13,6 +13,7 @@ public class PacketSenderHolder {
     private final static Logger LOGGER = Logger.getLogger(PacketSenderHolder.class);
 
     private static PacketSender packetSender = null;
+    private static AsyncPacketSender asyncPacketSender = null;
 
     public static void init() {
         if (packetSender == null) {
@@ -28,8 +29,12 @@ public class PacketSenderHolder {
             long xmppTimeout =
                     Long.parseLong(PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.XMPP_TIMEOUT_KEY,
                             ConfigurationPropertyDefaults.XMPP_TIMEOUT));
+            int maxInFlightRequestsPerProvider = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER_KEY,
+                    ConfigurationPropertyDefaults.XMPP_MAX_IN_FLIGHT_REQUESTS_PER_PROVIDER));
             XmppComponentManager xmppComponentManager = new XmppComponentManager(jidServiceName + jidConnector +
-                    jidPrefix + providerId, xmppPassword, xmppServerIp, xmppServerPort, xmppTimeout);
+                    jidPrefix + providerId, xmppPassword, xmppServerIp, xmppServerPort, xmppTimeout,
+                    maxInFlightRequestsPerProvider);
             if (xmppServerIp != null && !xmppServerIp.isEmpty()) {
                 try {
                     LOGGER.info(Messages.Log.CONNECTING_UP_PACKET_SENDER);
@@ -38,6 +43,7 @@ public class PacketSenderHolder {
                     throw new IllegalStateException();
                 }
                 PacketSenderHolder.packetSender = xmppComponentManager;
+                PacketSenderHolder.asyncPacketSender = xmppComponentManager.getAsyncPacketSender();
             } else {
                 LOGGER.info(Messages.Log.NO_REMOTE_COMMUNICATION_CONFIGURED);
             }
@@ -49,9 +55,19 @@ public class PacketSenderHolder {
         return packetSender;
     }
 
+    public static synchronized AsyncPacketSender getAsyncPacketSender() {
+        init();
+        return asyncPacketSender;
+    }
+
     // Used in tests only
     public static void setPacketSender(PacketSender thePacketSender) {
         packetSender = thePacketSender;
     }
+
+    // Used in tests only
+    public static void setAsyncPacketSender(AsyncPacketSender theAsyncPacketSender) {
+        asyncPacketSender = theAsyncPacketSender;
+    }
 }
 
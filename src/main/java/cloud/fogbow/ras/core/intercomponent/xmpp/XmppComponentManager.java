@@ -4,16 +4,23 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.intercomponent.xmpp.handlers.*;
 import org.apache.log4j.Logger;
 import org.jamppa.component.XMPPComponent;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Packet;
 
 public class XmppComponentManager extends XMPPComponent {
     private static Logger LOGGER = Logger.getLogger(XmppComponentManager.class);
 
-    public XmppComponentManager(String jid, String password, String xmppServerIp, int xmppServerPort, long timeout) {
+    private AsyncPacketSender asyncPacketSender;
+
+    public XmppComponentManager(String jid, String password, String xmppServerIp, int xmppServerPort, long timeout,
+                                int maxInFlightRequestsPerProvider) {
         super(jid, password, xmppServerIp, xmppServerPort, timeout);
+        this.asyncPacketSender = new AsyncPacketSender(this, timeout, maxInFlightRequestsPerProvider);
         // instantiate set handlers here
         addSetHandler(new RemoteCreateOrderRequestHandler());
         addSetHandler(new RemoteDeleteOrderRequestHandler());
         addSetHandler(new CloseOrderAtRemoteRequesterHandler());
+        addSetHandler(new RemoteNotifyOrderStatesRequestHandler());
         addSetHandler(new RemoteCreateSecurityRuleRequestHandler());
         addSetHandler(new RemoteDeleteSecurityRuleRequestHandler());
         // instantiate get handlers here
@@ -22,8 +29,27 @@ public class XmppComponentManager extends XMPPComponent {
         addGetHandler(new RemoteGetCloudNamesRequestHandler());
         addGetHandler(new RemoteGetInstanceRequestHandler());
         addGetHandler(new RemoteGetOrderRequestHandler());
+        addGetHandler(new RemoteGetOrdersBatchRequestHandler());
         addGetHandler(new RemoteGetUserQuotaRequestHandler());
         addGetHandler(new RemoteGetAllSecurityRuleHandler());
         LOGGER.info(Messages.Log.XMPP_HANDLERS_SET);
     }
+
+    @Override
+    public void processPacket(Packet packet) {
+        // The responses to the requests sent asynchronously are consumed here; everything else follows the
+        // usual path (handlers and synchronous senders)
+        if (packet instanceof IQ && isResponse((IQ) packet) && this.asyncPacketSender.handleResponse((IQ) packet)) {
+            return;
+        }
+        super.processPacket(packet);
+    }
+
+    public AsyncPacketSender getAsyncPacketSender() {
+        return this.asyncPacketSender;
+    }
+
+    private boolean isResponse(IQ iq) {
+        return iq.getType().equals(IQ.Type.result) || iq.getType().equals(IQ.Type.error);
+    }
 }
@@ -5,10 +5,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -30,10 +30,9 @@ public class RemoteCreateOrderRequestHandler extends AbstractQueryHandler {
         String className = unmarshalClassName(iq);
 
         IQ response = IQ.createResultIQ(iq);
-        Gson gson = new Gson();
         Order order = null;
         try {
-            order = (Order) gson.fromJson(orderJsonStr, Class.forName(className));
+            order = (Order) IqPayloadCodec.decode(orderJsonStr, className);
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             RemoteFacade.getInstance().activateOrder(senderId, order);
         } catch (Throwable e) {
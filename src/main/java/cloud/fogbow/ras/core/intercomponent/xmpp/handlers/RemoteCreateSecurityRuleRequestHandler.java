@@ -8,9 +8,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -56,7 +56,7 @@ public class RemoteCreateSecurityRuleRequestHandler extends AbstractQueryHandler
     private SystemUser unmarshalFederationUserToken(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
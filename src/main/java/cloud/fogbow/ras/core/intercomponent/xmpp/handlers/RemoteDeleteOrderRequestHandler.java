@@ -6,10 +6,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.ResourceType;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -51,13 +51,13 @@ public class RemoteDeleteOrderRequestHandler extends AbstractQueryHandler {
     private ResourceType unmarshalInstanceType(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element orderTypeElementRequest = queryElement.element(IqElement.INSTANCE_TYPE.toString());
-        ResourceType resourceType = new Gson().fromJson(orderTypeElementRequest.getText(), ResourceType.class);
+        ResourceType resourceType = IqPayloadCodec.decode(orderTypeElementRequest.getText(), ResourceType.class);
         return resourceType;
     }
 
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element systemUserElement = iq.getElement().element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 }
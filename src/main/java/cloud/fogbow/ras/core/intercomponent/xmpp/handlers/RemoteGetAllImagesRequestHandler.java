@@ -7,9 +7,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -49,14 +49,14 @@ public class RemoteGetAllImagesRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element cloudNameElement = queryElement.element(IqElement.CLOUD_NAME.toString());
-        String cloudName = new Gson().fromJson(cloudNameElement.getText(), String.class);
+        String cloudName = IqPayloadCodec.decode(cloudNameElement.getText(), String.class);
         return cloudName;
     }
 
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
@@ -67,6 +67,6 @@ public class RemoteGetAllImagesRequestHandler extends AbstractQueryHandler {
         Element imagesMapClassNameElement = queryEl.addElement(IqElement.IMAGE_SUMMARY_LIST_CLASS_NAME.toString());
         imagesMapClassNameElement.setText(imageSummaryList.getClass().getName());
 
-        imagesMapElement.setText(new Gson().toJson(imageSummaryList));
+        imagesMapElement.setText(IqPayloadCodec.encode(imageSummaryList));
     }
 }
@@ -6,10 +6,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -58,13 +58,13 @@ public class RemoteGetAllSecurityRuleHandler extends AbstractQueryHandler {
         Element imagesMapClassNameElement = queryEl.addElement(IqElement.SECURITY_RULE_LIST_CLASS_NAME.toString());
         imagesMapClassNameElement.setText(securityRuleInstanceList.getClass().getName());
 
-        securityRuleListElement.setText(new Gson().toJson(securityRuleInstanceList));
+        securityRuleListElement.setText(IqPayloadCodec.encode(securityRuleInstanceList));
     }
 
     private SystemUser unmarshalFederationUserToken(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 }
@@ -6,9 +6,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -44,7 +44,7 @@ public class RemoteGetCloudNamesRequestHandler extends AbstractQueryHandler {
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
@@ -55,6 +55,6 @@ public class RemoteGetCloudNamesRequestHandler extends AbstractQueryHandler {
         Element cloudNamesListClassNameElement = queryEl.addElement(IqElement.CLOUD_NAMES_LIST_CLASS_NAME.toString());
         cloudNamesListClassNameElement.setText(cloudNames.getClass().getName());
 
-        cloudNamesListElement.setText(new Gson().toJson(cloudNames));
+        cloudNamesListElement.setText(IqPayloadCodec.encode(cloudNames));
     }
 }
@@ -6,11 +6,11 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.api.http.response.Instance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -56,12 +56,12 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
 
         instanceClassNameElement.setText(instance.getClass().getName());
 
-        instanceElement.setText(new Gson().toJson(instance));
+        instanceElement.setText(IqPayloadCodec.encode(instance));
     }
 
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element systemUserElement = iq.getElement().element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
@@ -70,7 +70,7 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
         Element orderTypeElementRequest = queryElement.element(IqElement.INSTANCE_TYPE.toString());
 
         ResourceType resourceType =
-                new Gson().fromJson(orderTypeElementRequest.getText(), ResourceType.class);
+                IqPayloadCodec.decode(orderTypeElementRequest.getText(), ResourceType.class);
 
         return resourceType;
     }
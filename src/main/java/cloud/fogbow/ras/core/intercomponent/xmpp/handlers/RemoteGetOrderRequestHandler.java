@@ -5,10 +5,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -51,7 +51,7 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
 
         orderClassNameElement.setText(order.getClass().getName());
 
-        orderElement.setText(new Gson().toJson(order));
+        orderElement.setText(IqPayloadCodec.encode(order));
     }
 
     private String unmarshalOrderId(IQ iq) {
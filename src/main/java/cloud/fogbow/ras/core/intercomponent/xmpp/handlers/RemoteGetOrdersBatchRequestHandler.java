@@ -0,0 +1,88 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.common.util.IntercomponentUtil;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.reflect.TypeToken;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class RemoteGetOrdersBatchRequestHandler extends AbstractQueryHandler {
+    private static final Logger LOGGER = Logger.getLogger(RemoteGetOrdersBatchRequestHandler.class);
+
+    private static final String REMOTE_GET_ORDERS_BATCH = RemoteMethod.REMOTE_GET_ORDERS_BATCH.toString();
+    private static final Type ORDER_VERSIONS_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+
+    public RemoteGetOrdersBatchRequestHandler() {
+        super(REMOTE_GET_ORDERS_BATCH);
+    }
+
+    @Override
+    public IQ handle(IQ iq) {
+        LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
+        Map<String, String> versionsByOrderId = unmarshalOrderVersions(iq);
+
+        IQ response = IQ.createResultIQ(iq);
+        try {
+            String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
+            List<RemoteOrderUpdate> orderUpdates = getOrderUpdates(senderId, versionsByOrderId);
+            //on success, update response with the orders that changed
+            updateResponse(response, orderUpdates);
+        } catch (Exception e) {
+            //on error, update response with exception data
+            XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
+        }
+        return response;
+    }
+
+    @VisibleForTesting
+    List<RemoteOrderUpdate> getOrderUpdates(String senderId, Map<String, String> versionsByOrderId) {
+        List<RemoteOrderUpdate> orderUpdates = new ArrayList<>();
+        for (Map.Entry<String, String> entry : versionsByOrderId.entrySet()) {
+            String orderId = entry.getKey();
+            try {
+                Order order = RemoteFacade.getInstance().getOrder(senderId, orderId);
+                RemoteOrderUpdate orderUpdate;
+                synchronized (order) {
+                    orderUpdate = RemoteOrderUpdate.fromOrder(order);
+                }
+                if (!orderUpdate.getVersion().equals(entry.getValue())) {
+                    orderUpdates.add(orderUpdate);
+                }
+            } catch (Exception e) {
+                // A single order that cannot be obtained must not prevent the others from being synchronized
+                orderUpdates.add(new RemoteOrderUpdate(orderId, e.getMessage()));
+            }
+        }
+        return orderUpdates;
+    }
+
+    private void updateResponse(IQ response, List<RemoteOrderUpdate> orderUpdates) {
+        Element queryElement =
+                response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ORDERS_BATCH);
+
+        Element orderUpdatesElement = queryElement.addElement(IqElement.ORDER_UPDATES.toString());
+        orderUpdatesElement.setText(IqPayloadCodec.encode(orderUpdates));
+    }
+
+    private Map<String, String> unmarshalOrderVersions(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        Element orderVersionsElement = queryElement.element(IqElement.ORDER_VERSIONS.toString());
+        return IqPayloadCodec.decode(orderVersionsElement.getText(), ORDER_VERSIONS_TYPE);
+    }
+}
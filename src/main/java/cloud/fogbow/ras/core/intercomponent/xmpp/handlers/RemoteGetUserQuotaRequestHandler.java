@@ -6,10 +6,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -46,7 +46,7 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element cloudNameElement = queryElement.element(IqElement.CLOUD_NAME.toString());
-        String cloudName = new Gson().fromJson(cloudNameElement.getText(), String.class);
+        String cloudName = IqPayloadCodec.decode(cloudNameElement.getText(), String.class);
         return cloudName;
     }
 
@@ -54,7 +54,7 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.decode(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
@@ -65,6 +65,6 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         Element instanceClassNameElement = queryElement.addElement(IqElement.USER_QUOTA_CLASS_NAME.toString());
         instanceClassNameElement.setText(quota.getClass().getName());
 
-        instanceElement.setText(new Gson().toJson(quota));
+        instanceElement.setText(IqPayloadCodec.encode(quota));
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.common.util.IntercomponentUtil;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.gson.reflect.TypeToken;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class RemoteNotifyOrderStatesRequestHandler extends AbstractQueryHandler {
+    private static final Logger LOGGER = Logger.getLogger(RemoteNotifyOrderStatesRequestHandler.class);
+
+    private static final String REMOTE_NOTIFY_ORDER_STATES = RemoteMethod.REMOTE_NOTIFY_ORDER_STATES.toString();
+    private static final Type ORDER_UPDATES_TYPE = new TypeToken<List<RemoteOrderUpdate>>() {}.getType();
+
+    public RemoteNotifyOrderStatesRequestHandler() {
+        super(REMOTE_NOTIFY_ORDER_STATES);
+    }
+
+    @Override
+    public IQ handle(IQ iq) {
+        LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
+        IQ response = IQ.createResultIQ(iq);
+
+        try {
+            List<RemoteOrderUpdate> orderUpdates = unmarshalOrderUpdates(iq);
+            String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
+            RemoteFacade.getInstance().updateOrdersFromRemote(senderId, orderUpdates);
+        } catch (Exception e) {
+            XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
+        }
+        return response;
+    }
+
+    private List<RemoteOrderUpdate> unmarshalOrderUpdates(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        Element orderUpdatesElement = queryElement.element(IqElement.ORDER_UPDATES.toString());
+        return IqPayloadCodec.decode(orderUpdatesElement.getText(), ORDER_UPDATES_TYPE);
+    }
+}
@@ -0,0 +1,12 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A remote request that can also be sent without blocking the caller until the response arrives (see
+ * {@link cloud.fogbow.ras.core.intercomponent.xmpp.AsyncPacketSender}).
+ */
+public interface AsyncRemoteRequest<T> extends RemoteRequest<T> {
+
+    CompletableFuture<T> sendAsync();
+}
@@ -8,7 +8,9 @@ import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class CloseOrderAtRemoteProviderRequest implements RemoteRequest<Void> {
+import java.util.concurrent.CompletableFuture;
+
+public class CloseOrderAtRemoteProviderRequest implements AsyncRemoteRequest<Void> {
     private static final Logger LOGGER = Logger.getLogger(CloseOrderAtRemoteProviderRequest.class);
 
     private Order order;
@@ -28,6 +30,13 @@ public class CloseOrderAtRemoteProviderRequest implements RemoteRequest<Void> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = CloseOrderAtRemoteProviderRequest.marshall(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.order.getRequester(), response -> null);
+    }
+
     public static IQ marshall(Order order) {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getRequester());
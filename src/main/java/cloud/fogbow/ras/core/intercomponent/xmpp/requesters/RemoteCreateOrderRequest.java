@@ -3,16 +3,18 @@ package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteCreateOrderRequest implements AsyncRemoteRequest<Void> {
     private static final Logger LOGGER = Logger.getLogger(RemoteCreateOrderRequest.class);
 
     private Order order;
@@ -32,6 +34,13 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = RemoteCreateOrderRequest.marshal(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.order.getProvider(), response -> null);
+    }
+
     public static IQ marshal(Order order) {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
@@ -47,7 +56,7 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
                 queryElement.addElement(IqElement.ORDER_CLASS_NAME.toString());
         orderClassNameElement.setText(order.getClass().getName());
 
-        String orderJson = new Gson().toJson(order);
+        String orderJson = IqPayloadCodec.encode(order);
         orderElement.setText(orderJson);
 
         return iq;
@@ -6,16 +6,18 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteCreateSecurityRuleRequest implements AsyncRemoteRequest<Void> {
     private static final Logger LOGGER = Logger.getLogger(RemoteCreateSecurityRuleRequest.class);
 
     private SecurityRule securityRule;
@@ -42,6 +44,13 @@ public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = marshal();
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, response -> null);
+    }
+
     private IQ marshal() {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -53,7 +62,7 @@ public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
         orderIdElement.setText(majorOrder.getId());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         Element securityRuleElement = queryElement.addElement(IqElement.SECURITY_RULE.toString());
         securityRuleElement.setText(GsonHolder.getInstance().toJson(securityRule));
@@ -3,16 +3,18 @@ package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteDeleteOrderRequest implements AsyncRemoteRequest<Void> {
     private static final Logger LOGGER = Logger.getLogger(RemoteDeleteOrderRequest.class);
 
     private Order order;
@@ -32,6 +34,13 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = RemoteDeleteOrderRequest.marshal(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.order.getProvider(), response -> null);
+    }
+
     public static IQ marshal(Order order) {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
@@ -47,7 +56,7 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
         orderTypeElement.setText(order.getType().toString());
 
         Element userElement = iq.getElement().addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(order.getSystemUser()));
+        userElement.setText(IqPayloadCodec.encode(order.getSystemUser()));
 
         return iq;
     }
@@ -4,15 +4,17 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteDeleteSecurityRuleRequest implements RemoteRequest<Void> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteDeleteSecurityRuleRequest implements AsyncRemoteRequest<Void> {
 
     private static final Logger LOGGER = Logger.getLogger(RemoteDeleteSecurityRuleRequest.class);
 
@@ -39,6 +41,13 @@ public class RemoteDeleteSecurityRuleRequest implements RemoteRequest<Void> {
         return null;
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync() {
+        IQ iq = marshal();
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, response -> null);
+    }
+
     private IQ marshal() {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -50,7 +59,7 @@ public class RemoteDeleteSecurityRuleRequest implements RemoteRequest<Void> {
         cloudNameElement.setText(cloudName);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         Element ruleIdElement = queryElement.addElement(IqElement.RULE_ID.toString());
         ruleIdElement.setText(ruleId);
@@ -6,17 +6,18 @@ import cloud.fogbow.ras.api.http.response.ImageSummary;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummary>> {
+public class RemoteGetAllImagesRequest implements AsyncRemoteRequest<List<ImageSummary>> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetAllImagesRequest.class);
 
     private String provider;
@@ -40,6 +41,13 @@ public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummar
         return unmarshalImages(response);
     }
 
+    @Override
+    public CompletableFuture<List<ImageSummary>> sendAsync() {
+        IQ iq = RemoteGetAllImagesRequest.marshal(this.provider, this.cloudName, this.systemUser);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalImages);
+    }
+
     public static IQ marshal(String provider, String cloudName, SystemUser systemUser) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -51,7 +59,7 @@ public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummar
         cloudNameElement.setText(cloudName);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         return iq;
     }
@@ -65,7 +73,7 @@ public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummar
         List<ImageSummary> imageSummaryList;
 
         try {
-            imageSummaryList = (List<ImageSummary>) new Gson().fromJson(hashMapStr, Class.forName(instanceClassName));
+            imageSummaryList = (List<ImageSummary>) IqPayloadCodec.decode(hashMapStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
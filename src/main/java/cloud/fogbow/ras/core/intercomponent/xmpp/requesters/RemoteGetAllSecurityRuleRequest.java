@@ -5,18 +5,19 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<SecurityRuleInstance>> {
+public class RemoteGetAllSecurityRuleRequest implements AsyncRemoteRequest<List<SecurityRuleInstance>> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetAllSecurityRuleRequest.class);
 
     private String provider;
@@ -41,6 +42,13 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
         return unmarshalSecurityRules(response);
     }
 
+    @Override
+    public CompletableFuture<List<SecurityRuleInstance>> sendAsync() {
+        IQ iq = marshal();
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalSecurityRules);
+    }
+
     private IQ marshal() {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -49,7 +57,7 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
                 RemoteMethod.REMOTE_GET_ALL_SECURITY_RULES.toString());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
         orderIdElement.setText(orderId);
@@ -65,7 +73,7 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
 
         List<SecurityRuleInstance> rulesList;
         try {
-            rulesList = (List<SecurityRuleInstance>) new Gson().fromJson(listStr, Class.forName(instanceClassName));
+            rulesList = (List<SecurityRuleInstance>) IqPayloadCodec.decode(listStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
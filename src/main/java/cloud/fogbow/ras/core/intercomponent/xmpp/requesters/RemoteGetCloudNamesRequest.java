@@ -5,17 +5,18 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
+public class RemoteGetCloudNamesRequest implements AsyncRemoteRequest<List<String>> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetCloudNamesRequest.class);
 
     private String provider;
@@ -38,6 +39,13 @@ public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
         return unmarshalImages(response);
     }
 
+    @Override
+    public CompletableFuture<List<String>> sendAsync() {
+        IQ iq = RemoteGetCloudNamesRequest.marshal(this.provider, this.systemUser);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalImages);
+    }
+
     public static IQ marshal(String provider, SystemUser systemUser) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -46,7 +54,7 @@ public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
                 RemoteMethod.REMOTE_GET_CLOUD_NAMES.toString());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         return iq;
     }
@@ -60,7 +68,7 @@ public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
         List<String> cloudNamesList;
 
         try {
-            cloudNamesList = (List<String>) new Gson().fromJson(listStr, Class.forName(instanceClassName));
+            cloudNamesList = (List<String>) IqPayloadCodec.decode(listStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -6,15 +6,17 @@ import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetImageRequest implements AsyncRemoteRequest<ImageInstance> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetImageRequest.class);
 
     private String provider;
@@ -39,6 +41,13 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
         return unmarshalImage(response);
     }
 
+    @Override
+    public CompletableFuture<ImageInstance> sendAsync() {
+        IQ iq = marshal(this.provider, this.cloudName, this.imageId, this.systemUser);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalImage);
+    }
+
     public static IQ marshal(String provider, String cloudName, String imageId, SystemUser systemUser) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -53,7 +62,7 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
         imageIdElement.setText(imageId);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         return iq;
     }
@@ -65,7 +74,7 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
         String instanceClassName = queryElement.element(IqElement.IMAGE_CLASS_NAME.toString()).getText();
 
         try {
-            return (ImageInstance) new Gson().fromJson(imageStr, Class.forName(instanceClassName));
+            return (ImageInstance) IqPayloadCodec.decode(imageStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -5,17 +5,18 @@ import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import cloud.fogbow.ras.api.http.response.Instance;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetInstanceRequest implements AsyncRemoteRequest<OrderInstance> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetInstanceRequest.class);
 
     private Order order;
@@ -37,13 +38,20 @@ public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
         return instance;
     }
 
+    @Override
+    public CompletableFuture<OrderInstance> sendAsync() {
+        IQ iq = marshal(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.order.getProvider(), this::unmarshalInstance);
+    }
+
     public static IQ marshal(Order order) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
 
         //user
         Element userElement = iq.getElement().addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(order.getSystemUser()));
+        userElement.setText(IqPayloadCodec.encode(order.getSystemUser()));
 
         //order
         Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
@@ -67,7 +75,7 @@ public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
 
         OrderInstance instance = null;
         try {
-            instance = (OrderInstance) new Gson().fromJson(instanceStr, Class.forName(instanceClassName));
+            instance = (OrderInstance) IqPayloadCodec.decode(instanceStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
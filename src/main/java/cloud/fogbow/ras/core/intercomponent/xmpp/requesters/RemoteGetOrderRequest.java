@@ -4,16 +4,18 @@ import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteGetOrderRequest implements RemoteRequest<Order> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetOrderRequest implements AsyncRemoteRequest<Order> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetOrderRequest.class);
 
     private Order order;
@@ -35,6 +37,13 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
         return order;
     }
 
+    @Override
+    public CompletableFuture<Order> sendAsync() {
+        IQ iq = marshal(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.order.getProvider(), this::unmarshalOrder);
+    }
+
     public static IQ marshal(Order order) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
@@ -58,7 +67,7 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
 
         Order order = null;
         try {
-            order = (Order) new Gson().fromJson(orderStr, Class.forName(orderClassName));
+            order = (Order) IqPayloadCodec.decode(orderStr, orderClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
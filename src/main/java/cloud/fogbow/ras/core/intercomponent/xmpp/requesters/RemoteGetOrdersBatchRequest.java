@@ -0,0 +1,85 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.gson.reflect.TypeToken;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetOrdersBatchRequest implements AsyncRemoteRequest<List<RemoteOrderUpdate>> {
+    private static final Logger LOGGER = Logger.getLogger(RemoteGetOrdersBatchRequest.class);
+
+    private static final Type ORDER_UPDATES_TYPE = new TypeToken<List<RemoteOrderUpdate>>() {}.getType();
+
+    private String provider;
+    private Map<String, String> versionsByOrderId;
+
+    /**
+     * @param versionsByOrderId the ids of the orders, all of them at the same provider, mapped to the version
+     *                          of their state last received (an empty version for an order never received)
+     */
+    public RemoteGetOrdersBatchRequest(String provider, Map<String, String> versionsByOrderId) {
+        this.provider = provider;
+        this.versionsByOrderId = versionsByOrderId;
+    }
+
+    /**
+     * @return the updates of the orders whose state changed since the version given, and of the orders that
+     * could not be obtained
+     */
+    @Override
+    public List<RemoteOrderUpdate> send() throws Exception {
+        IQ iq = marshal(this.provider, this.versionsByOrderId);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+
+        XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+        List<RemoteOrderUpdate> orderUpdates = unmarshalOrderUpdates(response);
+        LOGGER.debug(Messages.Log.SUCCESS);
+        return orderUpdates;
+    }
+
+    @Override
+    public CompletableFuture<List<RemoteOrderUpdate>> sendAsync() {
+        IQ iq = marshal(this.provider, this.versionsByOrderId);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalOrderUpdates);
+    }
+
+    public static IQ marshal(String provider, Map<String, String> versionsByOrderId) {
+        IQ iq = new IQ(IQ.Type.get);
+        iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
+
+        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+                RemoteMethod.REMOTE_GET_ORDERS_BATCH.toString());
+
+        Element orderVersionsElement = queryElement.addElement(IqElement.ORDER_VERSIONS.toString());
+        orderVersionsElement.setText(IqPayloadCodec.encode(versionsByOrderId));
+
+        return iq;
+    }
+
+    private List<RemoteOrderUpdate> unmarshalOrderUpdates(IQ response) throws InternalServerErrorException {
+        Element queryElement = response.getElement().element(IqElement.QUERY.toString());
+        String orderUpdatesStr = queryElement.element(IqElement.ORDER_UPDATES.toString()).getText();
+
+        try {
+            return IqPayloadCodec.decode(orderUpdatesStr, ORDER_UPDATES_TYPE);
+        } catch (Exception e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+}
@@ -5,16 +5,18 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteGetUserQuotaRequest implements RemoteRequest<Quota> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetUserQuotaRequest implements AsyncRemoteRequest<Quota> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetUserQuotaRequest.class);
 
     private String provider;
@@ -39,6 +41,13 @@ public class RemoteGetUserQuotaRequest implements RemoteRequest<Quota> {
         return quota;
     }
 
+    @Override
+    public CompletableFuture<Quota> sendAsync() {
+        IQ iq = marshal(this.provider, this.cloudName, this.systemUser);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.provider, this::unmarshalUserQuota);
+    }
+
     public static IQ marshal(String provider, String cloudName, SystemUser systemUser) {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
@@ -50,7 +59,7 @@ public class RemoteGetUserQuotaRequest implements RemoteRequest<Quota> {
         cloudNameElement.setText(cloudName);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.encode(systemUser));
 
         return iq;
     }
@@ -63,7 +72,7 @@ public class RemoteGetUserQuotaRequest implements RemoteRequest<Quota> {
 
         Quota quota = null;
         try {
-            quota = (Quota) new Gson().fromJson(quotaStr, Class.forName(instanceClassName));
+            quota = (Quota) IqPayloadCodec.decode(quotaStr, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -0,0 +1,78 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.PacketError;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteNotifyOrderStatesRequest implements AsyncRemoteRequest<Boolean> {
+    private static final Logger LOGGER = Logger.getLogger(RemoteNotifyOrderStatesRequest.class);
+
+    // The conditions answered by requesters that do not take notifications, e.g. those running older versions
+    @VisibleForTesting
+    static final Set<PacketError.Condition> NOT_SUPPORTED_CONDITIONS = EnumSet.of(
+            PacketError.Condition.feature_not_implemented, PacketError.Condition.service_unavailable);
+
+    private String requester;
+    private List<RemoteOrderUpdate> orderUpdates;
+
+    /**
+     * @param orderUpdates the current state of orders requested by the requester, whose state has changed
+     */
+    public RemoteNotifyOrderStatesRequest(String requester, List<RemoteOrderUpdate> orderUpdates) {
+        this.requester = requester;
+        this.orderUpdates = orderUpdates;
+    }
+
+    /**
+     * @return false if the requester does not take notifications
+     */
+    @Override
+    public Boolean send() throws Exception {
+        IQ iq = marshal(this.requester, this.orderUpdates);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+
+        if (response != null && response.getError() != null
+                && NOT_SUPPORTED_CONDITIONS.contains(response.getError().getCondition())) {
+            return false;
+        }
+        XmppErrorConditionToExceptionTranslator.handleError(response, this.requester);
+        LOGGER.debug(Messages.Log.SUCCESS);
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendAsync() {
+        IQ iq = marshal(this.requester, this.orderUpdates);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return PacketSenderHolder.getAsyncPacketSender().sendPacket(iq, this.requester, response -> true);
+    }
+
+    public static IQ marshal(String requester, List<RemoteOrderUpdate> orderUpdates) {
+        IQ iq = new IQ(IQ.Type.set);
+        iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + requester);
+
+        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+                RemoteMethod.REMOTE_NOTIFY_ORDER_STATES.toString());
+
+        Element orderUpdatesElement = queryElement.addElement(IqElement.ORDER_UPDATES.toString());
+        orderUpdatesElement.setText(IqPayloadCodec.encode(orderUpdates));
+
+        return iq;
+    }
+}
@@ -0,0 +1,188 @@
+package cloud.fogbow.ras.core.models;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * An immutable index over the flavors of a cloud that finds the smallest flavor, in the natural order of the
+ * flavors, with at least the vCPU, RAM and disk requested and whose tags match the requirements of the order.
+ * <p>
+ * The flavors are the leaves of a segment tree, in their natural order, and each inner node keeps the largest
+ * vCPU, RAM and disk found below it. A query descends towards the leftmost leaf that fits, skipping every
+ * subtree that cannot hold a fit, so it visits O(log n) nodes when the larger flavors are larger in all three
+ * dimensions, as is usual in flavor catalogs, and O(n) in the worst case, as a linear scan. The tags are kept in an
+ * inverted index of bit sets, thus the subtrees without any flavor carrying the requested tags are skipped too.
+ *
+ * @param <T> the type of the flavors
+ */
+public class FlavorIndex<T extends HardwareRequirements> {
+    private static final int NO_FLAVOR = -1;
+    private static final int ROOT = 1;
+
+    private List<T> flavors;
+    private int leaves;
+    private int[] maxCpu;
+    private int[] maxRam;
+    private int[] maxDisk;
+    private Map<String, Map<String, BitSet>> positionsByTag;
+
+    public FlavorIndex(Collection<? extends T> flavors) {
+        this(flavors, flavor -> null);
+    }
+
+    /**
+     * @param flavors the flavors to index; flavors that are equal in their natural order are kept only once
+     * @param tagsOf  gives the tags (requirement name and value) of a flavor, or null if it has none
+     */
+    public FlavorIndex(Collection<? extends T> flavors, Function<T, Map<String, String>> tagsOf) {
+        this.flavors = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(flavors)));
+        buildTree();
+        buildTagIndex(tagsOf);
+    }
+
+    /**
+     * @return the smallest flavor with at least the vCPU, RAM and disk given, or null if there is none
+     */
+    public T findSmallest(int cpu, int ram, int disk) {
+        return findSmallest(cpu, ram, disk, null);
+    }
+
+    /**
+     * @return the smallest flavor with at least the vCPU, RAM and disk given and whose tags have all the values
+     * in requirements (compared ignoring case), or null if there is none
+     */
+    public T findSmallest(int cpu, int ram, int disk, Map<String, String> requirements) {
+        BitSet allowed = getAllowedPositions(requirements);
+        int position = search(ROOT, 0, this.leaves - 1, 0, cpu, ram, disk, allowed);
+        return position == NO_FLAVOR ? null : this.flavors.get(position);
+    }
+
+    /**
+     * @return all flavors with at least the vCPU, RAM and disk given, from the smallest to the largest; useful
+     * when the caller still has to check the candidates against something the index does not know
+     */
+    public List<T> findAll(int cpu, int ram, int disk) {
+        List<T> result = new ArrayList<>();
+        int position = search(ROOT, 0, this.leaves - 1, 0, cpu, ram, disk, null);
+        while (position != NO_FLAVOR) {
+            result.add(this.flavors.get(position));
+            position = search(ROOT, 0, this.leaves - 1, position + 1, cpu, ram, disk, null);
+        }
+        return result;
+    }
+
+    /**
+     * @return the indexed flavors, from the smallest to the largest
+     */
+    public List<T> getFlavors() {
+        return this.flavors;
+    }
+
+    public int size() {
+        return this.flavors.size();
+    }
+
+    private void buildTree() {
+        this.leaves = 1;
+        while (this.leaves < this.flavors.size()) {
+            this.leaves *= 2;
+        }
+        this.maxCpu = new int[2 * this.leaves];
+        this.maxRam = new int[2 * this.leaves];
+        this.maxDisk = new int[2 * this.leaves];
+
+        for (int i = 0; i < this.leaves; i++) {
+            int node = this.leaves + i;
+            if (i < this.flavors.size()) {
+                T flavor = this.flavors.get(i);
+                this.maxCpu[node] = flavor.getCpu();
+                this.maxRam[node] = flavor.getRam();
+                this.maxDisk[node] = flavor.getDisk();
+            } else {
+                // Padding leaves never fit
+                this.maxCpu[node] = Integer.MIN_VALUE;
+                this.maxRam[node] = Integer.MIN_VALUE;
+                this.maxDisk[node] = Integer.MIN_VALUE;
+            }
+        }
+        for (int node = this.leaves - 1; node >= ROOT; node--) {
+            this.maxCpu[node] = Math.max(this.maxCpu[2 * node], this.maxCpu[2 * node + 1]);
+            this.maxRam[node] = Math.max(this.maxRam[2 * node], this.maxRam[2 * node + 1]);
+            this.maxDisk[node] = Math.max(this.maxDisk[2 * node], this.maxDisk[2 * node + 1]);
+        }
+    }
+
+    private void buildTagIndex(Function<T, Map<String, String>> tagsOf) {
+        this.positionsByTag = new HashMap<>();
+        for (int i = 0; i < this.flavors.size(); i++) {
+            Map<String, String> tags = tagsOf.apply(this.flavors.get(i));
+            if (tags == null) {
+                continue;
+            }
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                if (tag.getKey() == null || tag.getValue() == null) {
+                    continue;
+                }
+                this.positionsByTag
+                        .computeIfAbsent(normalizeKey(tag.getKey()), key -> new HashMap<>())
+                        .computeIfAbsent(normalizeValue(tag.getValue()), value -> new BitSet())
+                        .set(i);
+            }
+        }
+    }
+
+    private BitSet getAllowedPositions(Map<String, String> requirements) {
+        if (requirements == null || requirements.isEmpty()) {
+            return null;
+        }
+        BitSet allowed = new BitSet();
+        allowed.set(0, this.flavors.size());
+        for (Map.Entry<String, String> requirement : requirements.entrySet()) {
+            Map<String, BitSet> positionsByValue = this.positionsByTag.get(normalizeKey(requirement.getKey()));
+            BitSet positions = positionsByValue == null || requirement.getValue() == null ? null :
+                    positionsByValue.get(normalizeValue(requirement.getValue()));
+            if (positions == null) {
+                return new BitSet();
+            }
+            allowed.and(positions);
+        }
+        return allowed;
+    }
+
+    private int search(int node, int low, int high, int from, int cpu, int ram, int disk, BitSet allowed) {
+        if (high < from || this.maxCpu[node] < cpu || this.maxRam[node] < ram || this.maxDisk[node] < disk) {
+            return NO_FLAVOR;
+        }
+        if (allowed != null) {
+            int nextAllowed = allowed.nextSetBit(Math.max(low, from));
+            if (nextAllowed == NO_FLAVOR || nextAllowed > high) {
+                return NO_FLAVOR;
+            }
+        }
+        if (low == high) {
+            // The maxima of a leaf are the values of its flavor
+            return low;
+        }
+        int middle = (low + high) >>> 1;
+        int position = search(2 * node, low, middle, from, cpu, ram, disk, allowed);
+        if (position == NO_FLAVOR) {
+            position = search(2 * node + 1, middle + 1, high, from, cpu, ram, disk, allowed);
+        }
+        return position;
+    }
+
+    private String normalizeKey(String key) {
+        return key == null ? null : key.trim();
+    }
+
+    private String normalizeValue(String value) {
+        return value.trim().toLowerCase();
+    }
+}
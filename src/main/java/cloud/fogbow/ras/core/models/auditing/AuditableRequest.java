@@ -62,4 +62,28 @@ public class AuditableRequest {
         this.identityProviderId = identityProviderId;
         this.response = response;
     }
+
+    public Timestamp getTimestamp() {
+        return timestamp;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public ResourceType getResourceType() {
+        return resourceType;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getIdentityProviderId() {
+        return identityProviderId;
+    }
+
+    public String getResponse() {
+        return response;
+    }
 }
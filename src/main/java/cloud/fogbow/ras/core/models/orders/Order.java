@@ -82,6 +82,11 @@ public abstract class Order<T extends Order> implements Serializable {
     @Size(max = FIELDS_MAX_SIZE)
     private String faultMessage;
 
+    // At the providing member, the sequence of the last update of this order sent to the requesting member; at
+    // the requesting member, the sequence of the last update applied to it (see RemoteOrderUpdate)
+    @Transient
+    private transient long remoteUpdateSequence;
+
     public Order() {
     }
 
@@ -194,6 +199,14 @@ public abstract class Order<T extends Order> implements Serializable {
         if (this.faultMessage == null) this.faultMessage = faultMessage;
     }
 
+    public long getRemoteUpdateSequence() {
+        return this.remoteUpdateSequence;
+    }
+
+    public void setRemoteUpdateSequence(long remoteUpdateSequence) {
+        this.remoteUpdateSequence = remoteUpdateSequence;
+    }
+
     private void setSerializedSystemUser(String serializedSystemUser) {
         this.serializedSystemUser = serializedSystemUser;
     }
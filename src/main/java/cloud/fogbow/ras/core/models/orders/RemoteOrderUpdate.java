@@ -0,0 +1,131 @@
+package cloud.fogbow.ras.core.models.orders;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
+import com.google.gson.JsonObject;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * The state of an order at its providing member, as sent to the requesting member when the remote orders are
+ * synchronized in batches, or when the providing member pushes a state change. It carries only the fields the
+ * requesting member copies from the remote order, along with a version identifying their values, so that the
+ * order is sent again only once any of them changes. When the order cannot be obtained at the providing member,
+ * it carries the error message instead.
+ * <p>
+ * Batch responses and pushed state changes may arrive out of order, thus each update is stamped with a sequence
+ * that increases with every update of the order the providing member builds, and the requesting member ignores
+ * the updates older than the last one it applied. The sequence is at least the time the update is built, so that
+ * it keeps increasing after the providing member restarts. Updates without a sequence, sent by members that do
+ * not stamp them, are always applied.
+ */
+public class RemoteOrderUpdate {
+    // The fields of an order the requesting member copies from the remote one (see Order.updateFromRemote)
+    private static final String[] SYNCHRONIZED_FIELDS = {"id", "orderState", "faultMessage", "actualAllocation"};
+
+    private String orderId;
+    private String version;
+    private String orderClassName;
+    private String order;
+    private String errorMessage;
+    private long sequence;
+
+    public RemoteOrderUpdate(String orderId, String version, String orderClassName, String order) {
+        this.orderId = orderId;
+        this.version = version;
+        this.orderClassName = orderClassName;
+        this.order = order;
+    }
+
+    public RemoteOrderUpdate(String orderId, String version, String orderClassName, String order, long sequence) {
+        this(orderId, version, orderClassName, order);
+        this.sequence = sequence;
+    }
+
+    public RemoteOrderUpdate(String orderId, String errorMessage) {
+        this.orderId = orderId;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * @return the update carrying the current state of the order, which must be called holding its lock
+     */
+    public static RemoteOrderUpdate fromOrder(Order order) {
+        JsonObject fullState = IqPayloadCodec.encodeToTree(order).getAsJsonObject();
+        JsonObject state = new JsonObject();
+        for (String field : SYNCHRONIZED_FIELDS) {
+            if (fullState.has(field)) {
+                state.add(field, fullState.get(field));
+            }
+        }
+        String stateStr = state.toString();
+        long sequence = Math.max(order.getRemoteUpdateSequence() + 1, System.currentTimeMillis());
+        order.setRemoteUpdateSequence(sequence);
+        return new RemoteOrderUpdate(order.getId(), DigestUtils.sha1Hex(stateStr), order.getClass().getName(),
+                stateStr, sequence);
+    }
+
+    public String getOrderId() {
+        return this.orderId;
+    }
+
+    public String getVersion() {
+        return this.version;
+    }
+
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    public String getErrorMessage() {
+        return this.errorMessage;
+    }
+
+    public boolean hasFailed() {
+        return this.errorMessage != null;
+    }
+
+    /**
+     * @return an order of the same class as the remote one, holding only the synchronized fields
+     */
+    public Order toOrder() throws InternalServerErrorException {
+        try {
+            return (Order) IqPayloadCodec.decode(this.order, this.orderClassName);
+        } catch (Exception e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the state carried by this update to the local counterpart of the remote order. Orders in state
+     * ASSIGNED_FOR_DELETION and FAILED_ON_REQUEST are not updated: the state of a FAILED_ON_REQUEST order
+     * cannot be changed by events happening at the remote provider, and an ASSIGNED_FOR_DELETION order will
+     * change state only when the remote provider signals the local requester to close it. Updates older than the
+     * last one applied to the order are ignored.
+     *
+     * @return true if the order has been updated
+     */
+    public boolean applyTo(Order localOrder) throws InternalServerErrorException {
+        Order remoteOrder = toOrder();
+        synchronized (localOrder) {
+            if (localOrder.getOrderState().equals(OrderState.FAILED_ON_REQUEST) ||
+                    localOrder.getOrderState().equals(OrderState.ASSIGNED_FOR_DELETION)) {
+                return false;
+            }
+            if (isSequenced() && this.sequence <= localOrder.getRemoteUpdateSequence()) {
+                return false;
+            }
+            localOrder.updateFromRemote(remoteOrder);
+            localOrder.setOrderState(remoteOrder.getOrderState());
+            SharedOrderHolders.getInstance().getActiveOrdersMap().reindex(localOrder);
+            if (isSequenced()) {
+                localOrder.setRemoteUpdateSequence(this.sequence);
+            }
+            return true;
+        }
+    }
+
+    private boolean isSequenced() {
+        return this.sequence > 0;
+    }
+}
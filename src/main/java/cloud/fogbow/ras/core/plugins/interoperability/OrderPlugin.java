@@ -5,6 +5,10 @@ import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.core.models.orders.Order;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 public interface OrderPlugin<R extends OrderInstance, T extends Order, S extends CloudUser> {
     public String requestInstance(T Order, S cloudUser) throws FogbowException;
 
@@ -12,6 +16,20 @@ public interface OrderPlugin<R extends OrderInstance, T extends Order, S extends
 
     public R getInstance(T Order, S cloudUser) throws FogbowException;
 
+    /**
+     * Gets the instances of several orders of the same cloud user with as few requests to the cloud as
+     * possible (e.g. through the list endpoints of the cloud). This is an optimization: the instances left out
+     * of the result, as well as those of plugins that do not override this method, are obtained one at a time
+     * through {@link #getInstance(Order, CloudUser)}, which remains responsible for reporting their errors.
+     *
+     * @param orders    orders whose instance id is known
+     * @param cloudUser the cloud user that owns the instances
+     * @return the instances found, indexed by the id of their orders
+     */
+    public default Map<String, R> getInstances(List<T> orders, S cloudUser) throws FogbowException {
+        return Collections.emptyMap();
+    }
+
     public boolean isReady(String instanceState);
 
     public boolean hasFailed(String instanceState);
@@ -1,6 +1,21 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.constants.AwsConstants;
@@ -8,33 +23,140 @@ import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.ras.constants.Messages;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpService;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.Ec2ClientBuilder;
+import software.amazon.awssdk.utils.AttributeMap;
 
 public class AwsV2ClientUtil {
 
 	private static final Logger LOGGER = Logger.getLogger(AwsV2ClientUtil.class);
 	private static final int ACCESS_KEY_ID_TOKEN_INDEX = 0;
 	private static final int SECRET_KEY_ID_TOKEN_INDEX = 1;
+	private static final String CLIENT_KEY_SEPARATOR = "/";
+
+	@VisibleForTesting
+	static final long CLIENT_IDLE_TIME = TimeUnit.MINUTES.toMillis(10);
+	@VisibleForTesting
+	static final int MAXIMUM_CLIENTS = 100;
+	// Shared by all clients, thus sized for many of them polling at once
+	private static final int MAXIMUM_HTTP_CONNECTIONS = 200;
+
+	// An Ec2Client holds its own thread pools and, unless given one, its own HTTP connection pool, so
+	// the clients are kept per credentials and region and closed once they have not been used for a while.
+	// A client evicted to make room might still be in use, so it is only closed once it has been out of the
+	// cache, thus out of reach of new callers, for as long as a client is kept idle.
+	private static final Cache<String, Ec2Client> CLIENTS = CacheBuilder.newBuilder()
+			.maximumSize(MAXIMUM_CLIENTS)
+			.expireAfterAccess(CLIENT_IDLE_TIME, TimeUnit.MILLISECONDS)
+			.<String, Ec2Client>removalListener(AwsV2ClientUtil::closeClient)
+			.build();
+	// The clients evicted to make room, in the order they were evicted
+	private static final Queue<RetiredClient> RETIRED_CLIENTS = new ConcurrentLinkedQueue<>();
+	private static final AtomicLong CLIENT_CREATIONS = new AtomicLong();
+	private static final AtomicLong CLIENT_EVICTIONS = new AtomicLong();
 
+	/**
+	 * Returns a client for the credentials in the token and the region given, reusing the one built
+	 * by a previous call while it is in use. Callers must not close the client.
+	 */
 	public static Ec2Client createEc2Client(String tokenValue, String regionName)
 			throws InvalidParameterException, InternalServerErrorException {
 
 		String[] token = tokenValue.split(AwsConstants.TOKEN_VALUE_SEPARATOR);
 		String accessKeyId = token[ACCESS_KEY_ID_TOKEN_INDEX];
 		String secretKeyId = token[SECRET_KEY_ID_TOKEN_INDEX];
-    
+
 		Region region = parseRegion(regionName);
 
-		Ec2Client client;
+		closeRetiredClients(System.currentTimeMillis());
+
+		// A hash of the secret is part of the key, so that a replaced secret is never served a client built
+		// with the old one, while the secret itself is not kept in the key
+		String key = accessKeyId + CLIENT_KEY_SEPARATOR + DigestUtils.sha256Hex(secretKeyId)
+				+ CLIENT_KEY_SEPARATOR + region.id();
+		try {
+			return CLIENTS.get(key, () -> buildEc2Client(accessKeyId, secretKeyId, region));
+		} catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+			if (e.getCause() instanceof InternalServerErrorException) {
+				throw (InternalServerErrorException) e.getCause();
+			}
+			throw new InternalServerErrorException(e.getCause().getMessage());
+		}
+	}
+
+	/**
+	 * @return the number of clients built since the RAS started
+	 */
+	public static long getClientCreations() {
+		return CLIENT_CREATIONS.get();
+	}
+
+	/**
+	 * @return the number of clients evicted for being idle or to make room
+	 */
+	public static long getClientEvictions() {
+		return CLIENT_EVICTIONS.get();
+	}
+
+	/**
+	 * @return the number of clients currently kept
+	 */
+	public static long getCachedClients() {
+		return CLIENTS.size();
+	}
+
+	/**
+	 * @return the number of clients evicted to make room that are not closed yet
+	 */
+	public static long getRetiredClients() {
+		return RETIRED_CLIENTS.size();
+	}
+
+	/**
+	 * Discards and closes all clients, thus must only be called when none is in use.
+	 */
+	@VisibleForTesting
+	static void clearClients() {
+		CLIENTS.invalidateAll();
+		closeRetiredClients(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Closes the clients that were evicted to make room at least CLIENT_IDLE_TIME before the time given.
+	 */
+	@VisibleForTesting
+	static void closeRetiredClients(long currentTime) {
+		RetiredClient retiredClient;
+		while ((retiredClient = RETIRED_CLIENTS.peek()) != null
+				&& currentTime - retiredClient.retireTime >= CLIENT_IDLE_TIME) {
+			// Only the caller that takes the client from the queue closes it
+			if (RETIRED_CLIENTS.remove(retiredClient)) {
+				retiredClient.client.close();
+			}
+		}
+	}
+
+	@VisibleForTesting
+	static Ec2Client buildEc2Client(String accessKeyId, String secretKeyId, Region region)
+			throws InternalServerErrorException {
+
 		try {
 			AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKeyId, secretKeyId);
 			StaticCredentialsProvider credentialsProvider = StaticCredentialsProvider.create(awsCredentials);
-			client = Ec2Client.builder()
+			Ec2ClientBuilder clientBuilder = Ec2Client.builder()
 					.credentialsProvider(credentialsProvider)
-					.region(region)
-					.build();
+					.region(region);
 
+			SdkHttpClient httpClient = SharedHttpClientHolder.HTTP_CLIENT;
+			if (httpClient != null) {
+				clientBuilder.httpClient(httpClient);
+			}
+			Ec2Client client = clientBuilder.build();
+			CLIENT_CREATIONS.incrementAndGet();
 			return client;
 		} catch (Throwable e) {
 			LOGGER.error(Messages.Log.ERROR_WHILE_CREATING_CLIENT, e);
@@ -53,4 +175,49 @@ public class AwsV2ClientUtil {
 		throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S, regionName));
 	}
 
+	private static void closeClient(RemovalNotification<String, Ec2Client> notification) {
+		if (notification.wasEvicted()) {
+			CLIENT_EVICTIONS.incrementAndGet();
+		}
+		// A caller is done with a client long before the client has been idle for CLIENT_IDLE_TIME, while a
+		// client evicted to make room might still be in use
+		if (notification.getCause() == RemovalCause.SIZE) {
+			RETIRED_CLIENTS.add(new RetiredClient(notification.getValue(), System.currentTimeMillis()));
+			return;
+		}
+		// Closing a client leaves the shared HTTP client open
+		notification.getValue().close();
+	}
+
+	private static class RetiredClient {
+		private Ec2Client client;
+		private long retireTime;
+
+		private RetiredClient(Ec2Client client, long retireTime) {
+			this.client = client;
+			this.retireTime = retireTime;
+		}
+	}
+
+	/**
+	 * Builds the HTTP client shared by all EC2 clients on first use, with the implementation found in the
+	 * classpath, as the SDK does for each client when none is given.
+	 */
+	private static class SharedHttpClientHolder {
+		private static final SdkHttpClient HTTP_CLIENT = buildSharedHttpClient();
+
+		private static SdkHttpClient buildSharedHttpClient() {
+			try {
+				AttributeMap configuration = AttributeMap.builder()
+						.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, MAXIMUM_HTTP_CONNECTIONS)
+						.build();
+				for (SdkHttpService httpService : ServiceLoader.load(SdkHttpService.class)) {
+					return httpService.createHttpClientBuilder().buildWithDefaults(configuration);
+				}
+			} catch (Throwable e) {
+				LOGGER.warn(Messages.Log.ERROR_WHILE_CREATING_SHARED_HTTP_CLIENT, e);
+			}
+			return null;
+		}
+	}
 }
@@ -1,7 +1,10 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
@@ -25,18 +28,21 @@ import software.amazon.awssdk.services.ec2.model.DescribeSubnetsRequest;
 import software.amazon.awssdk.services.ec2.model.DescribeSubnetsResponse;
 import software.amazon.awssdk.services.ec2.model.DescribeVolumesRequest;
 import software.amazon.awssdk.services.ec2.model.DescribeVolumesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
 import software.amazon.awssdk.services.ec2.model.Image;
 import software.amazon.awssdk.services.ec2.model.Instance;
 import software.amazon.awssdk.services.ec2.model.Reservation;
 import software.amazon.awssdk.services.ec2.model.Subnet;
 import software.amazon.awssdk.services.ec2.model.Tag;
 import software.amazon.awssdk.services.ec2.model.Volume;
+import software.amazon.awssdk.services.ec2.model.VolumeAttachment;
 
 public class AwsV2CloudUtil {
 
     public static final String AWS_TAG_GROUP_ID = "groupId";
     public static final String AWS_TAG_NAME = "Name";
     public static final String SECURITY_GROUP_RESOURCE = "Security Groups";
+    public static final String ATTACHMENT_INSTANCE_ID_FILTER = "attachment.instance-id";
     
     public static Image getImagesFrom(DescribeImagesResponse response) throws FogbowException {
         if (response != null && !response.images().isEmpty()) {
@@ -139,6 +145,15 @@ public class AwsV2CloudUtil {
         }
     }
 
+    public static DescribeInstancesResponse doDescribeInstancesRequest(DescribeInstancesRequest request,
+            Ec2Client client) throws FogbowException {
+        try {
+            return client.describeInstances(request);
+        } catch (SdkException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
     public static DescribeInstancesResponse doDescribeInstances(Ec2Client client) throws FogbowException {
         try {
             return client.describeInstances();
@@ -171,6 +186,46 @@ public class AwsV2CloudUtil {
         return volumes;
     }
 
+    /**
+     * Gets the volumes attached to the instances given with a single request (followed by its pages), instead of
+     * one request per volume.
+     *
+     * @return the volumes attached to each instance, keyed by instance id; instances without volumes are left out
+     */
+    public static Map<String, List<Volume>> getInstancesVolumes(Collection<String> instanceIds, Ec2Client client)
+            throws FogbowException {
+
+        Map<String, List<Volume>> volumesByInstanceId = new HashMap<>();
+        if (instanceIds.isEmpty()) {
+            return volumesByInstanceId;
+        }
+        Filter filter = Filter.builder()
+                .name(ATTACHMENT_INSTANCE_ID_FILTER)
+                .values(instanceIds)
+                .build();
+
+        String nextToken = null;
+        do {
+            DescribeVolumesRequest request = DescribeVolumesRequest.builder()
+                    .filters(filter)
+                    .nextToken(nextToken)
+                    .build();
+            DescribeVolumesResponse response;
+            try {
+                response = client.describeVolumes(request);
+            } catch (SdkException e) {
+                throw new InternalServerErrorException(e.getMessage());
+            }
+            for (Volume volume : response.volumes()) {
+                for (VolumeAttachment attachment : volume.attachments()) {
+                    volumesByInstanceId.computeIfAbsent(attachment.instanceId(), id -> new ArrayList<>()).add(volume);
+                }
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return volumesByInstanceId;
+    }
+
     public static List<String> getVolumeIds(Instance instance) {
         List<String> volumeIds = new ArrayList<String>();
         for (int i = 0; i < instance.blockDeviceMappings().size(); i++) {
@@ -12,7 +12,6 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.TreeSet;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.common.util.BinaryUnit;
@@ -27,6 +26,7 @@ import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.api.http.response.InstanceState;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.FlavorIndex;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.ComputePlugin;
@@ -59,6 +59,10 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     private static final int STORAGE_COLUMN = 3;
     private static final int VCPU_COLUMN = 1;
 
+    @VisibleForTesting
+    static final int MAXIMUM_FILTER_VALUES = 200;
+    @VisibleForTesting
+    static final String INSTANCE_ID_FILTER = "instance-id";
     @VisibleForTesting
     static final String BANDWIDTH_REQUIREMENT = "bandwidth";
     @VisibleForTesting
@@ -89,6 +93,7 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     private String flavorsFilePath;
     private String region;
     private TreeSet<AwsHardwareRequirements> flavors;
+    private volatile FlavorIndex<AwsHardwareRequirements> flavorIndex;
     private LaunchCommandGenerator launchCommandGenerator;
 
     public AwsComputePlugin(String confFilePath) {
@@ -98,6 +103,7 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         this.flavorsFilePath = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_FLAVORS_TYPES_FILE_PATH_KEY);
         this.launchCommandGenerator = new DefaultLaunchCommandGenerator();
         this.flavors = new TreeSet<AwsHardwareRequirements>();
+        this.flavorIndex = new FlavorIndex<>(this.flavors);
     }
 
     @Override
@@ -119,6 +125,21 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         return doGetInstance(instanceId, client);
     }
 
+    @Override
+    public Map<String, ComputeInstance> getInstances(List<ComputeOrder> computeOrders, AwsV2User cloudUser)
+            throws FogbowException {
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_D, computeOrders.size()));
+        Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
+        updateHardwareRequirements(cloudUser);
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (int i = 0; i < computeOrders.size(); i += MAXIMUM_FILTER_VALUES) {
+            int end = Math.min(i + MAXIMUM_FILTER_VALUES, computeOrders.size());
+            List<ComputeOrder> chunk = computeOrders.subList(i, end);
+            computeInstances.putAll(doGetInstances(chunk, client));
+        }
+        return computeInstances;
+    }
+
     @Override
     public void deleteInstance(ComputeOrder computeOrder, AwsV2User cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, computeOrder.getInstanceId()));
@@ -159,6 +180,58 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         return buildComputeInstance(instance, volumes);
     }
 	
+    @VisibleForTesting
+    Map<String, ComputeInstance> doGetInstances(List<ComputeOrder> computeOrders, Ec2Client client)
+            throws FogbowException {
+        Map<String, ComputeOrder> ordersByInstanceId = new HashMap<>();
+        for (ComputeOrder computeOrder : computeOrders) {
+            ordersByInstanceId.put(computeOrder.getInstanceId(), computeOrder);
+        }
+
+        // Filtering by instance id, instead of asking for the ids themselves, keeps the request from failing
+        // when one of the instances no longer exists
+        Filter filter = Filter.builder()
+                .name(INSTANCE_ID_FILTER)
+                .values(ordersByInstanceId.keySet())
+                .build();
+
+        Map<String, Instance> instancesByOrderId = new HashMap<>();
+        String nextToken = null;
+        do {
+            DescribeInstancesRequest request = DescribeInstancesRequest.builder()
+                    .filters(filter)
+                    .nextToken(nextToken)
+                    .build();
+
+            DescribeInstancesResponse response = AwsV2CloudUtil.doDescribeInstancesRequest(request, client);
+            for (Reservation reservation : response.reservations()) {
+                for (Instance instance : reservation.instances()) {
+                    ComputeOrder computeOrder = ordersByInstanceId.get(instance.instanceId());
+                    // Terminated instances are left out, so that they are reported as not found by getInstance
+                    String state = instance.state().nameAsString();
+                    if (computeOrder != null && !state.equals(AwsV2StateMapper.TERMINATED_STATE)) {
+                        instancesByOrderId.put(computeOrder.getId(), instance);
+                    }
+                }
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+
+        // The volumes of all the instances are obtained at once, and matched to them here
+        List<String> instanceIds = new ArrayList<>();
+        for (Instance instance : instancesByOrderId.values()) {
+            instanceIds.add(instance.instanceId());
+        }
+        Map<String, List<Volume>> volumesByInstanceId = AwsV2CloudUtil.getInstancesVolumes(instanceIds, client);
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (Entry<String, Instance> entry : instancesByOrderId.entrySet()) {
+            Instance instance = entry.getValue();
+            List<Volume> volumes = volumesByInstanceId.getOrDefault(instance.instanceId(), new ArrayList<>());
+            computeInstances.put(entry.getKey(), buildComputeInstance(instance, volumes));
+        }
+        return computeInstances;
+    }
+
     @VisibleForTesting
     ComputeInstance buildComputeInstance(Instance instance, List<Volume> volumes) {
         String id = instance.instanceId();
@@ -366,57 +439,12 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
             throws FogbowException {
 
         updateHardwareRequirements(cloudUser);
-        TreeSet<AwsHardwareRequirements> resultset = getFlavorsByRequirements(computeOrder.getRequirements());
-        for (AwsHardwareRequirements hardwareRequirements : resultset) {
-            if (hardwareRequirements.getCpu() >= computeOrder.getvCPU()
-                    && hardwareRequirements.getRam() >= computeOrder.getRam()
-                    && hardwareRequirements.getDisk() >= computeOrder.getDisk()) {
-                return hardwareRequirements;
-            }
+        AwsHardwareRequirements flavor = getFlavorIndex().findSmallest(computeOrder.getvCPU(),
+                computeOrder.getRam(), computeOrder.getDisk(), computeOrder.getRequirements());
+        if (flavor == null) {
+            throw new UnacceptableOperationException(Messages.Exception.NO_MATCHING_FLAVOR);
         }
-        throw new UnacceptableOperationException(Messages.Exception.NO_MATCHING_FLAVOR);
-    }
-
-    /**
-     * this method attempts to filter the set of flavors available from a
-     * requirements map passed by parameter. If there are valid requirements on the
-     * map, it will filter these insights, returning only the common flavors to the
-     * requested order. Otherwise returns the complete flavor set without changes.
-     * 
-     * @param orderRequirements: a map of requirements in the compute order request.
-     * @return a set of requirements-filtered flavors or the current set of flavors.
-     */
-    @VisibleForTesting
-    TreeSet<AwsHardwareRequirements> getFlavorsByRequirements(Map<String, String> orderRequirements) {
-        TreeSet<AwsHardwareRequirements> resultSet = getFlavors();
-        List<AwsHardwareRequirements> resultList = null;
-        if (orderRequirements != null && !orderRequirements.isEmpty()) {
-            for (Entry<String, String> requirements : orderRequirements.entrySet()) {
-                resultList = filterFlavors(resultSet, requirements);
-                if (resultList.size() < resultSet.size()) {
-                    resultSet = parseToTreeSet(resultList);
-                }
-            }
-        }
-        return resultSet;
-    }
-
-    @VisibleForTesting
-    TreeSet<AwsHardwareRequirements> parseToTreeSet(List<AwsHardwareRequirements> list) {
-        TreeSet<AwsHardwareRequirements> resultSet = new TreeSet<AwsHardwareRequirements>();
-        resultSet.addAll(list);
-        return resultSet;
-    }
-
-    @VisibleForTesting
-    List<AwsHardwareRequirements> filterFlavors(TreeSet<AwsHardwareRequirements> flavors,
-            Entry<String, String> requirements) {
-
-        String key = requirements.getKey().trim();
-        String value = requirements.getValue().trim();
-        return flavors.stream()
-                .filter(flavor -> value.equalsIgnoreCase(flavor.getRequirements().get(key)))
-                .collect(Collectors.toList());
+        return flavor;
     }
 
     @VisibleForTesting
@@ -440,16 +468,36 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         String[] requirements = null;
         AwsHardwareRequirements flavor = null;
 
+        // The plugin instance is shared by concurrent requests, thus a new set is assembled and
+        // swapped in, instead of changing the set that other threads may be iterating over.
+        TreeSet<AwsHardwareRequirements> newFlavors = new TreeSet<AwsHardwareRequirements>();
         Map<String, Integer> imagesMap = generateImagesSizeMap(cloudUser);
         for (Entry<String, Integer> imageEntry : imagesMap.entrySet()) {
             for (String line : lines) {
                 if (!line.startsWith(COMMENTED_LINE_PREFIX)) {
                     requirements = line.split(CSV_COLUMN_SEPARATOR);
                     flavor = buildHardwareRequirements(imageEntry, requirements);
-                    this.flavors.add(flavor);
+                    newFlavors.add(flavor);
                 }
             }
         }
+        setFlavors(newFlavors);
+    }
+
+    @VisibleForTesting
+    FlavorIndex<AwsHardwareRequirements> getFlavorIndex() {
+        return this.flavorIndex;
+    }
+
+    @VisibleForTesting
+    void setFlavors(TreeSet<AwsHardwareRequirements> flavors) {
+        // The flavors are matched against the requirements of the orders by their tags
+        FlavorIndex<AwsHardwareRequirements> flavorIndex = new FlavorIndex<>(flavors,
+                AwsHardwareRequirements::getRequirements);
+        synchronized (this.flavors) {
+            this.flavors = flavors;
+            this.flavorIndex = flavorIndex;
+        }
     }
 
     @VisibleForTesting
@@ -58,8 +58,6 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     public static int maximumNetworks;
     public static int maximumPublicIpAddresses;
 
-    private Map<String, ComputeAllocation> totalComputeAllocationMap;
-    private Map<String, ComputeAllocation> computeAllocationMap;
     private String flavorsFilePath;
     private String region;
 
@@ -70,25 +68,24 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
         maximumPublicIpAddresses = Integer.parseInt(properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_ELASTIC_IP_ADDRESSES_QUOTA_KEY));
         this.region = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_REGION_SELECTION_KEY);
         this.flavorsFilePath = properties.getProperty(AwsV2ConfigurationPropertyKeys.AWS_FLAVORS_TYPES_FILE_PATH_KEY);
-        this.totalComputeAllocationMap = new HashMap<>();
-        this.computeAllocationMap = new HashMap<>();
     }
 
     @Override
     public ResourceQuota getUserQuota(AwsV2User cloudUser) throws FogbowException {
         Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
 
-        loadAvailableAllocations();
-        loadInstancesAllocated(client);
+        Map<String, ComputeAllocation> totalComputeAllocationMap = loadAvailableAllocations();
+        Map<String, ComputeAllocation> computeAllocationMap = loadInstancesAllocated(client, totalComputeAllocationMap);
 
-        ResourceAllocation totalQuota = calculateTotalQuota();
-        ResourceAllocation usedQuota = calculateUsedQuota(client);
+        ResourceAllocation totalQuota = calculateTotalQuota(totalComputeAllocationMap);
+        ResourceAllocation usedQuota = calculateUsedQuota(client, computeAllocationMap);
         return new ResourceQuota(totalQuota, usedQuota);
     }
 
     @VisibleForTesting
-    ResourceAllocation calculateUsedQuota(Ec2Client client) throws FogbowException {
-        ComputeAllocation computeAllocation = this.calculateComputeUsedQuota();
+    ResourceAllocation calculateUsedQuota(Ec2Client client, Map<String, ComputeAllocation> computeAllocationMap)
+            throws FogbowException {
+        ComputeAllocation computeAllocation = this.calculateComputeUsedQuota(computeAllocationMap);
         int storage = this.calculateUsedStorage(client);
         int elasticIps = this.calculateUsedElasticIp(client);
         int networks = this.calculateUsedNetworks(client);
@@ -134,8 +131,8 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    ResourceAllocation calculateTotalQuota() {
-        ComputeAllocation computeAllocation = this.calculateComputeTotalQuota();
+    ResourceAllocation calculateTotalQuota(Map<String, ComputeAllocation> totalComputeAllocationMap) {
+        ComputeAllocation computeAllocation = this.calculateComputeTotalQuota(totalComputeAllocationMap);
 
         ResourceAllocation allocation = ResourceAllocation.builder()
                 .ram(computeAllocation.getRam())
@@ -151,12 +148,12 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    ComputeAllocation calculateComputeUsedQuota() {
+    ComputeAllocation calculateComputeUsedQuota(Map<String, ComputeAllocation> computeAllocationMap) {
         int usedInstances = 0;
         int usedRam = 0;
         int usedVCPU = 0;
 
-        for (Entry<String, ComputeAllocation> instanceAllocated : getComputeAllocationMap().entrySet()) {
+        for (Entry<String, ComputeAllocation> instanceAllocated : computeAllocationMap.entrySet()) {
             usedInstances += instanceAllocated.getValue().getInstances();
             usedVCPU += instanceAllocated.getValue().getvCPU();
             usedRam += instanceAllocated.getValue().getRam();
@@ -165,12 +162,12 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    ComputeAllocation calculateComputeTotalQuota() {
+    ComputeAllocation calculateComputeTotalQuota(Map<String, ComputeAllocation> totalComputeAllocationMap) {
         int totalInstances = 0;
         int totalRam = 0;
         int totalVCPU = 0;
 
-        for (Entry<String, ComputeAllocation> availableAllocation : getTotalComputeAllocationMap().entrySet()) {
+        for (Entry<String, ComputeAllocation> availableAllocation : totalComputeAllocationMap.entrySet()) {
             totalInstances += availableAllocation.getValue().getInstances();
             totalVCPU += availableAllocation.getValue().getvCPU();
             totalRam += availableAllocation.getValue().getRam();
@@ -179,23 +176,27 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    void loadInstancesAllocated(Ec2Client client) throws FogbowException {
+    Map<String, ComputeAllocation> loadInstancesAllocated(Ec2Client client,
+            Map<String, ComputeAllocation> totalComputeAllocationMap) throws FogbowException {
+
+        Map<String, ComputeAllocation> computeAllocationMap = new HashMap<>();
         List<Instance> instances = getInstanceReservations(client);
         ComputeAllocation allocation;
-        if (!instances.isEmpty()) {
-            for (Instance instance : instances) {
-                String instanceType = instance.instanceTypeAsString();
-                allocation = buildAllocatedInstance(instance);
-                this.computeAllocationMap.put(instanceType, allocation);
-            }
+        for (Instance instance : instances) {
+            String instanceType = instance.instanceTypeAsString();
+            allocation = buildAllocatedInstance(instance, totalComputeAllocationMap, computeAllocationMap);
+            computeAllocationMap.put(instanceType, allocation);
         }
+        return computeAllocationMap;
     }
 
     @VisibleForTesting
-    ComputeAllocation buildAllocatedInstance(Instance instance) {
+    ComputeAllocation buildAllocatedInstance(Instance instance, Map<String, ComputeAllocation> totalComputeAllocationMap,
+            Map<String, ComputeAllocation> computeAllocationMap) {
+
         String instanceType = instance.instanceTypeAsString();
-        ComputeAllocation totalAllocation = getTotalComputeAllocationMap().get(instanceType);
-        ComputeAllocation allocatedInstance = getComputeAllocationMap().get(instanceType);
+        ComputeAllocation totalAllocation = totalComputeAllocationMap.get(instanceType);
+        ComputeAllocation allocatedInstance = computeAllocationMap.get(instanceType);
         int instances = allocatedInstance != null ? allocatedInstance.getInstances() + 1 : 1;
         int vCPU = totalAllocation.getvCPU() * instances;
         int ram = totalAllocation.getRam() * instances;
@@ -222,7 +223,8 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    void loadAvailableAllocations() throws FogbowException {
+    Map<String, ComputeAllocation> loadAvailableAllocations() throws FogbowException {
+        Map<String, ComputeAllocation> totalComputeAllocationMap = new HashMap<>();
         List<String> lines = loadLinesFromFlavorFile();
         String[] requirements;
         String instanceType;
@@ -232,9 +234,10 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
                 requirements = line.split(CSV_COLUMN_SEPARATOR);
                 instanceType = requirements[INSTANCE_TYPE_COLUMN];
                 allocation = buildAvailableInstance(requirements);
-                this.totalComputeAllocationMap.put(instanceType, allocation);
+                totalComputeAllocationMap.put(instanceType, allocation);
             }
         }
+        return totalComputeAllocationMap;
     }
 
     @VisibleForTesting
@@ -259,16 +262,6 @@ public class AwsQuotaPlugin implements QuotaPlugin<AwsV2User> {
         }
     }
 
-    @VisibleForTesting
-    Map<String, ComputeAllocation> getTotalComputeAllocationMap() {
-        return totalComputeAllocationMap;
-    }
-
-    @VisibleForTesting
-    Map<String, ComputeAllocation> getComputeAllocationMap() {
-        return computeAllocationMap;
-    }
-
     @VisibleForTesting
     String getFlavorsFilePath() {
         return flavorsFilePath;
@@ -19,7 +19,7 @@ public class AzureAttachmentOperationSDK {
     private Scheduler scheduler;
     
     public AzureAttachmentOperationSDK() {
-        ExecutorService executor = AzureSchedulerManager.getVolumeExecutor();
+        ExecutorService executor = AzureSchedulerManager.getAttachmentExecutor();
         this.scheduler = Schedulers.from(executor);
     }
     
@@ -1,8 +1,24 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.apache.log4j.Logger;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
@@ -10,8 +26,11 @@ import java.util.function.Consumer;
 /*
 This class helps to cope Plugins that they have asynchronous instances creation.
 
-Problem: It might generate resource trash in the cloud due to the fact that
-If the RAS shutdown this class will lost its data in memory.
+Every change of status is appended to a local log, which is read back when the RAS starts. The creations
+that were in flight when the RAS stopped have lost their callbacks, so they are no longer tracked and their
+instances are looked up in the cloud, as any other instance, the next time their orders are checked; the
+failures are kept until they expire. Instances whose callbacks never run are also looked up in the cloud
+once the creation timeout elapses, so the map does not grow forever.
 
 Note: This context helps to fix this issue:
 - https://github.com/fogbow/resource-allocation-service/issues/435
@@ -22,7 +41,47 @@ public class AsyncInstanceCreationManager {
 
     private static final Logger LOGGER = Logger.getLogger(AsyncInstanceCreationManager.class);
 
-    private final static Map<String, Status> creating = new ConcurrentHashMap<>();
+    private static final String INSTANCE_ID_FIELD = "instanceId";
+    private static final String STATUS_FIELD = "status";
+    private static final String FAULT_MESSAGE_FIELD = "faultMessage";
+    private static final String TIMESTAMP_FIELD = "timestamp";
+    // Recorded when an instance stops being tracked
+    private static final String REMOVED_STATUS = "REMOVED";
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+    // The log is rewritten with the tracked instances only once it holds this many records per instance
+    private static final int COMPACTION_FACTOR = 4;
+    private static final int MINIMUM_RECORDS_TO_COMPACT = 1000;
+
+    private final Map<String, Status> creating = new ConcurrentHashMap<>();
+    private String logPath;
+    private long creationTimeout;
+    private long failureTimeToLive;
+    private Writer logWriter;
+    private int logRecords;
+    private int interruptedCreations;
+
+    public AsyncInstanceCreationManager() {
+        this(PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.AZURE_ASYNC_CREATIONS_LOG_PATH_KEY,
+                ConfigurationPropertyDefaults.AZURE_ASYNC_CREATIONS_LOG_PATH),
+                Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                        ConfigurationPropertyKeys.AZURE_ASYNC_CREATION_TIMEOUT_KEY,
+                        ConfigurationPropertyDefaults.AZURE_ASYNC_CREATION_TIMEOUT)),
+                Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                        ConfigurationPropertyKeys.AZURE_ASYNC_FAILED_CREATION_TTL_KEY,
+                        ConfigurationPropertyDefaults.AZURE_ASYNC_FAILED_CREATION_TTL)));
+    }
+
+    /*
+    @param logPath the file where the status changes are appended; null keeps them only in memory
+    @param creationTimeout how long, in milliseconds, an instance is reported as CREATING
+    @param failureTimeToLive how long, in milliseconds, an instance is reported as FAILED
+    */
+    public AsyncInstanceCreationManager(String logPath, long creationTimeout, long failureTimeToLive) {
+        this.logPath = logPath;
+        this.creationTimeout = creationTimeout;
+        this.failureTimeToLive = failureTimeToLive;
+        recover();
+    }
 
     /*
     It must be used soon before the plugin makes asynchronous creation operation in the cloud.
@@ -48,60 +107,223 @@ public class AsyncInstanceCreationManager {
     /*
     It must remove the instance of the map.
     */
-    public void endCreation(String instanceId) {
-        if (this.creating.get(instanceId) != null) {
-            this.creating.remove(instanceId);
+    public synchronized void endCreation(String instanceId) {
+        if (this.creating.remove(instanceId) != null) {
+            append(instanceId, null);
         }
     }
 
     /*
-    It must return the current instance creation status.
+    It must return the current instance creation status; null once the status expired.
     */
     public Status getStatus(String instanceId) {
-        return this.creating.get(instanceId);
+        Status status = this.creating.get(instanceId);
+        if (status != null && isExpired(status, getCurrentTime())) {
+            remove(instanceId, status);
+            return null;
+        }
+        return status;
+    }
+
+    /*
+    It must return how many creations were in flight when the RAS stopped.
+    */
+    public int getInterruptedCreations() {
+        return this.interruptedCreations;
+    }
+
+    public int size() {
+        return this.creating.size();
     }
 
     /*
     It must set as CREATING in the map when the resource be not created in the cloud yet.
      */
-    private void defineAsCreating(String instanceId) {
-        Status create = Status.create();
-        this.creating.put(instanceId, create);
+    private synchronized void defineAsCreating(String instanceId) {
+        // Creations are rare, so the expired statuses are swept here instead of by a thread of their own
+        long currentTime = getCurrentTime();
+        for (Map.Entry<String, Status> entry : this.creating.entrySet()) {
+            if (isExpired(entry.getValue(), currentTime)) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+        update(instanceId, new Status(StatusValue.CREATING, null, currentTime));
     }
 
     /*
     It must set as FAILED in the map when the resource has a problem at the creation in the cloud.
      */
-    private void defineAsFailed(String instanceId, String faultMessage) {
-        Status fail = Status.fail(faultMessage);
-        this.creating.put(instanceId, fail);
+    private synchronized void defineAsFailed(String instanceId, String faultMessage) {
+        update(instanceId, new Status(StatusValue.FAILED, faultMessage, getCurrentTime()));
     }
 
     /*
     It must remove the instance of the map whether the status is CREATING.
     */
-    private void defineAsCreated(String instanceId) {
-        if (this.creating.get(instanceId) != null &&
-                this.creating.get(instanceId).getValue() == StatusValue.CREATING) {
-            this.creating.remove(instanceId);
+    private synchronized void defineAsCreated(String instanceId) {
+        Status status = this.creating.get(instanceId);
+        if (status != null && status.getValue() == StatusValue.CREATING) {
+            remove(instanceId, status);
+        }
+    }
+
+    private synchronized void update(String instanceId, Status status) {
+        this.creating.put(instanceId, status);
+        append(instanceId, status);
+    }
+
+    private synchronized void remove(String instanceId, Status status) {
+        if (this.creating.remove(instanceId, status)) {
+            append(instanceId, null);
+        }
+    }
+
+    private boolean isExpired(Status status, long currentTime) {
+        long timeToLive = status.getValue() == StatusValue.CREATING ? this.creationTimeout : this.failureTimeToLive;
+        return currentTime - status.getTimestamp() >= timeToLive;
+    }
+
+    /*
+    It must rebuild the map from the log, leaving out the creations that were in flight and the
+    expired failures, and then rewrite the log with what is left.
+    */
+    @VisibleForTesting
+    synchronized void recover() {
+        if (this.logPath == null || !new File(this.logPath).exists()) {
+            return;
+        }
+        Map<String, Status> recovered = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(this.logPath))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                readRecord(line, recovered);
+            }
+        } catch (IOException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_READ_ASYNC_CREATIONS_LOG_S, this.logPath), e);
+            return;
+        }
+
+        long currentTime = getCurrentTime();
+        for (Map.Entry<String, Status> entry : recovered.entrySet()) {
+            if (entry.getValue().getValue() == StatusValue.CREATING) {
+                LOGGER.warn(String.format(Messages.Log.ASYNC_INSTANCE_CREATION_S_INTERRUPTED, entry.getKey()));
+                this.interruptedCreations++;
+            } else if (!isExpired(entry.getValue(), currentTime)) {
+                this.creating.put(entry.getKey(), entry.getValue());
+            }
+        }
+        compact();
+    }
+
+    /*
+    It must rewrite the log with one record per instance in the map.
+    */
+    @VisibleForTesting
+    synchronized void compact() {
+        File compactionFile = new File(this.logPath + COMPACTION_FILE_SUFFIX);
+        try {
+            closeLogWriter();
+            try (Writer writer = new BufferedWriter(new FileWriter(compactionFile))) {
+                for (Map.Entry<String, Status> entry : this.creating.entrySet()) {
+                    writer.write(toJson(entry.getKey(), entry.getValue()));
+                    writer.write(System.lineSeparator());
+                }
+            }
+            Files.move(compactionFile.toPath(), new File(this.logPath).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.logRecords = this.creating.size();
+        } catch (IOException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_ASYNC_CREATIONS_LOG_S, this.logPath), e);
+        }
+    }
+
+    @VisibleForTesting
+    Writer createLogWriter() throws IOException {
+        // The file is only ever appended to, until it is compacted
+        return new BufferedWriter(new FileWriter(this.logPath, true));
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /*
+    It must append the status to the log; a null status records that the instance is no longer tracked.
+    */
+    private void append(String instanceId, Status status) {
+        if (this.logPath == null) {
+            return;
+        }
+        try {
+            if (this.logWriter == null) {
+                this.logWriter = createLogWriter();
+            }
+            this.logWriter.write(toJson(instanceId, status));
+            this.logWriter.write(System.lineSeparator());
+            this.logWriter.flush();
+            this.logRecords++;
+        } catch (IOException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_WRITE_ASYNC_CREATIONS_LOG_S, this.logPath), e);
+        }
+        if (this.logRecords >= Math.max(COMPACTION_FACTOR * this.creating.size(), MINIMUM_RECORDS_TO_COMPACT)) {
+            compact();
+        }
+    }
+
+    private void closeLogWriter() throws IOException {
+        if (this.logWriter != null) {
+            this.logWriter.close();
+            this.logWriter = null;
+        }
+    }
+
+    private String toJson(String instanceId, Status status) {
+        JsonObject json = new JsonObject();
+        json.addProperty(INSTANCE_ID_FIELD, instanceId);
+        json.addProperty(STATUS_FIELD, status == null ? REMOVED_STATUS : status.getValue().name());
+        if (status != null) {
+            json.addProperty(FAULT_MESSAGE_FIELD, status.getFaultMessage());
+            json.addProperty(TIMESTAMP_FIELD, status.getTimestamp());
+        }
+        return json.toString();
+    }
+
+    private void readRecord(String line, Map<String, Status> recovered) {
+        try {
+            JsonObject json = JsonParser.parseString(line).getAsJsonObject();
+            String instanceId = json.get(INSTANCE_ID_FIELD).getAsString();
+            String statusValue = json.get(STATUS_FIELD).getAsString();
+            if (REMOVED_STATUS.equals(statusValue)) {
+                recovered.remove(instanceId);
+            } else {
+                String faultMessage = json.has(FAULT_MESSAGE_FIELD) && !json.get(FAULT_MESSAGE_FIELD).isJsonNull()
+                        ? json.get(FAULT_MESSAGE_FIELD).getAsString() : null;
+                recovered.put(instanceId, new Status(StatusValue.valueOf(statusValue), faultMessage,
+                        json.get(TIMESTAMP_FIELD).getAsLong()));
+            }
+        } catch (RuntimeException e) {
+            // A record cut short by a crash, which is always the last one
         }
     }
 
     public static class Status {
         private StatusValue type;
         private String faultMessage;
+        private long timestamp;
 
-        private Status(StatusValue type, String faultMessage) {
+        private Status(StatusValue type, String faultMessage, long timestamp) {
             this.type = type;
             this.faultMessage = faultMessage;
+            this.timestamp = timestamp;
         }
 
         public static Status create() {
-            return new Status(StatusValue.CREATING, null);
+            return new Status(StatusValue.CREATING, null, System.currentTimeMillis());
         }
 
         public static Status fail(String faultMessage) {
-            return new Status(StatusValue.FAILED, faultMessage);
+            return new Status(StatusValue.FAILED, faultMessage, System.currentTimeMillis());
         }
 
         public StatusValue getValue() {
@@ -111,6 +333,10 @@ public class AsyncInstanceCreationManager {
         public String getFaultMessage() {
             return faultMessage;
         }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
     }
 
     public enum StatusValue {
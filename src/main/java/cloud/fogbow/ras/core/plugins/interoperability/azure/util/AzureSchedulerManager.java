@@ -1,34 +1,184 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Holds one executor per kind of Azure operation, shared by all the operation SDKs of all Azure clouds. The
+ * executors are built on first use with the pool sizes, queue capacity and rejection policy configured in the
+ * RAS configuration file, and shut down when the JVM exits.
+ */
 public class AzureSchedulerManager {
 
-    private static final int ATTACHMENT_POOL_SIZE = 2;
-    private static final int VIRTUAL_MACHINE_POOL_SIZE = 2;
-    private static final int VOLUME_POOL_SIZE = 2;
-    private static final int VIRTUAL_NETWORK_POOL_SIZE = 3;
-    private static final int PUBLIC_IP_ADDRESS_POOL_SIZE = 3;
+    private static final Logger LOGGER = Logger.getLogger(AzureSchedulerManager.class);
+
+    private static final String THREAD_NAME_FORMAT = "azure-%s-%d";
+    private static final String SHUTDOWN_THREAD_NAME = "azure-schedulers-shutdown";
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    public enum Kind {
+        ATTACHMENT("attachment", 2),
+        VIRTUAL_MACHINE("virtual_machine", 2),
+        VOLUME("volume", 2),
+        VIRTUAL_NETWORK("virtual_network", 3),
+        PUBLIC_IP_ADDRESS("public_ip_address", 3);
+
+        private String label;
+        private int defaultPoolSize;
+
+        Kind(String label, int defaultPoolSize) {
+            this.label = label;
+            this.defaultPoolSize = defaultPoolSize;
+        }
+
+        public String getLabel() {
+            return this.label;
+        }
+    }
+
+    public enum RejectionPolicy {
+        // The thread submitting the operation runs it, which slows down the submitters while the queue is full
+        CALLER_RUNS,
+        // The operation is refused; the Azure resource is then never created
+        ABORT
+    }
+
+    private static final Map<Kind, ThreadPoolExecutor> EXECUTORS = new EnumMap<>(Kind.class);
+    private static boolean shutdownHookAdded = false;
 
     public static ExecutorService getAttachmentExecutor() {
-        return Executors.newFixedThreadPool(ATTACHMENT_POOL_SIZE);
+        return getExecutor(Kind.ATTACHMENT);
     }
-    
+
     public static ExecutorService getVirtualMachineExecutor() {
-        return Executors.newFixedThreadPool(VIRTUAL_MACHINE_POOL_SIZE);
+        return getExecutor(Kind.VIRTUAL_MACHINE);
     }
 
     public static ExecutorService getVolumeExecutor() {
-        return Executors.newFixedThreadPool(VOLUME_POOL_SIZE);
+        return getExecutor(Kind.VOLUME);
     }
 
     public static ExecutorService getVirtualNetworkExecutor() {
-        return Executors.newFixedThreadPool(VIRTUAL_NETWORK_POOL_SIZE);
+        return getExecutor(Kind.VIRTUAL_NETWORK);
     }
-    
+
     public static ExecutorService getPublicIPAddressExecutor() {
-        return Executors.newFixedThreadPool(PUBLIC_IP_ADDRESS_POOL_SIZE);
+        return getExecutor(Kind.PUBLIC_IP_ADDRESS);
+    }
+
+    public static synchronized ExecutorService getExecutor(Kind kind) {
+        ThreadPoolExecutor executor = EXECUTORS.get(kind);
+        if (executor == null) {
+            executor = createExecutor(kind, getPoolSize(kind), getQueueCapacity(), getRejectionPolicy());
+            EXECUTORS.put(kind, executor);
+            addShutdownHook();
+        }
+        return executor;
+    }
+
+    /**
+     * @return the number of threads currently alive in the executor of the kind given
+     */
+    public static synchronized int getThreadCount(Kind kind) {
+        ThreadPoolExecutor executor = EXECUTORS.get(kind);
+        return executor == null ? 0 : executor.getPoolSize();
+    }
+
+    /**
+     * @return the number of threads currently alive in all executors
+     */
+    public static synchronized int getThreadCount() {
+        int threadCount = 0;
+        for (ThreadPoolExecutor executor : EXECUTORS.values()) {
+            threadCount += executor.getPoolSize();
+        }
+        return threadCount;
+    }
+
+    /**
+     * @return the number of operations of the kind given waiting for a thread
+     */
+    public static synchronized int getQueuedOperations(Kind kind) {
+        ThreadPoolExecutor executor = EXECUTORS.get(kind);
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    /**
+     * Shuts the executors down, waiting a few seconds for the running operations to finish. Executors
+     * requested afterwards are built again.
+     */
+    public static synchronized void shutdown() {
+        for (Map.Entry<Kind, ThreadPoolExecutor> entry : EXECUTORS.entrySet()) {
+            entry.getValue().shutdown();
+        }
+        for (Map.Entry<Kind, ThreadPoolExecutor> entry : EXECUTORS.entrySet()) {
+            try {
+                if (!entry.getValue().awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn(String.format(Messages.Log.AZURE_EXECUTOR_S_NOT_TERMINATED, entry.getKey().getLabel()));
+                    entry.getValue().shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                entry.getValue().shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        EXECUTORS.clear();
+    }
+
+    @VisibleForTesting
+    static ThreadPoolExecutor createExecutor(Kind kind, int poolSize, int queueCapacity,
+                                             RejectionPolicy rejectionPolicy) {
+        AtomicInteger threadCount = new AtomicInteger();
+        RejectedExecutionHandler rejectedExecutionHandler = rejectionPolicy == RejectionPolicy.ABORT
+                ? new ThreadPoolExecutor.AbortPolicy()
+                : new ThreadPoolExecutor.CallerRunsPolicy();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            String.format(THREAD_NAME_FORMAT, kind.getLabel(), threadCount.incrementAndGet()));
+                    thread.setDaemon(true);
+                    return thread;
+                }, rejectedExecutionHandler);
+    }
+
+    private static int getPoolSize(Kind kind) {
+        String key = String.format(ConfigurationPropertyKeys.AZURE_POOL_SIZE_KEY_FORMAT, kind.getLabel());
+        int poolSize = Integer.parseInt(PropertiesHolder.getInstance().getProperty(key,
+                Integer.toString(kind.defaultPoolSize)));
+        return Math.max(poolSize, 1);
+    }
+
+    private static int getQueueCapacity() {
+        int queueCapacity = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.AZURE_SCHEDULER_QUEUE_CAPACITY_KEY,
+                ConfigurationPropertyDefaults.AZURE_SCHEDULER_QUEUE_CAPACITY));
+        return Math.max(queueCapacity, 1);
+    }
+
+    private static RejectionPolicy getRejectionPolicy() {
+        String rejectionPolicy = PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.AZURE_SCHEDULER_REJECTION_POLICY_KEY,
+                ConfigurationPropertyDefaults.AZURE_SCHEDULER_REJECTION_POLICY);
+        return RejectionPolicy.valueOf(rejectionPolicy.toUpperCase());
+    }
+
+    private static void addShutdownHook() {
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(AzureSchedulerManager::shutdown, SHUTDOWN_THREAD_NAME));
+            shutdownHookAdded = true;
+        }
     }
-    
 }
@@ -0,0 +1,234 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackHttpClient;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryAsyncJobResponse;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryJobResult;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the checks of the asynchronous CloudStack jobs of all clouds from a single thread, instead of one
+ * sleeping thread per job, and makes them in a thread per cloud, so that a slow cloud neither holds back the
+ * others nor the schedule. Each job is checked at its own interval, which starts at the minimum and grows by the
+ * backoff factor every time the job is found still processing, and its future is completed with the id of the
+ * instance it created once the job finishes. Continuations registered on the futures run in the checking thread
+ * of the cloud, so those that talk to the cloud must be registered with the asynchronous variants of the
+ * {@link CompletableFuture} methods.
+ */
+public class CloudStackAsyncJobTracker {
+    private static final Logger LOGGER = Logger.getLogger(CloudStackAsyncJobTracker.class);
+
+    @VisibleForTesting
+    static final String THREAD_NAME = "cloudstack-async-jobs";
+    private static final String CHECKER_THREAD_SUFFIX = "-checker-";
+
+    private static CloudStackAsyncJobTracker instance;
+
+    private long minInterval;
+    private long maxInterval;
+    private double backoffFactor;
+    private long timeout;
+    private Map<String, Job> jobs;
+    private ScheduledExecutorService scheduler;
+    // The thread checking the jobs of each cloud, by CloudStack url
+    private Map<String, ExecutorService> checkers;
+
+    public static synchronized CloudStackAsyncJobTracker getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            instance = new CloudStackAsyncJobTracker(
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.CLOUDSTACK_JOB_CHECK_MIN_INTERVAL_KEY,
+                            ConfigurationPropertyDefaults.CLOUDSTACK_JOB_CHECK_MIN_INTERVAL)),
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.CLOUDSTACK_JOB_CHECK_MAX_INTERVAL_KEY,
+                            ConfigurationPropertyDefaults.CLOUDSTACK_JOB_CHECK_MAX_INTERVAL)),
+                    Double.parseDouble(properties.getProperty(ConfigurationPropertyKeys.CLOUDSTACK_JOB_CHECK_BACKOFF_FACTOR_KEY,
+                            ConfigurationPropertyDefaults.CLOUDSTACK_JOB_CHECK_BACKOFF_FACTOR)),
+                    Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.CLOUDSTACK_JOB_TIMEOUT_KEY,
+                            ConfigurationPropertyDefaults.CLOUDSTACK_JOB_TIMEOUT)));
+        }
+        return instance;
+    }
+
+    /**
+     * @param minInterval   the interval, in milliseconds, before the first check of a job
+     * @param maxInterval   the largest interval, in milliseconds, between two checks of a job
+     * @param backoffFactor how much the interval of a job grows each time it is found still processing
+     * @param timeout       how long, in milliseconds, a job may be processing before its future fails
+     */
+    @VisibleForTesting
+    CloudStackAsyncJobTracker(long minInterval, long maxInterval, double backoffFactor, long timeout) {
+        this.minInterval = Math.max(minInterval, 1);
+        this.maxInterval = Math.max(maxInterval, this.minInterval);
+        this.backoffFactor = Math.max(backoffFactor, 1);
+        this.timeout = timeout;
+        this.jobs = new ConcurrentHashMap<>();
+        this.checkers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts checking the job, unless it is already being checked, in which case the caller shares its future.
+     *
+     * @return a future completed with the id of the instance created by the job, or with the
+     * {@link FogbowException} that made the job fail; {@link UnavailableProviderException} if it timed out
+     */
+    public CompletableFuture<String> track(CloudStackHttpClient client, String cloudStackUrl, String jobId,
+                                           CloudStackUser cloudStackUser) {
+        Job job = this.jobs.computeIfAbsent(jobId,
+                id -> new Job(client, cloudStackUrl, id, cloudStackUser, getCurrentTime(), this.minInterval));
+        startScheduler();
+        return job.future;
+    }
+
+    /**
+     * @return the number of jobs still processing
+     */
+    public int getPendingJobs() {
+        return this.jobs.size();
+    }
+
+    /**
+     * @return how long, in milliseconds, a job may take before its future is completed
+     */
+    public long getMaxWaitTime() {
+        // A job is only found to have timed out at its next check
+        return this.timeout + this.maxInterval;
+    }
+
+    /**
+     * Hands the jobs whose interval elapsed, and that are not being checked already, to the checking threads
+     * of their clouds.
+     */
+    @VisibleForTesting
+    void checkJobs() {
+        long currentTime = getCurrentTime();
+        for (Job job : this.jobs.values()) {
+            if (job.checking || job.nextCheckTime > currentTime) {
+                continue;
+            }
+            job.checking = true;
+            getChecker(job.cloudStackUrl).execute(() -> checkJob(job));
+        }
+    }
+
+    /**
+     * Checks the job, completing its future if it finished.
+     */
+    @VisibleForTesting
+    void checkJob(Job job) {
+        long currentTime = getCurrentTime();
+        try {
+            CloudStackQueryAsyncJobResponse response = getAsyncJobResponse(job);
+            if (response.getJobStatus() != CloudStackQueryJobResult.PROCESSING) {
+                complete(job, CloudStackCloudUtils.processJobResult(response, job.jobId), null);
+            } else if (currentTime - job.startTime >= this.timeout) {
+                complete(job, null, new UnavailableProviderException(
+                        String.format(Messages.Exception.JOB_TIMEOUT, job.jobId)));
+            } else {
+                job.interval = Math.min((long) (job.interval * this.backoffFactor), this.maxInterval);
+                job.nextCheckTime = currentTime + job.interval;
+            }
+        } catch (FogbowException e) {
+            complete(job, null, e);
+        } catch (Throwable e) {
+            complete(job, null, new InternalServerErrorException(e.getMessage()));
+        } finally {
+            job.checking = false;
+        }
+    }
+
+    @VisibleForTesting
+    CloudStackQueryAsyncJobResponse getAsyncJobResponse(Job job) throws FogbowException {
+        return CloudStackCloudUtils.getAsyncJobResponse(job.client, job.cloudStackUrl, job.jobId, job.cloudStackUser);
+    }
+
+    @VisibleForTesting
+    synchronized void startScheduler() {
+        if (this.scheduler != null) {
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Wakes up at the smallest interval; the jobs not due yet are skipped
+        this.scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkJobs();
+            } catch (Throwable e) {
+                LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+            }
+        }, this.minInterval, this.minInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @VisibleForTesting
+    Executor getChecker(String cloudStackUrl) {
+        return this.checkers.computeIfAbsent(cloudStackUrl, url -> Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME + CHECKER_THREAD_SUFFIX + this.checkers.size());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private void complete(Job job, String instanceId, FogbowException exception) {
+        this.jobs.remove(job.jobId, job);
+        if (exception == null) {
+            job.future.complete(instanceId);
+        } else {
+            job.future.completeExceptionally(exception);
+        }
+    }
+
+    @VisibleForTesting
+    static class Job {
+        private CloudStackHttpClient client;
+        private String cloudStackUrl;
+        private String jobId;
+        private CloudStackUser cloudStackUser;
+        private long startTime;
+        private long interval;
+        private long nextCheckTime;
+        // Set while the job is handed to the checking thread, so that it is not checked twice at once
+        private volatile boolean checking;
+        private CompletableFuture<String> future;
+
+        private Job(CloudStackHttpClient client, String cloudStackUrl, String jobId, CloudStackUser cloudStackUser,
+                    long startTime, long interval) {
+            this.client = client;
+            this.cloudStackUrl = cloudStackUrl;
+            this.jobId = jobId;
+            this.cloudStackUser = cloudStackUser;
+            this.startTime = startTime;
+            this.interval = interval;
+            // The job is checked on the next tick, as it may already be done
+            this.nextCheckTime = startTime;
+            this.future = new CompletableFuture<>();
+        }
+
+        String getJobId() {
+            return this.jobId;
+        }
+    }
+}
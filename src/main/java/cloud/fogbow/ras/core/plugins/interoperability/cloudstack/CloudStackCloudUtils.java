@@ -17,6 +17,10 @@ import org.apache.log4j.Logger;
 import javax.validation.constraints.NotNull;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class CloudStackCloudUtils {
     private static final Logger LOGGER = Logger.getLogger(CloudStackCloudUtils.class);
@@ -34,9 +38,6 @@ public class CloudStackCloudUtils {
     public static final String PENDING_STATE = "pending";
     public static final String FAILURE_STATE = "failure";
 
-    protected static final int ONE_SECOND_IN_MILIS = 1000;
-    protected static final int MAX_TRIES = 30;
-
     /**
      * Request HTTP operations to Cloudstack and treat a possible FogbowException when
      * It is thrown by the cloudStackHttpClient.
@@ -80,7 +81,8 @@ public class CloudStackCloudUtils {
     }
 
     /**
-     * Wait and process the Cloudstack asynchronous response in its asynchronous life cycle.
+     * Wait and process the Cloudstack asynchronous response in its asynchronous life cycle; the job is
+     * checked by the {@link CloudStackAsyncJobTracker}, while the caller only waits for its result.
      * @throws FogbowException
      */
     @NotNull
@@ -90,19 +92,43 @@ public class CloudStackCloudUtils {
                                        @NotNull CloudStackUser cloudStackUser)
             throws FogbowException {
 
-        int countTries = 0;
-        CloudStackQueryAsyncJobResponse response = getAsyncJobResponse(
-                client, cloudStackUrl, jobId, cloudStackUser);
-        while(response.getJobStatus() == CloudStackQueryJobResult.PROCESSING) {
-            if (countTries >= MAX_TRIES) {
-                throw new UnavailableProviderException(String.format(Messages.Exception.JOB_TIMEOUT, jobId));
+        CompletableFuture<String> result = trackJob(client, cloudStackUrl, jobId, cloudStackUser);
+        return awaitResult(result, jobId, CloudStackAsyncJobTracker.getInstance().getMaxWaitTime());
+    }
+
+    /**
+     * Hands the Cloudstack asynchronous job over to the {@link CloudStackAsyncJobTracker}, so that the
+     * caller can register what to do once it finishes instead of waiting for it.
+     */
+    @NotNull
+    public static CompletableFuture<String> trackJob(@NotNull CloudStackHttpClient client,
+                                                     String cloudStackUrl,
+                                                     String jobId,
+                                                     @NotNull CloudStackUser cloudStackUser) {
+
+        return CloudStackAsyncJobTracker.getInstance().track(client, cloudStackUrl, jobId, cloudStackUser);
+    }
+
+    /**
+     * Waits for the result of the job for at most maxWaitTime milliseconds, so that the caller is not held
+     * forever if the tracker does not complete it.
+     */
+    @VisibleForTesting
+    static String awaitResult(@NotNull CompletableFuture<String> result, String jobId, long maxWaitTime)
+            throws FogbowException {
+        try {
+            return result.get(maxWaitTime, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new UnavailableProviderException(String.format(Messages.Exception.JOB_TIMEOUT, jobId));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FogbowException) {
+                throw (FogbowException) e.getCause();
             }
-            sleepThread();
-            response = getAsyncJobResponse(client, cloudStackUrl, jobId, cloudStackUser);
-            countTries++;
+            throw new InternalServerErrorException(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
         }
-
-        return processJobResult(response, jobId);
     }
 
     @NotNull
@@ -133,13 +159,4 @@ public class CloudStackCloudUtils {
                 client, cloudStackUrl, jobId, cloudStackUser);
         return CloudStackQueryAsyncJobResponse.fromJson(jsonResponse);
     }
-
-    @VisibleForTesting
-    static void sleepThread() {
-        try {
-            Thread.sleep(ONE_SECOND_IN_MILIS);
-        } catch (InterruptedException e) {
-            LOGGER.warn(Messages.Log.SLEEP_THREAD_INTERRUPTED, e);
-        }
-    }
 }
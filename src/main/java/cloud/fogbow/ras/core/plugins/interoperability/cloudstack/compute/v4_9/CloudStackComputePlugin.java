@@ -54,6 +54,10 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
     static final double GIGABYTE_IN_BYTES = Math.pow(1024, 3);
     @VisibleForTesting
     static final int AMOUNT_INSTANCE = 1;
+    @VisibleForTesting
+    static final int MAXIMUM_IDS_PER_REQUEST = 100;
+    @VisibleForTesting
+    static final int VOLUMES_PAGE_SIZE = 500;
 
     private LaunchCommandGenerator launchCommandGenerator;
     private CloudStackHttpClient client;
@@ -123,6 +127,29 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return doGetInstance(request, cloudUser);
     }
 
+    @Override
+    public Map<String, ComputeInstance> getInstances(List<ComputeOrder> orders, CloudStackUser cloudUser)
+            throws FogbowException {
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_D, orders.size()));
+        Map<String, GetVirtualMachineResponse.VirtualMachine> virtualMachines = new HashMap<>();
+        for (int i = 0; i < orders.size(); i += MAXIMUM_IDS_PER_REQUEST) {
+            int end = Math.min(i + MAXIMUM_IDS_PER_REQUEST, orders.size());
+            List<ComputeOrder> chunk = orders.subList(i, end);
+            virtualMachines.putAll(doGetInstances(chunk, cloudUser));
+        }
+
+        // The root volumes of all the virtual machines are listed at once, and matched to them here
+        Map<String, Integer> diskSizes = virtualMachines.isEmpty() ? new HashMap<>() :
+                getVirtualMachinesDiskSizes(cloudUser);
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (Map.Entry<String, GetVirtualMachineResponse.VirtualMachine> entry : virtualMachines.entrySet()) {
+            GetVirtualMachineResponse.VirtualMachine virtualMachine = entry.getValue();
+            int disk = diskSizes.getOrDefault(virtualMachine.getId(), UNKNOWN_DISK_VALUE);
+            computeInstances.put(entry.getKey(), createComputeInstance(virtualMachine, disk));
+        }
+        return computeInstances;
+    }
+
     @Override
     public void deleteInstance(ComputeOrder order, CloudStackUser cloudUser)
             throws FogbowException {
@@ -145,6 +172,36 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return buildComputeInstance(response, cloudStackUser);
     }
 
+    /**
+     * @return the virtual machines of the orders given, keyed by order id
+     */
+    @VisibleForTesting
+    Map<String, GetVirtualMachineResponse.VirtualMachine> doGetInstances(List<ComputeOrder> orders,
+            CloudStackUser cloudStackUser) throws FogbowException {
+
+        Map<String, ComputeOrder> ordersByInstanceId = new HashMap<>();
+        for (ComputeOrder order : orders) {
+            ordersByInstanceId.put(order.getInstanceId(), order);
+        }
+
+        GetVirtualMachineRequest request = new GetVirtualMachineRequest.Builder()
+                .ids(new ArrayList<>(ordersByInstanceId.keySet()))
+                .build(this.cloudStackUrl);
+
+        GetVirtualMachineResponse response = requestGetVirtualMachine(request, cloudStackUser);
+        Map<String, GetVirtualMachineResponse.VirtualMachine> virtualMachinesByOrderId = new HashMap<>();
+        List<GetVirtualMachineResponse.VirtualMachine> virtualMachines = response.getVirtualMachines();
+        if (virtualMachines != null) {
+            for (GetVirtualMachineResponse.VirtualMachine virtualMachine : virtualMachines) {
+                ComputeOrder order = ordersByInstanceId.get(virtualMachine.getId());
+                if (order != null) {
+                    virtualMachinesByOrderId.put(order.getId(), virtualMachine);
+                }
+            }
+        }
+        return virtualMachinesByOrderId;
+    }
+
     @VisibleForTesting
     String doRequestInstance(DeployVirtualMachineRequest request,
                              GetAllServiceOfferingsResponse.ServiceOffering serviceOffering,
@@ -324,6 +381,43 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         return UNKNOWN_DISK_VALUE;
     }
 
+    /**
+     * Lists the root volumes of the user, page by page, instead of asking for the volume of each virtual machine.
+     * The virtual machines whose volume cannot be listed are left out, thus reported with an unknown disk size.
+     *
+     * @return the size (in gigabytes) of the root volume of each virtual machine, keyed by virtual machine id
+     */
+    @VisibleForTesting
+    Map<String, Integer> getVirtualMachinesDiskSizes(CloudStackUser cloudUser) {
+        Map<String, Integer> diskSizes = new HashMap<>();
+        try {
+            List<GetVolumeResponse.Volume> volumes;
+            int page = 1;
+            do {
+                GetVolumeRequest request = new GetVolumeRequest.Builder()
+                        .type(DEFAULT_VOLUME_TYPE_VALUE)
+                        .page(page++)
+                        .pageSize(VOLUMES_PAGE_SIZE)
+                        .build(this.cloudStackUrl);
+
+                URIBuilder uriRequest = request.getUriBuilder();
+                CloudStackUrlUtil.sign(uriRequest, cloudUser.getToken());
+                String jsonResponse = doGet(uriRequest.toString(), cloudUser);
+                volumes = GetVolumeResponse.fromJson(jsonResponse).getVolumes();
+                if (volumes != null) {
+                    for (GetVolumeResponse.Volume volume : volumes) {
+                        long sizeInBytes = volume.getSize();
+                        diskSizes.putIfAbsent(volume.getVirtualMachineId(),
+                                (int) BinaryUnit.bytes(sizeInBytes).asGigabytes());
+                    }
+                }
+            } while (volumes != null && volumes.size() == VOLUMES_PAGE_SIZE);
+        } catch (Exception e) {
+            LOGGER.debug(Messages.Log.ERROR_WHILE_GETTING_DISK_SIZE, e);
+        }
+        return diskSizes;
+    }
+
     @VisibleForTesting
     String doGet(String url, CloudStackUser cloudUser) throws FogbowException {
         return this.client.doGetRequest(url, cloudUser);
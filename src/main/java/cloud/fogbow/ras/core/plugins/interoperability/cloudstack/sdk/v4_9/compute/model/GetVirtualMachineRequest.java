@@ -3,13 +3,21 @@ package cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.compu
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackRequest;
 
+import java.util.List;
+
 public class GetVirtualMachineRequest extends CloudStackRequest {
     public static final String LIST_VMS_COMMAND = "listVirtualMachines";
     public static final String VIRTUAL_MACHINE_ID_KEY = "id";
+    public static final String VIRTUAL_MACHINE_IDS_KEY = "ids";
+    public static final String IDS_SEPARATOR = ",";
 
     private GetVirtualMachineRequest(Builder builder) throws InternalServerErrorException {
         super(builder.cloudStackUrl);
-        addParameter(VIRTUAL_MACHINE_ID_KEY, builder.id);
+        if (builder.ids != null) {
+            addParameter(VIRTUAL_MACHINE_IDS_KEY, String.join(IDS_SEPARATOR, builder.ids));
+        } else {
+            addParameter(VIRTUAL_MACHINE_ID_KEY, builder.id);
+        }
     }
 
     @Override
@@ -26,12 +34,18 @@ public class GetVirtualMachineRequest extends CloudStackRequest {
 
         private String cloudStackUrl;
         private String id;
+        private List<String> ids;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder ids(List<String> ids) {
+            this.ids = ids;
+            return this;
+        }
+
         public GetVirtualMachineRequest build(String cloudStackUrl) throws InternalServerErrorException {
             this.cloudStackUrl = cloudStackUrl;
             return new GetVirtualMachineRequest(this);
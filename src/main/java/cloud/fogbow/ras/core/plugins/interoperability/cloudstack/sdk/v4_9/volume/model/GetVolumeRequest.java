@@ -8,12 +8,16 @@ public class GetVolumeRequest extends CloudStackRequest {
     public static final String VOLUME_ID_KEY = "id";
     public static final String VIRTUAL_MACHINE_ID_KEY = "virtualmachineid";
     public static final String TYPE_KEY = "type";
+    public static final String PAGE_KEY = "page";
+    public static final String PAGE_SIZE_KEY = "pagesize";
 
     protected GetVolumeRequest(Builder builder) throws InternalServerErrorException {
         super(builder.cloudStackUrl);
         addParameter(VOLUME_ID_KEY, builder.id);
         addParameter(VIRTUAL_MACHINE_ID_KEY, builder.virtualMachineId);
         addParameter(TYPE_KEY, builder.type);
+        addParameter(PAGE_KEY, builder.page);
+        addParameter(PAGE_SIZE_KEY, builder.pageSize);
     }
 
     @Override
@@ -31,6 +35,8 @@ public class GetVolumeRequest extends CloudStackRequest {
         private String id;
         private String virtualMachineId;
         private String type;
+        private String page;
+        private String pageSize;
 
         public Builder id(String id) {
             this.id = id;
@@ -47,6 +53,16 @@ public class GetVolumeRequest extends CloudStackRequest {
             return this;
         }
 
+        public Builder page(int page) {
+            this.page = Integer.toString(page);
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = Integer.toString(pageSize);
+            return this;
+        }
+
         public GetVolumeRequest build(String cloudStackUrl) throws InternalServerErrorException {
             this.cloudStackUrl = cloudStackUrl;
             return new GetVolumeRequest(this);
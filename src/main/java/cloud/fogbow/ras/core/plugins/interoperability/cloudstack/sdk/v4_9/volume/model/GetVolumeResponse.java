@@ -28,6 +28,8 @@ import static cloud.fogbow.common.constants.CloudStackConstants.Volume.*;
  * We use the @SerializedName annotation to specify that the request parameter is not equal to the class field.
  */
 public class GetVolumeResponse {
+    private static final String VIRTUAL_MACHINE_ID_KEY_JSON = "virtualmachineid";
+
     @SerializedName(VOLUMES_KEY_JSON)
     private ListVolumesResponse listVolumesResponse;
 
@@ -56,6 +58,8 @@ public class GetVolumeResponse {
         private long size;
         @SerializedName(STATE_KEY_JSON)
         private String state;
+        @SerializedName(VIRTUAL_MACHINE_ID_KEY_JSON)
+        private String virtualMachineId;
 
         public String getId() {
             return this.id;
@@ -72,5 +76,9 @@ public class GetVolumeResponse {
         public String getState() {
             return this.state;
         }
+
+        public String getVirtualMachineId() {
+            return this.virtualMachineId;
+        }
     }
 }
@@ -17,6 +17,7 @@ import org.opennebula.client.template.TemplatePool;
 import org.opennebula.client.user.User;
 import org.opennebula.client.user.UserPool;
 import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
 import org.opennebula.client.vnet.VirtualNetwork;
 import org.opennebula.client.vnet.VirtualNetworkPool;
 
@@ -77,6 +78,17 @@ public class OpenNebulaClientUtil {
 		}
 		return networkPool;
 	}
+
+	public static VirtualMachinePool getVirtualMachinePoolByUser(Client client) throws InternalServerErrorException {
+		// Lists the virtual machines that are not done yet, as the pool does by default
+		VirtualMachinePool virtualMachinePool = new VirtualMachinePool(client, RESOURCE_BELONGS_TO_USER_FILTER);
+		OneResponse response = virtualMachinePool.info();
+		if (response.isError()) {
+			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_GETTING_VIRTUAL_MACHINES_S, response.getErrorMessage()));
+			throw new InternalServerErrorException(response.getErrorMessage());
+		}
+		return virtualMachinePool;
+	}
 	
 	public static Image getImage(Client client, String imageId) throws InvalidParameterException,
 			UnauthorizedRequestException, InstanceNotFoundException {
@@ -106,6 +118,16 @@ public class OpenNebulaClientUtil {
 		return imagePool;
 	}
 
+	public static String getImagePoolResponse(Client client) throws InternalServerErrorException {
+		// Unlike the info methods of a pool instance, the static ones do not parse the response into a DOM tree
+		OneResponse response = ImagePool.infoAll(client);
+		if (response.isError()) {
+			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_GETTING_TEMPLATES_S, response.getErrorMessage()));
+			throw new InternalServerErrorException(response.getErrorMessage());
+		}
+		return response.getMessage();
+	}
+
 	public static DatastorePool getDatastorePool(Client client) throws InternalServerErrorException {
 		DatastorePool datastorePool = (DatastorePool) generateOnePool(client, DatastorePool.class);
 		OneResponse response = datastorePool.info();
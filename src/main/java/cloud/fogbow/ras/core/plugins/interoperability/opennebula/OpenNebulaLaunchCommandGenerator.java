@@ -6,20 +6,18 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.models.UserData;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
+import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandTemplates;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.log4j.Logger;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Scanner;
 
 public class OpenNebulaLaunchCommandGenerator implements LaunchCommandGenerator {
     private static final Logger LOGGER = Logger.getLogger(OpenNebulaLaunchCommandGenerator.class);
 
     private final String ONE_STARTUP_SCRIPT_FILE_PATH = "bin/one-startup-script.sh";
-    private final String SCRIPT_FILE_DELIMETER = "\\A";
 
     public OpenNebulaLaunchCommandGenerator() { }
 
@@ -27,15 +25,11 @@ public class OpenNebulaLaunchCommandGenerator implements LaunchCommandGenerator
     public String createLaunchCommand(ComputeOrder order) {
         List<UserData> userDataScripts = order.getUserData();
         StringBuilder userDataBuilder = new StringBuilder();
-        Scanner scanner = null;
 
         try {
-            scanner = new Scanner(new File(ONE_STARTUP_SCRIPT_FILE_PATH));
-            userDataBuilder.append(scanner.useDelimiter(SCRIPT_FILE_DELIMETER).next());
+            userDataBuilder.append(LaunchCommandTemplates.getContent(ONE_STARTUP_SCRIPT_FILE_PATH));
         } catch (IOException e) {
             throw new FatalErrorException(e.getMessage());
-        } finally {
-            scanner.close();
         }
 
         if (userDataScripts != null) {
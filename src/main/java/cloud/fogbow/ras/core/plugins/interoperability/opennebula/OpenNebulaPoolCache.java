@@ -0,0 +1,125 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.opennebula.client.Client;
+import org.opennebula.client.PoolElement;
+import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vnet.VirtualNetwork;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a snapshot of the virtual machine and virtual network pools of each OpenNebula user, so that the
+ * instances of all the orders checked in a sweep are obtained from a single listing of each pool, instead of one
+ * info request per instance. A snapshot is used for the time to live and then listed again by the next caller;
+ * the instances created after the listing are not in it, and are thus looked up one at a time.
+ */
+public class OpenNebulaPoolCache {
+
+    private static final String KEY_SEPARATOR = "@";
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        Iterable<T> load() throws FogbowException;
+    }
+
+    private static OpenNebulaPoolCache instance;
+
+    private long timeToLive;
+    private Map<String, Snapshot<VirtualMachine>> virtualMachineSnapshots;
+    private Map<String, Snapshot<VirtualNetwork>> virtualNetworkSnapshots;
+
+    public static synchronized OpenNebulaPoolCache getInstance() {
+        if (instance == null) {
+            instance = new OpenNebulaPoolCache(Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.OPENNEBULA_POOL_SNAPSHOT_TTL_KEY,
+                    ConfigurationPropertyDefaults.OPENNEBULA_POOL_SNAPSHOT_TTL)));
+        }
+        return instance;
+    }
+
+    /**
+     * @param timeToLive how long, in milliseconds, a snapshot of a pool is used before being listed again
+     */
+    public OpenNebulaPoolCache(long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.virtualMachineSnapshots = new ConcurrentHashMap<>();
+        this.virtualNetworkSnapshots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the virtual machines of the user that are not done yet, indexed by their id
+     */
+    public Map<String, VirtualMachine> getVirtualMachines(Client client, String endpoint, String tokenValue)
+            throws FogbowException {
+        return getElements(this.virtualMachineSnapshots, getKey(endpoint, tokenValue),
+                () -> OpenNebulaClientUtil.getVirtualMachinePoolByUser(client));
+    }
+
+    /**
+     * @return the virtual networks of the user, indexed by their id
+     */
+    public Map<String, VirtualNetwork> getVirtualNetworks(Client client, String endpoint, String tokenValue)
+            throws FogbowException {
+        return getElements(this.virtualNetworkSnapshots, getKey(endpoint, tokenValue),
+                () -> OpenNebulaClientUtil.getNetworkPoolByUser(client));
+    }
+
+    /**
+     * Forgets the snapshots of the user, so that the next caller lists the pools again.
+     */
+    public void invalidate(String endpoint, String tokenValue) {
+        String key = getKey(endpoint, tokenValue);
+        this.virtualMachineSnapshots.remove(key);
+        this.virtualNetworkSnapshots.remove(key);
+    }
+
+    @VisibleForTesting
+    <T extends PoolElement> Map<String, T> getElements(Map<String, Snapshot<T>> snapshots, String key,
+                                                       Loader<T> loader) throws FogbowException {
+        long currentTime = getCurrentTime();
+        Snapshot<T> snapshot = snapshots.get(key);
+        if (snapshot == null || snapshot.isExpired(currentTime, this.timeToLive)) {
+            // The snapshots of users that stopped being checked are dropped as new ones are taken
+            snapshots.values().removeIf(staleSnapshot -> staleSnapshot.isExpired(currentTime, this.timeToLive));
+            snapshot = new Snapshot<>(loader.load(), currentTime);
+            snapshots.put(key, snapshot);
+        }
+        return snapshot.elements;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private String getKey(String endpoint, String tokenValue) {
+        return tokenValue + KEY_SEPARATOR + endpoint;
+    }
+
+    @VisibleForTesting
+    static class Snapshot<T extends PoolElement> {
+        private Map<String, T> elements;
+        private long loadTime;
+
+        private Snapshot(Iterable<T> pool, long loadTime) {
+            Map<String, T> elements = new HashMap<>();
+            for (T element : pool) {
+                elements.put(element.getId(), element);
+            }
+            this.elements = Collections.unmodifiableMap(elements);
+            this.loadTime = loadTime;
+        }
+
+        private boolean isExpired(long currentTime, long timeToLive) {
+            return currentTime - this.loadTime >= timeToLive;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,11 +17,15 @@ public class OpenNebulaUnmarshaller {
 
     private final static Logger LOGGER = Logger.getLogger(OpenNebulaUnmarshaller.class);
 
+    // A context introspects the annotations of its classes when built and is thread safe afterwards,
+    // thus it is built once per class; unmarshallers are cheap, but not thread safe
+    private static final Map<Class, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
     public static Object unmarshal(String xml, Class classType) {
         Object object = null;
         try {
             InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-            JAXBContext jaxbContext = JAXBContext.newInstance(classType);
+            JAXBContext jaxbContext = getContext(classType);
             Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
             object = unmarshaller.unmarshal(inputStream);
         } catch (JAXBException e) {
@@ -28,4 +34,13 @@ public class OpenNebulaUnmarshaller {
         return object;
     }
 
+    private static JAXBContext getContext(Class classType) throws JAXBException {
+        JAXBContext jaxbContext = CONTEXTS.get(classType);
+        if (jaxbContext == null) {
+            jaxbContext = JAXBContext.newInstance(classType);
+            CONTEXTS.putIfAbsent(classType, jaxbContext);
+        }
+        return jaxbContext;
+    }
+
 }
@@ -0,0 +1,146 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.ras.constants.Messages;
+import org.apache.log4j.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the values the plugins need from the XML responses of OpenNebula in a single streaming pass, without
+ * building a DOM tree of the whole response nor evaluating xpath expressions on it. Malformed responses are
+ * logged, and the values read up to the error are returned.
+ */
+public class OpenNebulaXmlStreamReader {
+
+    private final static Logger LOGGER = Logger.getLogger(OpenNebulaXmlStreamReader.class);
+
+    // Factories are thread safe once configured, and costly to look up on every response
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    /**
+     * @param path the names of the elements wanted, preceded by the names of their closest ancestors
+     *             (e.g. NIC, IP for the addresses of all NICs of a virtual machine)
+     * @return the text of the elements found at the end of the path, in document order
+     */
+    public static List<String> getValues(String xml, String... path) {
+        List<String> values = new ArrayList<>();
+        List<String> ancestors = new ArrayList<>();
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(xml));
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    ancestors.add(reader.getLocalName());
+                    if (endsWith(ancestors, path)) {
+                        // Reading the text consumes the end of the element
+                        values.add(reader.getElementText().trim());
+                        ancestors.remove(ancestors.size() - 1);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    ancestors.remove(ancestors.size() - 1);
+                }
+            }
+        } catch (XMLStreamException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_UNMARSHALL_XML_S, xml), e);
+        } finally {
+            close(reader);
+        }
+        return values;
+    }
+
+    /**
+     * Reads a pool response, such as the listing of the images of a user, taking two children of each of its
+     * elements.
+     *
+     * @param elementName the name of the elements of the pool (e.g. IMAGE)
+     * @param keyName     the name of the child of each element that identifies it (e.g. ID)
+     * @param valueName   the name of the child of each element to be read (e.g. SIZE)
+     * @return the values of the elements that have both children, indexed by their keys
+     */
+    public static Map<String, String> getValuesByElement(String xml, String elementName, String keyName,
+                                                         String valueName) {
+        Map<String, String> values = new HashMap<>();
+        String key = null;
+        String value = null;
+        int depth = 0;
+        int elementDepth = -1;
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(new StringReader(xml));
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String name = reader.getLocalName();
+                    if (elementDepth < 0 && name.equals(elementName)) {
+                        elementDepth = depth;
+                        key = null;
+                        value = null;
+                    } else if (depth == elementDepth + 1 && (name.equals(keyName) || name.equals(valueName))) {
+                        String text = reader.getElementText().trim();
+                        depth--;
+                        if (name.equals(keyName)) {
+                            key = text;
+                        } else {
+                            value = text;
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == elementDepth) {
+                        if (key != null && value != null) {
+                            values.put(key, value);
+                        }
+                        elementDepth = -1;
+                    }
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_UNMARSHALL_XML_S, xml), e);
+        } finally {
+            close(reader);
+        }
+        return values;
+    }
+
+    private static boolean endsWith(List<String> ancestors, String[] path) {
+        int offset = ancestors.size() - path.length;
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < path.length; i++) {
+            if (!ancestors.get(offset + i).equals(path[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                LOGGER.warn(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // The responses of OpenNebula have no DTD, thus none is read nor any external entity resolved
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -25,8 +25,6 @@ import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
-import org.opennebula.client.image.Image;
-import org.opennebula.client.image.ImagePool;
 import org.opennebula.client.vm.VirtualMachine;
 
 import java.util.*;
@@ -49,7 +47,11 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	@VisibleForTesting
     static final String NETWORK_CONFIRMATION_CONTEXT = "YES";
 	@VisibleForTesting
-    static final String NIC_IP_EXPRESSION = "//NIC/IP";
+    static final String IP_ELEMENT = "IP";
+	@VisibleForTesting
+    static final String NIC_ELEMENT = "NIC";
+	@VisibleForTesting
+    static final String TEMPLATE_NIC_IP_PATH_FORMAT = "TEMPLATE/NIC[%d]/IP";
 
 	@VisibleForTesting
     static final boolean SHUTS_DOWN_HARD = true;
@@ -60,6 +62,10 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	@VisibleForTesting
     static final int MINIMUM_RAM_VALUE = 1;
 
+	@VisibleForTesting
+    static final String IMAGE_ELEMENT = "IMAGE";
+	@VisibleForTesting
+    static final String IMAGE_ID_PATH = "ID";
 	@VisibleForTesting
     static final String IMAGE_SIZE_PATH = "SIZE";
 	@VisibleForTesting
@@ -72,6 +78,7 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 	private String endpoint;
 	private TreeSet<HardwareRequirements> flavors;
 	private LaunchCommandGenerator launchCommandGenerator;
+	private OpenNebulaPoolCache poolCache;
 	private Properties properties;
 
 	public OpenNebulaComputePlugin(String confFilePath) throws FatalErrorException {
@@ -79,6 +86,7 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		this.endpoint = this.properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
 		this.flavors = new TreeSet<>();
 		this.launchCommandGenerator = new OpenNebulaLaunchCommandGenerator();
+		this.poolCache = OpenNebulaPoolCache.getInstance();
 	}
 
 	@Override
@@ -113,6 +121,16 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		return this.doGetInstance(virtualMachine);
 	}
 
+	@Override
+	public Map<String, ComputeInstance> getInstances(List<ComputeOrder> computeOrders, CloudUser cloudUser)
+			throws FogbowException {
+		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_D, computeOrders.size()));
+		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
+		Map<String, VirtualMachine> virtualMachines = this.poolCache.getVirtualMachines(client, this.endpoint,
+				cloudUser.getToken());
+		return this.doGetInstances(computeOrders, virtualMachines);
+	}
+
 	@Override
 	public void deleteInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
 		String instanceId = computeOrder.getInstanceId();
@@ -124,6 +142,7 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 			throw new InternalServerErrorException(String.format(Messages.Exception.ERROR_WHILE_REMOVING_VM_S_S,
 					instanceId, response.getMessage()));
 		}
+		this.poolCache.invalidate(this.endpoint, cloudUser.getToken());
 	}
 
 	@VisibleForTesting
@@ -140,6 +159,30 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     ComputeInstance doGetInstance(VirtualMachine virtualMachine) {
 		OneResponse response = virtualMachine.info();
 
+		String xml = response.getMessage();
+		List<String> ipAddresses = OpenNebulaXmlStreamReader.getValues(xml, NIC_ELEMENT, IP_ELEMENT);
+
+		return this.createComputeInstance(virtualMachine, ipAddresses);
+	}
+
+	@VisibleForTesting
+    Map<String, ComputeInstance> doGetInstances(List<ComputeOrder> computeOrders,
+			Map<String, VirtualMachine> virtualMachines) {
+
+		// The virtual machines of the pool were already read from the listing, thus no info request is made
+		Map<String, ComputeInstance> computeInstances = new HashMap<>();
+		for (ComputeOrder computeOrder : computeOrders) {
+			VirtualMachine virtualMachine = virtualMachines.get(computeOrder.getInstanceId());
+			if (virtualMachine != null) {
+				List<String> ipAddresses = this.getIpAddresses(virtualMachine);
+				computeInstances.put(computeOrder.getId(), this.createComputeInstance(virtualMachine, ipAddresses));
+			}
+		}
+		return computeInstances;
+	}
+
+	@VisibleForTesting
+    ComputeInstance createComputeInstance(VirtualMachine virtualMachine, List<String> ipAddresses) {
 		String id = virtualMachine.getId();
 		String name = virtualMachine.getName();
 		String state = virtualMachine.lcmStateStr();
@@ -148,16 +191,24 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		int memoryRam = Integer.parseInt(virtualMachine.xpath(TEMPLATE_MEMORY_PATH));
 		int disk = Integer.parseInt(virtualMachine.xpath(TEMPLATE_DISK_SIZE_PATH)) / ONE_GIGABYTE_IN_MEGABYTES;
 
-		String xml = response.getMessage();
-		XmlUnmarshaller xmlUnmarshaller = new XmlUnmarshaller(xml);
-		List<String> ipAddresses = xmlUnmarshaller.getContextListOf(NIC_IP_EXPRESSION);
-
 		ComputeInstance computeInstance = new ComputeInstance(id, state, name, cpu, memoryRam, disk, ipAddresses);
 		this.setComputeInstanceNetworks(computeInstance);
 
 		return computeInstance;
 	}
 
+	@VisibleForTesting
+    List<String> getIpAddresses(VirtualMachine virtualMachine) {
+		// The paths are relative to the element of the virtual machine in the pool, and NIC positions start at 1
+		List<String> ipAddresses = new ArrayList<>();
+		String ipAddress = virtualMachine.xpath(String.format(TEMPLATE_NIC_IP_PATH_FORMAT, ipAddresses.size() + 1));
+		while (ipAddress != null && !ipAddress.isEmpty()) {
+			ipAddresses.add(ipAddress);
+			ipAddress = virtualMachine.xpath(String.format(TEMPLATE_NIC_IP_PATH_FORMAT, ipAddresses.size() + 1));
+		}
+		return ipAddresses;
+	}
+
 	@VisibleForTesting
     CreateComputeRequest getCreateComputeRequest(Client client, ComputeOrder computeOrder)
 			throws InternalServerErrorException, UnacceptableOperationException {
@@ -291,13 +342,9 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 
 	@VisibleForTesting
     Map<String, String> getImagesSizes(Client client) throws InternalServerErrorException {
-		Map<String, String> imagesSizeMap = new HashMap<>();
-		ImagePool imagePool = OpenNebulaClientUtil.getImagePool(client);
-		for (Image image : imagePool) {
-			String imageSize = image.xpath(IMAGE_SIZE_PATH);
-			imagesSizeMap.put(image.getId(), imageSize);
-		}
-		return imagesSizeMap;
+		// The listing is streamed for the two fields needed, instead of walking the pool elements
+		String xml = OpenNebulaClientUtil.getImagePoolResponse(client);
+		return OpenNebulaXmlStreamReader.getValuesByElement(xml, IMAGE_ELEMENT, IMAGE_ID_PATH, IMAGE_SIZE_PATH);
 	}
 
 	@VisibleForTesting
@@ -333,4 +380,9 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     void setLaunchCommandGenerator(LaunchCommandGenerator launchCommandGenerator) {
 		this.launchCommandGenerator = launchCommandGenerator;
 	}
+
+	@VisibleForTesting
+    void setPoolCache(OpenNebulaPoolCache poolCache) {
+		this.poolCache = poolCache;
+	}
 }
\ No newline at end of file
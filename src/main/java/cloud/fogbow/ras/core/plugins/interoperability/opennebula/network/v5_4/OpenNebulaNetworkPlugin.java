@@ -1,7 +1,9 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula.network.v5_4;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import cloud.fogbow.common.exceptions.*;
@@ -29,6 +31,7 @@ import cloud.fogbow.ras.core.models.orders.NetworkOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaPoolCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.CreateSecurityGroupRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.Rule;
 
@@ -57,6 +60,14 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	@VisibleForTesting
     static final String VNET_TEMPLATE_VLAN_ID_PATH = "/VNET/TEMPLATE/VLAN_ID";
 
+	// Paths relative to the element of a virtual network in the pool
+	@VisibleForTesting
+    static final String POOL_ADDRESS_RANGE_IP_PATH = "AR_POOL/AR/IP";
+	@VisibleForTesting
+    static final String POOL_ADDRESS_RANGE_SIZE_PATH = "AR_POOL/AR/SIZE";
+	@VisibleForTesting
+    static final String POOL_TEMPLATE_VLAN_ID_PATH = "TEMPLATE/VLAN_ID";
+
 	@VisibleForTesting
     static final String ADDRESS_RANGE_ID_PATH_FORMAT = "/VNET/AR_POOL/AR[%s]/AR_ID";
 	@VisibleForTesting
@@ -71,11 +82,13 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 
 	private String endpoint;
 	private String defaultNetwork;
+	private OpenNebulaPoolCache poolCache;
 
 	public OpenNebulaNetworkPlugin(String confFilePath) throws FatalErrorException {
 		Properties properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
 		this.defaultNetwork = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_RESERVATIONS_NETWORK_ID_KEY);
+		this.poolCache = OpenNebulaPoolCache.getInstance();
 	}
 
 	@Override
@@ -108,6 +121,16 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		return this.doGetInstance(virtualNetwork);
 	}
 
+	@Override
+	public Map<String, NetworkInstance> getInstances(List<NetworkOrder> networkOrders, CloudUser cloudUser)
+			throws FogbowException {
+		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_D, networkOrders.size()));
+		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
+		Map<String, VirtualNetwork> virtualNetworks = this.poolCache.getVirtualNetworks(client, this.endpoint,
+				cloudUser.getToken());
+		return this.doGetInstances(networkOrders, virtualNetworks);
+	}
+
 	@Override
 	public void deleteInstance(NetworkOrder networkOrder, CloudUser cloudUser) throws FogbowException {
 		String instanceId = networkOrder.getInstanceId();
@@ -121,6 +144,7 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		}
 
 		this.doDeleteInstance(virtualNetwork);
+		this.poolCache.invalidate(this.endpoint, cloudUser.getToken());
 	}
 
 	@VisibleForTesting
@@ -137,11 +161,35 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 
 	@VisibleForTesting
     NetworkInstance doGetInstance(VirtualNetwork virtualNetwork) throws InvalidParameterException {
+		return this.createNetworkInstance(virtualNetwork, VNET_TEMPLATE_VLAN_ID_PATH, VNET_ADDRESS_RANGE_IP_PATH,
+				VNET_ADDRESS_RANGE_SIZE_PATH);
+	}
+
+	@VisibleForTesting
+    Map<String, NetworkInstance> doGetInstances(List<NetworkOrder> networkOrders,
+			Map<String, VirtualNetwork> virtualNetworks) throws InvalidParameterException {
+
+		Map<String, NetworkInstance> networkInstances = new HashMap<>();
+		for (NetworkOrder networkOrder : networkOrders) {
+			VirtualNetwork virtualNetwork = virtualNetworks.get(networkOrder.getInstanceId());
+			if (virtualNetwork != null) {
+				NetworkInstance networkInstance = this.createNetworkInstance(virtualNetwork,
+						POOL_TEMPLATE_VLAN_ID_PATH, POOL_ADDRESS_RANGE_IP_PATH, POOL_ADDRESS_RANGE_SIZE_PATH);
+				networkInstances.put(networkOrder.getId(), networkInstance);
+			}
+		}
+		return networkInstances;
+	}
+
+	@VisibleForTesting
+    NetworkInstance createNetworkInstance(VirtualNetwork virtualNetwork, String vLanPath, String addressRangeIpPath,
+			String addressRangeSizePath) throws InvalidParameterException {
+
 		String id = virtualNetwork.getId();
 		String name = virtualNetwork.getName();
-		String vLan = virtualNetwork.xpath(VNET_TEMPLATE_VLAN_ID_PATH);
-		String firstIP = virtualNetwork.xpath(VNET_ADDRESS_RANGE_IP_PATH);
-		String rangeSize = virtualNetwork.xpath(VNET_ADDRESS_RANGE_SIZE_PATH);
+		String vLan = virtualNetwork.xpath(vLanPath);
+		String firstIP = virtualNetwork.xpath(addressRangeIpPath);
+		String rangeSize = virtualNetwork.xpath(addressRangeSizePath);
 		String address = this.generateAddressCidr(firstIP, rangeSize);
 
 		String networkInterface = null;
@@ -389,4 +437,9 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 			throw new InvalidParameterException();
 		}
 	}
+
+	@VisibleForTesting
+    void setPoolCache(OpenNebulaPoolCache poolCache) {
+		this.poolCache = poolCache;
+	}
 }
@@ -8,6 +8,7 @@ import cloud.fogbow.common.models.OpenStackV3User;
 import cloud.fogbow.ras.api.http.response.NetworkSummary;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.models.FlavorIndex;
 import cloud.fogbow.ras.core.models.HardwareRequirements;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
@@ -24,14 +25,27 @@ import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     private static final Logger LOGGER = Logger.getLogger(OpenStackComputePlugin.class);
 
-    private TreeSet<HardwareRequirements> hardwareRequirementsList;
+    @VisibleForTesting
+    static final String DETAIL_ENDPOINT = "/detail";
+    @VisibleForTesting
+    static final String LIMIT_QUERY_PARAMETER = "?limit=";
+    @VisibleForTesting
+    static final String MARKER_QUERY_PARAMETER = "&marker=";
+    @VisibleForTesting
+    static final int SERVERS_PAGE_SIZE = 1000;
+    @VisibleForTesting
+    static final long SERVERS_LISTING_MAX_AGE = 5000;
+
+    private OpenStackFlavorCatalog flavorCatalog;
     private Properties properties;
     private OpenStackHttpClient client;
     private LaunchCommandGenerator launchCommandGenerator;
+    private Map<String, ServersListing> serversListings;
 
     public OpenStackComputePlugin(String confFilePath) throws FatalErrorException {
         this.properties = PropertiesUtil.readProperties(confFilePath);
@@ -93,6 +107,66 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
         return computeInstance;
     }
 
+    @Override
+    public Map<String, ComputeInstance> getInstances(List<ComputeOrder> computeOrders, OpenStackV3User cloudUser)
+            throws FogbowException {
+        LOGGER.info(String.format(Messages.Log.GETTING_INSTANCES_D, computeOrders.size()));
+        String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
+        Map<String, GetComputeResponse.Server> serversById = getServers(projectId, cloudUser);
+
+        Map<String, ComputeInstance> computeInstances = new HashMap<>();
+        for (ComputeOrder computeOrder : computeOrders) {
+            GetComputeResponse.Server server = serversById.get(computeOrder.getInstanceId());
+            if (server != null) {
+                ComputeInstance computeInstance = buildComputeInstance(server);
+                computeInstance.setNetworks(getComputeNetworks());
+                computeInstances.put(computeOrder.getId(), computeInstance);
+            }
+        }
+        return computeInstances;
+    }
+
+    /**
+     * The servers can't be filtered by id, so they are listed whole. The listing is shared by the batches of
+     * orders checked within {@link #SERVERS_LISTING_MAX_AGE} of it, which are those of the same pass over the
+     * orders, so that a pass walks the pages once, however many batches it checks.
+     *
+     * @return the servers of the project, by id
+     */
+    @VisibleForTesting
+    Map<String, GetComputeResponse.Server> getServers(String projectId, OpenStackV3User cloudUser)
+            throws FogbowException {
+        long now = System.currentTimeMillis();
+        ServersListing serversListing = this.serversListings.compute(projectId, (id, listing) ->
+                listing == null || listing.isExpired(now) ? new ServersListing(now) : listing);
+        return serversListing.get(() -> listServers(projectId, cloudUser));
+    }
+
+    private Map<String, GetComputeResponse.Server> listServers(String projectId, OpenStackV3User cloudUser)
+            throws FogbowException {
+        String serversEndpoint = getComputeEndpoint(projectId, OpenStackConstants.SERVERS_ENDPOINT
+                + DETAIL_ENDPOINT + LIMIT_QUERY_PARAMETER + SERVERS_PAGE_SIZE);
+
+        Map<String, GetComputeResponse.Server> serversById = new HashMap<>();
+        String endpoint = serversEndpoint;
+        GetAllComputesResponse getAllComputesResponse;
+        do {
+            String jsonResponse = doGetInstance(endpoint, cloudUser);
+            getAllComputesResponse = GetAllComputesResponse.fromJson(jsonResponse);
+            List<GetComputeResponse.Server> servers = getAllComputesResponse.getServers();
+            if (servers == null || servers.isEmpty()) {
+                break;
+            }
+
+            for (GetComputeResponse.Server server : servers) {
+                serversById.put(server.getId(), server);
+            }
+            String lastServerId = servers.get(servers.size() - 1).getId();
+            endpoint = serversEndpoint + MARKER_QUERY_PARAMETER + lastServerId;
+        } while (getAllComputesResponse.hasNextPage());
+        return serversById;
+    }
+
     @Override
     public void deleteInstance(ComputeOrder computeOrder, OpenStackV3User cloudUser) throws FogbowException {
         String instanceId = computeOrder.getInstanceId();
@@ -169,10 +243,19 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     }
 
     private void instantiateOtherAttributes() {
-        this.hardwareRequirementsList = new TreeSet<HardwareRequirements>();
+        this.flavorCatalog = new OpenStackFlavorCatalog(getFlavorsCatalogTimeToLive());
+        this.serversListings = new ConcurrentHashMap<>();
         this.initClient();
     }
 
+    private long getFlavorsCatalogTimeToLive() {
+        String timeToLive = this.properties.getProperty(OpenStackPluginUtils.FLAVORS_CATALOG_TTL_KEY);
+        if (timeToLive == null || timeToLive.trim().isEmpty()) {
+            timeToLive = OpenStackPluginUtils.FLAVORS_CATALOG_TTL_DEFAULT;
+        }
+        return Long.parseLong(timeToLive.trim());
+    }
+
     private void initClient() {
         this.client = new OpenStackHttpClient();
     }
@@ -266,12 +349,15 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     @VisibleForTesting
     HardwareRequirements getBestFlavor(ComputeOrder computeOrder, OpenStackV3User cloudUser)
             throws FogbowException {
-        updateFlavors(computeOrder, cloudUser);
-        TreeSet<HardwareRequirements> hardwareRequirementsList = getHardwareRequirementsList();
-        for (HardwareRequirements hardwareRequirements : hardwareRequirementsList) {
-            if (hardwareRequirements.getCpu() >= computeOrder.getvCPU()
-                    && hardwareRequirements.getRam() >= computeOrder.getRam()
-                    && hardwareRequirements.getDisk() >= computeOrder.getDisk()) {
+        FlavorIndex<HardwareRequirements> flavorIndex = getFlavorIndex(cloudUser);
+        Map<String, String> requirements = computeOrder.getRequirements();
+        if (requirements == null || requirements.isEmpty()) {
+            return flavorIndex.findSmallest(computeOrder.getvCPU(), computeOrder.getRam(), computeOrder.getDisk());
+        }
+        // The extra specs are not in the index, thus the flavors that fit are checked from the smallest up
+        for (HardwareRequirements hardwareRequirements :
+                flavorIndex.findAll(computeOrder.getvCPU(), computeOrder.getRam(), computeOrder.getDisk())) {
+            if (flavorHasRequirements(cloudUser, requirements, hardwareRequirements.getFlavorId())) {
                 return hardwareRequirements;
             }
         }
@@ -279,40 +365,33 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     }
 
     @VisibleForTesting
-    void updateFlavors(ComputeOrder computeOrder, OpenStackV3User cloudUser) throws FogbowException {
+    FlavorIndex<HardwareRequirements> getFlavorIndex(OpenStackV3User cloudUser) throws FogbowException {
         String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
-        String flavorsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT);
+        return this.flavorCatalog.getFlavorIndex(projectId, () -> fetchFlavors(projectId, cloudUser));
+    }
+
+    @VisibleForTesting
+    Collection<HardwareRequirements> fetchFlavors(String projectId, OpenStackV3User cloudUser) throws FogbowException {
+        String flavorsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT + DETAIL_ENDPOINT);
 
+        // A single request brings the hardware of every flavor
         String jsonResponse = doGetRequest(flavorsEndpoint, cloudUser);
         GetAllFlavorsResponse getAllFlavorsResponse = GetAllFlavorsResponse.fromJson(jsonResponse);
 
-        List<String> flavorsIds = new ArrayList<>();
+        List<HardwareRequirements> flavors = new ArrayList<>();
         for (GetAllFlavorsResponse.Flavor flavor : getAllFlavorsResponse.getFlavors()) {
-            if (computeOrder != null && computeOrder.getRequirements() != null && computeOrder.getRequirements().size() > 0) {
-                if (!flavorHasRequirements(cloudUser, computeOrder.getRequirements(), flavor.getId())) {
-                    continue;
-                }
-            }
-            flavorsIds.add(flavor.getId());
+            flavors.add(new HardwareRequirements(flavor.getName(), flavor.getId(), flavor.getVcpusCount(),
+                    flavor.getMemory(), flavor.getDisk()));
         }
-
-        TreeSet<HardwareRequirements> newHardwareRequirements =
-                detailFlavors(flavorsEndpoint, flavorsIds, cloudUser);
-        setHardwareRequirementsList(newHardwareRequirements);
+        return flavors;
     }
 
     @VisibleForTesting
     boolean flavorHasRequirements(OpenStackV3User cloudUser, Map<String, String> requirements,
                                           String flavorId) throws FogbowException {
         String projectId = OpenStackPluginUtils.getProjectIdFrom(cloudUser);
-        String specsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT)
-                + OpenStackConstants.ENDPOINT_SEPARATOR
-                + flavorId
-                + OpenStackConstants.EXTRA_SPECS_ENDPOINT;
-
-        String jsonResponse = doGetRequest(specsEndpoint, cloudUser);
-        GetFlavorExtraSpecsResponse getFlavorExtraSpecsResponse = GetFlavorExtraSpecsResponse.fromJson(jsonResponse);
-        Map<String, String> flavorExtraSpecs = getFlavorExtraSpecsResponse.getFlavorExtraSpecs();
+        Map<String, String> flavorExtraSpecs = this.flavorCatalog.getExtraSpecs(projectId, flavorId,
+                () -> fetchFlavorExtraSpecs(projectId, flavorId, cloudUser));
 
         for (String tag : requirements.keySet()) {
             if (!flavorExtraSpecs.containsKey(tag) || !flavorExtraSpecs.get(tag).equals(requirements.get(tag))) {
@@ -324,58 +403,33 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     }
 
     @VisibleForTesting
-    TreeSet<HardwareRequirements> detailFlavors(String endpoint, List<String> flavorsIds, OpenStackV3User cloudUser)
+    Map<String, String> fetchFlavorExtraSpecs(String projectId, String flavorId, OpenStackV3User cloudUser)
             throws FogbowException {
-        TreeSet<HardwareRequirements> newHardwareRequirements = new TreeSet<>();
-        TreeSet<HardwareRequirements> flavorsCopy = getHardwareRequirementsList();
-
-        for (String flavorId : flavorsIds) {
-            boolean containsFlavorForCaching = false;
-
-            for (HardwareRequirements flavor : flavorsCopy) {
-                if (flavor.getFlavorId().equals(flavorId)) {
-                    containsFlavorForCaching = true;
-                    newHardwareRequirements.add(flavor);
-                    break;
-                }
-            }
-
-            if (!containsFlavorForCaching) {
-                HardwareRequirements requirements = fetchHardwareRequirements(endpoint, flavorId, cloudUser);
-                newHardwareRequirements.add(requirements);
-            }
-        }
-        return newHardwareRequirements;
-    }
-
-    @VisibleForTesting
-    HardwareRequirements fetchHardwareRequirements(String endpoint, String flavorId, OpenStackV3User cloudUser) throws FogbowException {
-        String hardwareRequirementsEndpoint = endpoint + OpenStackConstants.ENDPOINT_SEPARATOR + flavorId;
-
-        String getJsonResponse = null;
-
-        getJsonResponse = doGetRequest(hardwareRequirementsEndpoint, cloudUser);
-        GetFlavorResponse getFlavorResponse = GetFlavorResponse.fromJson(getJsonResponse);
-
-        String id = getFlavorResponse.getId();
-        String name = getFlavorResponse.getName();
-        int disk = getFlavorResponse.getDisk();
-        int memory = getFlavorResponse.getMemory();
-        int vcpusCount = getFlavorResponse.getVcpusCount();
+        String specsEndpoint = getComputeEndpoint(projectId, OpenStackConstants.FLAVORS_ENDPOINT)
+                + OpenStackConstants.ENDPOINT_SEPARATOR
+                + flavorId
+                + OpenStackConstants.EXTRA_SPECS_ENDPOINT;
 
-        return new HardwareRequirements(name, id, vcpusCount, memory, disk);
+        String jsonResponse = doGetRequest(specsEndpoint, cloudUser);
+        GetFlavorExtraSpecsResponse getFlavorExtraSpecsResponse = GetFlavorExtraSpecsResponse.fromJson(jsonResponse);
+        Map<String, String> flavorExtraSpecs = getFlavorExtraSpecsResponse.getFlavorExtraSpecs();
+        return flavorExtraSpecs == null ? new HashMap<>() : flavorExtraSpecs;
     }
 
     @VisibleForTesting
     ComputeInstance getInstanceFromJson(String getRawResponse) {
         GetComputeResponse getComputeResponse = GetComputeResponse.fromJson(getRawResponse);
+        return buildComputeInstance(getComputeResponse.getServer());
+    }
 
-        String openStackState = getComputeResponse.getStatus();
-        String instanceId = getComputeResponse.getId();
-        String hostName = getComputeResponse.getName();
-        String faultMessage = getComputeResponse.getFaultMessage();
+    @VisibleForTesting
+    ComputeInstance buildComputeInstance(GetComputeResponse.Server server) {
+        String openStackState = server.getStatus();
+        String instanceId = server.getId();
+        String hostName = server.getName();
+        String faultMessage = server.getFaultMessage();
 
-        Map<String, GetComputeResponse.Address[]> addressesContainer = getComputeResponse.getAddresses();
+        Map<String, GetComputeResponse.Address[]> addressesContainer = server.getAddresses();
         List<String> ipAddresses = new ArrayList<>();
 
         if (addressesContainer != null) {
@@ -401,17 +455,8 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     }
 
     @VisibleForTesting
-    TreeSet<HardwareRequirements> getHardwareRequirementsList() {
-        synchronized (this.hardwareRequirementsList) {
-            return new TreeSet<HardwareRequirements>(this.hardwareRequirementsList);
-        }
-    }
-
-    @VisibleForTesting
-    void setHardwareRequirementsList(TreeSet<HardwareRequirements> hardwareRequirementsList) {
-        synchronized (this.hardwareRequirementsList) {
-            this.hardwareRequirementsList = hardwareRequirementsList;
-        }
+    void setFlavorCatalog(OpenStackFlavorCatalog flavorCatalog) {
+        this.flavorCatalog = flavorCatalog;
     }
 
     private String getRandomUUID() {
@@ -427,4 +472,30 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     void setLaunchCommandGenerator(LaunchCommandGenerator launchCommandGenerator) {
         this.launchCommandGenerator = launchCommandGenerator;
     }
+
+    /**
+     * The servers of a project, listed by the first caller and shared with the callers that arrive while it
+     * lists them or shortly after.
+     */
+    private static class ServersListing {
+        private long creationTime;
+        private Map<String, GetComputeResponse.Server> serversById;
+
+        private ServersListing(long creationTime) {
+            this.creationTime = creationTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now - this.creationTime >= SERVERS_LISTING_MAX_AGE;
+        }
+
+        private synchronized Map<String, GetComputeResponse.Server> get(
+                OpenStackFlavorCatalog.Loader<Map<String, GetComputeResponse.Server>> loader) throws FogbowException {
+            // If listing fails, the next caller tries again
+            if (this.serversById == null) {
+                this.serversById = loader.load();
+            }
+            return this.serversById;
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.FlavorIndex;
+import cloud.fogbow.ras.core.models.HardwareRequirements;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the flavors of each project of a cloud in a {@link FlavorIndex}, together with the extra specs of the
+ * flavors already inspected, so that choosing a flavor for a new compute does not list and detail all flavors
+ * again. Once the flavors of a project are older than the time to live, the first caller to
+ * notice starts a refresh in the background and keeps using the flavors it has until the refresh finishes.
+ */
+public class OpenStackFlavorCatalog {
+    private static final Logger LOGGER = Logger.getLogger(OpenStackFlavorCatalog.class);
+
+    @VisibleForTesting
+    static final String REFRESH_THREAD_NAME = "openstack-flavors-refresh";
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws FogbowException;
+    }
+
+    private long timeToLive;
+    private Map<String, Snapshot> snapshots;
+    private Set<String> refreshingProjects;
+
+    /**
+     * @param timeToLive how long, in milliseconds, the flavors of a project are used before being refreshed
+     */
+    public OpenStackFlavorCatalog(long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.snapshots = new ConcurrentHashMap<>();
+        this.refreshingProjects = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * @return the index of the flavors of the project, loading them with the loader if they are not known yet
+     */
+    public FlavorIndex<HardwareRequirements> getFlavorIndex(String projectId,
+                                                            Loader<Collection<HardwareRequirements>> loader)
+            throws FogbowException {
+        Snapshot snapshot = this.snapshots.get(projectId);
+        if (snapshot == null) {
+            snapshot = loadFlavors(projectId, loader);
+        } else if (snapshot.isExpired(getCurrentTime(), this.timeToLive)) {
+            refreshInBackground(projectId, loader);
+        }
+        return snapshot.flavorIndex;
+    }
+
+    /**
+     * @return the extra specs of the flavor, loading them with the loader if they were not inspected since the
+     * flavors of the project were last loaded
+     */
+    public Map<String, String> getExtraSpecs(String projectId, String flavorId, Loader<Map<String, String>> loader)
+            throws FogbowException {
+        Snapshot snapshot = this.snapshots.get(projectId);
+        Map<String, String> extraSpecs = snapshot == null ? null : snapshot.extraSpecs.get(flavorId);
+        if (extraSpecs == null) {
+            extraSpecs = loader.load();
+            if (snapshot != null) {
+                snapshot.extraSpecs.put(flavorId, extraSpecs);
+            }
+        }
+        return extraSpecs;
+    }
+
+    /**
+     * Forgets the flavors of the project, so that the next caller loads them again.
+     */
+    public void invalidate(String projectId) {
+        this.snapshots.remove(projectId);
+    }
+
+    @VisibleForTesting
+    void refreshInBackground(String projectId, Loader<Collection<HardwareRequirements>> loader) {
+        // Only one refresh per project at a time
+        if (!this.refreshingProjects.add(projectId)) {
+            return;
+        }
+        Thread refreshThread = new Thread(() -> {
+            try {
+                loadFlavors(projectId, loader);
+            } catch (Throwable e) {
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_FLAVORS_S, projectId), e);
+            } finally {
+                this.refreshingProjects.remove(projectId);
+            }
+        }, REFRESH_THREAD_NAME);
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+    }
+
+    @VisibleForTesting
+    Snapshot loadFlavors(String projectId, Loader<Collection<HardwareRequirements>> loader) throws FogbowException {
+        Snapshot snapshot = new Snapshot(loader.load(), getCurrentTime());
+        this.snapshots.put(projectId, snapshot);
+        return snapshot;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @VisibleForTesting
+    static class Snapshot {
+        private FlavorIndex<HardwareRequirements> flavorIndex;
+        private Map<String, Map<String, String>> extraSpecs;
+        private long loadTime;
+
+        private Snapshot(Collection<HardwareRequirements> flavors, long loadTime) {
+            this.flavorIndex = new FlavorIndex<>(flavors);
+            this.extraSpecs = new ConcurrentHashMap<>();
+            this.loadTime = loadTime;
+        }
+
+        private boolean isExpired(long currentTime, long timeToLive) {
+            return currentTime - this.loadTime >= timeToLive;
+        }
+    }
+}
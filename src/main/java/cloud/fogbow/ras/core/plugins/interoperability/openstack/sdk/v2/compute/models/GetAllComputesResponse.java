@@ -0,0 +1,78 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models;
+
+import cloud.fogbow.common.util.GsonHolder;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Documentation: https://developer.openstack.org/api-ref/compute/#list-servers-detailed
+ * <p>
+ * Response Example:
+ * {
+ * "servers":[
+ * {
+ * "id":"9168b536-cd40-4630-b43f-b259807c6e87",
+ * "name":"new-server-test",
+ * "addresses":{
+ * "provider":[
+ * {
+ * "addr":"192.168.0.3"
+ * }
+ * ]
+ * },
+ * "flavor":{
+ * "id":1
+ * },
+ * "status":"ACTIVE"
+ * }
+ * ],
+ * "servers_links":[
+ * {
+ * "href":"http://openstack.example.com/v2.1/6f70656e737461636b20342065766572/servers/detail?limit=1&marker=9168b536-cd40-4630-b43f-b259807c6e87",
+ * "rel":"next"
+ * }
+ * ]
+ * }
+ * <p>
+ * We use the @SerializedName annotation to specify that the request parameter is not equal to the class field.
+ */
+public class GetAllComputesResponse {
+    private static final String NEXT_PAGE_RELATION = "next";
+
+    @SerializedName("servers")
+    private List<GetComputeResponse.Server> servers;
+    @SerializedName("servers_links")
+    private List<Link> links;
+
+    public List<GetComputeResponse.Server> getServers() {
+        return servers;
+    }
+
+    /**
+     * @return true if the servers were paginated and this is not the last page
+     */
+    public boolean hasNextPage() {
+        if (links != null) {
+            for (Link link : links) {
+                if (NEXT_PAGE_RELATION.equals(link.getRel())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static GetAllComputesResponse fromJson(String json) {
+        return GsonHolder.getInstance().fromJson(json, GetAllComputesResponse.class);
+    }
+
+    public static class Link {
+        @SerializedName("rel")
+        private String rel;
+
+        public String getRel() {
+            return rel;
+        }
+    }
+}
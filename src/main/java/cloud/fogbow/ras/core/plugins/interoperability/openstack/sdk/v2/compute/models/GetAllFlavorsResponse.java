@@ -8,20 +8,22 @@ import java.util.List;
 /**
  * Documentation: https://developer.openstack.org/api-ref/compute/
  * <p>
- * Response Example:
+ * Response Example (the name, disk, ram and vcpus fields are only present when listing the flavors in detail):
  * {
  * "flavors":[
  * {
- * "id":"1"
+ * "id":"1",
+ * "name":"m1.tiny",
+ * "disk":1,
+ * "ram":512,
+ * "vcpus":1
  * },
  * {
- * "id":"2"
- * },
- * {
- * "id":"3"
- * },
- * {
- * "id":"4"
+ * "id":"2",
+ * "name":"m1.small",
+ * "disk":20,
+ * "ram":2048,
+ * "vcpus":1
  * }
  * ]
  * }
@@ -35,10 +37,34 @@ public class GetAllFlavorsResponse {
     public class Flavor {
         @SerializedName("id")
         private String id;
+        @SerializedName("name")
+        private String name;
+        @SerializedName("disk")
+        private int disk;
+        @SerializedName("ram")
+        private int memory;
+        @SerializedName("vcpus")
+        private int vcpusCount;
 
         public String getId() {
             return id;
         }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getDisk() {
+            return disk;
+        }
+
+        public int getMemory() {
+            return memory;
+        }
+
+        public int getVcpusCount() {
+            return vcpusCount;
+        }
     }
 
     public List<Flavor> getFlavors() {
@@ -35,7 +35,7 @@ public class GetComputeResponse {
     @SerializedName(SERVER_KEY_JSON)
     private Server server;
 
-    public class Server {
+    public static class Server {
         @SerializedName(ID_KEY_JSON)
         private String id;
         @SerializedName(NAME_KEY_JSON)
@@ -48,37 +48,65 @@ public class GetComputeResponse {
         private String status;
         @SerializedName(FAULT_MSG_KEY_JSON)
         private String faultMessage;
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Map<String, Address[]> getAddresses() {
+            return addresses;
+        }
+
+        public Flavor getFlavor() {
+            return flavor;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getFaultMessage() {
+            return faultMessage;
+        }
+    }
+
+    public Server getServer() {
+        return server;
     }
 
     public String getId() {
-        return server.id;
+        return server.getId();
     }
 
     public String getName() {
-        return server.name;
+        return server.getName();
     }
 
     public Map<String, Address[]> getAddresses() {
-        return server.addresses;
+        return server.getAddresses();
     }
 
     public Flavor getFlavor() {
-        return server.flavor;
+        return server.getFlavor();
     }
 
     public String getStatus() {
-        return server.status;
+        return server.getStatus();
     }
 
     public String getFaultMessage() {
-        return server.faultMessage;
+        return server.getFaultMessage();
     }
 
     public static GetComputeResponse fromJson(String json) {
         return GsonHolder.getInstance().fromJson(json, GetComputeResponse.class);
     }
 
-    public class Flavor {
+    public static class Flavor {
         @SerializedName(ID_KEY_JSON)
         private String id;
 
@@ -87,7 +115,7 @@ public class GetComputeResponse {
         }
     }
 
-    public class Address {
+    public static class Address {
         @SerializedName(ADDRESS_KEY_JSON)
         private String address;
 
@@ -17,6 +17,9 @@ public class OpenStackPluginUtils {
     public static final String IMAGE_GLANCE_URL_KEY = "openstack_glance_url";
     public static final String DEFAULT_NETWORK_ID_KEY = "default_network_id";
     public static final String EXTERNAL_NETWORK_ID_KEY = "external_gateway_info";
+    public static final String FLAVORS_CATALOG_TTL_KEY = "flavors_catalog_ttl";
+    // reference value is 5 minutes
+    public static final String FLAVORS_CATALOG_TTL_DEFAULT = "300000";
 
     public static String getProjectIdFrom(OpenStackV3User cloudUser) throws InvalidParameterException {
         String projectId = cloudUser.getProjectId();
@@ -12,13 +12,14 @@ import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.log4j.Logger;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
     private static final Logger LOGGER = Logger.getLogger(DefaultLaunchCommandGenerator.class);
@@ -27,6 +28,9 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
     protected static final String TOKEN_SSH_USER = "#TOKEN_SSH_USER#";
     protected static final String TOKEN_USER_SSH_PUBLIC_KEY = "#TOKEN_USER_SSH_PUBLIC_KEY#";
     public static final String USER_DATA_LINE_BREAKER = "[[\\n]]";
+    // Matches all tokens at once, so that the user data is rendered in a single pass
+    private static final Pattern TOKENS_PATTERN = Pattern.compile(Pattern.quote(TOKEN_ID) + "|"
+            + Pattern.quote(TOKEN_SSH_USER) + "|" + Pattern.quote(TOKEN_USER_SSH_PUBLIC_KEY));
     private final String BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH = "bin/bring-up-network-interface";
     private final String CLOUD_CONFIG_FILE_PATH = "bin/cloud-config.cfg";
     private final String sshCommonUser;
@@ -40,11 +44,13 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
     public String createLaunchCommand(ComputeOrder order) throws InternalServerErrorException {
         CloudInitUserDataBuilder cloudInitUserDataBuilder = CloudInitUserDataBuilder.start();
         try {
-            // Here, we need to instantiate the FileReader, because, once we read this file, the stream goes to the end
-            // of the file, preventing to read the file again.
-            cloudInitUserDataBuilder.addCloudConfig(new FileReader(this.CLOUD_CONFIG_FILE_PATH));
+            // The builder consumes the readers, thus a new one is given each time over the cached content
+            String cloudConfig = LaunchCommandTemplates.getContent(this.CLOUD_CONFIG_FILE_PATH);
+            cloudInitUserDataBuilder.addCloudConfig(new StringReader(cloudConfig));
             if (order.getNetworkIds().size() > 0) {
-                cloudInitUserDataBuilder.addShellScript(new FileReader(this.BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH));
+                String bringUpNetworkInterfaceScript = LaunchCommandTemplates.getContent(
+                        this.BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH);
+                cloudInitUserDataBuilder.addShellScript(new StringReader(bringUpNetworkInterfaceScript));
             }
         } catch (IOException e) {
             throw new FatalErrorException(e.getMessage());
@@ -105,10 +111,16 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
         replacements.put(TOKEN_USER_SSH_PUBLIC_KEY, userPublicKey);
         replacements.put(TOKEN_SSH_USER, this.sshCommonUser);
 
-        for (String key : replacements.keySet()) {
-            String value = replacements.get(key);
-            mimeString = mimeString.replace(key, value);
+        // The values are not searched for tokens, unlike with one replace pass per token
+        Matcher matcher = TOKENS_PATTERN.matcher(mimeString);
+        StringBuilder renderedMimeString = new StringBuilder(mimeString.length() + userPublicKey.length());
+        int lastEnd = 0;
+        while (matcher.find()) {
+            renderedMimeString.append(mimeString, lastEnd, matcher.start());
+            renderedMimeString.append(replacements.get(matcher.group()));
+            lastEnd = matcher.end();
         }
-        return mimeString;
+        renderedMimeString.append(mimeString, lastEnd, mimeString.length());
+        return renderedMimeString.toString();
     }
 }
@@ -0,0 +1,55 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the content of the files the launch commands are built from, shared by the launch command generators
+ * of all clouds, so that creating a compute does not read them from disk. A file is read again once its
+ * modification time or size changes, thus an edited template is picked up without restarting the RAS.
+ */
+public class LaunchCommandTemplates {
+
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * @return the content of the file, read from disk only if it is not known yet or changed since last read
+     * @throws IOException if the file cannot be read
+     */
+    public static String getContent(String path) throws IOException {
+        File file = new File(path);
+        // Taken before reading, so that a change made while reading is noticed by the next caller
+        long lastModified = file.lastModified();
+        long length = file.length();
+        Template template = TEMPLATES.get(path);
+        if (template == null || template.lastModified != lastModified || template.length != length) {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            template = new Template(content, lastModified, length);
+            TEMPLATES.put(path, template);
+        }
+        return template.content;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        TEMPLATES.clear();
+    }
+
+    private static class Template {
+        private String content;
+        private long lastModified;
+        private long length;
+
+        private Template(String content, long lastModified, long length) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+}
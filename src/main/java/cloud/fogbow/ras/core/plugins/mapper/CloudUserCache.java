@@ -0,0 +1,156 @@
+package cloud.fogbow.ras.core.plugins.mapper;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the cloud users (and thus the cloud tokens) obtained from a cloud identity provider, so that they are
+ * not requested again on every operation. Entries are keyed by the set of credentials used to obtain them. An
+ * entry is refreshed in background once it gets close to its expiration, and concurrent refreshes of the same
+ * entry are collapsed into a single request to the identity provider.
+ */
+public class CloudUserCache<T extends CloudUser> {
+    private static final Logger LOGGER = Logger.getLogger(CloudUserCache.class);
+
+    private static final String REFRESH_THREAD_NAME = "cloud-user-refresh";
+
+    // Refreshes are rare and short, so a single thread is shared by the caches of all clouds.
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, REFRESH_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CloudUserLoader<T> loader;
+    private long lifetime;
+    private long refreshAhead;
+    private Map<Map<String, String>, CachedCloudUser<T>> cloudUsers;
+    private Map<Map<String, String>, CompletableFuture<T>> ongoingRefreshes;
+
+    /**
+     * @param loader       the function used to obtain a new cloud user from the identity provider
+     * @param lifetime     for how long (in milliseconds) a cloud user is valid; a non positive value disables caching
+     * @param refreshAhead how long (in milliseconds) before the expiration a background refresh is triggered
+     */
+    public CloudUserCache(CloudUserLoader<T> loader, long lifetime, long refreshAhead) {
+        this.loader = loader;
+        this.lifetime = lifetime;
+        this.refreshAhead = Math.min(refreshAhead, lifetime);
+        this.cloudUsers = new ConcurrentHashMap<>();
+        this.ongoingRefreshes = new ConcurrentHashMap<>();
+    }
+
+    public T get(Map<String, String> credentials) throws FogbowException {
+        if (this.lifetime <= 0) {
+            return this.loader.load(credentials);
+        }
+
+        CachedCloudUser<T> cachedCloudUser = this.cloudUsers.get(credentials);
+        long now = getCurrentTime();
+        if (cachedCloudUser != null && now < cachedCloudUser.getExpirationTime()) {
+            if (now >= cachedCloudUser.getExpirationTime() - this.refreshAhead) {
+                refreshInBackground(credentials);
+            }
+            return cachedCloudUser.getCloudUser();
+        }
+        return refresh(credentials);
+    }
+
+    /**
+     * Discards the cloud user obtained with the given credentials, usually because the cloud has rejected its
+     * token. The next call to {@link #get(Map)} will request a new one from the identity provider.
+     */
+    public void invalidate(Map<String, String> credentials) {
+        this.cloudUsers.remove(credentials);
+    }
+
+    @VisibleForTesting
+    T refresh(Map<String, String> credentials) throws FogbowException {
+        CompletableFuture<T> refresh = new CompletableFuture<>();
+        CompletableFuture<T> ongoingRefresh = this.ongoingRefreshes.putIfAbsent(credentials, refresh);
+        if (ongoingRefresh != null) {
+            // Some other thread is already talking to the identity provider; just wait for its answer.
+            return waitFor(ongoingRefresh);
+        }
+
+        try {
+            T cloudUser = this.loader.load(credentials);
+            this.cloudUsers.put(credentials, new CachedCloudUser<>(cloudUser, getCurrentTime() + this.lifetime));
+            refresh.complete(cloudUser);
+            return cloudUser;
+        } catch (FogbowException | RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.ongoingRefreshes.remove(credentials, refresh);
+        }
+    }
+
+    @VisibleForTesting
+    void refreshInBackground(Map<String, String> credentials) {
+        if (this.ongoingRefreshes.containsKey(credentials)) {
+            return;
+        }
+        REFRESH_EXECUTOR.execute(() -> {
+            try {
+                refresh(credentials);
+            } catch (Exception e) {
+                // The current cloud user remains valid until it expires, so the refresh will be retried
+                // by the next call to get().
+                LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REFRESH_CLOUD_USER_S, e.getMessage()), e);
+            }
+        });
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private T waitFor(CompletableFuture<T> refresh) throws FogbowException {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FogbowException) {
+                throw (FogbowException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new InternalServerErrorException(cause.getMessage());
+        }
+    }
+
+    public interface CloudUserLoader<T extends CloudUser> {
+        T load(Map<String, String> credentials) throws FogbowException;
+    }
+
+    private static class CachedCloudUser<T extends CloudUser> {
+        private T cloudUser;
+        private long expirationTime;
+
+        public CachedCloudUser(T cloudUser, long expirationTime) {
+            this.cloudUser = cloudUser;
+            this.expirationTime = expirationTime;
+        }
+
+        public T getCloudUser() {
+            return this.cloudUser;
+        }
+
+        public long getExpirationTime() {
+            return this.expirationTime;
+        }
+    }
+}
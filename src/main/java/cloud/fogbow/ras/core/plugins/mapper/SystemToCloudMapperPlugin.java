@@ -6,5 +6,14 @@ import cloud.fogbow.common.models.SystemUser;
 
 public interface SystemToCloudMapperPlugin<T extends CloudUser, S extends SystemUser> {
     public T map(S systemUser) throws FogbowException;
+
+    /**
+     * Discards any state kept for the cloud user mapped from systemUser (e.g. a cached cloud token that has
+     * been rejected by the cloud), so that the next call to map() obtains it again.
+     *
+     * @param systemUser the attributes that identify the user
+     */
+    public default void invalidate(S systemUser) {
+    }
 }
 
@@ -5,8 +5,10 @@ import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.util.PropertiesUtil;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.plugins.mapper.CloudUserCache;
 import cloud.fogbow.ras.core.plugins.mapper.SystemToCloudMapperPlugin;
 import org.apache.log4j.Logger;
 
@@ -20,18 +22,31 @@ public abstract class GenericAllToOneSystemToCloudMapper<T extends CloudUser, S
     private static final String CLOUD_USER_CREDENTIALS_PREFIX = "cloud_user_credentials_";
     private String idpUrl;
     private Map<String, String> credentials;
+    private CloudUserCache<T> cloudUserCache;
 
     public GenericAllToOneSystemToCloudMapper(String mapperConfFilePath) throws FatalErrorException {
         Properties properties = PropertiesUtil.readProperties(mapperConfFilePath);
         this.idpUrl = properties.getProperty(ConfigurationPropertyKeys.CLOUD_IDENTITY_PROVIDER_URL_KEY);
         this.credentials = getCloudUserCredentials(properties);
+        long lifetime = Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.CLOUD_USER_LIFETIME_KEY,
+                ConfigurationPropertyDefaults.CLOUD_USER_LIFETIME));
+        long refreshAhead = Long.parseLong(properties.getProperty(ConfigurationPropertyKeys.CLOUD_USER_REFRESH_AHEAD_KEY,
+                ConfigurationPropertyDefaults.CLOUD_USER_REFRESH_AHEAD));
+        this.cloudUserCache = new CloudUserCache<>(this::getCloudUser, lifetime, refreshAhead);
     }
 
     public abstract T getCloudUser(Map<String, String> credentials) throws FogbowException;
 
     @Override
     public T map(S systemUser) throws FogbowException {
-        return getCloudUser(this.credentials);
+        // All system users are mapped to the same cloud user, thus the cloud token obtained for one of
+        // them can be reused by all the others until it expires.
+        return this.cloudUserCache.get(this.credentials);
+    }
+
+    @Override
+    public void invalidate(S systemUser) {
+        this.cloudUserCache.invalidate(this.credentials);
     }
 
     public String getIdpUrl() {
@@ -6,6 +6,7 @@ import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
@@ -19,15 +20,24 @@ public class AssignedForDeletionProcessor implements Runnable {
     private String localProviderId;
     private ChainedList<Order> assignedForDeletionOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private WakeUpSignal wakeUpSignal;
 
     public AssignedForDeletionProcessor(String localProviderId, String sleepTimeStr) {
+        this(localProviderId, sleepTimeStr, new OrderDispatcher(AssignedForDeletionProcessor.class.getSimpleName()));
+    }
+
+    public AssignedForDeletionProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.assignedForDeletionOrdersList = sharedOrderHolders.getAssignedForDeletionOrdersList();
+        this.wakeUpSignal = sharedOrderHolders.getWakeUpSignal(OrderState.ASSIGNED_FOR_DELETION);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
     }
 
     /**
@@ -52,14 +62,26 @@ public class AssignedForDeletionProcessor implements Runnable {
             Order order = this.assignedForDeletionOrdersList.getNext();
 
             if (order != null) {
-                processAssignedForDeletionOrder(order);
+                this.dispatcher.dispatch(order, this::processOrder);
             } else {
                 this.assignedForDeletionOrdersList.resetPointer();
-                Thread.sleep(this.sleepTime);
+                this.wakeUpSignal.await(this.sleepTime);
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
             throw e;
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        }
+    }
+
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processAssignedForDeletionOrder(order);
         } catch (FogbowException e) {
             LOGGER.error(e.getMessage(), e);
         } catch (Throwable e) {
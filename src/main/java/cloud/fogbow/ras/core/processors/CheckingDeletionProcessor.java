@@ -8,6 +8,7 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderController;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.Operation;
@@ -21,16 +22,25 @@ public class CheckingDeletionProcessor implements Runnable {
 
     private ChainedList<Order> checkingDeletionOrders;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private WakeUpSignal wakeUpSignal;
     private OrderController orderController;
     private String localProviderId;
 
     public CheckingDeletionProcessor(OrderController orderController, String localProviderId, String sleepTimeStr) {
+        this(orderController, localProviderId, sleepTimeStr, new OrderDispatcher(CheckingDeletionProcessor.class.getSimpleName()));
+    }
+
+    public CheckingDeletionProcessor(OrderController orderController, String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher) {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.checkingDeletionOrders = sharedOrdersHolder.getCheckingDeletionOrdersList();
+        this.wakeUpSignal = sharedOrdersHolder.getWakeUpSignal(OrderState.CHECKING_DELETION);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
         this.orderController = orderController;
         this.localProviderId = localProviderId;
     }
@@ -56,14 +66,26 @@ public class CheckingDeletionProcessor implements Runnable {
         try {
             Order order = this.checkingDeletionOrders.getNext();
             if (order != null) {
-                processCheckingDeletionOrder(order);
+                this.dispatcher.dispatch(order, this::processOrder);
             } else {
                 this.checkingDeletionOrders.resetPointer();
-                Thread.sleep(this.sleepTime);
+                this.wakeUpSignal.await(this.sleepTime);
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
             throw e;
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        }
+    }
+
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processCheckingDeletionOrder(order);
         } catch (InternalServerErrorException e) {
             LOGGER.error(e.getMessage(), e);
         } catch (Throwable e) {
@@ -8,27 +8,45 @@ import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
 
+import java.util.List;
+
 public class FulfilledProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(FulfilledProcessor.class);
 
     private String localProviderId;
     private ChainedList<Order> fulfilledOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private OrderCheckScheduler checkScheduler;
+    private InstancePrefetcher instancePrefetcher;
+    private WakeUpSignal wakeUpSignal;
 
     public FulfilledProcessor(String localProviderId, String sleepTimeStr) {
+        this(localProviderId, sleepTimeStr, new OrderDispatcher(FulfilledProcessor.class.getSimpleName()),
+                new OrderCheckScheduler(OrderState.FULFILLED), new InstancePrefetcher(localProviderId));
+    }
+
+    public FulfilledProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher,
+            OrderCheckScheduler checkScheduler, InstancePrefetcher instancePrefetcher) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.fulfilledOrdersList = sharedOrderHolders.getFulfilledOrdersList();
+        this.wakeUpSignal = sharedOrderHolders.getWakeUpSignal(OrderState.FULFILLED);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
+        this.checkScheduler = checkScheduler;
+        this.instancePrefetcher = instancePrefetcher;
     }
 
     /**
@@ -44,22 +62,53 @@ public class FulfilledProcessor implements Runnable {
                 Order order = this.fulfilledOrdersList.getNext();
 
                 if (order != null) {
-                    processFulfilledOrder(order);
+                    if (this.checkScheduler.isDue(order)) {
+                        dispatch(this.instancePrefetcher.add(order));
+                    }
                 } else {
+                    dispatch(this.instancePrefetcher.flush());
                     this.fulfilledOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    this.checkScheduler.endPass();
+                    this.wakeUpSignal.await(this.sleepTime);
                 }
             } catch (InterruptedException e) {
                 isActive = false;
                 LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
-            } catch (InternalServerErrorException e) {
-                LOGGER.error(e.getMessage(), e);
             } catch (Throwable e) {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
             }
         }
     }
 
+    /**
+     * Hands the orders to the dispatcher; the instances of a batch are fetched by the first of its orders
+     * to be processed.
+     */
+    private void dispatch(List<Order> orders) throws InterruptedException {
+        for (Order order : orders) {
+            if (!this.dispatcher.dispatch(order, this::processOrder)) {
+                // The order was skipped, so it will be collected again in the next pass
+                this.instancePrefetcher.discard(order);
+            }
+        }
+    }
+
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processFulfilledOrder(order);
+        } catch (InternalServerErrorException e) {
+            LOGGER.error(e.getMessage(), e);
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        } finally {
+            this.checkScheduler.scheduleNext(order);
+        }
+    }
+
     /**
      * Gets an instance for a fulfilled order. If that instance is not reachable the order state is
      * set to UNABLE_TO_CHECK_STATUS. Otherwise, if the instance has failed, then the order state is
@@ -70,6 +119,9 @@ public class FulfilledProcessor implements Runnable {
     protected void processFulfilledOrder(Order order) throws FogbowException {
         OrderInstance instance = null;
 
+        // Taken before anything else, so that it does not linger if the order is not checked
+        OrderInstance prefetchedInstance = this.instancePrefetcher.take(order);
+
         // The order object synchronization is needed to prevent a race
         // condition on order access. For example: a user can delete a fulfilled
         // order while this method is trying to check the status of an instance
@@ -96,7 +148,10 @@ public class FulfilledProcessor implements Runnable {
                 // We don't audit requests we make
                 localCloudConnector.switchOffAuditing();
 
-                instance = localCloudConnector.getInstance(order);
+                instance = prefetchedInstance;
+                if (instance == null) {
+                    instance = localCloudConnector.getInstance(order);
+                }
                 if (instance.hasFailed()) {
                     LOGGER.info(String.format(Messages.Log.INSTANCE_S_HAS_FAILED, order.getId()));
                     OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
@@ -0,0 +1,180 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects, cloud by cloud, the orders that a processor is about to check, so that their instances are fetched
+ * in batches (see {@link LocalCloudConnector#getInstances(List)}), instead of one request per order. The batch
+ * is fetched by the first of its orders to be checked, thus in the dispatcher's worker that checks it rather
+ * than in the thread that walks the list, and the batches of different clouds are fetched independently. Each
+ * order takes its prefetched instance when it is checked; if there is none, it falls back to asking the cloud
+ * for that single instance.
+ */
+public class InstancePrefetcher {
+    private static final Logger LOGGER = Logger.getLogger(InstancePrefetcher.class);
+
+    public static final int NO_BATCHING = 1;
+
+    private String localProviderId;
+    private int batchSize;
+    // The batch being collected for each cloud; only touched by the thread that walks the list
+    private Map<String, Batch> openBatches;
+    // The batch of each order handed to the dispatcher, until the order takes its instance
+    private Map<String, Batch> batchesByOrderId;
+
+    /**
+     * @param localProviderId the id of the local provider
+     * @param batchSize       how many orders of a cloud are collected before they are handed to the dispatcher;
+     *                        with {@link #NO_BATCHING} nothing is prefetched
+     */
+    public InstancePrefetcher(String localProviderId, int batchSize) {
+        this.localProviderId = localProviderId;
+        this.batchSize = Math.max(batchSize, NO_BATCHING);
+        this.openBatches = new HashMap<>();
+        this.batchesByOrderId = new ConcurrentHashMap<>();
+    }
+
+    public InstancePrefetcher(String localProviderId) {
+        this(localProviderId, NO_BATCHING);
+    }
+
+    /**
+     * Adds the order to the batch of its cloud.
+     *
+     * @return the orders that must now be handed to the dispatcher, that is, those of the batch if it is full
+     */
+    public List<Order> add(Order order) {
+        if (this.batchSize <= NO_BATCHING || !order.isProviderLocal(this.localProviderId)) {
+            return Collections.singletonList(order);
+        }
+
+        String cloudName = order.getCloudName();
+        Batch batch = this.openBatches.computeIfAbsent(cloudName, name -> new Batch(name));
+        batch.add(order);
+        if (batch.size() < this.batchSize) {
+            return Collections.emptyList();
+        }
+        this.openBatches.remove(cloudName);
+        return close(batch);
+    }
+
+    /**
+     * Closes the batches collected so far, at the end of a pass over the list.
+     *
+     * @return the orders that must now be handed to the dispatcher
+     */
+    public List<Order> flush() {
+        List<Order> orders = new ArrayList<>();
+        for (Batch batch : this.openBatches.values()) {
+            orders.addAll(close(batch));
+        }
+        this.openBatches.clear();
+        return orders;
+    }
+
+    /**
+     * Drops the order from its batch, since the dispatcher did not take it.
+     */
+    public void discard(Order order) {
+        Batch batch = this.batchesByOrderId.remove(order.getId());
+        if (batch != null) {
+            batch.discard(order);
+        }
+    }
+
+    /**
+     * Fetches the instances of the order's batch, if that has not been done yet.
+     *
+     * @return the prefetched instance of the order, or null if there is none; an instance can only be taken once
+     */
+    public OrderInstance take(Order order) {
+        Batch batch = this.batchesByOrderId.remove(order.getId());
+        return batch == null ? null : batch.take(order);
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    private List<Order> close(Batch batch) {
+        List<Order> orders = new ArrayList<>();
+        for (Order order : batch.getOrders()) {
+            // An order still waiting for the instance of an earlier batch is in flight, so it would be skipped
+            if (this.batchesByOrderId.putIfAbsent(order.getId(), batch) == null) {
+                orders.add(order);
+            } else {
+                batch.discard(order);
+            }
+        }
+        return orders;
+    }
+
+    private class Batch {
+        private String cloudName;
+        private List<Order> orders;
+        // Null until the batch is fetched
+        private Map<String, OrderInstance> instances;
+
+        private Batch(String cloudName) {
+            this.cloudName = cloudName;
+            this.orders = new ArrayList<>();
+        }
+
+        private void add(Order order) {
+            this.orders.add(order);
+        }
+
+        private int size() {
+            return this.orders.size();
+        }
+
+        private synchronized List<Order> getOrders() {
+            return new ArrayList<>(this.orders);
+        }
+
+        private synchronized void discard(Order order) {
+            if (this.instances == null) {
+                this.orders.remove(order);
+            } else {
+                this.instances.remove(order.getId());
+            }
+        }
+
+        private synchronized OrderInstance take(Order order) {
+            if (this.instances == null) {
+                fetch();
+            }
+            return this.instances.remove(order.getId());
+        }
+
+        private void fetch() {
+            this.instances = new HashMap<>();
+            // A single order is asked for the usual way
+            if (this.orders.size() > NO_BATCHING) {
+                try {
+                    LocalCloudConnector localCloudConnector = (LocalCloudConnector) CloudConnectorFactory
+                            .getInstance().getCloudConnector(localProviderId, this.cloudName);
+                    // We don't audit requests we make
+                    localCloudConnector.switchOffAuditing();
+                    this.instances.putAll(localCloudConnector.getInstances(this.orders));
+                } catch (Throwable e) {
+                    // The instances will be requested one at a time
+                    LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e));
+                }
+            }
+            this.orders = null;
+        }
+    }
+}
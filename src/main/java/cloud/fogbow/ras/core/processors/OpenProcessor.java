@@ -6,6 +6,7 @@ import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.models.orders.Order;
@@ -18,15 +19,24 @@ public class OpenProcessor implements Runnable {
     private String localProviderId;
     private ChainedList<Order> openOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private WakeUpSignal wakeUpSignal;
 
     public OpenProcessor(String localProviderId, String sleepTimeStr) {
+        this(localProviderId, sleepTimeStr, new OrderDispatcher(OpenProcessor.class.getSimpleName()));
+    }
+
+    public OpenProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        this.wakeUpSignal = sharedOrderHolders.getWakeUpSignal(OrderState.OPEN);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
     }
 
     /**
@@ -40,22 +50,34 @@ public class OpenProcessor implements Runnable {
             try {
                 Order order = this.openOrdersList.getNext();
                 if (order != null) {
-                    processOpenOrder(order);
+                    this.dispatcher.dispatch(order, this::processOrder);
                 } else {
                     this.openOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    this.wakeUpSignal.await(this.sleepTime);
                 }
             } catch (InterruptedException e) {
                 isActive = false;
                 LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
-            } catch (InternalServerErrorException e) {
-                LOGGER.error(e.getMessage(), e);
             } catch (Throwable e) {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
             }
         }
     }
 
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processOpenOrder(order);
+        } catch (InternalServerErrorException e) {
+            LOGGER.error(e.getMessage(), e);
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        }
+    }
+
     /**
      * Get an instance for an order in the OPEN state. If the method fails to get the instance, then the order is
      * set to FAILED_ON_REQUEST state, else, it is set to the SPAWNING state if the order is local, or the PENDING
@@ -0,0 +1,49 @@
+package cloud.fogbow.ras.core.processors;
+
+/**
+ * Tells how long a processor may wait before checking again the instance of an order. The interval starts at
+ * the minimum and is multiplied by the backoff factor every time the check finds the order in the same state,
+ * up to the maximum.
+ */
+public class OrderCheckPolicy {
+    /**
+     * Checks the orders on every pass of the processor.
+     */
+    public static final OrderCheckPolicy ALWAYS = new OrderCheckPolicy(0, 0, 1);
+
+    private long minInterval;
+    private long maxInterval;
+    private double backoffFactor;
+
+    /**
+     * @param minInterval   the interval (in milliseconds) after the first check
+     * @param maxInterval   the longest interval (in milliseconds) between two checks
+     * @param backoffFactor how much the interval grows after each check that finds the order unchanged
+     */
+    public OrderCheckPolicy(long minInterval, long maxInterval, double backoffFactor) {
+        this.minInterval = Math.max(minInterval, 0);
+        this.maxInterval = Math.max(maxInterval, this.minInterval);
+        this.backoffFactor = Math.max(backoffFactor, 1);
+    }
+
+    /**
+     * @param stableChecks how many checks in a row found the order in the same state
+     * @return the interval (in milliseconds) until the next check
+     */
+    public long getInterval(int stableChecks) {
+        double interval = this.minInterval * Math.pow(this.backoffFactor, stableChecks);
+        return (long) Math.min(interval, this.maxInterval);
+    }
+
+    public long getMinInterval() {
+        return this.minInterval;
+    }
+
+    public long getMaxInterval() {
+        return this.maxInterval;
+    }
+
+    public double getBackoffFactor() {
+        return this.backoffFactor;
+    }
+}
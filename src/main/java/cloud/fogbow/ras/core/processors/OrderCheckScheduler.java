@@ -0,0 +1,116 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the time of the next check of each order of a processor list, so that the processor only reaches the
+ * cloud for the orders whose check is due. Orders that keep being found in the same state are checked less and
+ * less often, according to the {@link OrderCheckPolicy} of their resource type.
+ * <p>
+ * The processor tells the scheduler when it finishes a pass over its list, and the schedules of the orders not
+ * visited in that pass (i.e. the orders that have left the list) are discarded.
+ */
+public class OrderCheckScheduler {
+    private OrderState orderState;
+    private OrderCheckPolicy defaultPolicy;
+    private Map<ResourceType, OrderCheckPolicy> policies;
+    private Map<String, CheckSchedule> schedules;
+    private Set<String> visitedOrders;
+
+    /**
+     * @param orderState    the state of the orders in the processor list
+     * @param defaultPolicy the policy of the resource types without a policy of their own
+     * @param policies      the policy of each resource type
+     */
+    public OrderCheckScheduler(OrderState orderState, OrderCheckPolicy defaultPolicy,
+                               Map<ResourceType, OrderCheckPolicy> policies) {
+        this.orderState = orderState;
+        this.defaultPolicy = defaultPolicy;
+        this.policies = policies;
+        this.schedules = new ConcurrentHashMap<>();
+        this.visitedOrders = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Builds a scheduler that lets the processor check every order on every pass.
+     */
+    public OrderCheckScheduler(OrderState orderState) {
+        this(orderState, OrderCheckPolicy.ALWAYS, Collections.emptyMap());
+    }
+
+    /**
+     * @return true if the order must be checked now; orders never checked before are always due
+     */
+    public boolean isDue(Order order) {
+        this.visitedOrders.add(order.getId());
+        CheckSchedule schedule = this.schedules.get(order.getId());
+        return schedule == null || getCurrentTime() >= schedule.getNextCheckTime();
+    }
+
+    /**
+     * Schedules the next check of an order that has just been checked. If the order is no longer in the state
+     * of the processor list, its schedule is discarded.
+     */
+    public void scheduleNext(Order order) {
+        if (order.getOrderState() != this.orderState) {
+            this.schedules.remove(order.getId());
+            return;
+        }
+        OrderCheckPolicy policy = getPolicy(order.getType());
+        this.schedules.compute(order.getId(), (orderId, schedule) -> {
+            int stableChecks = schedule == null ? 0 : schedule.getStableChecks() + 1;
+            return new CheckSchedule(stableChecks, getCurrentTime() + policy.getInterval(stableChecks));
+        });
+    }
+
+    /**
+     * Must be called when the processor reaches the end of its list.
+     */
+    public void endPass() {
+        this.schedules.keySet().retainAll(this.visitedOrders);
+        this.visitedOrders.clear();
+    }
+
+    /**
+     * @return how many orders have a next check scheduled
+     */
+    public int getScheduledOrders() {
+        return this.schedules.size();
+    }
+
+    public OrderCheckPolicy getPolicy(ResourceType resourceType) {
+        OrderCheckPolicy policy = resourceType == null ? null : this.policies.get(resourceType);
+        return policy == null ? this.defaultPolicy : policy;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private static class CheckSchedule {
+        private int stableChecks;
+        private long nextCheckTime;
+
+        public CheckSchedule(int stableChecks, long nextCheckTime) {
+            this.stableChecks = stableChecks;
+            this.nextCheckTime = nextCheckTime;
+        }
+
+        public int getStableChecks() {
+            return this.stableChecks;
+        }
+
+        public long getNextCheckTime() {
+            return this.nextCheckTime;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Hands the orders visited by a processor to a bounded pool of workers, so that a slow cloud does not hold
+ * the processing of the orders of all the other clouds. Each order is processed by at most one worker at a
+ * time, and the number of orders of a given cloud being processed concurrently may be limited as well; the
+ * orders of a cloud that has reached its limit wait in a queue of their own, and are handed to the workers as
+ * the orders of that cloud already being processed finish, so that neither the processor nor the orders of the
+ * other clouds wait for them. When all the workers are busy and the queue is full,
+ * {@link #dispatch(Order, Consumer)} blocks the processor.
+ * <p>
+ * With a single worker the orders are processed by the thread that dispatches them, which is exactly the
+ * behaviour of the processors before the dispatcher was introduced.
+ */
+public class OrderDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(OrderDispatcher.class);
+
+    public static final int SERIAL = 1;
+    public static final int UNLIMITED = 0;
+
+    @VisibleForTesting
+    static final int QUEUED_ORDERS_PER_WORKER = 4;
+
+    private String name;
+    private int workers;
+    private ToIntFunction<String> maxOrdersPerCloud;
+    private ExecutorService executor;
+    private Semaphore slots;
+    private Set<String> ordersInFlight;
+    private Map<String, CloudLane> cloudLanes;
+    private AtomicInteger queueDepth;
+    private AtomicLong processedOrders;
+    private AtomicLong skippedOrders;
+    private AtomicLong totalLatency;
+    private AtomicLong maxLatency;
+
+    /**
+     * @param name              the name of the processor, used to name the worker threads
+     * @param workers           the number of orders processed concurrently; {@link #SERIAL} keeps the
+     *                          processing in the dispatching thread
+     * @param maxOrdersPerCloud the number of orders of the given cloud processed concurrently; {@link #UNLIMITED}
+     *                          (or any non positive value) means no limit other than the number of workers
+     */
+    public OrderDispatcher(String name, int workers, ToIntFunction<String> maxOrdersPerCloud) {
+        this.name = name;
+        this.workers = Math.max(workers, SERIAL);
+        this.maxOrdersPerCloud = maxOrdersPerCloud;
+        this.ordersInFlight = ConcurrentHashMap.newKeySet();
+        this.cloudLanes = new ConcurrentHashMap<>();
+        this.queueDepth = new AtomicInteger();
+        this.processedOrders = new AtomicLong();
+        this.skippedOrders = new AtomicLong();
+        this.totalLatency = new AtomicLong();
+        this.maxLatency = new AtomicLong();
+        if (this.workers > SERIAL) {
+            this.slots = new Semaphore(this.workers * (QUEUED_ORDERS_PER_WORKER + 1));
+            this.executor = createExecutor();
+        }
+    }
+
+    public OrderDispatcher(String name, int workers, int maxOrdersPerCloud) {
+        this(name, workers, cloudName -> maxOrdersPerCloud);
+    }
+
+    public OrderDispatcher(String name) {
+        this(name, SERIAL, UNLIMITED);
+    }
+
+    /**
+     * Processes the order, in this thread if the dispatcher is serial, or in one of the workers otherwise.
+     * The order is skipped (and will be visited again in the next pass of the processor) when it is still
+     * being processed since the last pass. When its cloud has already reached its concurrency limit, the order
+     * waits for one of the orders of that cloud to finish.
+     *
+     * @param order     the order to be processed
+     * @param processor the processing to be done; it must handle its own errors
+     * @return true if the order has been processed or queued, false if it has been skipped
+     * @throws InterruptedException if interrupted while waiting for room in the queue
+     */
+    public boolean dispatch(Order order, Consumer<Order> processor) throws InterruptedException {
+        if (this.executor == null) {
+            process(order, processor);
+            return true;
+        }
+
+        if (!this.ordersInFlight.add(order.getId())) {
+            this.skippedOrders.incrementAndGet();
+            return false;
+        }
+        try {
+            this.slots.acquire();
+        } catch (InterruptedException e) {
+            this.ordersInFlight.remove(order.getId());
+            throw e;
+        }
+
+        CloudLane cloudLane = getCloudLane(order.getCloudName());
+        Runnable task = () -> {
+            this.queueDepth.decrementAndGet();
+            try {
+                process(order, processor);
+            } finally {
+                finish(order, cloudLane);
+            }
+        };
+        this.queueDepth.incrementAndGet();
+        if (cloudLane != null && !cloudLane.acquireOrWait(task)) {
+            // Waiting orders hold no slot; they take the one of the order of their cloud that hands them over
+            this.slots.release();
+            return true;
+        }
+        try {
+            this.executor.execute(task);
+        } catch (RuntimeException e) {
+            this.queueDepth.decrementAndGet();
+            finish(order, cloudLane);
+            throw e;
+        }
+        return true;
+    }
+
+    public void shutdown() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    public int getWorkers() {
+        return this.workers;
+    }
+
+    /**
+     * @return the number of orders waiting for a free worker or for their cloud to be below its limit
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.get();
+    }
+
+    /**
+     * @return the number of orders queued or being processed
+     */
+    public int getOrdersInFlight() {
+        return this.ordersInFlight.size();
+    }
+
+    public long getProcessedOrders() {
+        return this.processedOrders.get();
+    }
+
+    public long getSkippedOrders() {
+        return this.skippedOrders.get();
+    }
+
+    /**
+     * @return the average time (in milliseconds) spent processing an order, not counting the time it waited in
+     * the queue
+     */
+    public long getAverageLatency() {
+        long processedOrders = this.processedOrders.get();
+        return processedOrders == 0 ? 0 : this.totalLatency.get() / processedOrders;
+    }
+
+    /**
+     * @return the longest time (in milliseconds) spent processing a single order
+     */
+    public long getMaxLatency() {
+        return this.maxLatency.get();
+    }
+
+    @VisibleForTesting
+    ExecutorService createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(this.workers, this.workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, this.name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private void process(Order order, Consumer<Order> processor) {
+        long startTime = getCurrentTime();
+        try {
+            processor.accept(order);
+        } catch (Throwable e) {
+            // The processors handle their own errors; this only keeps a worker from dying silently
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        } finally {
+            long latency = getCurrentTime() - startTime;
+            this.processedOrders.incrementAndGet();
+            this.totalLatency.addAndGet(latency);
+            this.maxLatency.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    private CloudLane getCloudLane(String cloudName) {
+        if (cloudName == null) {
+            return null;
+        }
+        CloudLane cloudLane = this.cloudLanes.computeIfAbsent(cloudName,
+                key -> new CloudLane(this.maxOrdersPerCloud.applyAsInt(key)));
+        return cloudLane.isLimited() ? cloudLane : null;
+    }
+
+    /**
+     * Releases the order and its slot, unless an order of the same cloud is waiting, in which case the slot and
+     * the permit of the cloud are handed over to it.
+     */
+    private void finish(Order order, CloudLane cloudLane) {
+        this.ordersInFlight.remove(order.getId());
+        Runnable next = cloudLane == null ? null : cloudLane.releaseOrNext();
+        if (next == null) {
+            this.slots.release();
+            return;
+        }
+        try {
+            this.executor.execute(next);
+        } catch (RuntimeException e) {
+            // The dispatcher has been shut down, and the orders still waiting will not be processed
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    private static class CloudLane {
+        private int maxOrders;
+        private int availablePermits;
+        private Queue<Runnable> waitingOrders;
+
+        private CloudLane(int maxOrders) {
+            this.maxOrders = maxOrders;
+            this.availablePermits = maxOrders;
+            this.waitingOrders = new ArrayDeque<>();
+        }
+
+        private boolean isLimited() {
+            return this.maxOrders > UNLIMITED;
+        }
+
+        private synchronized boolean acquireOrWait(Runnable task) {
+            if (this.availablePermits > 0) {
+                this.availablePermits--;
+                return true;
+            }
+            this.waitingOrders.add(task);
+            return false;
+        }
+
+        private synchronized Runnable releaseOrNext() {
+            Runnable next = this.waitingOrders.poll();
+            if (next == null) {
+                this.availablePermits++;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteNotifyOrderStatesRequest;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the state changes of the orders requested by remote members to their requesters, so that these do not
+ * have to wait for the next synchronization of their remote orders to learn about them. The changes of the same
+ * order are coalesced, and the state sent is the one the order has when the notification is sent, thus a requester
+ * never receives a state older than one it has already received. Notifications are sent to each requester in a
+ * request per batchSize orders, and retried after the retry interval until the requester acknowledges them; as a
+ * requester simply copies the state received, receiving it more than once is harmless. After MAX_NOTIFICATION_ATTEMPTS
+ * failed attempts in a row, the notifications pending for the requester are dropped, and a requester that answers
+ * that it does not take notifications is not notified for a while. Either way, and for the notifications pending when
+ * the RAS stops, the requesters learn about those changes from their periodic synchronization.
+ */
+public class RemoteOrderStateNotifier implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(RemoteOrderStateNotifier.class);
+
+    @VisibleForTesting
+    static final int MAX_NOTIFICATION_ATTEMPTS = 5;
+    // How long a requester that does not take notifications is left alone before being tried again
+    @VisibleForTesting
+    static final long NOT_SUPPORTED_RETRY_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private String localProviderId;
+    private long retryInterval;
+    private int batchSize;
+    private LinkedHashMap<String, Order> pendingOrders;
+    private Map<String, Long> retryTimes;
+    private Map<String, Integer> failedAttempts;
+    private Map<String, Long> notSupportedUntil;
+
+    /**
+     * @param retryInterval how long, in milliseconds, to wait before notifying again a requester that could
+     *                      not be notified
+     * @param batchSize     how many orders are notified in a single request
+     */
+    public RemoteOrderStateNotifier(String localProviderId, long retryInterval, int batchSize) {
+        this.localProviderId = localProviderId;
+        this.retryInterval = retryInterval;
+        this.batchSize = Math.max(batchSize, 1);
+        this.pendingOrders = new LinkedHashMap<>();
+        this.retryTimes = new HashMap<>();
+        this.failedAttempts = new HashMap<>();
+        this.notSupportedUntil = new HashMap<>();
+    }
+
+    /**
+     * Queues the notification of the state change of the order, if it has been requested by a remote member
+     * that takes notifications.
+     */
+    public synchronized void enqueue(Order order) {
+        if (order.isRequesterRemote(this.localProviderId) && isSupportedBy(order.getRequester())) {
+            this.pendingOrders.put(order.getId(), order);
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean isActive = true;
+        while (isActive) {
+            try {
+                awaitNotifications();
+                notifyRequesters();
+            } catch (InterruptedException e) {
+                isActive = false;
+                LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
+            } catch (Throwable e) {
+                LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+            }
+        }
+    }
+
+    /**
+     * Sends the pending notifications of the requesters not waiting for a retry, in requests of up to batchSize
+     * orders.
+     */
+    @VisibleForTesting
+    void notifyRequesters() {
+        for (Map.Entry<String, List<Order>> entry : takeDueOrders().entrySet()) {
+            String requester = entry.getKey();
+            List<Order> orders = entry.getValue();
+            for (int i = 0; i < orders.size(); i += this.batchSize) {
+                List<Order> batch = orders.subList(i, Math.min(i + this.batchSize, orders.size()));
+                try {
+                    if (!notifyOrders(requester, batch)) {
+                        LOGGER.info(String.format(Messages.Log.REQUESTING_PROVIDER_S_DOES_NOT_TAKE_NOTIFICATIONS,
+                                requester));
+                        markNotSupported(requester);
+                        break;
+                    }
+                    clearRetry(requester);
+                } catch (Exception e) {
+                    List<Order> unsentOrders = orders.subList(i, orders.size());
+                    LOGGER.warn(String.format(Messages.Log.UNABLE_TO_NOTIFY_ORDER_STATES_S_D, requester,
+                            unsentOrders.size()), e);
+                    requeue(requester, unsentOrders);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return false if the requester does not take notifications
+     */
+    @VisibleForTesting
+    boolean sendNotification(String requester, List<RemoteOrderUpdate> orderUpdates) throws Exception {
+        return new RemoteNotifyOrderStatesRequest(requester, orderUpdates).send();
+    }
+
+    public synchronized int getPendingOrders() {
+        return this.pendingOrders.size();
+    }
+
+    @VisibleForTesting
+    synchronized void awaitNotifications() throws InterruptedException {
+        long delay;
+        while ((delay = getDelayToNextNotification()) != 0) {
+            // A negative delay means there is nothing to be notified, thus waiting for a new state change
+            wait(Math.max(delay, 0));
+        }
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private synchronized Map<String, List<Order>> takeDueOrders() {
+        long currentTime = getCurrentTime();
+        Map<String, List<Order>> ordersByRequester = new LinkedHashMap<>();
+        Iterator<Order> iterator = this.pendingOrders.values().iterator();
+        while (iterator.hasNext()) {
+            Order order = iterator.next();
+            Long retryTime = this.retryTimes.get(order.getRequester());
+            if (retryTime == null || retryTime <= currentTime) {
+                iterator.remove();
+                ordersByRequester.computeIfAbsent(order.getRequester(), requester -> new ArrayList<>()).add(order);
+            }
+        }
+        return ordersByRequester;
+    }
+
+    /**
+     * @return false if the requester does not take notifications
+     */
+    private boolean notifyOrders(String requester, List<Order> orders) throws Exception {
+        List<RemoteOrderUpdate> orderUpdates = new ArrayList<>();
+        for (Order order : orders) {
+            synchronized (order) {
+                // Closed orders are signalled by the close notification (see OrderController.closeOrder)
+                if (!order.getOrderState().equals(OrderState.CLOSED)) {
+                    orderUpdates.add(RemoteOrderUpdate.fromOrder(order));
+                }
+            }
+        }
+        return orderUpdates.isEmpty() || sendNotification(requester, orderUpdates);
+    }
+
+    private synchronized void requeue(String requester, List<Order> orders) {
+        int attempts = this.failedAttempts.merge(requester, 1, Integer::sum);
+        if (attempts >= MAX_NOTIFICATION_ATTEMPTS) {
+            LOGGER.warn(String.format(Messages.Log.GIVING_UP_NOTIFYING_ORDER_STATES_S_D, requester, orders.size()));
+            clearRetry(requester);
+            return;
+        }
+        for (Order order : orders) {
+            // Orders changed again in the meantime are already queued
+            this.pendingOrders.putIfAbsent(order.getId(), order);
+        }
+        this.retryTimes.put(requester, getCurrentTime() + this.retryInterval);
+    }
+
+    private synchronized void clearRetry(String requester) {
+        this.retryTimes.remove(requester);
+        this.failedAttempts.remove(requester);
+    }
+
+    private synchronized void markNotSupported(String requester) {
+        clearRetry(requester);
+        this.notSupportedUntil.put(requester, getCurrentTime() + NOT_SUPPORTED_RETRY_INTERVAL);
+        this.pendingOrders.values().removeIf(order -> order.getRequester().equals(requester));
+    }
+
+    private boolean isSupportedBy(String requester) {
+        Long until = this.notSupportedUntil.get(requester);
+        if (until == null) {
+            return true;
+        }
+        if (until <= getCurrentTime()) {
+            this.notSupportedUntil.remove(requester);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return 0 if there are notifications to be sent now, the time until the next retry if all of them are
+     * waiting for one, or -1 if there is none
+     */
+    private long getDelayToNextNotification() {
+        if (this.pendingOrders.isEmpty()) {
+            return -1;
+        }
+        long currentTime = getCurrentTime();
+        long delay = Long.MAX_VALUE;
+        for (Order order : this.pendingOrders.values()) {
+            Long retryTime = this.retryTimes.get(order.getRequester());
+            if (retryTime == null || retryTime <= currentTime) {
+                return 0;
+            }
+            delay = Math.min(delay, retryTime - currentTime);
+        }
+        return delay;
+    }
+}
@@ -5,33 +5,104 @@ import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(RemoteOrdersStateSynchronizationProcessor.class);
 
+    private static final int NO_BATCHING = 1;
+    private static final String UNKNOWN_VERSION = "";
+
     private ChainedList<Order> remoteProviderOrders;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private WakeUpSignal wakeUpSignal;
     private String localProviderId;
+    /**
+     * The remote orders visited in the current pass are synchronized in batches of up to this many orders of
+     * the same provider, each batch in a single request to the provider. The requests are not waited for one
+     * at a time, so the batches of all providers are in flight at once; the pass ends once all of them are
+     * answered.
+     */
+    private int batchSize;
+    private Map<String, List<Order>> batchesByProvider;
+    private List<CompletableFuture<Void>> pendingBatches;
+    // The orders of the batches whose request failed, to be synchronized one at a time
+    private Queue<Order> ordersOfFailedBatches;
+    /**
+     * The version of the state of each remote order last received from its provider, which answers only for
+     * the orders whose state has a different version. It is updated as the answers arrive.
+     */
+    private Map<String, String> versionsByOrderId;
+    private Set<String> visitedOrderIds;
+    /**
+     * The orders of the providers known to push their state changes are synchronized once per reconciliation
+     * period, to catch the changes not pushed, instead of in every pass.
+     */
+    private long reconciliationPeriod;
+    private Map<String, Long> synchronizationTimes;
+    // Whether the orders of each provider are synchronized in the current pass
+    private Map<String, Boolean> dueProviders;
 
     public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr) {
+        this(localProviderId, sleepTimeStr, new OrderDispatcher(RemoteOrdersStateSynchronizationProcessor.class.getSimpleName()));
+    }
+
+    public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher) {
+        this(localProviderId, sleepTimeStr, dispatcher, NO_BATCHING);
+    }
+
+    public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher,
+                                                     int batchSize) {
+        this(localProviderId, sleepTimeStr, dispatcher, batchSize, 0);
+    }
+
+    public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher,
+                                                     int batchSize, long reconciliationPeriod) {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.remoteProviderOrders = sharedOrdersHolder.getRemoteProviderOrdersList();
+        this.wakeUpSignal = sharedOrdersHolder.getWakeUpSignal(OrderState.PENDING);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
         this.localProviderId = localProviderId;
+        this.batchSize = batchSize;
+        this.batchesByProvider = new LinkedHashMap<>();
+        this.pendingBatches = new ArrayList<>();
+        this.ordersOfFailedBatches = new ConcurrentLinkedQueue<>();
+        this.versionsByOrderId = new ConcurrentHashMap<>();
+        this.visitedOrderIds = new HashSet<>();
+        this.reconciliationPeriod = reconciliationPeriod;
+        this.synchronizationTimes = new HashMap<>();
+        this.dueProviders = new HashMap<>();
     }
 
     /**
-     * Iterates over the remoteProviderOrders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the remoteProviderOrders list and tries to process one order at a time, or to add it to
+     * the batch of its provider when batching is enabled. When the order is null, it indicates that the
+     * iteration ended, and the remaining batches are processed. A new iteration is started after some time.
      */
     @Override
     public void run() {
@@ -49,15 +120,186 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
     void synchronizeWithRemote() throws InterruptedException {
         try {
             Order order = this.remoteProviderOrders.getNext();
-            if (order != null) {
-                processRemoteProviderOrder(order);
-            } else {
+            if (order == null) {
+                processBatches();
+                endPass();
                 this.remoteProviderOrders.resetPointer();
-                Thread.sleep(this.sleepTime);
+                this.wakeUpSignal.await(this.sleepTime);
+            } else if (!isDue(order.getProvider())) {
+                // Its version is kept for when it is synchronized again
+                this.visitedOrderIds.add(order.getId());
+            } else if (this.batchSize > NO_BATCHING) {
+                addToBatch(order);
+            } else {
+                this.dispatcher.dispatch(order, this::processOrder);
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
             throw e;
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        }
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private boolean isDue(String provider) {
+        return this.dueProviders.computeIfAbsent(provider, key ->
+                !SharedOrderHolders.getInstance().isPushingProvider(key)
+                        || getCurrentTime() - this.synchronizationTimes.getOrDefault(key, 0L) >= this.reconciliationPeriod);
+    }
+
+    private void endPass() {
+        long currentTime = getCurrentTime();
+        for (Map.Entry<String, Boolean> entry : this.dueProviders.entrySet()) {
+            if (entry.getValue()) {
+                this.synchronizationTimes.put(entry.getKey(), currentTime);
+            }
+        }
+        this.synchronizationTimes.keySet().retainAll(this.dueProviders.keySet());
+        this.dueProviders.clear();
+    }
+
+    @VisibleForTesting
+    void addToBatch(Order order) throws InterruptedException {
+        String provider = order.getProvider();
+        List<Order> batch = this.batchesByProvider.computeIfAbsent(provider, key -> new ArrayList<>());
+        batch.add(order);
+        if (batch.size() >= this.batchSize) {
+            this.batchesByProvider.remove(provider);
+            processBatch(provider, batch);
+        }
+    }
+
+    /**
+     * Processes the batches left at the end of a pass and waits for the answers of all batches of the pass,
+     * then synchronizes one at a time the orders of the batches that failed. It also forgets the versions of
+     * the orders not visited in the pass, which are no longer remote orders needing synchronization.
+     */
+    @VisibleForTesting
+    void processBatches() throws InterruptedException {
+        try {
+            for (Map.Entry<String, List<Order>> entry : this.batchesByProvider.entrySet()) {
+                processBatch(entry.getKey(), entry.getValue());
+            }
+            awaitPendingBatches();
+        } finally {
+            this.batchesByProvider.clear();
+            this.versionsByOrderId.keySet().retainAll(this.visitedOrderIds);
+            this.visitedOrderIds.clear();
+        }
+    }
+
+    @VisibleForTesting
+    void awaitPendingBatches() throws InterruptedException {
+        try {
+            // The requests time out, thus every batch is eventually answered
+            for (CompletableFuture<Void> pendingBatch : this.pendingBatches) {
+                pendingBatch.join();
+            }
+        } finally {
+            this.pendingBatches.clear();
+        }
+        Order order;
+        while ((order = this.ordersOfFailedBatches.poll()) != null) {
+            this.dispatcher.dispatch(order, this::processOrder);
+        }
+    }
+
+    /**
+     * Sends the orders of a provider in a single request, without waiting for the answer, which is applied as
+     * it arrives, updating only the orders whose state changed. When the request fails, for instance because
+     * the provider does not support it, each order is synchronized with a request of its own once the pass
+     * ends.
+     */
+    @VisibleForTesting
+    void processBatch(String provider, List<Order> batch) throws InterruptedException {
+        Map<String, Order> ordersById = new HashMap<>();
+        Map<String, String> versionsByOrderId = new HashMap<>();
+        for (Order order : batch) {
+            if (order.isProviderLocal(this.localProviderId)) {
+                // This should never happen.
+                LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
+            } else if (needsSynchronization(order)) {
+                ordersById.put(order.getId(), order);
+                versionsByOrderId.put(order.getId(), this.versionsByOrderId.getOrDefault(order.getId(), UNKNOWN_VERSION));
+                this.visitedOrderIds.add(order.getId());
+            }
+        }
+        if (ordersById.isEmpty()) {
+            return;
+        }
+
+        // Here we know that the CloudConnector is remote, but the use of CloudConnectFactory facilitates testing.
+        RemoteCloudConnector remoteCloudConnector = (RemoteCloudConnector)
+                CloudConnectorFactory.getInstance().getCloudConnector(provider, batch.get(0).getCloudName());
+        CompletableFuture<Void> pendingBatch = remoteCloudConnector.getRemoteOrderUpdatesAsync(versionsByOrderId)
+                .handle((orderUpdates, exception) -> {
+                    if (exception == null) {
+                        applyOrderUpdates(ordersById, orderUpdates);
+                    } else {
+                        LOGGER.warn(String.format(Messages.Log.UNABLE_TO_SYNCHRONIZE_ORDERS_IN_BATCH_S, provider),
+                                exception);
+                        this.ordersOfFailedBatches.addAll(ordersById.values());
+                    }
+                    return null;
+                });
+        this.pendingBatches.add(pendingBatch);
+    }
+
+    /**
+     * Applies the answer of a batch in the thread that receives it, so the errors are logged here instead of
+     * in the loop that walks the list.
+     */
+    private void applyOrderUpdates(Map<String, Order> ordersById, List<RemoteOrderUpdate> orderUpdates) {
+        for (RemoteOrderUpdate orderUpdate : orderUpdates) {
+            Order order = ordersById.get(orderUpdate.getOrderId());
+            if (order == null) {
+                continue;
+            }
+            if (orderUpdate.hasFailed()) {
+                LOGGER.warn(String.format(Messages.Exception.GENERIC_EXCEPTION_S, orderUpdate.getErrorMessage()));
+                continue;
+            }
+            try {
+                updateFromRemote(order, orderUpdate);
+            } catch (InternalServerErrorException e) {
+                LOGGER.error(e.getMessage(), e);
+            } catch (Throwable e) {
+                LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void updateFromRemote(Order order, RemoteOrderUpdate orderUpdate) throws InternalServerErrorException {
+        // The order may have changed state while the request was in flight, in which case it is not updated
+        if (orderUpdate.applyTo(order)) {
+            this.versionsByOrderId.put(order.getId(), orderUpdate.getVersion());
+        }
+    }
+
+    /**
+     * Orders in state ASSIGNED_FOR_DELETION and FAILED_ON_REQUEST need not be updated. This is because the state
+     * of a FAILED_ON_REQUEST order cannot be changed by events happening at the remote provider.
+     * ASSIGNED_FOR_DELETION orders will change state only when the remote provider signals the local requester
+     * to close the order.
+     */
+    private boolean needsSynchronization(Order order) {
+        return !order.getOrderState().equals(OrderState.FAILED_ON_REQUEST) &&
+                !order.getOrderState().equals(OrderState.ASSIGNED_FOR_DELETION);
+    }
+
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processRemoteProviderOrder(order);
         } catch (InternalServerErrorException e) {
             LOGGER.error(e.getMessage(), e);
         } catch (Throwable e) {
@@ -91,6 +333,7 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
                     Order remoteOrder = remoteCloudConnector.getRemoteOrder(order);
                     order.updateFromRemote(remoteOrder);
                     order.setOrderState(remoteOrder.getOrderState());
+                    SharedOrderHolders.getInstance().getActiveOrdersMap().reindex(order);
                 }
             } catch (FogbowException e) {
                 LOGGER.warn(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()));
@@ -8,29 +8,76 @@ import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
 
+import java.util.List;
+
 public class SpawningProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(SpawningProcessor.class);
 
     private ChainedList<Order> spawningOrderList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
     private Long sleepTime;
+    private OrderDispatcher dispatcher;
+    private OrderCheckScheduler checkScheduler;
+    private InstancePrefetcher instancePrefetcher;
+    private WakeUpSignal wakeUpSignal;
     private String localProviderId;
 
     public SpawningProcessor(String providerId, String sleepTimeStr) {
+        this(providerId, sleepTimeStr, new OrderDispatcher(SpawningProcessor.class.getSimpleName()),
+                new OrderCheckScheduler(OrderState.SPAWNING), new InstancePrefetcher(providerId));
+    }
+
+    public SpawningProcessor(String providerId, String sleepTimeStr, OrderDispatcher dispatcher,
+            OrderCheckScheduler checkScheduler, InstancePrefetcher instancePrefetcher) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.spawningOrderList = sharedOrderHolders.getSpawningOrdersList();
+        this.wakeUpSignal = sharedOrderHolders.getWakeUpSignal(OrderState.SPAWNING);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
+        this.checkScheduler = checkScheduler;
+        this.instancePrefetcher = instancePrefetcher;
         this.localProviderId = providerId;
     }
 
+    /**
+     * Hands the orders to the dispatcher; the instances of a batch are fetched by the first of its orders
+     * to be processed.
+     */
+    private void dispatch(List<Order> orders) throws InterruptedException {
+        for (Order order : orders) {
+            if (!this.dispatcher.dispatch(order, this::processOrder)) {
+                // The order was skipped, so it will be collected again in the next pass
+                this.instancePrefetcher.discard(order);
+            }
+        }
+    }
+
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processSpawningOrder(order);
+        } catch (InternalServerErrorException e) {
+            LOGGER.error(e.getMessage(), e);
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        } finally {
+            this.checkScheduler.scheduleNext(order);
+        }
+    }
+
     /**
      * Iterates over the spawning orders list and tries to process one order at a time. When the order
      * is null, it indicates that the iteration ended. A new iteration is started after some time.
@@ -43,16 +90,18 @@ public class SpawningProcessor implements Runnable {
             try {
                 order = this.spawningOrderList.getNext();
                 if (order != null) {
-                    processSpawningOrder(order);
+                    if (this.checkScheduler.isDue(order)) {
+                        dispatch(this.instancePrefetcher.add(order));
+                    }
                 } else {
+                    dispatch(this.instancePrefetcher.flush());
                     this.spawningOrderList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    this.checkScheduler.endPass();
+                    this.wakeUpSignal.await(this.sleepTime);
                 }
             } catch (InterruptedException e) {
                 isActive = false;
                 LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
-            } catch (InternalServerErrorException e) {
-                LOGGER.error(e.getMessage(), e);
             } catch (Throwable e) {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
             }
@@ -60,6 +109,9 @@ public class SpawningProcessor implements Runnable {
     }
 
     protected void processSpawningOrder(Order order) throws FogbowException {
+        // Taken before anything else, so that it does not linger if the order is not checked
+        OrderInstance prefetchedInstance = this.instancePrefetcher.take(order);
+
         // The order object synchronization is needed to prevent a race
         // condition on order access. For example: a user can delete an spawning
         // order while this method is trying to check the status of an instance
@@ -86,7 +138,10 @@ public class SpawningProcessor implements Runnable {
             localCloudConnector.switchOffAuditing();
 
             try {
-                OrderInstance instance = localCloudConnector.getInstance(order);
+                OrderInstance instance = prefetchedInstance;
+                if (instance == null) {
+                    instance = localCloudConnector.getInstance(order);
+                }
                 if (instance.hasFailed()) {
                     OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
                 } else if (instance.isReady()) {
@@ -6,6 +6,7 @@ import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.WakeUpSignal;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.models.orders.Order;
@@ -18,15 +19,24 @@ public class UnableToCheckStatusProcessor implements Runnable {
 
 	private ChainedList<Order> unableToCheckStatusOrdersList;
     /**
-     * Attribute that represents the thread sleep time when there are no orders to be processed.
+     * Attribute that represents the maximum time the thread waits for new orders when there are no orders
+     * to be processed.
      */
 	private Long sleepTime;
+	private OrderDispatcher dispatcher;
+	private WakeUpSignal wakeUpSignal;
 	private String localProviderId;
 
-	public UnableToCheckStatusProcessor(String localProviderId, String sleepTimeStr) {
+    public UnableToCheckStatusProcessor(String localProviderId, String sleepTimeStr) {
+        this(localProviderId, sleepTimeStr, new OrderDispatcher(UnableToCheckStatusProcessor.class.getSimpleName()));
+    }
+
+    public UnableToCheckStatusProcessor(String localProviderId, String sleepTimeStr, OrderDispatcher dispatcher) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.unableToCheckStatusOrdersList = sharedOrderHolders.getUnableToCheckStatusOrdersList();
+        this.wakeUpSignal = sharedOrderHolders.getWakeUpSignal(OrderState.UNABLE_TO_CHECK_STATUS);
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.dispatcher = dispatcher;
         this.localProviderId = localProviderId;
     }
 
@@ -43,10 +53,10 @@ public class UnableToCheckStatusProcessor implements Runnable {
                 Order order = this.unableToCheckStatusOrdersList.getNext();
 
                 if (order != null) {
-                    processUnableToCheckStatusOrder(order);
+                    this.dispatcher.dispatch(order, this::processOrder);
                 } else {
                     this.unableToCheckStatusOrdersList.resetPointer();
-                    Thread.sleep(this.sleepTime);
+                    this.wakeUpSignal.await(this.sleepTime);
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -57,6 +67,18 @@ public class UnableToCheckStatusProcessor implements Runnable {
         }
 	}
 
+    /**
+     * Processes a single order on behalf of the dispatcher, which may do it in one of its workers, so
+     * the errors are logged here instead of in the loop that walks the list.
+     */
+    private void processOrder(Order order) {
+        try {
+            processUnableToCheckStatusOrder(order);
+        } catch (Throwable e) {
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+        }
+    }
+
 	/**
 	 * Gets an instance for an order whose instance status could not be checked. If that instance is to be reachable
 	 * again the order state is set to the current status of the instance.
@@ -0,0 +1,115 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class ActiveOrdersMapTest {
+
+    private static final String OTHER_USER_ID = "other-user-id";
+
+    private TestUtils testUtils;
+    private ActiveOrdersMap activeOrdersMap;
+    private SystemUser systemUser;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.activeOrdersMap = new ActiveOrdersMap();
+        this.systemUser = this.testUtils.createSystemUser();
+    }
+
+    // test case: When orders are put in the map, they must be found by user and resource type.
+    @Test
+    public void testPutIndexesOrders() {
+        // set up
+        Order computeOrder = createOrder(OrderState.FULFILLED);
+        Order volumeOrder = this.testUtils.createLocalVolumeOrder();
+        volumeOrder.setSystemUser(this.systemUser);
+        volumeOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+        this.activeOrdersMap.put(volumeOrder.getId(), volumeOrder);
+
+        // verify
+        Assert.assertEquals(2, this.activeOrdersMap.size());
+        Assert.assertEquals(Collections.singletonList(computeOrder),
+                this.activeOrdersMap.getOrders(this.systemUser, ResourceType.COMPUTE));
+        Assert.assertEquals(Collections.singletonList(volumeOrder),
+                this.activeOrdersMap.getOrders(this.systemUser, ResourceType.VOLUME));
+    }
+
+    // test case: The orders of other users must not be returned.
+    @Test
+    public void testGetOrdersOfOtherUser() {
+        // set up
+        Order order = createOrder(OrderState.FULFILLED);
+        this.activeOrdersMap.put(order.getId(), order);
+        SystemUser otherUser = new SystemUser(OTHER_USER_ID, this.systemUser.getName(),
+                this.systemUser.getIdentityProviderId());
+
+        // exercise and verify
+        Assert.assertTrue(this.activeOrdersMap.getOrders(otherUser, ResourceType.COMPUTE).isEmpty());
+    }
+
+    // test case: When calling the reindex method after an order of the map has been fulfilled, its
+    // allocation must be counted.
+    @Test
+    public void testReindex() {
+        // set up
+        ComputeAllocation allocation = new ComputeAllocation(1, TestUtils.CPU_VALUE, TestUtils.MEMORY_VALUE,
+                TestUtils.DISK_VALUE);
+        ComputeOrder order = (ComputeOrder) createOrder(OrderState.SPAWNING);
+        order.setActualAllocation(allocation);
+        this.activeOrdersMap.put(order.getId(), order);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        this.activeOrdersMap.reindex(order);
+
+        // verify
+        Assert.assertEquals(allocation, this.activeOrdersMap.getAllocationCounters().getComputeAllocation(
+                this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    // test case: When orders are removed from the map, or the map is cleared, they must no longer
+    // be found in the index.
+    @Test
+    public void testRemoveAndClear() {
+        // set up
+        Order order = createOrder(OrderState.FULFILLED);
+        Order otherOrder = createOrder(OrderState.FULFILLED);
+        this.activeOrdersMap.put(order.getId(), order);
+        this.activeOrdersMap.put(otherOrder.getId(), otherOrder);
+
+        // exercise
+        this.activeOrdersMap.remove(order.getId());
+
+        // verify
+        Assert.assertEquals(Collections.singletonList(otherOrder),
+                this.activeOrdersMap.getOrders(this.systemUser, ResourceType.COMPUTE));
+
+        // exercise
+        this.activeOrdersMap.clear();
+
+        // verify
+        Assert.assertTrue(this.activeOrdersMap.isEmpty());
+        Assert.assertTrue(this.activeOrdersMap.getOrders(this.systemUser, ResourceType.COMPUTE).isEmpty());
+    }
+
+    private Order createOrder(OrderState orderState) {
+        Order order = this.testUtils.createLocalComputeOrder();
+        order.setSystemUser(this.systemUser);
+        order.setOrderStateInTestMode(orderState);
+        return order;
+    }
+}
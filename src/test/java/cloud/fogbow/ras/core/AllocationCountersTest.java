@@ -0,0 +1,126 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.NetworkAllocation;
+import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.NetworkOrder;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AllocationCountersTest {
+
+    private TestUtils testUtils;
+    private AllocationCounters allocationCounters;
+    private SystemUser systemUser;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.allocationCounters = new AllocationCounters();
+        this.systemUser = this.testUtils.createSystemUser();
+    }
+
+    // test case: When fulfilled orders are counted, their allocations must be added to the totals
+    // of their user, provider, cloud and resource type.
+    @Test
+    public void testUpdateCountsFulfilledOrders() {
+        // set up
+        ComputeOrder computeOrder = createComputeOrder(OrderState.FULFILLED);
+        ComputeOrder otherComputeOrder = createComputeOrder(OrderState.FULFILLED);
+        VolumeOrder volumeOrder = this.testUtils.createLocalVolumeOrder();
+        volumeOrder.setSystemUser(this.systemUser);
+        volumeOrder.setActualAllocation(new VolumeAllocation(TestUtils.DISK_VALUE));
+        volumeOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        this.allocationCounters.update(computeOrder);
+        this.allocationCounters.update(otherComputeOrder);
+        this.allocationCounters.update(volumeOrder);
+
+        // verify
+        ComputeAllocation expectedComputeAllocation = new ComputeAllocation(2, 2 * TestUtils.CPU_VALUE,
+                2 * TestUtils.MEMORY_VALUE, 2 * TestUtils.DISK_VALUE);
+        Assert.assertEquals(expectedComputeAllocation, this.allocationCounters.getComputeAllocation(this.systemUser,
+                TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+        Assert.assertEquals(new VolumeAllocation(1, TestUtils.DISK_VALUE), this.allocationCounters
+                .getVolumeAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+        Assert.assertEquals(new NetworkAllocation(0), this.allocationCounters
+                .getNetworkAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    // test case: Orders that are not fulfilled must not be counted.
+    @Test
+    public void testUpdateIgnoresOrdersNotFulfilled() {
+        // set up
+        ComputeOrder computeOrder = createComputeOrder(OrderState.SPAWNING);
+        NetworkOrder networkOrder = this.testUtils.createLocalNetworkOrder();
+        networkOrder.setSystemUser(this.systemUser);
+        networkOrder.setOrderStateInTestMode(OrderState.OPEN);
+
+        // exercise
+        this.allocationCounters.update(computeOrder);
+        this.allocationCounters.update(networkOrder);
+
+        // verify
+        Assert.assertEquals(new ComputeAllocation(0, 0, 0, 0), this.allocationCounters
+                .getComputeAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+        Assert.assertEquals(new NetworkAllocation(0), this.allocationCounters
+                .getNetworkAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    // test case: When an order leaves the FULFILLED state, the share it had added must be subtracted,
+    // even if its allocation has changed since it was counted.
+    @Test
+    public void testUpdateUncountsOrdersLeavingFulfilled() {
+        // set up
+        ComputeOrder computeOrder = createComputeOrder(OrderState.FULFILLED);
+        this.allocationCounters.update(computeOrder);
+        computeOrder.setActualAllocation(new ComputeAllocation(1, 1, 1, 1));
+        computeOrder.setOrderStateInTestMode(OrderState.CLOSED);
+
+        // exercise
+        this.allocationCounters.update(computeOrder);
+
+        // verify
+        Assert.assertEquals(new ComputeAllocation(0, 0, 0, 0), this.allocationCounters
+                .getComputeAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    // test case: Updating an order that is already counted must not count it twice, and removing it
+    // must subtract its share.
+    @Test
+    public void testUpdateTwiceAndRemove() {
+        // set up
+        ComputeOrder computeOrder = createComputeOrder(OrderState.FULFILLED);
+
+        // exercise
+        this.allocationCounters.update(computeOrder);
+        this.allocationCounters.update(computeOrder);
+
+        // verify
+        Assert.assertEquals(new ComputeAllocation(1, TestUtils.CPU_VALUE, TestUtils.MEMORY_VALUE,
+                TestUtils.DISK_VALUE), this.allocationCounters.getComputeAllocation(this.systemUser,
+                TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+
+        // exercise
+        this.allocationCounters.remove(computeOrder.getId());
+
+        // verify
+        Assert.assertEquals(new ComputeAllocation(0, 0, 0, 0), this.allocationCounters
+                .getComputeAllocation(this.systemUser, TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME));
+    }
+
+    private ComputeOrder createComputeOrder(OrderState orderState) {
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        computeOrder.setSystemUser(this.systemUser);
+        computeOrder.setActualAllocation(new ComputeAllocation(1, TestUtils.CPU_VALUE, TestUtils.MEMORY_VALUE,
+                TestUtils.DISK_VALUE));
+        computeOrder.setOrderStateInTestMode(orderState);
+        return computeOrder;
+    }
+}
@@ -2,6 +2,7 @@ package cloud.fogbow.ras.core;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import org.junit.Assert;
@@ -33,6 +34,7 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.cloudconnector.RemoteResponseCache;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteGetCloudNamesRequest;
 import cloud.fogbow.ras.core.models.Operation;
@@ -78,6 +80,8 @@ public class ApplicationFacadeTest extends BaseUnitTests {
 		this.facade.setAuthorizationPlugin(this.authorizationPlugin);
 		this.facade.setCloudListController(this.cloudListController);
 		this.facade.setSecurityRuleController(this.securityRuleController);
+		// Responses of remote providers must not leak from one test to another
+		Mockito.doReturn(new RemoteResponseCache(0, 0, 0)).when(this.facade).getRemoteResponseCache();
 	}
 
     // test case: When calling the setBuildNumber method, it must generate correct
@@ -173,6 +177,33 @@ public class ApplicationFacadeTest extends BaseUnitTests {
         Mockito.verify(cloudNamesRequest, Mockito.times(TestUtils.RUN_ONCE)).send();
     }
     
+    // test case: When calling the getCloudNames method with a remote member twice
+    // while the cloud names are kept, it must verify that the remote member is
+    // asked only once.
+    @Test
+    public void testGetCloudNamesWithRemoteMemberIsCached() throws Exception {
+        // set up
+        String remoteMember = TestUtils.FAKE_REMOTE_MEMBER_ID;
+        String userToken = SYSTEM_USER_TOKEN_VALUE;
+        SystemUser systemUser = this.testUtils.createSystemUser();
+        Mockito.doReturn(systemUser).when(this.facade).authenticate(Mockito.eq(userToken));
+        Mockito.doReturn(new RemoteResponseCache(TimeUnit.MINUTES.toMillis(1), 0, 0)).when(this.facade)
+                .getRemoteResponseCache();
+
+        RemoteGetCloudNamesRequest cloudNamesRequest = Mockito.mock(RemoteGetCloudNamesRequest.class);
+        Mockito.doReturn(cloudNamesRequest).when(this.facade).getCloudNamesFromRemoteRequest(Mockito.eq(remoteMember),
+                Mockito.eq(systemUser));
+
+        // exercise
+        this.facade.getCloudNames(remoteMember, userToken);
+        this.facade.getCloudNames(remoteMember, userToken);
+
+        // verify
+        Mockito.verify(this.authorizationPlugin, Mockito.times(2)).isAuthorized(Mockito.eq(systemUser),
+                Mockito.any(RasOperation.class));
+        Mockito.verify(cloudNamesRequest, Mockito.times(TestUtils.RUN_ONCE)).send();
+    }
+
     // test case: When calling the getCloudNames method from a remote member and
     // remote communication is not set, it must throw a
     // FogbowException.
@@ -30,7 +30,6 @@ import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -550,21 +549,11 @@ public class OrderControllerTest extends BaseUnitTests {
         int expectedInstancesValue = 2;
         int expectedDiskValue = 12;
 
-        List<ComputeOrder> orders = new ArrayList<>();
-        orders.add(computeOrder1);
-        orders.add(computeOrder2);
-
-        ComputeAllocation expectedAllocation = new ComputeAllocation(expectedInstancesValue, expectedCpuValue, expectedMemoryValue, expectedDiskValue);
-        Mockito.doReturn(expectedAllocation).when(this.ordersController).getUserComputeAllocation(Mockito.eq(orders));
-        Mockito.doReturn(orders).when(this.ordersController).castOrders(Mockito.anyListOf(Order.class));
         // exercise
         ComputeAllocation allocation = (ComputeAllocation) this.ordersController
                 .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.COMPUTE);
 
         // verify
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).getUserComputeAllocation(Mockito.eq(orders));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).castOrders(Mockito.anyListOf(Order.class));
-
         Assert.assertEquals(expectedCpuValue, allocation.getvCPU());
         Assert.assertEquals(expectedMemoryValue, allocation.getRam());
         Assert.assertEquals(expectedInstancesValue, allocation.getInstances());
@@ -592,25 +581,15 @@ public class OrderControllerTest extends BaseUnitTests {
         this.fulfilledOrdersList.addItem(volumeOrder1);
         this.fulfilledOrdersList.addItem(volumeOrder2);
 
-        List<VolumeOrder> orders = new ArrayList<>();
-        orders.add(volumeOrder1);
-        orders.add(volumeOrder2);
-
         int expectedValue = volumeAllocation1.getStorage() + volumeAllocation2.getStorage();
-        VolumeAllocation expectedAllocation = new VolumeAllocation(expectedValue);
-
-        Mockito.doReturn(orders).when(this.ordersController).castOrders(Mockito.anyListOf(Order.class));
-        Mockito.doReturn(expectedAllocation).when(this.ordersController).getUserVolumeAllocation(Mockito.eq(orders));
 
         // exercise
         VolumeAllocation allocation = (VolumeAllocation) this.ordersController
                 .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.VOLUME);
 
         // verify
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).getUserVolumeAllocation(Mockito.eq(orders));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).castOrders(Mockito.anyListOf(Order.class));
-
         Assert.assertEquals(expectedValue, allocation.getStorage());
+        Assert.assertEquals(2, allocation.getInstances());
     }
 
     // test case: Tests if the getUserAllocation method returns the
@@ -629,24 +608,13 @@ public class OrderControllerTest extends BaseUnitTests {
         this.fulfilledOrdersList.addItem(networkOrder1);
         this.fulfilledOrdersList.addItem(networkOrder2);
 
-        List<NetworkOrder> orders = new ArrayList<>();
-        orders.add(networkOrder1);
-        orders.add(networkOrder2);
-
-        int expectedValue = orders.size();
-        NetworkAllocation expectedAllocation = new NetworkAllocation(expectedValue);
-
-        Mockito.doReturn(orders).when(this.ordersController).castOrders(Mockito.anyListOf(Order.class));
-        Mockito.doReturn(expectedAllocation).when(this.ordersController).getUserNetworkAllocation(Mockito.eq(orders));
+        int expectedValue = 2;
 
         // exercise
         NetworkAllocation allocation = (NetworkAllocation) this.ordersController
                 .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.NETWORK);
 
         // verify
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).getUserNetworkAllocation(Mockito.eq(orders));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).castOrders(Mockito.anyListOf(Order.class));
-
         Assert.assertEquals(expectedValue, allocation.getInstances());
     }
 
@@ -666,173 +634,61 @@ public class OrderControllerTest extends BaseUnitTests {
         this.fulfilledOrdersList.addItem(publicIpOrder1);
         this.fulfilledOrdersList.addItem(publicIpOrder2);
 
-        List<PublicIpOrder> orders = new ArrayList<>();
-        orders.add(publicIpOrder1);
-        orders.add(publicIpOrder2);
-
-        int expectedValue = orders.size();
-        PublicIpAllocation expectedAllocation = new PublicIpAllocation(expectedValue);
-
-        Mockito.doReturn(orders).when(this.ordersController).castOrders(Mockito.anyListOf(Order.class));
-        Mockito.doReturn(expectedAllocation).when(this.ordersController).getUserPublicIpAllocation(Mockito.eq(orders));
+        int expectedValue = 2;
 
         // exercise
         PublicIpAllocation allocation = (PublicIpAllocation) this.ordersController
                 .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.PUBLIC_IP);
 
         // verify
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).getUserPublicIpAllocation(Mockito.eq(orders));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE)).castOrders(Mockito.anyListOf(Order.class));
-
         Assert.assertEquals(expectedValue, allocation.getInstances());
     }
 
-    // test case: Tests if the getUserAllocation method throws an Exception for an
-    // Order with the ResourceType not implemented.
-    @Test(expected = InternalServerErrorException.class)
-    public void testGetUserAllocationWithInvalidResourceType() throws InternalServerErrorException {
-        // set up
-        SystemUser systemUser = this.testUtils.createSystemUser();
-        NetworkOrder networkOrder = createFulfilledNetworkOrder(systemUser);
-
-        this.fulfilledOrdersList.addItem(networkOrder);
-        this.activeOrdersMap.put(networkOrder.getId(), networkOrder);
-
-        // exercise
-        this.ordersController.getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser,
-                ResourceType.INVALID_RESOURCE);
-    }
-
-    // test case: Tests if the castOrders method casts a list of orders (Order.class) to
-    // a list of orders which the type is inferred by the return type (it should be a order's subclass)
-    @Test
-    public void testCastOrders() throws InternalServerErrorException {
-        // set up
-        SystemUser systemUser = this.testUtils.createSystemUser();
-
-        List<Order> ordersToCastCompute = new ArrayList<>();
-        ordersToCastCompute.add(createFulfilledComputeOrder(systemUser));
-
-        List<Order> ordersToCastVolume = new ArrayList<>();
-        ordersToCastCompute.add(createFulfilledVolumeOrder(systemUser));
-
-        List<Order> ordersToCastNetwork = new ArrayList<>();
-        ordersToCastCompute.add(createFulfilledNetworkOrder(systemUser));
-
-        List<Order> ordersToCastPublicIp = new ArrayList<>();
-        ordersToCastCompute.add(createFulfilledPublicIpOrder(systemUser));
-
-        // exercise
-        List<ComputeOrder> computeOrders = this.ordersController.castOrders(ordersToCastCompute);
-        List<VolumeOrder> volumeOrders = this.ordersController.castOrders(ordersToCastVolume);
-        List<PublicIpOrder> publicIpOrders = this.ordersController.castOrders(ordersToCastPublicIp);
-        List<NetworkOrder> networkOrders = this.ordersController.castOrders(ordersToCastNetwork);
-
-        // verify
-        Assert.assertEquals(ordersToCastCompute.size(), computeOrders.size());
-        Assert.assertEquals(ordersToCastVolume.size(), volumeOrders.size());
-        Assert.assertEquals(ordersToCastNetwork.size(), networkOrders.size());
-        Assert.assertEquals(ordersToCastPublicIp.size(), publicIpOrders.size());
-    }
-
-    // test case: Tests if the getUserComputeAllocation method builds a ComputeAllocation with
-    // the total allocation of all orders passed by
+    // test case: Tests if the getUserAllocation method stops counting an order once it
+    // leaves the FULFILLED state, and does not count the orders of other providers.
     @Test
-    public void testGetUserComputeAllocation() throws InternalServerErrorException {
+    public void testGetUserAllocationAfterOrderLeavesFulfilled() throws InternalServerErrorException {
         // set up
-        List<ComputeOrder> orders = new ArrayList<>();
         SystemUser systemUser = this.testUtils.createSystemUser();
 
-        int numberOfInstances = 3;
-        int expectedDisk = numberOfInstances * TestUtils.DISK_VALUE;
-        int expectedRam = numberOfInstances * TestUtils.MEMORY_VALUE;
-        int expectedCores = numberOfInstances * TestUtils.CPU_VALUE;
+        ComputeOrder computeOrder = createFulfilledComputeOrderWithAllocation(systemUser);
+        ComputeOrder remoteComputeOrder = createFulfilledComputeOrderWithAllocation(systemUser);
+        remoteComputeOrder.setProvider(TestUtils.FAKE_REMOTE_MEMBER_ID);
 
-        ComputeOrder order;
-        for (int i = 0; i < numberOfInstances; i++) {
-            order = createFulfilledComputeOrderWithAllocation(systemUser);
-            orders.add(order);
-        }
+        this.activeOrdersMap.put(computeOrder.getId(), computeOrder);
+        this.activeOrdersMap.put(remoteComputeOrder.getId(), remoteComputeOrder);
 
-        // exercise
-        ComputeAllocation allocation = this.ordersController.getUserComputeAllocation(orders);
-
-        // verify
-        Assert.assertEquals(numberOfInstances, allocation.getInstances());
-        Assert.assertEquals(expectedDisk, allocation.getDisk());
-        Assert.assertEquals(expectedCores, allocation.getvCPU());
-        Assert.assertEquals(expectedRam, allocation.getRam());
-    }
-
-    // test case: Tests if the getUserVolumeAllocation method builds a VolumeAllocation with
-    // the total allocation of all orders passed by
-    @Test
-    public void testGetUserVolumeAllocation() throws InternalServerErrorException {
-        // set up
-        List<VolumeOrder> orders = new ArrayList<>();
-        SystemUser systemUser = this.testUtils.createSystemUser();
-
-        int numberOfInstances = 3;
-        int expectedStorage = numberOfInstances * TestUtils.DISK_VALUE;
+        ComputeAllocation allocationBefore = (ComputeAllocation) this.ordersController
+                .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.COMPUTE);
 
-        VolumeOrder order;
-        for (int i = 0; i < numberOfInstances; i++) {
-            order = createFulfilledVolumeOrderWithAllocation(systemUser);
-            orders.add(order);
-        }
+        computeOrder.setOrderState(OrderState.UNABLE_TO_CHECK_STATUS);
 
         // exercise
-        VolumeAllocation allocation = this.ordersController.getUserVolumeAllocation(orders);
+        this.activeOrdersMap.reindex(computeOrder);
 
         // verify
-        Assert.assertEquals(expectedStorage, allocation.getStorage());
-        Assert.assertEquals(numberOfInstances, allocation.getInstances());
-    }
-
-    // test case: Tests if the getUserNetworkAllocation method builds a NetworkAllocation with
-    // the total allocation of all orders passed by
-    @Test
-    public void testGetUserNetworkAllocation() throws InternalServerErrorException {
-        // set up
-        List<NetworkOrder> orders = new ArrayList<>();
-        SystemUser systemUser = this.testUtils.createSystemUser();
-
-        int numberOfInstances = 3;
-
-        NetworkOrder order;
-        for (int i = 0; i < numberOfInstances; i++) {
-            order = createFulfilledNetworkOrder(systemUser);
-            orders.add(order);
-        }
-
-        // exercise
-        NetworkAllocation allocation = this.ordersController.getUserNetworkAllocation(orders);
+        ComputeAllocation allocationAfter = (ComputeAllocation) this.ordersController
+                .getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser, ResourceType.COMPUTE);
 
-        // verify
-        Assert.assertEquals(numberOfInstances, allocation.getInstances());
+        Assert.assertEquals(new ComputeAllocation(INSTANCES_LAUNCH_NUMBER, TestUtils.CPU_VALUE, TestUtils.MEMORY_VALUE,
+                TestUtils.DISK_VALUE), allocationBefore);
+        Assert.assertEquals(new ComputeAllocation(0, 0, 0, 0), allocationAfter);
     }
 
-    // test case: Tests if the getUserNetworkAllocation method builds a NetworkAllocation with
-    // the total allocation of all orders passed by
-    @Test
-    public void testGetUserPublicIpllocation() throws InternalServerErrorException {
+    // test case: Tests if the getUserAllocation method throws an Exception for an
+    // Order with the ResourceType not implemented.
+    @Test(expected = InternalServerErrorException.class)
+    public void testGetUserAllocationWithInvalidResourceType() throws InternalServerErrorException {
         // set up
-        List<PublicIpOrder> orders = new ArrayList<>();
         SystemUser systemUser = this.testUtils.createSystemUser();
+        NetworkOrder networkOrder = createFulfilledNetworkOrder(systemUser);
 
-        int numberOfInstances = 3;
-
-        PublicIpOrder order;
-        for (int i = 0; i < numberOfInstances; i++) {
-            order = createFulfilledPublicIpOrder(systemUser);
-            orders.add(order);
-        }
+        this.fulfilledOrdersList.addItem(networkOrder);
+        this.activeOrdersMap.put(networkOrder.getId(), networkOrder);
 
         // exercise
-        PublicIpAllocation allocation = this.ordersController.getUserPublicIpAllocation(orders);
-
-        // verify
-        Assert.assertEquals(numberOfInstances, allocation.getInstances());
+        this.ordersController.getUserAllocation(TestUtils.LOCAL_MEMBER_ID, TestUtils.DEFAULT_CLOUD_NAME, systemUser,
+                ResourceType.INVALID_RESOURCE);
     }
 
     // test case: Checks if deleting a failed order, this one will be moved to the assignedForDeletion orders
@@ -1245,13 +1101,6 @@ public class OrderControllerTest extends BaseUnitTests {
         return order;
     }
 
-    private VolumeOrder createFulfilledVolumeOrderWithAllocation(SystemUser systemUser) throws InternalServerErrorException {
-        VolumeOrder order = createFulfilledVolumeOrder(systemUser);
-        VolumeAllocation volumeAllocation = new VolumeAllocation(TestUtils.DISK_VALUE);
-        order.setActualAllocation(volumeAllocation);
-        return order;
-    }
-
     private InstanceStatus createInstanceStatus(ComputeOrder computeOrder) throws InternalServerErrorException {
         return new InstanceStatus(computeOrder.getId(),
                 computeOrder.getProvider(), computeOrder.getCloudName(),
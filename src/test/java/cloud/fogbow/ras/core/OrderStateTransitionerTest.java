@@ -2,9 +2,11 @@ package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.processors.RemoteOrderStateNotifier;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -93,6 +95,35 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
         Assert.assertNull(openOrdersList.getNext());
     }
 
+    // test case: When calling the transition() method, the state change of the Order must be handed to
+    // the notifier of remote requesters, which keeps only those of the orders requested by remote providers.
+    @Test
+    public void testTransitionNotifiesRemoteRequester() throws InternalServerErrorException {
+        // set up
+        this.testUtils.mockReadOrdersFromDataBase();
+
+        SharedOrderHolders orderHolders = SharedOrderHolders.getInstance();
+        RemoteOrderStateNotifier notifier = Mockito.spy(new RemoteOrderStateNotifier(
+                this.testUtils.getLocalMemberId(), TestUtils.DEFAULT_SLEEP_TIME,
+                Integer.parseInt(ConfigurationPropertyDefaults.REMOTE_ORDERS_BATCH_SIZE)));
+        orderHolders.setRemoteOrderStateNotifier(notifier);
+
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(this.testUtils.getLocalMemberId());
+        order.setOrderStateInTestMode(OrderState.SPAWNING);
+        orderHolders.getSpawningOrdersList().addItem(order);
+
+        try {
+            // exercise
+            OrderStateTransitioner.transition(order, OrderState.FULFILLED);
+
+            // verify
+            Mockito.verify(notifier, Mockito.times(TestUtils.RUN_ONCE)).enqueue(Mockito.eq(order));
+            Assert.assertEquals(1, notifier.getPendingOrders());
+        } finally {
+            orderHolders.setRemoteOrderStateNotifier(null);
+        }
+    }
+
     // test case: When calling the transition() method and the origin list of the 'Order' is Null,
     // an unexpected exception is thrown.
     @Test(expected = InternalServerErrorException.class) // verify
@@ -173,4 +204,26 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
         Assert.assertEquals(orderStateExpected, order.getOrderState());
     }
 
+    // test case: When calling the transition() method, it must wake up the processor of the
+    // destination list, so that the order is processed without waiting for its sleep time.
+    @Test
+    public void testTransitionSignalsDestinationProcessor() throws InternalServerErrorException, InterruptedException {
+        // set up
+        this.testUtils.mockReadOrdersFromDataBase();
+
+        SharedOrderHolders orderHolders = SharedOrderHolders.getInstance();
+        WakeUpSignal wakeUpSignal = orderHolders.getWakeUpSignal(OrderState.SPAWNING);
+
+        Order order = createOrder(OrderState.OPEN);
+        orderHolders.getOpenOrdersList().addItem(order);
+
+        // exercise
+        OrderStateTransitioner.transition(order, OrderState.SPAWNING);
+
+        // verify
+        long startTime = System.currentTimeMillis();
+        wakeUpSignal.await(TestUtils.DEFAULT_SLEEP_TIME);
+        Assert.assertTrue(System.currentTimeMillis() - startTime < TestUtils.DEFAULT_SLEEP_TIME);
+    }
+
 }
@@ -0,0 +1,84 @@
+package cloud.fogbow.ras.core;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WakeUpSignalTest {
+
+    private static final long SHORT_TIMEOUT = 50;
+    private static final long LONG_TIMEOUT = 5000;
+
+    private WakeUpSignal wakeUpSignal;
+
+    @Before
+    public void setUp() {
+        this.wakeUpSignal = new WakeUpSignal();
+    }
+
+    // test case: When calling the await method and no signal is sent, it must return
+    // once the timeout expires.
+    @Test
+    public void testAwaitTimeout() throws InterruptedException {
+        // set up
+        long startTime = System.currentTimeMillis();
+
+        // exercise
+        this.wakeUpSignal.await(SHORT_TIMEOUT);
+
+        // verify
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= SHORT_TIMEOUT);
+    }
+
+    // test case: When calling the await method after a signal has been sent, it must return
+    // immediately, and consume the signal.
+    @Test
+    public void testAwaitAfterSignal() throws InterruptedException {
+        // set up
+        this.wakeUpSignal.signal();
+        long startTime = System.currentTimeMillis();
+
+        // exercise
+        this.wakeUpSignal.await(LONG_TIMEOUT);
+
+        // verify
+        Assert.assertTrue(System.currentTimeMillis() - startTime < LONG_TIMEOUT);
+        startTime = System.currentTimeMillis();
+        this.wakeUpSignal.await(SHORT_TIMEOUT);
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= SHORT_TIMEOUT);
+    }
+
+    // test case: When a signal is sent while a thread is waiting, the thread must be woken up
+    // before the timeout expires.
+    @Test
+    public void testSignalWhileWaiting() throws InterruptedException {
+        // set up
+        Thread signaler = new Thread(() -> {
+            try {
+                Thread.sleep(SHORT_TIMEOUT);
+            } catch (InterruptedException e) {
+                return;
+            }
+            this.wakeUpSignal.signal();
+        });
+        long startTime = System.currentTimeMillis();
+        signaler.start();
+
+        // exercise
+        this.wakeUpSignal.await(LONG_TIMEOUT);
+
+        // verify
+        Assert.assertTrue(System.currentTimeMillis() - startTime < LONG_TIMEOUT);
+    }
+
+    // test case: When calling the await method from an interrupted thread, it must throw
+    // an InterruptedException.
+    @Test(expected = InterruptedException.class) // verify
+    public void testAwaitInterrupted() throws InterruptedException {
+        // set up
+        Thread.currentThread().interrupt();
+
+        // exercise
+        this.wakeUpSignal.await(LONG_TIMEOUT);
+    }
+}
@@ -9,6 +9,8 @@ import org.mockito.Mockito;
 public class CloudConnectorFactoryTest {
 
     private static final String LOCAL_PROVIDER_ID = "fake-localidentity-provider";
+    private static final String REMOTE_PROVIDER_ID = "fake-remote-provider";
+    private static final String ANOTHER_CLOUD_NAME = "fake-cloud-name";
 
     private CloudConnectorFactory cloudConnectorFactory;
 
@@ -45,4 +47,61 @@ public class CloudConnectorFactoryTest {
         Assert.assertTrue(remoteCloudConnector instanceof RemoteCloudConnector);
     }
 
+    // test case: When calling getCloudConnector more than once for the same local cloud, the plugins
+    // must be built only once, while a distinct connector must be returned on each call.
+    @Test
+    public void testGetCloudConnectorLocalBuildsPluginsOnce() {
+        // set up
+        this.cloudConnectorFactory.reload(ANOTHER_CLOUD_NAME);
+        LocalCloudConnector prototype = Mockito.mock(LocalCloudConnector.class);
+        Mockito.doReturn(prototype).when(this.cloudConnectorFactory).createLocalCloudConnector(ANOTHER_CLOUD_NAME);
+        long hits = this.cloudConnectorFactory.getHits();
+        long misses = this.cloudConnectorFactory.getMisses();
+
+        // exercise
+        CloudConnector firstCloudConnector =
+                this.cloudConnectorFactory.getCloudConnector(LOCAL_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+        CloudConnector secondCloudConnector =
+                this.cloudConnectorFactory.getCloudConnector(LOCAL_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+
+        // verify
+        Mockito.verify(this.cloudConnectorFactory, Mockito.times(1)).createLocalCloudConnector(ANOTHER_CLOUD_NAME);
+        Assert.assertNotSame(firstCloudConnector, secondCloudConnector);
+        Assert.assertEquals(hits + 1, this.cloudConnectorFactory.getHits());
+        Assert.assertEquals(misses + 1, this.cloudConnectorFactory.getMisses());
+        Assert.assertTrue(this.cloudConnectorFactory.getBuildTimes().containsKey(ANOTHER_CLOUD_NAME));
+    }
+
+    // test case: When calling reload for a cloud, the plugins of that cloud must be built again
+    // on the next call to getCloudConnector.
+    @Test
+    public void testReloadRebuildsPlugins() {
+        // set up
+        this.cloudConnectorFactory.reload(ANOTHER_CLOUD_NAME);
+        LocalCloudConnector prototype = Mockito.mock(LocalCloudConnector.class);
+        Mockito.doReturn(prototype).when(this.cloudConnectorFactory).createLocalCloudConnector(ANOTHER_CLOUD_NAME);
+        this.cloudConnectorFactory.getCloudConnector(LOCAL_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+
+        // exercise
+        this.cloudConnectorFactory.reload(ANOTHER_CLOUD_NAME);
+        this.cloudConnectorFactory.getCloudConnector(LOCAL_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+
+        // verify
+        Mockito.verify(this.cloudConnectorFactory, Mockito.times(2)).createLocalCloudConnector(ANOTHER_CLOUD_NAME);
+    }
+
+    // test case: When calling getCloudConnector more than once for the same remote provider and cloud,
+    // it must return the same instance of RemoteCloudConnector.
+    @Test
+    public void testGetCloudConnectorRemoteIsReused() {
+        // exercise
+        CloudConnector firstCloudConnector =
+                this.cloudConnectorFactory.getCloudConnector(REMOTE_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+        CloudConnector secondCloudConnector =
+                this.cloudConnectorFactory.getCloudConnector(REMOTE_PROVIDER_ID, ANOTHER_CLOUD_NAME);
+
+        // verify
+        Assert.assertSame(firstCloudConnector, secondCloudConnector);
+    }
+
 }
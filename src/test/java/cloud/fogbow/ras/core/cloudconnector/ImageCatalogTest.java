@@ -0,0 +1,165 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.models.OpenStackV3User;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ImageCatalogTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+    private static final long LOAD_TIME = 10000;
+    private static final String FAKE_CLOUD_USER_ID = "fake-cloud-user-id";
+    private static final String OTHER_CLOUD_USER_ID = "other-cloud-user-id";
+    private static final String FAKE_IMAGE_ID = "fake-image-id";
+    private static final String FAKE_IMAGE_NAME = "fake-image-name";
+    private static final String FAKE_PROJECT_ID = "fake-project-id";
+    private static final String OTHER_PROJECT_ID = "other-project-id";
+    private static final String FAKE_TOKEN_VALUE = "fake-token-value";
+    private static final String FAKE_USER_NAME = "fake-user-name";
+
+    private ImageCatalog imageCatalog;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        this.imageCatalog = Mockito.spy(new ImageCatalog(TIME_TO_LIVE));
+        Mockito.doReturn(LOAD_TIME).when(this.imageCatalog).getCurrentTime();
+        Mockito.doNothing().when(this.imageCatalog).refreshInBackground(Mockito.any(), Mockito.any());
+        this.loads = new AtomicInteger();
+    }
+
+    // test case: The images of a cloud user must be loaded by the first caller, and then served
+    // from memory while they are fresh.
+    @Test
+    public void testGetImagesLoadsOnce() throws FogbowException {
+        // exercise
+        List<ImageSummary> images = this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+        this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+
+        // verify
+        Assert.assertEquals(1, this.loads.get());
+        Assert.assertEquals(FAKE_IMAGE_ID, images.get(0).getId());
+        Mockito.verify(this.imageCatalog, Mockito.never()).refreshInBackground(Mockito.any(), Mockito.any());
+    }
+
+    // test case: Once the images are older than the time to live, the caller must get the images
+    // already known while a refresh starts in the background.
+    @Test
+    public void testGetImagesRefreshesExpiredInBackground() throws FogbowException {
+        // set up
+        List<ImageSummary> images = this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+        Mockito.doReturn(LOAD_TIME + TIME_TO_LIVE).when(this.imageCatalog).getCurrentTime();
+
+        // exercise
+        List<ImageSummary> expiredImages = this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+
+        // verify
+        Assert.assertSame(images, expiredImages);
+        Assert.assertEquals(1, this.loads.get());
+        Mockito.verify(this.imageCatalog, Mockito.times(1))
+                .refreshInBackground(Mockito.eq(FAKE_CLOUD_USER_ID), Mockito.any());
+    }
+
+    // test case: Users without an id must never be cached, and neither must anybody when the
+    // time to live is 0.
+    @Test
+    public void testGetImagesWithoutCaching() throws FogbowException {
+        // set up
+        ImageCatalog disabledImageCatalog = new ImageCatalog(0);
+
+        // exercise
+        this.imageCatalog.getImages(null, this::loadImages);
+        this.imageCatalog.getImages(null, this::loadImages);
+        disabledImageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+        disabledImageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+
+        // verify
+        Assert.assertEquals(4, this.loads.get());
+        Assert.assertEquals(0, this.imageCatalog.size());
+        Assert.assertEquals(0, disabledImageCatalog.size());
+    }
+
+    // test case: The images of the users that stopped listing them must be discarded when the
+    // images of another user are loaded.
+    @Test
+    public void testLoadImagesEvictsAbandonedEntries() throws FogbowException {
+        // set up
+        this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+        Mockito.doReturn(LOAD_TIME + 2 * TIME_TO_LIVE).when(this.imageCatalog).getCurrentTime();
+
+        // exercise
+        this.imageCatalog.getImages(OTHER_CLOUD_USER_ID, this::loadImages);
+
+        // verify
+        Assert.assertEquals(1, this.imageCatalog.size());
+    }
+
+    // test case: When the first load fails, the error must reach the caller and nothing must be kept.
+    @Test
+    public void testGetImagesFailure() throws FogbowException {
+        // set up
+        ImageCatalog.Loader failingLoader = () -> {
+            throw new InternalServerErrorException();
+        };
+
+        // exercise
+        try {
+            this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, failingLoader);
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            this.imageCatalog.getImages(FAKE_CLOUD_USER_ID, this::loadImages);
+            Assert.assertEquals(1, this.loads.get());
+        }
+    }
+
+    // test case: The key of an OpenStack user must carry its project, so that the images the user
+    // sees in a project are not served for another one.
+    @Test
+    public void testGetKeyIncludesProject() throws FogbowException {
+        // set up
+        OpenStackV3User cloudUser = new OpenStackV3User(FAKE_CLOUD_USER_ID, FAKE_USER_NAME, FAKE_TOKEN_VALUE,
+                FAKE_PROJECT_ID);
+        OpenStackV3User otherProjectUser = new OpenStackV3User(FAKE_CLOUD_USER_ID, FAKE_USER_NAME,
+                FAKE_TOKEN_VALUE, OTHER_PROJECT_ID);
+
+        // exercise
+        String key = ImageCatalog.getKey(cloudUser);
+        this.imageCatalog.getImages(key, this::loadImages);
+        this.imageCatalog.getImages(ImageCatalog.getKey(otherProjectUser), this::loadImages);
+
+        // verify
+        Assert.assertEquals(FAKE_CLOUD_USER_ID + ImageCatalog.KEY_SEPARATOR + FAKE_PROJECT_ID, key);
+        Assert.assertEquals(2, this.loads.get());
+    }
+
+    // test case: The key of a user that is not scoped to a project must be its id, and there must
+    // be no key for a missing user.
+    @Test
+    public void testGetKeyWithoutProject() {
+        // set up
+        CloudStackUser cloudUser = new CloudStackUser(FAKE_CLOUD_USER_ID, FAKE_USER_NAME, FAKE_TOKEN_VALUE,
+                null, null);
+
+        // exercise and verify
+        Assert.assertEquals(FAKE_CLOUD_USER_ID, ImageCatalog.getKey(cloudUser));
+        Assert.assertNull(ImageCatalog.getKey(null));
+    }
+
+    private List<ImageSummary> loadImages() {
+        this.loads.incrementAndGet();
+        List<ImageSummary> images = new ArrayList<>();
+        images.add(new ImageSummary(FAKE_IMAGE_ID, FAKE_IMAGE_NAME));
+        return images;
+    }
+}
@@ -34,10 +34,14 @@ import cloud.fogbow.ras.core.plugins.interoperability.SecurityRulePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.VolumePlugin;
 import cloud.fogbow.ras.core.plugins.mapper.SystemToCloudMapperPlugin;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @PrepareForTest({ CloudConnectorFactory.class, DatabaseManager.class })
 public class LocalCloudConnectorTest extends BaseUnitTests {
 
     private static final String ANY_VALUE = "anything";
+    private static final String FAKE_IMAGE_NAME = "fake-image-name";
 
     private LocalCloudConnector localCloudConnector;
     private AttachmentPlugin attachmentPlugin;
@@ -853,6 +857,32 @@ public class LocalCloudConnectorTest extends BaseUnitTests {
         }
     }
     
+    // test case: When invoking the getAllImages method twice for the same cloud user,
+    // the images must be listed in the cloud only once, while both requests are audited.
+    @Test
+    public void testGetAllImagesFromCatalog() throws FogbowException {
+        // set up
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(cloudUser.getId()).thenReturn(TestUtils.FAKE_USER_ID);
+        Mockito.when(this.mapperPlugin.map(Mockito.any(SystemUser.class))).thenReturn(cloudUser);
+
+        List<ImageSummary> images = new ArrayList<>();
+        images.add(new ImageSummary(TestUtils.FAKE_IMAGE_ID, FAKE_IMAGE_NAME));
+        Mockito.doReturn(images).when(this.localCloudConnector).doGetAllImages(Mockito.eq(cloudUser));
+
+        // exercise
+        this.localCloudConnector.getAllImages(this.testUtils.createSystemUser());
+        List<ImageSummary> cachedImages = this.localCloudConnector.getAllImages(this.testUtils.createSystemUser());
+
+        // verify
+        Assert.assertEquals(images, cachedImages);
+        Mockito.verify(this.localCloudConnector, Mockito.times(TestUtils.RUN_ONCE))
+                .doGetAllImages(Mockito.eq(cloudUser));
+        Mockito.verify(this.localCloudConnector, Mockito.times(TestUtils.RUN_TWICE)).auditRequest(
+                Mockito.eq(Operation.GET_ALL), Mockito.eq(ResourceType.IMAGE), Mockito.any(SystemUser.class),
+                Mockito.anyString());
+    }
+    
     // test case: When invoking the getImage method with a valid system user, it
     // must call the doGetImage method and confirm in auditRequest the GET
     // operation of the IMAGE resource type.
@@ -4,10 +4,13 @@ import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.ras.core.LoggerAssert;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.intercomponent.xmpp.AsyncPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
 import org.jamppa.component.PacketSender;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,6 +23,12 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.xmpp.packet.IQ;
 import org.xmpp.packet.Packet;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 // TODO - Finish tests implementation
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({CloudConnectorFactory.class,
@@ -80,6 +89,37 @@ public class RemoteCloudConnectorTest extends TestUtils {
         this.remoteCloudConnector.deleteInstance(order);
     }
 
+    // test case: When calling the getRemoteOrderUpdatesAsync method and the remote request fails with a
+    // generic exception, it must verify if the future completes with a FogbowException, as
+    // getRemoteOrderUpdates throws.
+    @Test
+    public void testGetRemoteOrderUpdatesAsyncFailWhenThrowAGenericException() throws Exception {
+        // set up
+        Map<String, String> versionsByOrderId = Collections.singletonMap(TestUtils.FAKE_ORDER_ID, "");
+        AsyncPacketSender asyncPacketSender = Mockito.mock(AsyncPacketSender.class);
+        PowerMockito.mockStatic(PacketSenderHolder.class);
+        PowerMockito.when(PacketSenderHolder.getAsyncPacketSender()).thenReturn(asyncPacketSender);
+
+        String exceptionMessageExpected = TestUtils.ANY_VALUE;
+        CompletableFuture<List<RemoteOrderUpdate>> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new Exception(exceptionMessageExpected));
+        Mockito.doReturn(failedResponse).when(asyncPacketSender).sendPacket(Mockito.any(IQ.class),
+                Mockito.anyString(), Mockito.any(AsyncPacketSender.ResponseReader.class));
+
+        // exercise
+        CompletableFuture<List<RemoteOrderUpdate>> future =
+                this.remoteCloudConnector.getRemoteOrderUpdatesAsync(versionsByOrderId);
+
+        // verify
+        try {
+            future.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertEquals(FogbowException.class, e.getCause().getClass());
+            Assert.assertEquals(exceptionMessageExpected, e.getCause().getMessage());
+        }
+    }
+
     private PacketSender buildPacketSender() {
         PacketSender packetSender = Mockito.mock(PacketSender.class);
         PowerMockito.mockStatic(PacketSenderHolder.class);
@@ -0,0 +1,167 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.SystemUser;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RemoteResponseCacheTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+    private static final long LOAD_TIME = 10000;
+    private static final String FAKE_PROVIDER = "fake-provider";
+    private static final String FAKE_CLOUD_NAME = "fake-cloud-name";
+    private static final String FAKE_USER_ID = "fake-user-id";
+    private static final String OTHER_USER_ID = "other-user-id";
+    private static final String FAKE_USER_NAME = "fake-user-name";
+    private static final String FAKE_IDENTITY_PROVIDER_ID = "fake-identity-provider-id";
+    private static final List<String> FAKE_CLOUD_NAMES = Arrays.asList(FAKE_CLOUD_NAME);
+
+    private RemoteResponseCache remoteResponseCache;
+    private SystemUser systemUser;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        this.remoteResponseCache = Mockito.spy(new RemoteResponseCache(TIME_TO_LIVE, TIME_TO_LIVE, TIME_TO_LIVE));
+        Mockito.doReturn(LOAD_TIME).when(this.remoteResponseCache).getCurrentTime();
+        this.systemUser = new SystemUser(FAKE_USER_ID, FAKE_USER_NAME, FAKE_IDENTITY_PROVIDER_ID);
+        this.loads = new AtomicInteger();
+    }
+
+    // test case: A response must be obtained by the first caller, served from memory while it is fresh,
+    // and obtained again once it is older than the time to live; responses to other users are never shared.
+    @Test
+    public void testGetKeepsResponsesForTheTimeToLive() throws FogbowException {
+        // set up
+        SystemUser otherUser = new SystemUser(OTHER_USER_ID, FAKE_USER_NAME, FAKE_IDENTITY_PROVIDER_ID);
+
+        // exercise
+        List<String> cloudNames = getCloudNames(this.systemUser);
+        List<String> cachedCloudNames = getCloudNames(this.systemUser);
+        getCloudNames(otherUser);
+
+        // verify
+        Assert.assertEquals(2, this.loads.get());
+        Assert.assertSame(cloudNames, cachedCloudNames);
+
+        // set up
+        Mockito.doReturn(LOAD_TIME + TIME_TO_LIVE).when(this.remoteResponseCache).getCurrentTime();
+
+        // exercise
+        getCloudNames(this.systemUser);
+
+        // verify
+        Assert.assertEquals(3, this.loads.get());
+    }
+
+    // test case: Identical requests made while one is in flight must wait for its response instead of
+    // obtaining their own.
+    @Test
+    public void testGetCoalescesRequestsInFlight() throws Exception {
+        // set up
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        RemoteResponseCache.Loader<List<String>> slowLoader = () -> {
+            this.loads.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return FAKE_CLOUD_NAMES;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // exercise
+            Future<List<String>> first = executor.submit(() -> this.remoteResponseCache.get(
+                    RemoteResponseCache.Kind.CLOUD_NAMES, FAKE_PROVIDER, null, this.systemUser, slowLoader));
+            Assert.assertTrue(loadStarted.await(1, TimeUnit.SECONDS));
+            Future<List<String>> second = executor.submit(() -> this.remoteResponseCache.get(
+                    RemoteResponseCache.Kind.CLOUD_NAMES, FAKE_PROVIDER, null, this.systemUser, slowLoader));
+            releaseLoad.countDown();
+
+            // verify
+            Assert.assertSame(FAKE_CLOUD_NAMES, first.get(1, TimeUnit.SECONDS));
+            Assert.assertSame(FAKE_CLOUD_NAMES, second.get(1, TimeUnit.SECONDS));
+            Assert.assertEquals(1, this.loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // test case: Failures must not be kept, and the responses of a provider must be obtained again once
+    // they are invalidated, while the other kinds of responses are kept.
+    @Test
+    public void testGetAfterFailureAndInvalidation() throws FogbowException {
+        // set up
+        try {
+            this.remoteResponseCache.get(RemoteResponseCache.Kind.QUOTA, FAKE_PROVIDER, FAKE_CLOUD_NAME,
+                    this.systemUser, () -> {
+                        throw new UnavailableProviderException();
+                    });
+            Assert.fail();
+        } catch (UnavailableProviderException e) {
+            // expected
+        }
+        getQuotaCloudNames();
+        getCloudNames(this.systemUser);
+
+        // exercise
+        this.remoteResponseCache.invalidate(FAKE_PROVIDER, RemoteResponseCache.Kind.QUOTA);
+        getQuotaCloudNames();
+        getCloudNames(this.systemUser);
+
+        // verify
+        Assert.assertEquals(3, this.loads.get());
+        Assert.assertEquals(2, this.remoteResponseCache.size());
+    }
+
+    // test case: Users without an id must never be cached, and neither must anybody when the
+    // time to live is 0.
+    @Test
+    public void testGetWithoutCaching() throws FogbowException {
+        // set up
+        this.remoteResponseCache = new RemoteResponseCache(0, 0, 0);
+        SystemUser userWithoutId = new SystemUser(null, FAKE_USER_NAME, FAKE_IDENTITY_PROVIDER_ID);
+
+        // exercise
+        getCloudNames(this.systemUser);
+        getCloudNames(this.systemUser);
+        getCloudNames(userWithoutId);
+
+        // verify
+        Assert.assertEquals(3, this.loads.get());
+        Assert.assertEquals(0, this.remoteResponseCache.size());
+    }
+
+    private List<String> getCloudNames(SystemUser systemUser) throws FogbowException {
+        return this.remoteResponseCache.get(RemoteResponseCache.Kind.CLOUD_NAMES, FAKE_PROVIDER, null, systemUser,
+                this::loadCloudNames);
+    }
+
+    // Quotas are not built in these tests, as only the keeping of the response matters
+    private List<String> getQuotaCloudNames() throws FogbowException {
+        return this.remoteResponseCache.get(RemoteResponseCache.Kind.QUOTA, FAKE_PROVIDER, FAKE_CLOUD_NAME,
+                this.systemUser, this::loadCloudNames);
+    }
+
+    private List<String> loadCloudNames() {
+        this.loads.incrementAndGet();
+        return FAKE_CLOUD_NAMES;
+    }
+}
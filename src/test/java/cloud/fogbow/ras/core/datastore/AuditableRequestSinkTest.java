@@ -0,0 +1,130 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.auditing.AuditableRequest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.io.StringWriter;
+import java.sql.Timestamp;
+import java.util.List;
+
+public class AuditableRequestSinkTest {
+
+    private static final int CAPACITY = 2;
+    private static final int BATCH_SIZE = 3;
+    private static final String FAKE_SPILL_FILE_PATH = "fake-spill-file-path";
+
+    private AuditableRequestService auditableRequestService;
+    private StringWriter spillWriter;
+
+    @Before
+    public void setUp() {
+        this.auditableRequestService = Mockito.mock(AuditableRequestService.class);
+        this.spillWriter = new StringWriter();
+    }
+
+    // test case: When the sink is full and its policy is DROP, the requests that do not fit
+    // must be discarded and counted.
+    @Test
+    public void testSubmitDropsWhenFull() throws InterruptedException {
+        // set up
+        AuditableRequestSink sink = createSink(AuditableRequestSink.OverflowPolicy.DROP);
+
+        // exercise
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            sink.submit(createAuditableRequest());
+        }
+
+        // verify
+        Assert.assertEquals(CAPACITY + 1, sink.getSubmittedRequests());
+        Assert.assertEquals(CAPACITY, sink.getQueueDepth());
+        Assert.assertEquals(1, sink.getDroppedRequests());
+    }
+
+    // test case: When the sink is full and its policy is SPILL, the requests that do not fit
+    // must be appended to the spill file, one per line.
+    @Test
+    public void testSubmitSpillsWhenFull() throws Exception {
+        // set up
+        AuditableRequestSink sink = createSink(AuditableRequestSink.OverflowPolicy.SPILL);
+
+        // exercise
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            sink.submit(createAuditableRequest());
+        }
+
+        // verify
+        Assert.assertEquals(1, sink.getSpilledRequests());
+        Assert.assertEquals(0, sink.getDroppedRequests());
+        String spilled = this.spillWriter.toString();
+        Assert.assertTrue(spilled.endsWith(System.lineSeparator()));
+        Assert.assertTrue(spilled.contains(Operation.GET.name()));
+        Assert.assertTrue(spilled.contains(TestUtils.FAKE_USER_ID));
+    }
+
+    // test case: When calling the flush method, the requests waiting in the sink must be
+    // written in batches of at most the batch size.
+    @Test
+    public void testFlushWritesInBatches() throws Exception {
+        // set up
+        AuditableRequestSink sink = new AuditableRequestSink(this.auditableRequestService, BATCH_SIZE + 1,
+                BATCH_SIZE, AuditableRequestSink.OverflowPolicy.DROP, FAKE_SPILL_FILE_PATH);
+        for (int i = 0; i < BATCH_SIZE + 1; i++) {
+            sink.submit(createAuditableRequest());
+        }
+
+        // exercise
+        sink.flush();
+
+        // verify
+        ArgumentCaptor<List> batches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(this.auditableRequestService, Mockito.times(2)).registerSyncRequests(batches.capture());
+        Assert.assertEquals(BATCH_SIZE, batches.getAllValues().get(0).size());
+        Assert.assertEquals(1, batches.getAllValues().get(1).size());
+        Assert.assertEquals(BATCH_SIZE + 1, sink.getWrittenRequests());
+        Assert.assertEquals(0, sink.getQueueDepth());
+    }
+
+    // test case: When writing a batch fails and the policy is SPILL, the requests of the batch
+    // must be appended to the spill file; with any other policy they are counted as failed.
+    @Test
+    public void testWriteFailure() throws Exception {
+        // set up
+        Mockito.doThrow(new InternalServerErrorException()).when(this.auditableRequestService)
+                .registerSyncRequests(Mockito.anyList());
+        AuditableRequestSink spillingSink = createSink(AuditableRequestSink.OverflowPolicy.SPILL);
+        AuditableRequestSink droppingSink = createSink(AuditableRequestSink.OverflowPolicy.DROP);
+        spillingSink.submit(createAuditableRequest());
+        droppingSink.submit(createAuditableRequest());
+
+        // exercise
+        spillingSink.flush();
+        droppingSink.flush();
+
+        // verify
+        Assert.assertEquals(1, spillingSink.getSpilledRequests());
+        Assert.assertEquals(0, spillingSink.getFailedRequests());
+        Assert.assertEquals(0, droppingSink.getSpilledRequests());
+        Assert.assertEquals(1, droppingSink.getFailedRequests());
+    }
+
+    private AuditableRequestSink createSink(AuditableRequestSink.OverflowPolicy overflowPolicy) throws Exception {
+        AuditableRequestSink sink = Mockito.spy(new AuditableRequestSink(this.auditableRequestService, CAPACITY,
+                BATCH_SIZE, overflowPolicy, FAKE_SPILL_FILE_PATH));
+        Mockito.doReturn(this.spillWriter).when(sink).createSpillWriter();
+        return sink;
+    }
+
+    private AuditableRequest createAuditableRequest() {
+        return new AuditableRequest(new Timestamp(System.currentTimeMillis()), Operation.GET, ResourceType.COMPUTE,
+                TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_ID, TestUtils.FAKE_INSTANCE_ID);
+    }
+}
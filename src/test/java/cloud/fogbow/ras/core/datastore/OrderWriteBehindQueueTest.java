@@ -0,0 +1,288 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.datastore.orderstorage.AuditableOrderStateChange;
+import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
+import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class OrderWriteBehindQueueTest {
+
+    private static final int MAX_BATCH_SIZE = 3;
+    private static final long FLUSH_INTERVAL = 5000;
+    private static final int CAPACITY = 10;
+
+    private TestUtils testUtils;
+    private RecoveryService recoveryService;
+    private AuditableOrderStateChangeService auditableOrderStateChangeService;
+    private OrderWriteBehindQueue writeBehindQueue;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.recoveryService = Mockito.mock(RecoveryService.class);
+        this.auditableOrderStateChangeService = Mockito.mock(AuditableOrderStateChangeService.class);
+        this.writeBehindQueue = new OrderWriteBehindQueue(this.recoveryService,
+                this.auditableOrderStateChangeService, MAX_BATCH_SIZE, FLUSH_INTERVAL, CAPACITY);
+    }
+
+    // test case: When the same order is updated several times before a flush, only its latest
+    // version must be written, while every state change must be recorded, in order.
+    @Test
+    public void testFlushCoalescesUpdates() throws InternalServerErrorException {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        order.setOrderStateInTestMode(OrderState.SPAWNING);
+        this.writeBehindQueue.enqueue(order, true);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.writeBehindQueue.enqueue(order, true);
+        this.writeBehindQueue.enqueue(order, false);
+
+        // exercise
+        boolean flushed = this.writeBehindQueue.flush();
+
+        // verify
+        Assert.assertTrue(flushed);
+        ArgumentCaptor<Collection> orders = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(this.recoveryService, Mockito.times(TestUtils.RUN_ONCE)).updateAll(orders.capture());
+        Assert.assertEquals(1, orders.getValue().size());
+
+        ArgumentCaptor<List> stateChanges = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.times(TestUtils.RUN_ONCE))
+                .registerStateChanges(stateChanges.capture());
+        Assert.assertEquals(2, stateChanges.getValue().size());
+        Assert.assertEquals(0, this.writeBehindQueue.getPendingOrders());
+        Assert.assertEquals(0, this.writeBehindQueue.getPendingStateChanges());
+    }
+
+    // test case: The order written must be the one queued, even if it is changed before the flush
+    // without being queued again.
+    @Test
+    public void testFlushWritesOrderAsQueued() throws InternalServerErrorException {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        order.setOrderStateInTestMode(OrderState.SPAWNING);
+        this.writeBehindQueue.enqueue(order, true);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        this.writeBehindQueue.flush();
+
+        // verify
+        ArgumentCaptor<Collection> orders = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(this.recoveryService, Mockito.times(TestUtils.RUN_ONCE)).updateAll(orders.capture());
+        Order writtenOrder = (Order) orders.getValue().iterator().next();
+        Assert.assertNotSame(order, writtenOrder);
+        Assert.assertEquals(order.getId(), writtenOrder.getId());
+        Assert.assertEquals(OrderState.SPAWNING, writtenOrder.getOrderState());
+    }
+
+    // test case: When there is nothing pending, the flush method must not reach the database.
+    @Test
+    public void testFlushNothingPending() throws InternalServerErrorException {
+        // exercise
+        boolean flushed = this.writeBehindQueue.flush();
+
+        // verify
+        Assert.assertTrue(flushed);
+        Mockito.verify(this.recoveryService, Mockito.never()).updateAll(Mockito.any());
+    }
+
+    // test case: When the database is unavailable, the pending updates must be put back in the
+    // queue, ahead of the updates queued in the meantime, and no attempt must be counted.
+    @Test
+    public void testFlushFailureRequeues() throws InternalServerErrorException {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        Order otherOrder = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue.enqueue(order, true);
+        Mockito.doAnswer(invocation -> {
+            this.writeBehindQueue.enqueue(otherOrder, true);
+            throw new InternalServerErrorException();
+        }).doThrow(new InternalServerErrorException()).when(this.recoveryService).updateAll(Mockito.any());
+        Mockito.doThrow(new InternalServerErrorException()).when(this.auditableOrderStateChangeService)
+                .registerStateChanges(Mockito.any());
+
+        // exercise
+        for (int i = 0; i < OrderWriteBehindQueue.MAX_WRITE_ATTEMPTS; i++) {
+            Assert.assertFalse(this.writeBehindQueue.flush());
+        }
+
+        // verify
+        Assert.assertEquals(2, this.writeBehindQueue.getPendingOrders());
+        Assert.assertEquals(2, this.writeBehindQueue.getPendingStateChanges());
+
+        Mockito.doNothing().when(this.recoveryService).updateAll(Mockito.any());
+        Mockito.doNothing().when(this.auditableOrderStateChangeService).registerStateChanges(Mockito.any());
+        ArgumentCaptor<List> stateChanges = ArgumentCaptor.forClass(List.class);
+        Assert.assertTrue(this.writeBehindQueue.flush());
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.atLeastOnce())
+                .registerStateChanges(stateChanges.capture());
+        List<AuditableOrderStateChange> writtenStateChanges = new ArrayList<>(stateChanges.getValue());
+        Assert.assertEquals(order, writtenStateChanges.get(0).getOrder());
+        Assert.assertEquals(otherOrder, writtenStateChanges.get(1).getOrder());
+    }
+
+    // test case: When an order cannot be written, the others must still be written, and the
+    // failing one must be dropped after the maximum number of attempts.
+    @Test
+    public void testFlushDropsOrderThatKeepsFailing() throws InternalServerErrorException {
+        // set up
+        Order poisonedOrder = this.testUtils.createLocalComputeOrder();
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue.enqueue(poisonedOrder, false);
+        this.writeBehindQueue.enqueue(order, false);
+        Mockito.doAnswer(invocation -> {
+            if (((Collection) invocation.getArguments()[0]).contains(poisonedOrder)) {
+                throw new InternalServerErrorException();
+            }
+            return null;
+        }).when(this.recoveryService).updateAll(Mockito.any());
+
+        // exercise
+        boolean flushed = this.writeBehindQueue.flush();
+
+        // verify
+        Assert.assertFalse(flushed);
+        Mockito.verify(this.recoveryService, Mockito.times(TestUtils.RUN_ONCE))
+                .updateAll(Collections.singletonList(order));
+        Assert.assertEquals(1, this.writeBehindQueue.getPendingOrders());
+
+        // exercise
+        for (int i = 1; i < OrderWriteBehindQueue.MAX_WRITE_ATTEMPTS; i++) {
+            this.writeBehindQueue.enqueue(order, false);
+            this.writeBehindQueue.flush();
+        }
+
+        // verify
+        Assert.assertEquals(0, this.writeBehindQueue.getPendingOrders());
+    }
+
+    // test case: When the queue is full, the enqueue method must refuse the updates of orders that
+    // are not pending yet, so that the caller writes them right away.
+    @Test
+    public void testEnqueueWhenFull() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue = new OrderWriteBehindQueue(this.recoveryService,
+                this.auditableOrderStateChangeService, MAX_BATCH_SIZE, FLUSH_INTERVAL, 1);
+        this.writeBehindQueue.enqueue(order, false);
+
+        // exercise
+        boolean pendingOrderQueued = this.writeBehindQueue.enqueue(order, false);
+        boolean otherOrderQueued = this.writeBehindQueue.enqueue(this.testUtils.createLocalComputeOrder(), false);
+
+        // verify
+        Assert.assertTrue(pendingOrderQueued);
+        Assert.assertFalse(otherOrderQueued);
+        Assert.assertEquals(1, this.writeBehindQueue.getPendingOrders());
+    }
+
+    // test case: When an order is written right away, it must reach the database at once, along
+    // with its state change, and its pending update must be dropped.
+    @Test
+    public void testWriteSupersedesPendingUpdate() throws InternalServerErrorException {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue.enqueue(order, false);
+        order.setOrderStateInTestMode(OrderState.SELECTED);
+
+        // exercise
+        this.writeBehindQueue.write(order, true);
+
+        // verify
+        Mockito.verify(this.recoveryService, Mockito.times(TestUtils.RUN_ONCE)).update(order);
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.times(TestUtils.RUN_ONCE))
+                .registerStateChange(order);
+        Assert.assertEquals(0, this.writeBehindQueue.getPendingOrders());
+    }
+
+    // test case: When an order is written right away while a flush is writing other orders, it
+    // must reach the database without waiting for the flush.
+    @Test
+    public void testWriteDoesNotWaitForFlushOfOtherOrders() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue.enqueue(this.testUtils.createLocalComputeOrder(), false);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch orderWritten = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            flushStarted.countDown();
+            orderWritten.await();
+            return null;
+        }).when(this.recoveryService).updateAll(Mockito.any());
+        Thread flushThread = new Thread(this.writeBehindQueue::flush);
+        flushThread.start();
+        flushStarted.await();
+
+        // exercise
+        this.writeBehindQueue.write(order, false);
+        orderWritten.countDown();
+        flushThread.join();
+
+        // verify
+        Mockito.verify(this.recoveryService, Mockito.times(TestUtils.RUN_ONCE)).update(order);
+    }
+
+    // test case: When an order is written right away while a flush is writing an older version of
+    // it, the write must wait for the flush, so that the older version does not overwrite it.
+    @Test
+    public void testWriteWaitsForFlushOfSameOrder() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.writeBehindQueue.enqueue(order, false);
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        List<String> writes = Collections.synchronizedList(new ArrayList<>());
+        Mockito.doAnswer(invocation -> {
+            flushStarted.countDown();
+            Thread.sleep(100);
+            writes.add("flush");
+            return null;
+        }).when(this.recoveryService).updateAll(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            writes.add("write");
+            return null;
+        }).when(this.recoveryService).update(order);
+        Thread flushThread = new Thread(this.writeBehindQueue::flush);
+        flushThread.start();
+        flushStarted.await();
+
+        // exercise
+        this.writeBehindQueue.write(order, false);
+        flushThread.join();
+
+        // verify
+        Assert.assertEquals(Arrays.asList("flush", "write"), writes);
+    }
+
+    // test case: When the queue is full, the awaitBatch method must return before the flush
+    // interval expires.
+    @Test
+    public void testAwaitBatchReturnsWhenFull() throws InterruptedException {
+        // set up
+        for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+            this.writeBehindQueue.enqueue(this.testUtils.createLocalComputeOrder(), false);
+        }
+        long startTime = System.currentTimeMillis();
+
+        // exercise
+        this.writeBehindQueue.awaitBatch();
+
+        // verify
+        Assert.assertTrue(System.currentTimeMillis() - startTime < FLUSH_INTERVAL);
+    }
+}
@@ -20,7 +20,9 @@ import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
 import cloud.fogbow.ras.core.plugins.authorization.DefaultAuthorizationPlugin;
+import com.google.gson.Gson;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -552,6 +554,72 @@ public class RemoteFacadeTest extends BaseUnitTests {
 		this.facade.closeOrderAtRemoteRequester(signallingMember, remoteOrder.getId());
 	}
 
+	// test case: When calling the updateOrdersFromRemote method, the state pushed by the provider
+	// of a remote order must be copied to it, and the updates signalled by another provider ignored.
+	@Test
+	public void testUpdateOrdersFromRemote() throws Exception {
+		// set up
+		String signallingMember = TestUtils.FAKE_REMOTE_MEMBER_ID;
+
+		Order remoteOrder = new ComputeOrder();
+		remoteOrder.setRequester(TestUtils.LOCAL_MEMBER_ID);
+		remoteOrder.setProvider(signallingMember);
+		this.orderController.activateOrder(remoteOrder);
+
+		Order otherRemoteOrder = new ComputeOrder();
+		otherRemoteOrder.setRequester(TestUtils.LOCAL_MEMBER_ID);
+		otherRemoteOrder.setProvider(FAKE_REQUESTER_ID);
+		this.orderController.activateOrder(otherRemoteOrder);
+
+		List<RemoteOrderUpdate> orderUpdates = new ArrayList<>();
+		orderUpdates.add(createOrderUpdate(remoteOrder.getId(), OrderState.FULFILLED));
+		orderUpdates.add(createOrderUpdate(otherRemoteOrder.getId(), OrderState.FULFILLED));
+		orderUpdates.add(createOrderUpdate(FAKE_INSTANCE_ID, OrderState.FULFILLED));
+
+		// exercise
+		this.facade.updateOrdersFromRemote(signallingMember, orderUpdates);
+
+		// verify
+		Assert.assertEquals(OrderState.FULFILLED, remoteOrder.getOrderState());
+		Assert.assertEquals(OrderState.OPEN, otherRemoteOrder.getOrderState());
+	}
+
+	// test case: When calling the updateOrdersFromRemote method with updates that arrive out of
+	// order, the updates older than the last one applied to the order must be ignored.
+	@Test
+	public void testUpdateOrdersFromRemoteIgnoresStaleUpdates() throws Exception {
+		// set up
+		String signallingMember = TestUtils.FAKE_REMOTE_MEMBER_ID;
+
+		Order remoteOrder = new ComputeOrder();
+		remoteOrder.setRequester(TestUtils.LOCAL_MEMBER_ID);
+		remoteOrder.setProvider(signallingMember);
+		this.orderController.activateOrder(remoteOrder);
+
+		List<RemoteOrderUpdate> orderUpdates = new ArrayList<>();
+		orderUpdates.add(createOrderUpdate(remoteOrder.getId(), OrderState.FULFILLED, 2));
+		orderUpdates.add(createOrderUpdate(remoteOrder.getId(), OrderState.SPAWNING, 1));
+		orderUpdates.add(createOrderUpdate(remoteOrder.getId(), OrderState.SPAWNING, 2));
+
+		// exercise
+		this.facade.updateOrdersFromRemote(signallingMember, orderUpdates);
+
+		// verify
+		Assert.assertEquals(OrderState.FULFILLED, remoteOrder.getOrderState());
+		Assert.assertEquals(2, remoteOrder.getRemoteUpdateSequence());
+	}
+
+	private RemoteOrderUpdate createOrderUpdate(String orderId, OrderState orderState) {
+		return createOrderUpdate(orderId, orderState, 0);
+	}
+
+	private RemoteOrderUpdate createOrderUpdate(String orderId, OrderState orderState, long sequence) {
+		ComputeOrder order = new ComputeOrder();
+		order.setOrderStateInTestMode(orderState);
+		return new RemoteOrderUpdate(orderId, orderState.toString(), ComputeOrder.class.getName(),
+				new Gson().toJson(order), sequence);
+	}
+
 	private AuthorizationPlugin mockAuthorizationPlugin(SystemUser systemUser, RasOperation operation)
 			throws InternalServerErrorException, UnauthorizedRequestException {
 		AuthorizationPlugin<RasOperation> authorization = Mockito.mock(DefaultAuthorizationPlugin.class);
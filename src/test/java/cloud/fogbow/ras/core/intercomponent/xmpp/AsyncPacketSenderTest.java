@@ -0,0 +1,173 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import org.jamppa.component.PacketSender;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.JID;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncPacketSenderTest {
+
+    private static final String PROVIDER_JID = "ras-providing-member";
+    private static final String OTHER_PROVIDER_JID = "ras-other-member";
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    private PacketSender packetSender;
+    private AsyncPacketSender asyncPacketSender;
+
+    @Before
+    public void setUp() {
+        this.packetSender = Mockito.mock(PacketSender.class);
+        this.asyncPacketSender = new AsyncPacketSender(this.packetSender, TIMEOUT, 2);
+    }
+
+    // test case: checks if the requests are sent right away, and if each response completes the request it
+    // answers, matched by the IQ id, regardless of the order in which the responses arrive
+    @Test
+    public void testResponsesAreMatchedByIqId() throws Exception {
+        // set up
+        IQ firstIq = createIQ(PROVIDER_JID);
+        IQ secondIq = createIQ(PROVIDER_JID);
+
+        // exercise
+        CompletableFuture<IQ> firstFuture = this.asyncPacketSender.sendPacket(firstIq);
+        CompletableFuture<IQ> secondFuture = this.asyncPacketSender.sendPacket(secondIq);
+        IQ secondResponse = IQ.createResultIQ(secondIq);
+        boolean secondConsumed = this.asyncPacketSender.handleResponse(secondResponse);
+
+        // verify
+        Mockito.verify(this.packetSender).sendPacket(firstIq);
+        Mockito.verify(this.packetSender).sendPacket(secondIq);
+        Assert.assertTrue(secondConsumed);
+        Assert.assertSame(secondResponse, secondFuture.get());
+        Assert.assertFalse(firstFuture.isDone());
+        Assert.assertEquals(1, this.asyncPacketSender.getInFlightRequests(PROVIDER_JID));
+    }
+
+    // test case: checks if a response that does not come from the provider the request was sent to, or that
+    // answers no request sent by the sender, is left to the usual path
+    @Test
+    public void testUnknownResponsesAreNotConsumed() {
+        // set up
+        IQ iq = createIQ(PROVIDER_JID);
+        CompletableFuture<IQ> future = this.asyncPacketSender.sendPacket(iq);
+        IQ forgedResponse = IQ.createResultIQ(iq);
+        forgedResponse.setFrom(OTHER_PROVIDER_JID);
+        IQ unknownResponse = IQ.createResultIQ(createIQ(PROVIDER_JID));
+
+        // exercise
+        boolean forgedConsumed = this.asyncPacketSender.handleResponse(forgedResponse);
+        boolean unknownConsumed = this.asyncPacketSender.handleResponse(unknownResponse);
+
+        // verify
+        Assert.assertFalse(forgedConsumed);
+        Assert.assertFalse(unknownConsumed);
+        Assert.assertFalse(future.isDone());
+    }
+
+    // test case: checks if the requests beyond the limit of requests in flight to the same provider wait until
+    // a response from that provider arrives, while the requests to other providers are sent right away
+    @Test
+    public void testRequestsInFlightAreLimitedPerProvider() throws Exception {
+        // set up
+        IQ firstIq = createIQ(PROVIDER_JID);
+        IQ secondIq = createIQ(PROVIDER_JID);
+        IQ thirdIq = createIQ(PROVIDER_JID);
+        IQ otherProviderIq = createIQ(OTHER_PROVIDER_JID);
+
+        // exercise
+        this.asyncPacketSender.sendPacket(firstIq);
+        this.asyncPacketSender.sendPacket(secondIq);
+        CompletableFuture<IQ> thirdFuture = this.asyncPacketSender.sendPacket(thirdIq);
+        this.asyncPacketSender.sendPacket(otherProviderIq);
+
+        // verify
+        Mockito.verify(this.packetSender, Mockito.never()).sendPacket(thirdIq);
+        Mockito.verify(this.packetSender).sendPacket(otherProviderIq);
+        Assert.assertEquals(2, this.asyncPacketSender.getInFlightRequests(PROVIDER_JID));
+        Assert.assertEquals(1, this.asyncPacketSender.getWaitingRequests(PROVIDER_JID));
+
+        // exercise
+        this.asyncPacketSender.handleResponse(IQ.createResultIQ(firstIq));
+
+        // verify
+        Mockito.verify(this.packetSender).sendPacket(thirdIq);
+        Assert.assertEquals(2, this.asyncPacketSender.getInFlightRequests(PROVIDER_JID));
+        Assert.assertEquals(0, this.asyncPacketSender.getWaitingRequests(PROVIDER_JID));
+
+        // exercise
+        IQ thirdResponse = IQ.createResultIQ(thirdIq);
+        this.asyncPacketSender.handleResponse(thirdResponse);
+
+        // verify
+        Assert.assertSame(thirdResponse, thirdFuture.get());
+    }
+
+    // test case: checks if requests sharing the same IQ id are told apart by giving a new id to the later one
+    @Test
+    public void testRequestsWithTheSameIqIdAreToldApart() throws Exception {
+        // set up
+        IQ firstIq = createIQ(PROVIDER_JID);
+        IQ secondIq = createIQ(PROVIDER_JID);
+        secondIq.setID(firstIq.getID());
+
+        // exercise
+        CompletableFuture<IQ> firstFuture = this.asyncPacketSender.sendPacket(firstIq);
+        CompletableFuture<IQ> secondFuture = this.asyncPacketSender.sendPacket(secondIq);
+        this.asyncPacketSender.handleResponse(IQ.createResultIQ(secondIq));
+
+        // verify
+        Assert.assertNotEquals(firstIq.getID(), secondIq.getID());
+        Assert.assertTrue(secondFuture.isDone());
+        Assert.assertFalse(firstFuture.isDone());
+    }
+
+    // test case: checks if a request with no response within the timeout completes with a null response, which
+    // the reader path translates into an UnavailableProviderException, just like the synchronous path does
+    @Test
+    public void testRequestTimesOut() throws Exception {
+        // set up
+        this.asyncPacketSender = new AsyncPacketSender(this.packetSender, 10, 1);
+        IQ iq = createIQ(PROVIDER_JID);
+
+        // exercise
+        CompletableFuture<String> future = this.asyncPacketSender.sendPacket(iq, PROVIDER_JID, response -> "");
+
+        // verify
+        try {
+            future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnavailableProviderException);
+        }
+        Assert.assertEquals(0, this.asyncPacketSender.getInFlightRequests(PROVIDER_JID));
+    }
+
+    // test case: checks if a request that cannot be sent completes exceptionally and releases its slot
+    @Test
+    public void testRequestThatCannotBeSent() {
+        // set up
+        IQ iq = createIQ(PROVIDER_JID);
+        Mockito.doThrow(new IllegalStateException()).when(this.packetSender).sendPacket(iq);
+
+        // exercise
+        CompletableFuture<IQ> future = this.asyncPacketSender.sendPacket(iq);
+
+        // verify
+        Assert.assertTrue(future.isCompletedExceptionally());
+        Assert.assertEquals(0, this.asyncPacketSender.getInFlightRequests(PROVIDER_JID));
+    }
+
+    private IQ createIQ(String to) {
+        IQ iq = new IQ(IQ.Type.get);
+        iq.setTo(new JID(to));
+        return iq;
+    }
+}
@@ -0,0 +1,40 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.util.GsonHolder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IqPayloadCodecTest {
+
+    private static final String UNKNOWN_CLASS_NAME = "cloud.fogbow.ras.core.models.orders.UnknownOrder";
+
+    // test case: checks if the payload encoded is the JSON the shared Gson produces, so that members not
+    // using the codec understand it, and if it is decoded back into the class named by the message
+    @Test
+    public void testEncodeAndDecodeByClassName() throws Exception {
+        // set up
+        ComputeOrder order = new ComputeOrder();
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        String payload = IqPayloadCodec.encode(order);
+        Object decodedOrder = IqPayloadCodec.decode(payload, ComputeOrder.class.getName());
+        Object decodedAgain = IqPayloadCodec.decode(payload, ComputeOrder.class.getName());
+
+        // verify
+        Assert.assertEquals(GsonHolder.getInstance().toJson(order), payload);
+        Assert.assertTrue(decodedOrder instanceof ComputeOrder);
+        Assert.assertEquals(OrderState.FULFILLED, ((Order) decodedOrder).getOrderState());
+        Assert.assertTrue(decodedAgain instanceof ComputeOrder);
+    }
+
+    // test case: checks if decoding a payload of a class that does not exist fails with ClassNotFoundException
+    @Test(expected = ClassNotFoundException.class)
+    public void testDecodeUnknownClassName() throws Exception {
+        // exercise/verify
+        IqPayloadCodec.decode("{}", UNKNOWN_CLASS_NAME);
+    }
+}
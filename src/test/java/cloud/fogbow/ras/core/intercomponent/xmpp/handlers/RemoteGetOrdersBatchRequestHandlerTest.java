@@ -0,0 +1,116 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.handlers;
+
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(RemoteFacade.class)
+public class RemoteGetOrdersBatchRequestHandlerTest {
+
+    private static final String REQUESTING_MEMBER = "requestingmember";
+    private static final String FAKE_ORDER_ID = "fake-order-id";
+    private static final String FAKE_UNCHANGED_ORDER_ID = "fake-unchanged-order-id";
+    private static final String FAKE_MISSING_ORDER_ID = "fake-missing-order-id";
+    private static final String FAKE_ERROR_MESSAGE = "fake-error-message";
+    private static final String FAKE_FAULT_MESSAGE = "fake-fault-message";
+    private static final String FAKE_HOST_NAME = "fake-host-name";
+
+    private RemoteGetOrdersBatchRequestHandler remoteGetOrdersBatchRequestHandler;
+    private RemoteFacade remoteFacade;
+
+    @Before
+    public void setUp() {
+        this.remoteGetOrdersBatchRequestHandler = new RemoteGetOrdersBatchRequestHandler();
+
+        this.remoteFacade = Mockito.mock(RemoteFacade.class);
+        PowerMockito.mockStatic(RemoteFacade.class);
+        BDDMockito.given(RemoteFacade.getInstance()).willReturn(this.remoteFacade);
+    }
+
+    // test case: When getting the updates of a batch of orders, only the orders whose state has a version
+    // other than the one given and the orders that cannot be obtained must be answered.
+    @Test
+    public void testGetOrderUpdates() throws Exception {
+        // set up
+        ComputeOrder order = createOrder(OrderState.SPAWNING);
+        ComputeOrder unchangedOrder = createOrder(OrderState.FULFILLED);
+        Mockito.when(this.remoteFacade.getOrder(REQUESTING_MEMBER, FAKE_ORDER_ID)).thenReturn(order);
+        Mockito.when(this.remoteFacade.getOrder(REQUESTING_MEMBER, FAKE_UNCHANGED_ORDER_ID)).thenReturn(unchangedOrder);
+        Mockito.when(this.remoteFacade.getOrder(REQUESTING_MEMBER, FAKE_MISSING_ORDER_ID))
+                .thenThrow(new InstanceNotFoundException(FAKE_ERROR_MESSAGE));
+
+        String unchangedVersion = this.remoteGetOrdersBatchRequestHandler.getOrderUpdates(REQUESTING_MEMBER,
+                createVersions(FAKE_UNCHANGED_ORDER_ID, "")).get(0).getVersion();
+
+        Map<String, String> versionsByOrderId = new LinkedHashMap<>();
+        versionsByOrderId.put(FAKE_ORDER_ID, "");
+        versionsByOrderId.put(FAKE_UNCHANGED_ORDER_ID, unchangedVersion);
+        versionsByOrderId.put(FAKE_MISSING_ORDER_ID, "");
+
+        // exercise
+        List<RemoteOrderUpdate> orderUpdates = this.remoteGetOrdersBatchRequestHandler.getOrderUpdates(
+                REQUESTING_MEMBER, versionsByOrderId);
+
+        // verify
+        Assert.assertEquals(2, orderUpdates.size());
+        Assert.assertEquals(FAKE_ORDER_ID, orderUpdates.get(0).getOrderId());
+        Assert.assertFalse(orderUpdates.get(0).hasFailed());
+        Assert.assertNotEquals(unchangedVersion, orderUpdates.get(0).getVersion());
+        Assert.assertEquals(FAKE_MISSING_ORDER_ID, orderUpdates.get(1).getOrderId());
+        Assert.assertTrue(orderUpdates.get(1).hasFailed());
+        Assert.assertEquals(FAKE_ERROR_MESSAGE, orderUpdates.get(1).getErrorMessage());
+    }
+
+    // test case: The update of an order must carry only the fields the requesting member copies from the
+    // remote order, and be enough to rebuild an order of the same class.
+    @Test
+    public void testGetOrderUpdatesCarryOnlySynchronizedFields() throws Exception {
+        // set up
+        ComputeOrder order = createOrder(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+        order.setOnceFaultMessage(FAKE_FAULT_MESSAGE);
+        Mockito.when(this.remoteFacade.getOrder(REQUESTING_MEMBER, FAKE_ORDER_ID)).thenReturn(order);
+
+        // exercise
+        List<RemoteOrderUpdate> orderUpdates = this.remoteGetOrdersBatchRequestHandler.getOrderUpdates(
+                REQUESTING_MEMBER, createVersions(FAKE_ORDER_ID, ""));
+
+        // verify
+        Assert.assertEquals(1, orderUpdates.size());
+        Assert.assertFalse(new Gson().toJson(orderUpdates.get(0)).contains(FAKE_HOST_NAME));
+        Order remoteOrder = orderUpdates.get(0).toOrder();
+        Assert.assertTrue(remoteOrder instanceof ComputeOrder);
+        Assert.assertEquals(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST, remoteOrder.getOrderState());
+        Assert.assertEquals(FAKE_FAULT_MESSAGE, remoteOrder.getFaultMessage());
+    }
+
+    private ComputeOrder createOrder(OrderState orderState) {
+        ComputeOrder order = new ComputeOrder();
+        order.setName(FAKE_HOST_NAME);
+        order.setOrderStateInTestMode(orderState);
+        return order;
+    }
+
+    private Map<String, String> createVersions(String orderId, String version) {
+        Map<String, String> versionsByOrderId = new LinkedHashMap<>();
+        versionsByOrderId.put(orderId, version);
+        return versionsByOrderId;
+    }
+}
@@ -0,0 +1,137 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.core.intercomponent.xmpp.AsyncPacketSender;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IQMatcher;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.gson.Gson;
+import org.dom4j.Element;
+import org.jamppa.component.PacketSender;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RemoteGetOrdersBatchRequestTest {
+
+    private static final String FAKE_ORDER_ID = "fake-order-id";
+    private static final String FAKE_FAILED_ORDER_ID = "fake-failed-order-id";
+    private static final String FAKE_VERSION = "fake-version";
+    private static final String FAKE_ERROR_MESSAGE = "fake-error-message";
+    private static final String PROVIDING_MEMBER = "providing-member";
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    private RemoteGetOrdersBatchRequest remoteGetOrdersBatchRequest;
+    private PacketSender packetSender;
+    private Map<String, String> versionsByOrderId;
+
+    @Before
+    public void setUp() {
+        this.versionsByOrderId = new HashMap<>();
+        this.versionsByOrderId.put(FAKE_ORDER_ID, FAKE_VERSION);
+        this.versionsByOrderId.put(FAKE_FAILED_ORDER_ID, "");
+        this.remoteGetOrdersBatchRequest = new RemoteGetOrdersBatchRequest(PROVIDING_MEMBER, this.versionsByOrderId);
+        this.packetSender = Mockito.mock(PacketSender.class);
+        PacketSenderHolder.setPacketSender(this.packetSender);
+    }
+
+    //test case: checks if the IQ sent carries the versions of all the orders, and if the updates of the
+    //orders that changed and of the orders that failed are read from the response
+    @Test
+    public void testSend() throws Exception {
+        //set up
+        ComputeOrder remoteOrder = new ComputeOrder();
+        remoteOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+        RemoteOrderUpdate orderUpdate = new RemoteOrderUpdate(FAKE_ORDER_ID, FAKE_VERSION,
+                ComputeOrder.class.getName(), new Gson().toJson(remoteOrder));
+        RemoteOrderUpdate failedOrderUpdate = new RemoteOrderUpdate(FAKE_FAILED_ORDER_ID, FAKE_ERROR_MESSAGE);
+        IQ iqResponse = getOrderUpdatesIQResponse(Arrays.asList(orderUpdate, failedOrderUpdate));
+        Mockito.doReturn(iqResponse).when(this.packetSender).syncSendPacket(Mockito.any(IQ.class));
+        IQ expectedIQ = RemoteGetOrdersBatchRequest.marshal(PROVIDING_MEMBER, this.versionsByOrderId);
+
+        //exercise
+        List<RemoteOrderUpdate> orderUpdates = this.remoteGetOrdersBatchRequest.send();
+
+        //verify
+        IQMatcher matcher = new IQMatcher(expectedIQ);
+        Mockito.verify(this.packetSender).syncSendPacket(Mockito.argThat(matcher));
+        Assert.assertEquals(2, orderUpdates.size());
+        Assert.assertEquals(FAKE_ORDER_ID, orderUpdates.get(0).getOrderId());
+        Assert.assertEquals(FAKE_VERSION, orderUpdates.get(0).getVersion());
+        Assert.assertFalse(orderUpdates.get(0).hasFailed());
+        Order order = orderUpdates.get(0).toOrder();
+        Assert.assertTrue(order instanceof ComputeOrder);
+        Assert.assertEquals(OrderState.FULFILLED, order.getOrderState());
+        Assert.assertEquals(FAKE_FAILED_ORDER_ID, orderUpdates.get(1).getOrderId());
+        Assert.assertTrue(orderUpdates.get(1).hasFailed());
+        Assert.assertEquals(FAKE_ERROR_MESSAGE, orderUpdates.get(1).getErrorMessage());
+    }
+
+    //test case: checks if "send" is properly forwading UnavailableProviderException thrown by
+    //"XmppErrorConditionToExceptionTranslator.handleError" when the IQ response is null
+    @Test(expected = UnavailableProviderException.class)
+    public void testSendWhenResponseIsNull() throws Exception {
+        //set up
+        Mockito.doReturn(null).when(this.packetSender).syncSendPacket(Mockito.any());
+
+        //exercise/verify
+        this.remoteGetOrdersBatchRequest.send();
+    }
+
+    //test case: checks if "sendAsync" sends the same IQ as "send" without waiting for the response, and if the
+    //updates are read from the response once it arrives
+    @Test
+    public void testSendAsync() throws Exception {
+        //set up
+        AsyncPacketSender asyncPacketSender = new AsyncPacketSender(this.packetSender, TIMEOUT, 1);
+        PacketSenderHolder.setAsyncPacketSender(asyncPacketSender);
+        RemoteOrderUpdate failedOrderUpdate = new RemoteOrderUpdate(FAKE_FAILED_ORDER_ID, FAKE_ERROR_MESSAGE);
+        IQ expectedIQ = RemoteGetOrdersBatchRequest.marshal(PROVIDING_MEMBER, this.versionsByOrderId);
+
+        //exercise
+        CompletableFuture<List<RemoteOrderUpdate>> future = this.remoteGetOrdersBatchRequest.sendAsync();
+
+        //verify
+        ArgumentCaptor<IQ> iqCaptor = ArgumentCaptor.forClass(IQ.class);
+        Mockito.verify(this.packetSender).sendPacket(iqCaptor.capture());
+        Assert.assertTrue(new IQMatcher(expectedIQ).matches(iqCaptor.getValue()));
+        Assert.assertFalse(future.isDone());
+
+        //exercise
+        IQ iqResponse = getOrderUpdatesIQResponse(Arrays.asList(failedOrderUpdate));
+        iqResponse.setType(IQ.Type.result);
+        iqResponse.setID(iqCaptor.getValue().getID());
+        iqResponse.setFrom(iqCaptor.getValue().getTo());
+        asyncPacketSender.handleResponse(iqResponse);
+
+        //verify
+        List<RemoteOrderUpdate> orderUpdates = future.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(1, orderUpdates.size());
+        Assert.assertEquals(FAKE_FAILED_ORDER_ID, orderUpdates.get(0).getOrderId());
+        Assert.assertTrue(orderUpdates.get(0).hasFailed());
+    }
+
+    private IQ getOrderUpdatesIQResponse(List<RemoteOrderUpdate> orderUpdates) {
+        IQ iqResponse = new IQ();
+        Element queryEl = iqResponse.getElement().addElement(IqElement.QUERY.toString(),
+                RemoteMethod.REMOTE_GET_ORDERS_BATCH.toString());
+        Element orderUpdatesElement = queryEl.addElement(IqElement.ORDER_UPDATES.toString());
+        orderUpdatesElement.setText(new Gson().toJson(orderUpdates));
+        return iqResponse;
+    }
+}
@@ -0,0 +1,135 @@
+package cloud.fogbow.ras.core.models;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class FlavorIndexTest {
+
+    private static final String GPU_TAG = "GPUs";
+    private static final String STORAGE_TAG = "storage";
+    private static final String[] GPU_VALUES = { "0", "1", "2" };
+    private static final String[] STORAGE_VALUES = { "ebs-only", "ssd" };
+    private static final int RANDOM_CATALOGS = 50;
+    private static final int RANDOM_QUERIES = 200;
+    private static final long SEED = 42;
+
+    // test case: For random catalogs and queries, the smallest flavor found by the index
+    // must be the same found by a linear scan over the flavors in their natural order.
+    @Test
+    public void testFindSmallestMatchesLinearScan() {
+        Random random = new Random(SEED);
+        for (int catalog = 0; catalog < RANDOM_CATALOGS; catalog++) {
+            // set up
+            List<HardwareRequirements> flavors = new ArrayList<>();
+            Map<String, Map<String, String>> tagsByFlavorId = new HashMap<>();
+            int size = random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                String flavorId = "flavor-" + i;
+                flavors.add(new HardwareRequirements(flavorId, flavorId, 1 + random.nextInt(32),
+                        512 * (1 + random.nextInt(64)), 10 * random.nextInt(20)));
+                tagsByFlavorId.put(flavorId, createTags(GPU_VALUES[random.nextInt(GPU_VALUES.length)],
+                        STORAGE_VALUES[random.nextInt(STORAGE_VALUES.length)]));
+            }
+            FlavorIndex<HardwareRequirements> flavorIndex = new FlavorIndex<>(flavors,
+                    flavor -> tagsByFlavorId.get(flavor.getFlavorId()));
+
+            for (int query = 0; query < RANDOM_QUERIES; query++) {
+                int cpu = random.nextInt(34);
+                int ram = 512 * random.nextInt(66);
+                int disk = 10 * random.nextInt(21);
+                Map<String, String> requirements = random.nextBoolean() ? null : createTags(
+                        GPU_VALUES[random.nextInt(GPU_VALUES.length)], null);
+
+                // exercise
+                HardwareRequirements flavor = flavorIndex.findSmallest(cpu, ram, disk, requirements);
+
+                // verify
+                HardwareRequirements expected = scan(flavorIndex.getFlavors(), tagsByFlavorId, cpu, ram, disk,
+                        requirements);
+                Assert.assertSame(expected, flavor);
+            }
+        }
+    }
+
+    // test case: The index must only return flavors whose tags have all the values required,
+    // comparing the values ignoring case, and none if a required tag is unknown.
+    @Test
+    public void testFindSmallestWithRequirements() {
+        // set up
+        HardwareRequirements small = new HardwareRequirements("small", "small", 1, 1024, 10);
+        HardwareRequirements medium = new HardwareRequirements("medium", "medium", 2, 2048, 20);
+        HardwareRequirements large = new HardwareRequirements("large", "large", 4, 4096, 40);
+        Map<String, Map<String, String>> tagsByFlavorId = new HashMap<>();
+        tagsByFlavorId.put(small.getFlavorId(), createTags("0", "ebs-only"));
+        tagsByFlavorId.put(medium.getFlavorId(), createTags("1", "ebs-only"));
+        tagsByFlavorId.put(large.getFlavorId(), createTags("1", "SSD"));
+        FlavorIndex<HardwareRequirements> flavorIndex = new FlavorIndex<>(Arrays.asList(large, small, medium),
+                flavor -> tagsByFlavorId.get(flavor.getFlavorId()));
+
+        // exercise and verify
+        Assert.assertSame(small, flavorIndex.findSmallest(1, 512, 5, Collections.emptyMap()));
+        Assert.assertSame(medium, flavorIndex.findSmallest(1, 512, 5, createTags("1", null)));
+        Assert.assertSame(large, flavorIndex.findSmallest(1, 512, 5, createTags(" 1 ", "ssd")));
+        Assert.assertNull(flavorIndex.findSmallest(1, 512, 5, createTags("2", null)));
+        Assert.assertNull(flavorIndex.findSmallest(1, 512, 5, Collections.singletonMap("unknown", "tag")));
+    }
+
+    // test case: The index must return no flavor when none is large enough or when it is empty,
+    // and list every flavor that fits from the smallest to the largest.
+    @Test
+    public void testFindWithoutFitAndFindAll() {
+        // set up
+        HardwareRequirements small = new HardwareRequirements("small", "small", 1, 1024, 10);
+        HardwareRequirements medium = new HardwareRequirements("medium", "medium", 2, 2048, 20);
+        HardwareRequirements large = new HardwareRequirements("large", "large", 4, 4096, 40);
+        FlavorIndex<HardwareRequirements> flavorIndex = new FlavorIndex<>(Arrays.asList(medium, large, small));
+        FlavorIndex<HardwareRequirements> emptyIndex = new FlavorIndex<>(new ArrayList<HardwareRequirements>());
+
+        // exercise and verify
+        Assert.assertNull(flavorIndex.findSmallest(8, 1024, 10));
+        Assert.assertNull(emptyIndex.findSmallest(1, 1, 1));
+        Assert.assertEquals(Arrays.asList(medium, large), flavorIndex.findAll(2, 1024, 10));
+        Assert.assertEquals(Arrays.asList(small, medium, large), flavorIndex.getFlavors());
+        Assert.assertEquals(0, emptyIndex.findAll(1, 1, 1).size());
+    }
+
+    private HardwareRequirements scan(List<HardwareRequirements> flavors,
+                                      Map<String, Map<String, String>> tagsByFlavorId,
+                                      int cpu, int ram, int disk, Map<String, String> requirements) {
+        for (HardwareRequirements flavor : flavors) {
+            if (flavor.getCpu() < cpu || flavor.getRam() < ram || flavor.getDisk() < disk) {
+                continue;
+            }
+            Map<String, String> tags = tagsByFlavorId.get(flavor.getFlavorId());
+            boolean matches = true;
+            if (requirements != null) {
+                for (Map.Entry<String, String> requirement : requirements.entrySet()) {
+                    matches &= requirement.getValue().equalsIgnoreCase(tags.get(requirement.getKey()));
+                }
+            }
+            if (matches) {
+                return flavor;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, String> createTags(String gpus, String storage) {
+        Map<String, String> tags = new HashMap<>();
+        if (gpus != null) {
+            tags.put(GPU_TAG, gpus);
+        }
+        if (storage != null) {
+            tags.put(STORAGE_TAG, storage);
+        }
+        return tags;
+    }
+}
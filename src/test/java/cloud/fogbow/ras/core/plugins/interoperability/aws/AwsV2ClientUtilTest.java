@@ -1,6 +1,9 @@
 package cloud.fogbow.ras.core.plugins.interoperability.aws;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.constants.AwsConstants;
+import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -10,6 +13,10 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import cloud.fogbow.common.exceptions.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.Ec2ClientBuilder;
 
@@ -21,6 +28,15 @@ public class AwsV2ClientUtilTest {
 	private static final String EAST_SOUTH_AMERICA_REGION = "sa-east-1";
 	private static final String EMPTY_STRING = "";
 	private static final String FAKE_TOKEN_VALUE = "fake-access-key:fake-secret-key";
+	private static final String OTHER_FAKE_TOKEN_VALUE = "fake-access-key:other-fake-secret-key";
+	private static final String EAST_US_REGION = "us-east-1";
+	private static final String FAKE_ACCESS_KEY_PREFIX = "fake-access-key-";
+	private static final String FAKE_SECRET_KEY = "fake-secret-key";
+
+	@Before
+	public void setUp() {
+		AwsV2ClientUtil.clearClients();
+	}
 
 	// test case: Verifies that the invocation of the build method to create a
 	// client was called correctly.
@@ -52,6 +68,105 @@ public class AwsV2ClientUtilTest {
 		Mockito.verify(clientBuilder, Mockito.times(1)).build();
 	}
 	
+	// test case: When creating clients for the same credentials and region, the client
+	// built by the first call must be reused, while other credentials or regions must
+	// get clients of their own.
+	@Test
+	public void testCreateEc2ClientReusesClients() throws InvalidParameterException, InternalServerErrorException {
+		// set up
+		Ec2ClientBuilder clientBuilder = Mockito.mock(Ec2ClientBuilder.class);
+
+		PowerMockito.mockStatic(Ec2Client.class);
+		PowerMockito.when(Ec2Client.builder()).thenReturn(clientBuilder);
+
+		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.build()).thenAnswer(invocation -> Mockito.mock(Ec2Client.class));
+
+		long creations = AwsV2ClientUtil.getClientCreations();
+
+		// exercise
+		Ec2Client client = AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+		Ec2Client sameClient = AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+		Ec2Client otherRegionClient = AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_US_REGION);
+		Ec2Client otherSecretClient = AwsV2ClientUtil.createEc2Client(OTHER_FAKE_TOKEN_VALUE,
+				EAST_SOUTH_AMERICA_REGION);
+
+		// verify
+		Assert.assertSame(client, sameClient);
+		Assert.assertNotSame(client, otherRegionClient);
+		Assert.assertNotSame(client, otherSecretClient);
+		Assert.assertEquals(creations + 3, AwsV2ClientUtil.getClientCreations());
+		Assert.assertEquals(3, AwsV2ClientUtil.getCachedClients());
+		Mockito.verify(clientBuilder, Mockito.times(3)).build();
+	}
+
+	// test case: When the clients are discarded, each of them must be closed.
+	@Test
+	public void testClearClientsClosesClients() throws InvalidParameterException, InternalServerErrorException {
+		// set up
+		Ec2Client client = Mockito.mock(Ec2Client.class);
+		Ec2ClientBuilder clientBuilder = Mockito.mock(Ec2ClientBuilder.class);
+
+		PowerMockito.mockStatic(Ec2Client.class);
+		PowerMockito.when(Ec2Client.builder()).thenReturn(clientBuilder);
+
+		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.build()).thenReturn(client);
+
+		AwsV2ClientUtil.createEc2Client(FAKE_TOKEN_VALUE, EAST_SOUTH_AMERICA_REGION);
+
+		// exercise
+		AwsV2ClientUtil.clearClients();
+
+		// verify
+		Mockito.verify(client, Mockito.times(1)).close();
+		Assert.assertEquals(0, AwsV2ClientUtil.getCachedClients());
+	}
+	
+	// test case: When clients are evicted to make room for others, they must only be closed
+	// once they have been out of the cache for as long as a client is kept idle.
+	@Test
+	public void testClientsEvictedForRoomAreClosedOnceIdle()
+			throws InvalidParameterException, InternalServerErrorException {
+
+		// set up
+		List<Ec2Client> clients = new ArrayList<>();
+		AtomicInteger closedClients = new AtomicInteger();
+		Ec2ClientBuilder clientBuilder = Mockito.mock(Ec2ClientBuilder.class);
+
+		PowerMockito.mockStatic(Ec2Client.class);
+		PowerMockito.when(Ec2Client.builder()).thenReturn(clientBuilder);
+
+		Mockito.when(clientBuilder.credentialsProvider(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.region(Mockito.any())).thenReturn(clientBuilder);
+		Mockito.when(clientBuilder.build()).thenAnswer(invocation -> {
+			Ec2Client client = Mockito.mock(Ec2Client.class);
+			Mockito.doAnswer(closeInvocation -> closedClients.incrementAndGet()).when(client).close();
+			clients.add(client);
+			return client;
+		});
+
+		for (int i = 0; i <= AwsV2ClientUtil.MAXIMUM_CLIENTS; i++) {
+			String tokenValue = FAKE_ACCESS_KEY_PREFIX + i + AwsConstants.TOKEN_VALUE_SEPARATOR + FAKE_SECRET_KEY;
+			AwsV2ClientUtil.createEc2Client(tokenValue, EAST_SOUTH_AMERICA_REGION);
+		}
+		long retiredClients = AwsV2ClientUtil.getRetiredClients();
+
+		// verify
+		Assert.assertTrue(retiredClients > 0);
+		Assert.assertEquals(clients.size(), AwsV2ClientUtil.getCachedClients() + retiredClients);
+		Assert.assertEquals(0, closedClients.get());
+
+		// exercise
+		AwsV2ClientUtil.closeRetiredClients(System.currentTimeMillis() + AwsV2ClientUtil.CLIENT_IDLE_TIME);
+
+		// verify
+		Assert.assertEquals(0, AwsV2ClientUtil.getRetiredClients());
+		Assert.assertEquals(retiredClients, closedClients.get());
+	}
+
 	// test case: When calling the deleteInstance method, with an invalid token, an
 	// InternalServerErrorException will be thrown.
 	@Test(expected = InternalServerErrorException.class) // verify
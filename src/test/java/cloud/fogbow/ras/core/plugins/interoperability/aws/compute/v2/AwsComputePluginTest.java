@@ -757,8 +757,8 @@ public class AwsComputePluginTest extends BaseUnitTests {
         }
     }
     
-    // test case: When calling the findSmallestFlavor method, it must verify
-    // that is call was successful.
+    // test case: When calling the findSmallestFlavor method, it must return the
+    // smallest flavor that fits the order, after updating the flavors.
     @Test
     public void testFindSmallestFlavor() throws FogbowException {
         // set up
@@ -773,19 +773,20 @@ public class AwsComputePluginTest extends BaseUnitTests {
         AwsHardwareRequirements smallestFlavor = createFlavor(null);
         
         TreeSet flavors = createFlavorsCollection(smallestFlavor, greatestFlavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavorsByRequirements(Mockito.any());
+        this.plugin.setFlavors(flavors);
 
         // exercise
-        this.plugin.findSmallestFlavor(order, cloudUser);
+        AwsHardwareRequirements flavor = this.plugin.findSmallestFlavor(order, cloudUser);
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .updateHardwareRequirements(Mockito.eq(cloudUser));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavorsByRequirements(Mockito.any());
+        Assert.assertSame(greatestFlavor, flavor);
     }
     
-    // test case: When calling the findSmallestFlavor method, with a null response,
-    // it must verify if an UnacceptableOperationException has been thrown.
+    // test case: When calling the findSmallestFlavor method, without any flavor
+    // that fits the order, it must verify if an UnacceptableOperationException
+    // has been thrown.
     @Test
     public void testFindSmallestFlavorFail() throws FogbowException {
         // set up
@@ -796,7 +797,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
         
         AwsHardwareRequirements flavor = createFlavor(null);
         TreeSet flavors = createFlavorsCollection(flavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavorsByRequirements(Mockito.any());
+        this.plugin.setFlavors(flavors);
 
         String expected = Messages.Exception.NO_MATCHING_FLAVOR;
 
@@ -810,93 +811,41 @@ public class AwsComputePluginTest extends BaseUnitTests {
         }
     }
     
-    // test case: When calling the getFlavorsByRequirements method, with a specific
-    // requirements map, it must filter the possibilities that match the resources
-    // in the flavor file, returning the corresponding results.
+    // test case: When calling the findSmallestFlavor method, with a specific
+    // requirements map, it must return only a flavor that matches all of the
+    // requirements, ignoring the case of their values.
     @Test
-    public void testGetFlavorsByRequirements() {
+    public void testFindSmallestFlavorWithRequirements() throws FogbowException {
         // set up
-        Map<String, String> requirements = new HashMap<String, String>();
-        requirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
-
-        AwsHardwareRequirements flavor = createFlavor(null);
-        AwsHardwareRequirements flavorWithRequirements = createFlavor(requirements);
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection(flavor, flavorWithRequirements);
-
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        Mockito.doReturn(Arrays.asList(flavor)).when(this.plugin).filterFlavors(Mockito.any(), Mockito.any());
+        ComputeOrder order = this.testUtils.createLocalComputeOrder();
+        AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
 
-        // exercise
-        this.plugin.getFlavorsByRequirements(requirements);
+        Mockito.doNothing().when(this.plugin).updateHardwareRequirements(cloudUser);
 
-        // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getFlavors();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).filterFlavors(Mockito.any(), Mockito.any());
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).parseToTreeSet(Mockito.any());
-    }
-    
-    // test case: When calling the getFlavorsByRequirements method, with a null map,
-    // there will be no filter to limit the results, returning all the flavors
-    // obtained in the last update.
-    @Test
-    public void testGetFlavorsByRequirementsWithNullMap() {
-        // set up
-        Map<String, String> requirements = null;
-        
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection();
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        
-        int expected = flavors.size();
-        
-        // exercise
-        TreeSet<AwsHardwareRequirements> resultSet = this.plugin.getFlavorsByRequirements(requirements);
-        
-        // verify
-        Assert.assertEquals(expected, resultSet.size());
-    }
-    
-    // test case: When calling the getFlavorsByRequirements method, with an empty
-    // map, there will be no filter to limit the results, returning all the flavors
-    // obtained in the last update.
-    @Test
-    public void testGetFlavorsByRequirementsWithEmptyMap() {
-        // set up
-        Map<String, String> requirements = new HashMap<String, String>();
-        
-        TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection();
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
-        
-        int expected = flavors.size();
-        
-        // exercise
-        TreeSet<AwsHardwareRequirements> resultSet = this.plugin.getFlavorsByRequirements(requirements);
-        
-        // verify
-        Assert.assertEquals(expected, resultSet.size());
-    }
-    
-    // test case: When calling the filterFlavors method, it must return the flavor
-    // that matches the requirements passed by the parameter.
-    @Test
-    public void testFilterFlavors() {
-        // set up
         Map<String, String> requirements = new HashMap<String, String>();
+        requirements.put(VCPU_TEST_KEY, String.valueOf(TestUtils.CPU_VALUE));
         requirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE);
-        requirements.put(AwsComputePlugin.GRAPHIC_PROCESSOR_REQUIREMENT, String.valueOf(TestUtils.CPU_VALUE));
+        requirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
+
+        Map<String, String> otherRequirements = new HashMap<String, String>();
+        otherRequirements.put(VCPU_TEST_KEY, String.valueOf(TestUtils.CPU_VALUE));
+        otherRequirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
 
-        AwsHardwareRequirements flavor = createFlavor(new HashMap<String, String>());
+        AwsHardwareRequirements flavor = createFlavor(otherRequirements);
         AwsHardwareRequirements flavorWithRequirements = createFlavor(requirements);
         TreeSet<AwsHardwareRequirements> flavors = createFlavorsCollection(flavor, flavorWithRequirements);
+        this.plugin.setFlavors(flavors);
 
-        AwsHardwareRequirements[] expected = { flavorWithRequirements };
+        Map<String, String> orderRequirements = new HashMap<String, String>();
+        orderRequirements.put(AwsComputePlugin.PROCESSOR_REQUIREMENT, PROCESSOR_REQUIREMENT_VALUE.toUpperCase());
+        orderRequirements.put(AwsComputePlugin.STORAGE_REQUIREMENT, STORAGE_REQUIREMENT_VALUE);
+        order.setRequirements(orderRequirements);
 
         // exercise
-        List<AwsHardwareRequirements> resultList = null;
-        for (Entry<String, String> requirement : requirements.entrySet()) {
-            resultList = this.plugin.filterFlavors(flavors, requirement);
-        }
+        AwsHardwareRequirements result = this.plugin.findSmallestFlavor(order, cloudUser);
+
         // verify
-        Assert.assertEquals(Arrays.asList(expected), resultList);
+        Assert.assertSame(flavorWithRequirements, result);
     }
     
     // test case: When calling the updateHardwareRequirements method, it must verify
@@ -61,24 +61,30 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testGetUserQuota() throws FogbowException {
         // set up
         AwsV2User user = Mockito.mock(AwsV2User.class);
-        Mockito.doNothing().when(this.plugin).loadAvailableAllocations();
-        Mockito.doNothing().when(this.plugin).loadInstancesAllocated(Mockito.eq(this.client));
+        Map<String, ComputeAllocation> totalAllocations = createTotalComputeAllocationMap();
+        Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
+        Mockito.doReturn(totalAllocations).when(this.plugin).loadAvailableAllocations();
+        Mockito.doReturn(instancesAllocated).when(this.plugin).loadInstancesAllocated(Mockito.eq(this.client),
+                Mockito.eq(totalAllocations));
 
         ResourceAllocation totalQuota = this.testUtils.createTotalQuota();
         ResourceAllocation usedQuota = this.testUtils.createUsedQuota();
         ResourceQuota expectedQuota = new ResourceQuota(totalQuota, usedQuota);
 
-        Mockito.doReturn(totalQuota).when(this.plugin).calculateTotalQuota();
-        Mockito.doReturn(usedQuota).when(this.plugin).calculateUsedQuota(Mockito.eq(this.client));
+        Mockito.doReturn(totalQuota).when(this.plugin).calculateTotalQuota(Mockito.eq(totalAllocations));
+        Mockito.doReturn(usedQuota).when(this.plugin).calculateUsedQuota(Mockito.eq(this.client),
+                Mockito.eq(instancesAllocated));
 
         // exercise
         ResourceQuota actualQuota = this.plugin.getUserQuota(user);
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadAvailableAllocations();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadInstancesAllocated(Mockito.eq(this.client));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateTotalQuota();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedQuota(Mockito.eq(this.client));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadInstancesAllocated(Mockito.eq(this.client),
+                Mockito.eq(totalAllocations));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateTotalQuota(Mockito.eq(totalAllocations));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedQuota(Mockito.eq(this.client),
+                Mockito.eq(instancesAllocated));
 
         Assert.assertEquals(expectedQuota, actualQuota);
     }
@@ -94,18 +100,20 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         int ram = expectedQuota.getRam();
         int vCPUs = expectedQuota.getvCPU();
         ComputeAllocation computeAllocation = new ComputeAllocation(instances, vCPUs, ram);
+        Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
 
         Mockito.doReturn(expectedQuota.getPublicIps()).when(this.plugin).calculateUsedElasticIp(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getNetworks()).when(this.plugin).calculateUsedNetworks(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getStorage()).when(this.plugin).calculateUsedStorage(Mockito.eq(this.client));
         Mockito.doReturn(expectedQuota.getVolumes()).when(this.plugin).calculateUsedVolumes(Mockito.eq(this.client));
-        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeUsedQuota();
+        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeUsedQuota(Mockito.eq(instancesAllocated));
 
         // exercise
-        ResourceAllocation usedQuota = this.plugin.calculateUsedQuota(this.client);
+        ResourceAllocation usedQuota = this.plugin.calculateUsedQuota(this.client, instancesAllocated);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateComputeUsedQuota();
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .calculateComputeUsedQuota(Mockito.eq(instancesAllocated));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedStorage(Mockito.eq(this.client));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedVolumes(Mockito.eq(this.client));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateUsedElasticIp(Mockito.eq(this.client));
@@ -120,14 +128,12 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testCalculateComputeUsedQuota() {
         // set up
         Map<String, ComputeAllocation> instancesAllocated = createComputeAllocationMap();
-        Mockito.doReturn(instancesAllocated).when(this.plugin).getComputeAllocationMap();
         ComputeAllocation expectedAllocation = this.createComputeAllocation();
 
         // exercise
-        ComputeAllocation computeAllocation = this.plugin.calculateComputeUsedQuota();
+        ComputeAllocation computeAllocation = this.plugin.calculateComputeUsedQuota(instancesAllocated);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getComputeAllocationMap();
         Assert.assertEquals(expectedAllocation.getInstances(), computeAllocation.getInstances());
         Assert.assertEquals(expectedAllocation.getvCPU(), computeAllocation.getvCPU());
         Assert.assertEquals(expectedAllocation.getRam(), computeAllocation.getRam());
@@ -232,13 +238,15 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testCalculateTotalQuota() {
         // set up
         ComputeAllocation computeAllocation = createTotalComputeAllocation();
-        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeTotalQuota();
+        Map<String, ComputeAllocation> totalAllocations = createTotalComputeAllocationMap();
+        Mockito.doReturn(computeAllocation).when(this.plugin).calculateComputeTotalQuota(Mockito.eq(totalAllocations));
 
         // exercise
-        ResourceAllocation totalQuota = this.plugin.calculateTotalQuota();
+        ResourceAllocation totalQuota = this.plugin.calculateTotalQuota(totalAllocations);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).calculateComputeTotalQuota();
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .calculateComputeTotalQuota(Mockito.eq(totalAllocations));
 
         Assert.assertEquals(computeAllocation.getvCPU(), totalQuota.getvCPU());
         Assert.assertEquals(computeAllocation.getRam(), totalQuota.getRam());
@@ -268,14 +276,12 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
     public void testCalculateComputeTotalQuota() {
         // set up
         Map<String, ComputeAllocation> instancesAllocated = createTotalComputeAllocationMap();
-        Mockito.doReturn(instancesAllocated).when(this.plugin).getTotalComputeAllocationMap();
         ComputeAllocation expectedAllocation = this.createTotalComputeAllocation();
 
         // exercise
-        ComputeAllocation computeAllocation = this.plugin.calculateComputeTotalQuota();
+        ComputeAllocation computeAllocation = this.plugin.calculateComputeTotalQuota(instancesAllocated);
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getTotalComputeAllocationMap();
         Assert.assertEquals(expectedAllocation.getInstances(), computeAllocation.getInstances());
         Assert.assertEquals(expectedAllocation.getvCPU(), computeAllocation.getvCPU());
         Assert.assertEquals(expectedAllocation.getRam(), computeAllocation.getRam());
@@ -291,19 +297,23 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
 
         Instance instance = instances.listIterator().next();
         ComputeAllocation allocation = createComputeAllocation();
-        Mockito.doReturn(allocation).when(this.plugin).buildAllocatedInstance(Mockito.eq(instance));
+        Map<String, ComputeAllocation> totalAllocations = createTotalComputeAllocationMap();
+        Mockito.doReturn(allocation).when(this.plugin).buildAllocatedInstance(Mockito.eq(instance),
+                Mockito.eq(totalAllocations), Mockito.anyMap());
 
         String expectedMapKey = InstanceType.T1_MICRO.toString();
 
         // exercise
-        this.plugin.loadInstancesAllocated(this.client);
+        Map<String, ComputeAllocation> instancesAllocated = this.plugin.loadInstancesAllocated(this.client,
+                totalAllocations);
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getInstanceReservations(Mockito.eq(this.client));
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildAllocatedInstance(Mockito.eq(instance));
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildAllocatedInstance(Mockito.eq(instance),
+                Mockito.eq(totalAllocations), Mockito.anyMap());
 
-        Assert.assertTrue(this.plugin.getComputeAllocationMap().containsKey(expectedMapKey));
-        Assert.assertEquals(allocation, this.plugin.getComputeAllocationMap().get(expectedMapKey));
+        Assert.assertTrue(instancesAllocated.containsKey(expectedMapKey));
+        Assert.assertEquals(allocation, instancesAllocated.get(expectedMapKey));
     }
 
     // test case: When calling the getInstanceReservations method, it must verify
@@ -342,14 +352,14 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         String expectedMapKey = InstanceType.T1_MICRO.toString();
 
         // exercise
-        this.plugin.loadAvailableAllocations();
+        Map<String, ComputeAllocation> totalAllocations = this.plugin.loadAvailableAllocations();
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadLinesFromFlavorFile();
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).buildAvailableInstance(Mockito.eq(requirements));
 
-        Assert.assertTrue(this.plugin.getTotalComputeAllocationMap().containsKey(expectedMapKey));
-        Assert.assertEquals(allocation, this.plugin.getTotalComputeAllocationMap().get(expectedMapKey));
+        Assert.assertTrue(totalAllocations.containsKey(expectedMapKey));
+        Assert.assertEquals(allocation, totalAllocations.get(expectedMapKey));
     }
 
     // test case: When calling the buildAvailableInstance method, it must verify
@@ -381,7 +391,6 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         Instance instance = buildInstance(InstanceType.T2_MICRO);
 
         Map<String, ComputeAllocation> totalAllocations = createTotalComputeAllocationMap();
-        Mockito.doReturn(totalAllocations).when(this.plugin).getTotalComputeAllocationMap();
 
         List<Volume> volumes = buildVolumesCollection();
         PowerMockito.mockStatic(AwsV2CloudUtil.class);
@@ -393,12 +402,9 @@ public class AwsQuotaPluginTest extends BaseUnitTests {
         int ramExpected = TestUtils.MEMORY_VALUE;
 
         // exercise
-        ComputeAllocation allocation = this.plugin.buildAllocatedInstance(instance);
+        ComputeAllocation allocation = this.plugin.buildAllocatedInstance(instance, totalAllocations, new HashMap<>());
 
         // verify
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getTotalComputeAllocationMap();
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getComputeAllocationMap();
-
         Assert.assertEquals(instanceExpected, allocation.getInstances());
         Assert.assertEquals(cpuExpected, allocation.getvCPU());
         Assert.assertEquals(ramExpected, allocation.getRam());
@@ -1,17 +1,37 @@
 package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
 
 import cloud.fogbow.ras.core.TestUtils;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 
 public class AsyncInstanceCreationManagerTest {
 
+    private static final long CREATION_TIMEOUT = 1000;
+    private static final long FAILURE_TIME_TO_LIVE = 5000;
+    private static final long START_TIME = 10000;
+
     private AsyncInstanceCreationManager asyncInstanceCreationManagerPlugin;
+    private File logFile;
 
     @Before
-    public void setUp() {
-        this.asyncInstanceCreationManagerPlugin = new AsyncInstanceCreationManager();
+    public void setUp() throws IOException {
+        this.asyncInstanceCreationManagerPlugin = new AsyncInstanceCreationManager(null, CREATION_TIMEOUT,
+                FAILURE_TIME_TO_LIVE);
+        this.logFile = File.createTempFile("azure-async-creations", ".log");
+        this.logFile.delete();
+    }
+
+    @After
+    public void tearDown() {
+        this.logFile.delete();
     }
 
     // test case: When calling the startCreation method,
@@ -108,4 +128,62 @@ public class AsyncInstanceCreationManagerTest {
         Assert.assertNull(status);
     }
 
+    // test case: When the status of an instance is older than its timeout, it must no longer be
+    // reported, so that the instance is looked up in the cloud, and it must be dropped from the map.
+    @Test
+    public void testGetStatusWhenExpired() {
+        // set up
+        AsyncInstanceCreationManager manager = createManagerAt(null, START_TIME);
+        AsyncInstanceCreationManager.Callbacks callbacks = manager.startCreation("failed");
+        callbacks.runOnError(TestUtils.ANY_VALUE);
+        manager.startCreation("creating");
+
+        // exercise and verify
+        Mockito.doReturn(START_TIME + CREATION_TIMEOUT).when(manager).getCurrentTime();
+        Assert.assertNull(manager.getStatus("creating"));
+        Assert.assertEquals(AsyncInstanceCreationManager.StatusValue.FAILED, manager.getStatus("failed").getValue());
+
+        Mockito.doReturn(START_TIME + FAILURE_TIME_TO_LIVE).when(manager).getCurrentTime();
+        manager.startCreation("other");
+        Assert.assertEquals(1, manager.size());
+        Assert.assertNull(manager.getStatus("failed"));
+    }
+
+    // test case: After a restart, the failures must be recovered from the log, while the creations
+    // that were in flight and the finished ones must not be tracked anymore.
+    @Test
+    public void testRecoverFromLog() throws IOException {
+        // set up
+        // The log is read back as the manager is built, so the failure must not be old by the clock
+        long currentTime = System.currentTimeMillis();
+        AsyncInstanceCreationManager manager = createManagerAt(this.logFile.getPath(), currentTime);
+        manager.startCreation("interrupted");
+        manager.startCreation("failed").runOnError(TestUtils.ANY_VALUE);
+        manager.startCreation("created").runOnComplete();
+        manager.startCreation("deleted");
+        manager.endCreation("deleted");
+        Files.write(this.logFile.toPath(), "{\"instanceId\":\"trunc".getBytes(),
+                StandardOpenOption.APPEND);
+
+        // exercise
+        AsyncInstanceCreationManager recoveredManager = createManagerAt(this.logFile.getPath(), currentTime);
+
+        // verify
+        Assert.assertEquals(1, recoveredManager.getInterruptedCreations());
+        Assert.assertEquals(1, recoveredManager.size());
+        Assert.assertNull(recoveredManager.getStatus("interrupted"));
+        Assert.assertNull(recoveredManager.getStatus("created"));
+        AsyncInstanceCreationManager.Status status = recoveredManager.getStatus("failed");
+        Assert.assertEquals(AsyncInstanceCreationManager.StatusValue.FAILED, status.getValue());
+        Assert.assertEquals(TestUtils.ANY_VALUE, status.getFaultMessage());
+        // The log is compacted to the instances still tracked
+        Assert.assertEquals(1, Files.readAllLines(this.logFile.toPath()).size());
+    }
+
+    private AsyncInstanceCreationManager createManagerAt(String logPath, long currentTime) {
+        AsyncInstanceCreationManager manager = Mockito.spy(new AsyncInstanceCreationManager(logPath,
+                CREATION_TIMEOUT, FAILURE_TIME_TO_LIVE));
+        Mockito.doReturn(currentTime).when(manager).getCurrentTime();
+        return manager;
+    }
 }
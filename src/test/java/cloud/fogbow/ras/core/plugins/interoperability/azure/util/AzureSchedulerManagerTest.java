@@ -0,0 +1,128 @@
+package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AzureSchedulerManagerTest {
+
+    private static final int POOL_SIZE = 1;
+    private static final int QUEUE_CAPACITY = 1;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(5);
+
+    @After
+    public void tearDown() {
+        AzureSchedulerManager.shutdown();
+    }
+
+    // test case: The executor of a kind of operation must be built once and shared by every caller,
+    // while each kind of operation must have an executor of its own.
+    @Test
+    public void testGetExecutorIsShared() {
+        // exercise
+        ExecutorService volumeExecutor = AzureSchedulerManager.getVolumeExecutor();
+        ExecutorService otherVolumeExecutor = AzureSchedulerManager.getVolumeExecutor();
+        ExecutorService attachmentExecutor = AzureSchedulerManager.getAttachmentExecutor();
+
+        // verify
+        Assert.assertSame(volumeExecutor, otherVolumeExecutor);
+        Assert.assertNotSame(volumeExecutor, attachmentExecutor);
+    }
+
+    // test case: The thread count must only include the threads of the executors already built, and
+    // a shutdown must make the next caller get a new executor.
+    @Test
+    public void testGetThreadCountAndShutdown() throws Exception {
+        // set up
+        ExecutorService executor = AzureSchedulerManager.getVirtualMachineExecutor();
+        executor.submit(() -> { }).get(TIMEOUT, TimeUnit.MILLISECONDS);
+
+        // exercise and verify
+        Assert.assertEquals(1, AzureSchedulerManager.getThreadCount(AzureSchedulerManager.Kind.VIRTUAL_MACHINE));
+        Assert.assertEquals(0, AzureSchedulerManager.getThreadCount(AzureSchedulerManager.Kind.VOLUME));
+        Assert.assertEquals(1, AzureSchedulerManager.getThreadCount());
+        Assert.assertEquals(0, AzureSchedulerManager.getQueuedOperations(AzureSchedulerManager.Kind.VIRTUAL_MACHINE));
+
+        AzureSchedulerManager.shutdown();
+
+        Assert.assertTrue(executor.isShutdown());
+        Assert.assertEquals(0, AzureSchedulerManager.getThreadCount());
+        Assert.assertNotSame(executor, AzureSchedulerManager.getVirtualMachineExecutor());
+    }
+
+    // test case: An executor must never grow beyond its pool size nor queue more operations than its
+    // capacity, and with the caller runs policy the operations that do not fit must run in the caller.
+    @Test
+    public void testCreateExecutorWithCallerRunsPolicy() throws Exception {
+        // set up
+        ThreadPoolExecutor executor = AzureSchedulerManager.createExecutor(AzureSchedulerManager.Kind.VOLUME,
+                POOL_SIZE, QUEUE_CAPACITY, AzureSchedulerManager.RejectionPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> rejectedThread = new AtomicReference<>();
+
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> await(release));
+
+            // exercise
+            executor.execute(() -> rejectedThread.set(Thread.currentThread()));
+
+            // verify
+            Assert.assertEquals(POOL_SIZE, executor.getPoolSize());
+            Assert.assertEquals(QUEUE_CAPACITY, executor.getQueue().size());
+            Assert.assertSame(Thread.currentThread(), rejectedThread.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    // test case: With the abort policy, the operations that do not fit in the queue must be refused,
+    // and the threads must be daemons named after the kind of operation.
+    @Test
+    public void testCreateExecutorWithAbortPolicy() throws Exception {
+        // set up
+        ThreadPoolExecutor executor = AzureSchedulerManager.createExecutor(AzureSchedulerManager.Kind.PUBLIC_IP_ADDRESS,
+                POOL_SIZE, QUEUE_CAPACITY, AzureSchedulerManager.RejectionPolicy.ABORT);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> workerThread = new AtomicReference<>();
+
+        try {
+            executor.execute(() -> {
+                workerThread.set(Thread.currentThread());
+                await(release);
+            });
+            executor.execute(() -> await(release));
+
+            // exercise
+            try {
+                executor.execute(() -> { });
+                Assert.fail();
+            } catch (RejectedExecutionException e) {
+                // verify
+                Assert.assertEquals(QUEUE_CAPACITY, executor.getQueue().size());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(workerThread.get().isDaemon());
+        Assert.assertEquals("azure-public_ip_address-1", workerThread.get().getName());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
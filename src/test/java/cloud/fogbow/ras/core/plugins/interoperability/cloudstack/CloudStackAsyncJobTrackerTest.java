@@ -0,0 +1,152 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackHttpClient;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryAsyncJobResponse;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryJobResult;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+public class CloudStackAsyncJobTrackerTest {
+
+    private static final long MIN_INTERVAL = 100;
+    private static final long MAX_INTERVAL = 400;
+    private static final double BACKOFF_FACTOR = 2;
+    private static final long TIMEOUT = 5000;
+    private static final long START_TIME = 10000;
+    private static final String CLOUDSTACK_URL = "cloudstackUrl";
+    private static final String JOB_ID = "jobId";
+    private static final String OTHER_JOB_ID = "otherJobId";
+    private static final String INSTANCE_ID = "instanceId";
+
+    private CloudStackAsyncJobTracker tracker;
+    private CloudStackHttpClient client;
+    private CloudStackUser cloudStackUser;
+    private Map<String, Object> responses;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.tracker = Mockito.spy(new CloudStackAsyncJobTracker(MIN_INTERVAL, MAX_INTERVAL, BACKOFF_FACTOR, TIMEOUT));
+        Mockito.doNothing().when(this.tracker).startScheduler();
+        // The jobs are checked in the calling thread
+        Mockito.doReturn((Executor) Runnable::run).when(this.tracker).getChecker(Mockito.anyString());
+        Mockito.doReturn(START_TIME).when(this.tracker).getCurrentTime();
+        this.client = Mockito.mock(CloudStackHttpClient.class);
+        this.cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
+        this.responses = new HashMap<>();
+        Mockito.doAnswer(invocation -> {
+            Object response = this.responses.get(((CloudStackAsyncJobTracker.Job) invocation.getArguments()[0]).getJobId());
+            if (response instanceof FogbowException) {
+                throw (FogbowException) response;
+            }
+            return response;
+        }).when(this.tracker).getAsyncJobResponse(Mockito.any());
+    }
+
+    // test case: When a job is still processing, it must be checked again after an interval that grows
+    // by the backoff factor up to the maximum, and its future must be completed with the instance id once
+    // the job succeeds.
+    @Test
+    public void testCheckJobsBacksOffUntilSuccess() throws Exception {
+        // set up
+        CloudStackQueryAsyncJobResponse response = mockResponse(JOB_ID);
+        Mockito.when(response.getJobStatus()).thenReturn(CloudStackQueryJobResult.PROCESSING);
+        CompletableFuture<String> result = this.tracker.track(this.client, CLOUDSTACK_URL, JOB_ID, this.cloudStackUser);
+
+        // exercise: checked at 0, 200, 600 and 1000 milliseconds, as the interval goes from 200 to 400
+        long[] checkTimes = { 0, 100, 200, 500, 600, 900, 1000 };
+        for (long checkTime : checkTimes) {
+            Mockito.doReturn(START_TIME + checkTime).when(this.tracker).getCurrentTime();
+            this.tracker.checkJobs();
+        }
+        Mockito.when(response.getJobStatus()).thenReturn(CloudStackQueryJobResult.SUCCESS);
+        Mockito.when(response.getJobInstanceId()).thenReturn(INSTANCE_ID);
+        Mockito.doReturn(START_TIME + 1000 + MAX_INTERVAL).when(this.tracker).getCurrentTime();
+        this.tracker.checkJobs();
+
+        // verify
+        Mockito.verify(this.tracker, Mockito.times(5)).getAsyncJobResponse(Mockito.any());
+        Assert.assertEquals(INSTANCE_ID, result.get());
+        Assert.assertEquals(0, this.tracker.getPendingJobs());
+    }
+
+    // test case: A job processing for longer than the timeout must have its future failed with an
+    // UnavailableProviderException, while the other jobs keep being checked.
+    @Test
+    public void testCheckJobsTimesOut() throws Exception {
+        // set up
+        CloudStackQueryAsyncJobResponse response = mockResponse(JOB_ID);
+        Mockito.when(response.getJobStatus()).thenReturn(CloudStackQueryJobResult.PROCESSING);
+        CompletableFuture<String> result = this.tracker.track(this.client, CLOUDSTACK_URL, JOB_ID, this.cloudStackUser);
+        Mockito.doReturn(START_TIME + TIMEOUT).when(this.tracker).getCurrentTime();
+        CloudStackQueryAsyncJobResponse otherResponse = mockResponse(OTHER_JOB_ID);
+        Mockito.when(otherResponse.getJobStatus()).thenReturn(CloudStackQueryJobResult.PROCESSING);
+        this.tracker.track(this.client, CLOUDSTACK_URL, OTHER_JOB_ID, this.cloudStackUser);
+
+        // exercise
+        this.tracker.checkJobs();
+
+        // verify
+        Assert.assertEquals(1, this.tracker.getPendingJobs());
+        try {
+            result.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnavailableProviderException);
+            Assert.assertEquals(String.format(Messages.Exception.JOB_TIMEOUT, JOB_ID), e.getCause().getMessage());
+        }
+    }
+
+    // test case: A failed job, or one whose status could not be read, must have its future failed with
+    // the FogbowException raised, and a job tracked twice must share a single future.
+    @Test
+    public void testCheckJobsFails() throws Exception {
+        // set up
+        CloudStackQueryAsyncJobResponse response = mockResponse(JOB_ID);
+        Mockito.when(response.getJobStatus()).thenReturn(CloudStackQueryJobResult.FAILURE);
+        CompletableFuture<String> result = this.tracker.track(this.client, CLOUDSTACK_URL, JOB_ID, this.cloudStackUser);
+        CompletableFuture<String> sameResult = this.tracker.track(this.client, CLOUDSTACK_URL, JOB_ID,
+                this.cloudStackUser);
+        FogbowException exception = new FogbowException(TestUtils.ANY_VALUE);
+        this.responses.put(OTHER_JOB_ID, exception);
+        CompletableFuture<String> otherResult = this.tracker.track(this.client, CLOUDSTACK_URL, OTHER_JOB_ID,
+                this.cloudStackUser);
+
+        // exercise
+        this.tracker.checkJobs();
+
+        // verify
+        Assert.assertSame(result, sameResult);
+        Assert.assertEquals(0, this.tracker.getPendingJobs());
+        try {
+            result.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertEquals(String.format(Messages.Exception.JOB_HAS_FAILED, JOB_ID), e.getCause().getMessage());
+        }
+        try {
+            otherResult.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+    }
+
+    private CloudStackQueryAsyncJobResponse mockResponse(String jobId) {
+        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
+        this.responses.put(jobId, response);
+        return response;
+    }
+}
@@ -10,19 +10,16 @@ import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackQueryJob
 import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackUrlUtil;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
-import cloud.fogbow.ras.core.LoggerAssert;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetAllDiskOfferingsRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetAllDiskOfferingsResponse;
 import org.apache.http.client.HttpResponseException;
-import org.apache.log4j.Level;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
-import org.mockito.internal.verification.VerificationModeFactory;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
@@ -30,16 +27,19 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({CloudStackQueryJobResult.class, CloudStackQueryAsyncJobResponse.class,
         CloudStackCloudUtils.class, CloudStackQueryAsyncJobResponse.class, CloudStackUrlUtil.class,
-        CloudStackQueryJobResult.class, Thread.class, GetAllDiskOfferingsResponse.class})
+        CloudStackQueryJobResult.class, CloudStackAsyncJobTracker.class, GetAllDiskOfferingsResponse.class})
 public class CloudStackCloudUtilsTest {
 
+    private static final String JOB_ID = "jobId";
+    private static final long MAX_WAIT_TIME = 10;
+
     @Rule
     private ExpectedException expectedException = ExpectedException.none();
-    private LoggerAssert loggerTestChecking = new LoggerAssert(CloudStackCloudUtils.class);
 
     // test case: When calling the doRequest method with a right parameter,
     // it must verify if It returns the subnetInfo expected.
@@ -207,97 +207,85 @@ public class CloudStackCloudUtilsTest {
         Assert.assertEquals(disksOfferingExpected, disksOffering);
     }
 
-    // test case: When calling the waitForResult method and receives two processing status and one
-    // success status, it must verify if It returns the right jobInstanceId.
+    // test case: When calling the waitForResult method and the job tracker completes the job,
+    // it must verify if It returns the right jobInstanceId.
     @Test
-    public void testWaitForResultWhenWaitTwiceAndReceiveSuccess() throws Exception {
+    public void testWaitForResultSuccessfully() throws Exception {
         // set up
         String url = "";
         String jobId = "jobId";
         CloudStackHttpClient client = Mockito.mock(CloudStackHttpClient.class);
         CloudStackUser cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
 
-        CloudStackQueryAsyncJobResponse response = mockGetAsyncJobResponse();
         String jobInstanceIdExpected = "instanceId";
-        Mockito.when(response.getJobInstanceId()).thenReturn(jobInstanceIdExpected);
-        Mockito.when(response.getJobStatus())
-                .thenReturn(CloudStackQueryJobResult.PROCESSING)
-                .thenReturn(CloudStackQueryJobResult.PROCESSING)
-                .thenReturn(CloudStackQueryJobResult.SUCCESS);
-
-        mockSleepThread();
+        CloudStackAsyncJobTracker tracker = mockAsyncJobTracker();
+        Mockito.when(tracker.track(Mockito.eq(client), Mockito.eq(url), Mockito.eq(jobId),
+                Mockito.eq(cloudStackUser))).thenReturn(CompletableFuture.completedFuture(jobInstanceIdExpected));
 
         // exercise
         String jobInstanceId = CloudStackCloudUtils.waitForResult(client, url, jobId, cloudStackUser);
 
         // verify
         Assert.assertEquals(jobInstanceIdExpected, jobInstanceId);
-        PowerMockito.verifyStatic(CloudStackCloudUtils.class, VerificationModeFactory.times(TestUtils.RUN_THRICE));
-        CloudStackQueryJobResult.getQueryJobResult(
+        Mockito.verify(tracker, Mockito.times(TestUtils.RUN_ONCE)).track(
                 Mockito.eq(client), Mockito.eq(url), Mockito.eq(jobId), Mockito.eq(cloudStackUser));
     }
 
-    // test case: When calling the waitForResult method and receives only one
-    // success status, it must verify if It returns the right jobInstanceId.
+    // test case: When calling the waitForResult method and the job tracker fails the job because
+    // it took too long, it must verify if It throws the same UnavailableProviderException.
     @Test
-    public void testWaitForResultWhenReceiveOnlySuccess() throws Exception {
+    public void testWaitForResultFail() throws Exception {
         // set up
         String url = "";
         String jobId = "jobId";
         CloudStackHttpClient client = Mockito.mock(CloudStackHttpClient.class);
         CloudStackUser cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
 
-        CloudStackQueryAsyncJobResponse response = mockGetAsyncJobResponse();
-        String jobInstanceIdExpected = "instanceId";
-        Mockito.when(response.getJobInstanceId()).thenReturn(jobInstanceIdExpected);
-        Mockito.when(response.getJobStatus())
-                .thenReturn(CloudStackQueryJobResult.SUCCESS);
+        String errorMessage = String.format(Messages.Exception.JOB_TIMEOUT, jobId);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.completeExceptionally(new UnavailableProviderException(errorMessage));
+        CloudStackAsyncJobTracker tracker = mockAsyncJobTracker();
+        Mockito.when(tracker.track(Mockito.eq(client), Mockito.eq(url), Mockito.eq(jobId),
+                Mockito.eq(cloudStackUser))).thenReturn(result);
 
-        mockSleepThread();
+        // verify
+        this.expectedException.expect(UnavailableProviderException.class);
+        this.expectedException.expectMessage(errorMessage);
 
         // exercise
-        String jobInstanceId = CloudStackCloudUtils.waitForResult(client, url, jobId, cloudStackUser);
-
-        // verify
-        Assert.assertEquals(jobInstanceIdExpected, jobInstanceId);
-        PowerMockito.verifyStatic(CloudStackCloudUtils.class, VerificationModeFactory.times(TestUtils.RUN_ONCE));
-        CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.eq(client), Mockito.eq(url), Mockito.eq(jobId), Mockito.eq(cloudStackUser));
+        CloudStackCloudUtils.waitForResult(client, url, jobId, cloudStackUser);
     }
 
-    // test case: When calling the waitForResult method and receives only processing status result,
-    // it must verify if It throws a TimeoutCloudstackAsync because it's exceeded the try's limit.
+    // test case: When calling the awaitResult method and the job fails with an exception that is
+    // not a FogbowException, it must verify if It throws an InternalServerErrorException.
     @Test
-    public void testWaitForResultFail() throws Exception {
+    public void testAwaitResultFailWithUnexpectedException() throws FogbowException {
         // set up
-        int extraGetQueryJobResult = 1;
-        int totalTriesExpetected = CloudStackCloudUtils.MAX_TRIES + extraGetQueryJobResult;
+        String errorMessage = "error";
+        CompletableFuture<String> result = new CompletableFuture<>();
+        result.completeExceptionally(new IllegalStateException(errorMessage));
 
-        String url = "";
-        String jobId = "jobId";
-        CloudStackHttpClient client = Mockito.mock(CloudStackHttpClient.class);
-        CloudStackUser cloudStackUser = CloudstackTestUtils.CLOUD_STACK_USER;
+        // verify
+        this.expectedException.expect(InternalServerErrorException.class);
+        this.expectedException.expectMessage(errorMessage);
 
-        CloudStackQueryAsyncJobResponse response = mockGetAsyncJobResponse();
-        String jobInstanceIdExpected = "instanceId";
-        Mockito.when(response.getJobInstanceId()).thenReturn(jobInstanceIdExpected);
-        Mockito.when(response.getJobStatus()).thenReturn(CloudStackQueryJobResult.PROCESSING);
+        // exercise
+        CloudStackCloudUtils.awaitResult(result, JOB_ID, MAX_WAIT_TIME);
+    }
 
-        mockSleepThread();
+    // test case: When calling the awaitResult method and the job is not completed within the maximum
+    // wait time, it must verify if It throws an UnavailableProviderException.
+    @Test
+    public void testAwaitResultFailWhenTimesOut() throws FogbowException {
+        // set up
+        CompletableFuture<String> result = new CompletableFuture<>();
 
         // verify
         this.expectedException.expect(UnavailableProviderException.class);
+        this.expectedException.expectMessage(String.format(Messages.Exception.JOB_TIMEOUT, JOB_ID));
 
         // exercise
-        try {
-            CloudStackCloudUtils.waitForResult(client, url, jobId, cloudStackUser);
-        } finally {
-            // verify
-            PowerMockito.verifyStatic(CloudStackCloudUtils.class,
-                    VerificationModeFactory.times(totalTriesExpetected));
-            CloudStackQueryJobResult.getQueryJobResult(
-                    Mockito.eq(client), Mockito.eq(url), Mockito.eq(jobId), Mockito.eq(cloudStackUser));
-        }
+        CloudStackCloudUtils.awaitResult(result, JOB_ID, MAX_WAIT_TIME);
     }
 
     // test case: When calling the processJobResult method and job status is success,
@@ -382,42 +370,11 @@ public class CloudStackCloudUtilsTest {
         Assert.assertEquals(responseExpected, response);
     }
 
-    // test case: When calling the sleepThread method and occurs an InterruptedException,
-    // it must verify if It shows the log related.
-    @Test
-    public void testSleepThreadFail() throws Exception {
-        // set up
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doThrow(new InterruptedException()).when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
-
-        // exercise
-        CloudStackCloudUtils.sleepThread();
-
-        // verify
-        this.loggerTestChecking.assertEqualsInOrder(Level.WARN, Messages.Log.SLEEP_THREAD_INTERRUPTED);
-    }
-
-    private CloudStackQueryAsyncJobResponse mockGetAsyncJobResponse() throws FogbowException {
-        CloudStackQueryAsyncJobResponse response = Mockito.mock(CloudStackQueryAsyncJobResponse.class);
-
-        String responseStr = "anyString";
-        PowerMockito.mockStatic(CloudStackQueryJobResult.class);
-        PowerMockito.when(CloudStackQueryJobResult.getQueryJobResult(
-                Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).
-                thenReturn(responseStr);
-
-        PowerMockito.mockStatic(CloudStackQueryAsyncJobResponse.class);
-        PowerMockito.when(CloudStackQueryAsyncJobResponse.fromJson(Mockito.eq(responseStr)))
-                .thenReturn(response);
-
-        return response;
-    }
-
-    private void mockSleepThread() throws InterruptedException {
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+    private CloudStackAsyncJobTracker mockAsyncJobTracker() {
+        CloudStackAsyncJobTracker tracker = Mockito.mock(CloudStackAsyncJobTracker.class);
+        PowerMockito.mockStatic(CloudStackAsyncJobTracker.class);
+        PowerMockito.when(CloudStackAsyncJobTracker.getInstance()).thenReturn(tracker);
+        return tracker;
     }
 
 }
@@ -0,0 +1,108 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.core.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.opennebula.client.vm.VirtualMachine;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(VirtualMachine.class)
+public class OpenNebulaPoolCacheTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+    private static final long LOAD_TIME = 10000;
+    private static final String FAKE_KEY = "fake-key";
+    private static final String OTHER_FAKE_KEY = "other-fake-key";
+    private static final String FAKE_VIRTUAL_MACHINE_ID = "1";
+    private static final String OTHER_FAKE_VIRTUAL_MACHINE_ID = "2";
+
+    private OpenNebulaPoolCache poolCache;
+    private Map<String, OpenNebulaPoolCache.Snapshot<VirtualMachine>> snapshots;
+    private VirtualMachine virtualMachine;
+    private VirtualMachine otherVirtualMachine;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        this.poolCache = Mockito.spy(new OpenNebulaPoolCache(TIME_TO_LIVE));
+        Mockito.doReturn(LOAD_TIME).when(this.poolCache).getCurrentTime();
+        this.snapshots = new HashMap<>();
+        this.virtualMachine = Mockito.mock(VirtualMachine.class);
+        Mockito.when(this.virtualMachine.getId()).thenReturn(FAKE_VIRTUAL_MACHINE_ID);
+        this.otherVirtualMachine = Mockito.mock(VirtualMachine.class);
+        Mockito.when(this.otherVirtualMachine.getId()).thenReturn(OTHER_FAKE_VIRTUAL_MACHINE_ID);
+        this.loads = new AtomicInteger();
+    }
+
+    // test case: The pool of a user must be listed by the first caller, indexed by the id of its
+    // elements, and then served from the snapshot while it is fresh.
+    @Test
+    public void testGetElementsLoadsOnce() throws FogbowException {
+        // exercise
+        Map<String, VirtualMachine> virtualMachines = this.poolCache.getElements(this.snapshots, FAKE_KEY,
+                this::loadVirtualMachines);
+        Map<String, VirtualMachine> sameVirtualMachines = this.poolCache.getElements(this.snapshots, FAKE_KEY,
+                this::loadVirtualMachines);
+
+        // verify
+        Assert.assertEquals(1, this.loads.get());
+        Assert.assertSame(virtualMachines, sameVirtualMachines);
+        Assert.assertEquals(2, virtualMachines.size());
+        Assert.assertSame(this.virtualMachine, virtualMachines.get(FAKE_VIRTUAL_MACHINE_ID));
+        Assert.assertSame(this.otherVirtualMachine, virtualMachines.get(OTHER_FAKE_VIRTUAL_MACHINE_ID));
+    }
+
+    // test case: Once the snapshot is older than the time to live, the pool must be listed again, and
+    // the expired snapshots of other users must be dropped.
+    @Test
+    public void testGetElementsReloadsExpired() throws FogbowException {
+        // set up
+        this.poolCache.getElements(this.snapshots, FAKE_KEY, this::loadVirtualMachines);
+        this.poolCache.getElements(this.snapshots, OTHER_FAKE_KEY, this::loadVirtualMachines);
+        Mockito.doReturn(LOAD_TIME + TIME_TO_LIVE).when(this.poolCache).getCurrentTime();
+
+        // exercise
+        this.poolCache.getElements(this.snapshots, FAKE_KEY, this::loadVirtualMachines);
+
+        // verify
+        Assert.assertEquals(3, this.loads.get());
+        Assert.assertEquals(1, this.snapshots.size());
+        Assert.assertTrue(this.snapshots.containsKey(FAKE_KEY));
+    }
+
+    // test case: When the pool cannot be listed, the error must reach the caller and no snapshot
+    // must be kept.
+    @Test
+    public void testGetElementsFails() {
+        // set up
+        FogbowException exception = new FogbowException(TestUtils.ANY_VALUE);
+
+        // exercise
+        try {
+            this.poolCache.getElements(this.snapshots, FAKE_KEY, () -> {
+                throw exception;
+            });
+            Assert.fail();
+        } catch (FogbowException e) {
+            // verify
+            Assert.assertSame(exception, e);
+            Assert.assertTrue(this.snapshots.isEmpty());
+        }
+    }
+
+    private Iterable<VirtualMachine> loadVirtualMachines() {
+        this.loads.incrementAndGet();
+        return Arrays.asList(this.virtualMachine, this.otherVirtualMachine);
+    }
+}
@@ -0,0 +1,76 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class OpenNebulaXmlStreamReaderTest {
+
+    private static final String FAKE_IP_ADDRESS_1 = "10.0.0.1";
+    private static final String FAKE_IP_ADDRESS_2 = "10.0.0.2";
+    private static final String IP_ELEMENT = "IP";
+    private static final String NIC_ELEMENT = "NIC";
+    private static final String ID_ELEMENT = "ID";
+    private static final String IMAGE_ELEMENT = "IMAGE";
+    private static final String SIZE_ELEMENT = "SIZE";
+
+    // test case: When reading the values at the end of a path, only the elements whose closest
+    // ancestors match the path must be read, in document order, including CDATA sections.
+    @Test
+    public void testGetValues() {
+        // set up
+        String xml = "<VM>"
+                + "<ID>1</ID>"
+                + "<TEMPLATE>"
+                + "<NIC><IP><![CDATA[" + FAKE_IP_ADDRESS_1 + "]]></IP><NETWORK_ID>0</NETWORK_ID></NIC>"
+                + "<NIC><IP>" + FAKE_IP_ADDRESS_2 + "</IP></NIC>"
+                + "<NIC_ALIAS><IP>10.0.0.3</IP></NIC_ALIAS>"
+                + "</TEMPLATE>"
+                + "<IP>10.0.0.4</IP>"
+                + "</VM>";
+
+        // exercise
+        List<String> values = OpenNebulaXmlStreamReader.getValues(xml, NIC_ELEMENT, IP_ELEMENT);
+
+        // verify
+        Assert.assertEquals(Arrays.asList(FAKE_IP_ADDRESS_1, FAKE_IP_ADDRESS_2), values);
+    }
+
+    // test case: When reading a pool response, the value of each element must be indexed by its key,
+    // ignoring the elements missing any of them and the descendants with the same names.
+    @Test
+    public void testGetValuesByElement() {
+        // set up
+        String xml = "<IMAGE_POOL>"
+                + "<IMAGE><ID>0</ID><SIZE>2048</SIZE><TEMPLATE><SIZE>1</SIZE></TEMPLATE></IMAGE>"
+                + "<IMAGE><TEMPLATE><ID>7</ID></TEMPLATE><ID>1</ID><SIZE>4096</SIZE></IMAGE>"
+                + "<IMAGE><ID>2</ID></IMAGE>"
+                + "</IMAGE_POOL>";
+
+        // exercise
+        Map<String, String> values = OpenNebulaXmlStreamReader.getValuesByElement(xml, IMAGE_ELEMENT, ID_ELEMENT,
+                SIZE_ELEMENT);
+
+        // verify
+        Assert.assertEquals(2, values.size());
+        Assert.assertEquals("2048", values.get("0"));
+        Assert.assertEquals("4096", values.get("1"));
+    }
+
+    // test case: When the response is malformed, the values read before the error must be returned.
+    @Test
+    public void testGetValuesWithMalformedXml() {
+        // set up
+        String xml = "<VM><NIC><IP>" + FAKE_IP_ADDRESS_1 + "</IP></NIC><NIC><IP>";
+
+        // exercise
+        List<String> values = OpenNebulaXmlStreamReader.getValues(xml, NIC_ELEMENT, IP_ELEMENT);
+
+        // verify
+        Assert.assertEquals(Collections.singletonList(FAKE_IP_ADDRESS_1), values);
+    }
+}
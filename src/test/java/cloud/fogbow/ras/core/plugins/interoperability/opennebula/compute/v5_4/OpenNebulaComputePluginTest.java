@@ -14,6 +14,7 @@ import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaBaseTests;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaPoolCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.CreateComputeRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineTemplate;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
@@ -25,8 +26,6 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
-import org.opennebula.client.image.Image;
-import org.opennebula.client.image.ImagePool;
 import org.opennebula.client.vm.VirtualMachine;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -44,9 +43,11 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 
 	private static final String ZERO_STRING_VALUE = "0";
 	private static final String FAKE_ID = "fake-id";
+	private static final String FAKE_INSTANCE_ID = "fake-instance-id";
 	private static final String FAKE_PRIVATE_NETWORK_ID = "fake-private-network-id";
+	private static final String FAKE_IP_ADDRESS_1 = "10.0.0.1";
+	private static final String FAKE_IP_ADDRESS_2 = "10.0.0.2";
 	private static final String FLAVOR_KIND_NAME = "smallest-flavor";
-	private static final String IMAGE_SIZE_PATH = OpenNebulaComputePlugin.IMAGE_SIZE_PATH;
 	private static final String TEMPLATE_CPU_PATH = OpenNebulaComputePlugin.TEMPLATE_CPU_PATH;
 	private static final String TEMPLATE_MEMORY_PATH = OpenNebulaComputePlugin.TEMPLATE_MEMORY_PATH;
 
@@ -430,24 +431,17 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 	@Test
 	public void testGetImagesSizes() throws InternalServerErrorException {
 	    // setup
-		ImagePool imagePool = Mockito.mock(ImagePool.class);
-		Image image = Mockito.mock(Image.class);
-		Iterator<Image> imageIterator = Mockito.mock(Iterator.class);
 		String fakeImageSize = String.valueOf(DISK_VALUE_6GB);
 
-		Mockito.when(OpenNebulaClientUtil.getImagePool(Mockito.any(Client.class))).thenReturn(imagePool);
-		Mockito.when(imagePool.iterator()).thenReturn(imageIterator);
-		Mockito.when(imageIterator.hasNext()).thenReturn(true, false);
-		Mockito.when(imageIterator.next()).thenReturn(image);
-		Mockito.when(image.getId()).thenReturn(this.computeOrder.getImageId());
-		Mockito.when(image.xpath(IMAGE_SIZE_PATH)).thenReturn(fakeImageSize);
+		Mockito.when(OpenNebulaClientUtil.getImagePoolResponse(Mockito.any(Client.class)))
+				.thenReturn(this.getImagePoolResponse(this.computeOrder.getImageId(), fakeImageSize));
 
 		// exercise
 		Map<String, String> imagesSizes = this.plugin.getImagesSizes(this.client);
 
 		// verify
         PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getImagePool(Mockito.eq(this.client));
+        OpenNebulaClientUtil.getImagePoolResponse(Mockito.eq(this.client));
 
         Assert.assertEquals(ONE_VALUE, imagesSizes.size());
         Assert.assertEquals(fakeImageSize, imagesSizes.get(this.computeOrder.getImageId()));
@@ -541,6 +535,79 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).setComputeInstanceNetworks(Mockito.any(ComputeInstance.class));
 
 		Assert.assertEquals(this.computeOrder.getDisk() / ONE_GIGABYTE_IN_MEGABYTES, computeInstance.getDisk());
+		Assert.assertEquals(Arrays.asList("172.16.100.201", "172.16.100.202"), computeInstance.getIpAddresses());
+	}
+
+	// test case: when invoking getInstances with compute orders and a cloud user, the plugin should
+	// take the virtual machines of the user from the pool cache and build the instances from them.
+	@Test
+	public void testGetInstances() throws FogbowException {
+		// set up
+		OpenNebulaPoolCache poolCache = Mockito.mock(OpenNebulaPoolCache.class);
+		this.plugin.setPoolCache(poolCache);
+		List<ComputeOrder> computeOrders = Collections.singletonList(this.computeOrder);
+		Map<String, VirtualMachine> virtualMachines = new HashMap<>();
+		Map<String, ComputeInstance> computeInstances = new HashMap<>();
+
+		Mockito.when(poolCache.getVirtualMachines(Mockito.any(Client.class), Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(virtualMachines);
+		Mockito.doReturn(computeInstances).when(this.plugin).doGetInstances(Mockito.anyList(), Mockito.anyMap());
+
+		// exercise
+		Map<String, ComputeInstance> result = this.plugin.getInstances(computeOrders, this.cloudUser);
+
+		// verify
+		Mockito.verify(poolCache, Mockito.times(TestUtils.RUN_ONCE)).getVirtualMachines(Mockito.eq(this.client),
+				Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstances(Mockito.eq(computeOrders),
+				Mockito.eq(virtualMachines));
+		Assert.assertSame(computeInstances, result);
+	}
+
+	// test case: when invoking doGetInstances with the virtual machines of the pool, the plugin should
+	// build the instances of the orders found without any info request, indexed by the id of the orders,
+	// and leave out the orders whose virtual machine is not in the pool.
+	@Test
+	public void testDoGetInstances() {
+		// set up
+		this.computeOrder.setInstanceId(FAKE_INSTANCE_ID);
+		ComputeOrder otherComputeOrder = this.getComputeOrder();
+		otherComputeOrder.setInstanceId(FAKE_ID);
+		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
+		Map<String, VirtualMachine> virtualMachines = new HashMap<>();
+		virtualMachines.put(this.computeOrder.getInstanceId(), virtualMachine);
+		List<String> ipAddresses = Collections.singletonList(FAKE_IP_ADDRESS_1);
+		ComputeInstance computeInstance = new ComputeInstance(this.computeOrder.getInstanceId());
+
+		Mockito.doReturn(ipAddresses).when(this.plugin).getIpAddresses(Mockito.eq(virtualMachine));
+		Mockito.doReturn(computeInstance).when(this.plugin).createComputeInstance(Mockito.eq(virtualMachine),
+				Mockito.eq(ipAddresses));
+
+		// exercise
+		Map<String, ComputeInstance> computeInstances = this.plugin.doGetInstances(
+				Arrays.asList(this.computeOrder, otherComputeOrder), virtualMachines);
+
+		// verify
+		Mockito.verify(virtualMachine, Mockito.never()).info();
+		Assert.assertEquals(ONE_VALUE, computeInstances.size());
+		Assert.assertSame(computeInstance, computeInstances.get(this.computeOrder.getId()));
+	}
+
+	// test case: when invoking getIpAddresses with a virtual machine of the pool, the plugin should
+	// read the ip address of each of its NICs, until a NIC is not found.
+	@Test
+	public void testGetIpAddresses() {
+		// set up
+		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
+		Mockito.when(virtualMachine.xpath(String.format(TEMPLATE_NIC_IP_PATH_FORMAT, 1))).thenReturn(FAKE_IP_ADDRESS_1);
+		Mockito.when(virtualMachine.xpath(String.format(TEMPLATE_NIC_IP_PATH_FORMAT, 2))).thenReturn(FAKE_IP_ADDRESS_2);
+		Mockito.when(virtualMachine.xpath(String.format(TEMPLATE_NIC_IP_PATH_FORMAT, 3))).thenReturn("");
+
+		// exercise
+		List<String> ipAddresses = this.plugin.getIpAddresses(virtualMachine);
+
+		// verify
+		Assert.assertEquals(Arrays.asList(FAKE_IP_ADDRESS_1, FAKE_IP_ADDRESS_2), ipAddresses);
 	}
 
 	// test case: when invoking deleteInstance with a valid compute order and cloud user,
@@ -642,6 +709,21 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		return xml;
 	}
 
+	private String getImagePoolResponse(String imageId, String imageSize) {
+		String xml = "<IMAGE_POOL>\n"
+				+ "  <IMAGE>\n"
+				+ "    <ID>" + imageId + "</ID>\n"
+				+ "    <NAME><![CDATA[fake-image-name]]></NAME>\n"
+				+ "    <SIZE>" + imageSize + "</SIZE>\n"
+				+ "    <TEMPLATE>\n"
+				+ "      <SIZE>0</SIZE>\n"
+				+ "    </TEMPLATE>\n"
+				+ "  </IMAGE>\n"
+				+ "</IMAGE_POOL>";
+
+		return xml;
+	}
+
 	private ComputeOrder getComputeOrder() {
 		ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
 		return computeOrder;
@@ -1,5 +1,8 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula.network.v5_4;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import cloud.fogbow.common.exceptions.*;
@@ -321,6 +324,41 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		Assert.assertNotNull(instance);
 	}
 
+	// test case: when invoking doGetInstances with the virtual networks of the pool, the plugin should
+	// build the instances of the orders found with the paths relative to the pool elements, indexed by
+	// the id of the orders, and leave out the orders whose virtual network is not in the pool.
+	@Test
+	public void testDoGetInstances() throws InvalidParameterException {
+		// set up
+		this.networkOrder.setInstanceId(FAKE_INSTANCE_ID);
+		NetworkOrder otherNetworkOrder = this.createNetworkOrder();
+		otherNetworkOrder.setInstanceId(ID_VALUE_ONE);
+		Map<String, VirtualNetwork> virtualNetworks = new HashMap<>();
+		virtualNetworks.put(FAKE_INSTANCE_ID, this.virtualNetwork);
+
+		Mockito.when(this.virtualNetwork.getId()).thenReturn(FAKE_INSTANCE_ID);
+		Mockito.when(this.virtualNetwork.getName()).thenReturn(FAKE_NETWORK_NAME);
+		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(POOL_TEMPLATE_VLAN_ID_PATH))).thenReturn(FAKE_VLAN_ID);
+		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(POOL_ADDRESS_RANGE_IP_PATH))).thenReturn(FAKE_ADDRESS);
+		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(POOL_ADDRESS_RANGE_SIZE_PATH))).thenReturn(FAKE_SIZE);
+		Mockito.doReturn(FAKE_CIDR_ADDRESS).when(this.plugin).generateAddressCidr(Mockito.anyString(), Mockito.anyString());
+
+		// exercise
+		Map<String, NetworkInstance> networkInstances = this.plugin.doGetInstances(
+				Arrays.asList(this.networkOrder, otherNetworkOrder), virtualNetworks);
+
+		// verify
+		Mockito.verify(this.virtualNetwork, Mockito.never()).info();
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).generateAddressCidr(
+				Mockito.eq(FAKE_ADDRESS), Mockito.eq(FAKE_SIZE));
+
+		Assert.assertEquals(ONE_VALUE.intValue(), networkInstances.size());
+		NetworkInstance networkInstance = networkInstances.get(this.orderId);
+		Assert.assertEquals(FAKE_INSTANCE_ID, networkInstance.getId());
+		Assert.assertEquals(FAKE_CIDR_ADDRESS, networkInstance.getCidr());
+		Assert.assertEquals(FAKE_VLAN_ID, networkInstance.getvLAN());
+	}
+
 	// test case: when invoking deleteInstance with valid order and cloud user,
 	// the plugin should retrieve and delete the respective ONe virtual network.
 	@Test
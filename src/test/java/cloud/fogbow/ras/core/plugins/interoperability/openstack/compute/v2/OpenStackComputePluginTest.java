@@ -1,5 +1,6 @@
 package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
 
+import cloud.fogbow.common.constants.OpenStackConstants;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.UnacceptableOperationException;
@@ -12,13 +13,13 @@ import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
 import cloud.fogbow.ras.core.BaseUnitTests;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.FlavorIndex;
 import cloud.fogbow.ras.core.models.HardwareRequirements;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models.CreateComputeRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models.GetAllFlavorsResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models.GetFlavorExtraSpecsResponse;
-import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models.GetFlavorResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
 import org.apache.http.client.HttpResponseException;
 import org.junit.Assert;
@@ -31,7 +32,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.*;
 
-@PrepareForTest({DatabaseManager.class, GetFlavorResponse.class,
+@PrepareForTest({DatabaseManager.class,
         PropertiesUtil.class, HttpErrorConditionToFogbowExceptionMapper.class,
         OpenStackPluginUtils.class, GetFlavorExtraSpecsResponse.class,
         GetAllFlavorsResponse.class})
@@ -99,25 +100,51 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
     public void testGetBestFlavor() throws FogbowException {
         // setup
         ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
-        Mockito.doNothing().when(this.computePlugin)
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
-
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
+        Mockito.doReturn(new FlavorIndex<>(getHardwareRequirementsList())).when(this.computePlugin)
+                .getFlavorIndex(Mockito.eq(this.cloudUser));
 
         // exercise
         HardwareRequirements requirements = this.computePlugin.getBestFlavor(computeOrder, cloudUser);
 
         // verify
         Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getHardwareRequirementsList();
+                .getFlavorIndex(Mockito.eq(this.cloudUser));
+        Mockito.verify(computePlugin, Mockito.never())
+                .flavorHasRequirements(Mockito.any(), Mockito.any(), Mockito.any());
         Assert.assertTrue(testUtils.DISK_VALUE <= requirements.getDisk());
         Assert.assertTrue(testUtils.CPU_VALUE <= requirements.getCpu());
         Assert.assertTrue(testUtils.MEMORY_VALUE <= requirements.getRam());
     }
 
+    // test case: when the order has requirements, only the extra specs of the flavors whose
+    // hardware fits the order should be checked, from the smallest to the largest
+    @Test
+    public void testGetBestFlavorWithRequirements() throws FogbowException {
+        // setup
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        Map<String, String> fakeRequirement = new HashMap<>();
+        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
+        computeOrder.setRequirements(fakeRequirement);
+
+        TreeSet<HardwareRequirements> flavors = getHardwareRequirementsList();
+        HardwareRequirements largerFlavor = new HardwareRequirements(FAKE_FLAVOR_NAME, FAKE_FLAVOR_ID,
+                testUtils.CPU_VALUE * 2, testUtils.MEMORY_VALUE * 2, testUtils.DISK_VALUE * 2);
+        flavors.add(largerFlavor);
+        Mockito.doReturn(new FlavorIndex<>(flavors)).when(this.computePlugin).getFlavorIndex(Mockito.eq(this.cloudUser));
+        Mockito.doReturn(false).when(this.computePlugin)
+                .flavorHasRequirements(Mockito.eq(this.cloudUser), Mockito.eq(fakeRequirement), Mockito.eq(bestFlavorId));
+        Mockito.doReturn(true).when(this.computePlugin)
+                .flavorHasRequirements(Mockito.eq(this.cloudUser), Mockito.eq(fakeRequirement), Mockito.eq(FAKE_FLAVOR_ID));
+
+        // exercise
+        HardwareRequirements requirements = this.computePlugin.getBestFlavor(computeOrder, cloudUser);
+
+        // verify
+        Assert.assertEquals(largerFlavor, requirements);
+        Mockito.verify(computePlugin, Mockito.times(2))
+                .flavorHasRequirements(Mockito.eq(this.cloudUser), Mockito.any(), Mockito.any());
+    }
+
     // test case: when given and order with huge resources it should not be capable
     // of allocating any flavor
     @Test
@@ -130,11 +157,8 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                 testUtils.DEFAULT_CLOUD_NAME, testUtils.FAKE_INSTANCE_NAME, bigVcpu, bigMemory, bigDisk, testUtils.FAKE_IMAGE_ID,
                 testUtils.mockUserData(), publicKey, null);
 
-        Mockito.doNothing().when(this.computePlugin)
-                .updateFlavors(Mockito.eq(computeOrder), Mockito.eq(this.cloudUser));
-
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
+        Mockito.doReturn(new FlavorIndex<>(getHardwareRequirementsList())).when(this.computePlugin)
+                .getFlavorIndex(Mockito.eq(this.cloudUser));
 
         // exercise
         HardwareRequirements requirements = this.computePlugin.getBestFlavor(computeOrder, cloudUser);
@@ -292,82 +316,68 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                         Mockito.any(), Mockito.any());
     }
 
-    // test case: When given a list of Flavor, check if it does have them cached, else
-    // it should perform a request for those flavors.
+    // test case: the fetchFlavors() should list the flavors in detail with a single request
+    // and return them sorted from the smallest to the largest
     @Test
-    public void testDetailFlavors() throws FogbowException, HttpResponseException {
+    public void testFetchFlavors() throws FogbowException {
         // set up
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
-        List<String> flavorIds = getFlavorIdsFromHardwareRequirementsList();
-        String unCachedFlavorId = "uncached-flavor-id";
-        flavorIds   .add(unCachedFlavorId);
-
-        HardwareRequirements requirementsMock = Mockito.mock(HardwareRequirements.class);
-        Mockito.doReturn(requirementsMock).when(this.computePlugin)
-                .fetchHardwareRequirements(Mockito.anyString(), Mockito.anyString(), Mockito.eq(cloudUser));
+        Mockito.doReturn(createGetAllFlavorsResponseJson())
+                .when(this.computePlugin).doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
 
         // exercise
-        this.computePlugin.detailFlavors(ANY_URL, flavorIds, cloudUser);
+        TreeSet<HardwareRequirements> flavors = new TreeSet<>(this.computePlugin.fetchFlavors(FAKE_PROJECT_ID, cloudUser));
 
         // verify
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getHardwareRequirementsList();
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .fetchHardwareRequirements(Mockito.anyString(), Mockito.anyString(), Mockito.eq(cloudUser));
+        String expectedEndpoint = this.computePlugin.getComputeEndpoint(FAKE_PROJECT_ID,
+                OpenStackConstants.FLAVORS_ENDPOINT + OpenStackComputePlugin.DETAIL_ENDPOINT);
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .doGetRequest(Mockito.eq(expectedEndpoint), Mockito.eq(cloudUser));
+        Assert.assertEquals(2, flavors.size());
+        Assert.assertEquals(FAKE_FLAVOR_ID, flavors.first().getFlavorId());
+        Assert.assertEquals(FAKE_FLAVOR_NAME, flavors.first().getName());
+        Assert.assertEquals(FAKE_FLAVOR_VCPU, flavors.first().getCpu());
+        Assert.assertEquals(FAKE_FLAVOR_MEMORY, flavors.first().getRam());
+        Assert.assertEquals(FAKE_FLAVOR_DISK, flavors.first().getDisk());
+        Assert.assertEquals(bestFlavorId, flavors.last().getFlavorId());
     }
 
-    @Test
-    public void testFetchHardwareRequirements() throws FogbowException, HttpResponseException {
+    // test case: When performing an unsuccessful request, it must throw an InternalServerErrorException
+    @Test(expected = InternalServerErrorException.class)
+    public void testFetchFlavorsUnsuccessfully() throws FogbowException, HttpResponseException {
         // set up
-        GetFlavorResponse mockedResponse = createGetFlavorResponseMock();
-        PowerMockito.mockStatic(GetFlavorResponse.class);
-        BDDMockito.given(GetFlavorResponse.fromJson(Mockito.anyString()))
-                .willReturn(mockedResponse);
-
-        Mockito.doReturn(ANY_STRING).when(this.computePlugin)
-                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
+        Mockito.when(this.clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
+                .thenThrow(InternalServerErrorException.class);
 
         // exercise
-        this.computePlugin.fetchHardwareRequirements(ANY_URL, ANY_STRING, cloudUser);
-
-        // verify
-        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.verifyStatic(GetFlavorResponse.class);
-        GetFlavorResponse.fromJson(Mockito.anyString());
-    }
+        this.computePlugin.fetchFlavors(FAKE_PROJECT_ID, cloudUser);
 
-    private GetFlavorResponse createGetFlavorResponseMock() {
-        GetFlavorResponse response = Mockito.mock(GetFlavorResponse.class);
-        Mockito.when(response.getName()).thenReturn(FAKE_FLAVOR_NAME);
-        Mockito.when(response.getId()).thenReturn(FAKE_FLAVOR_ID);
-        Mockito.when(response.getVcpusCount()).thenReturn(FAKE_FLAVOR_VCPU);
-        Mockito.when(response.getMemory()).thenReturn(FAKE_FLAVOR_MEMORY);
-        Mockito.when(response.getDisk()).thenReturn(FAKE_FLAVOR_DISK);
-
-        return response;
+        Assert.fail();
     }
 
-    // test case: When performing an unsuccessful request, it must throw an InternalServerErrorException
-    @Test(expected = InternalServerErrorException.class)
-    public void testDetailFlavorsUnsuccessfully() throws FogbowException {
+    // test case: the getFlavorIndex() should only fetch the flavors once while they are fresh,
+    // and the extra specs of a flavor should only be fetched once as well
+    @Test
+    public void testGetFlavorsUsesCatalog() throws FogbowException {
         // set up
         Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .getHardwareRequirementsList();
-        List<String> flavorIds = getFlavorIdsFromHardwareRequirementsList();
-        String unCachedFlavorId = "uncached-flavor-id";
-        flavorIds.add(unCachedFlavorId);
-
-        Mockito.when(this.clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
-                .thenThrow(InternalServerErrorException.class);
+                .fetchFlavors(Mockito.eq(FAKE_PROJECT_ID), Mockito.eq(cloudUser));
+        Mockito.doReturn(createFakeExtraSpecs()).when(this.computePlugin)
+                .fetchFlavorExtraSpecs(Mockito.eq(FAKE_PROJECT_ID), Mockito.eq(bestFlavorId), Mockito.eq(cloudUser));
+        Map<String, String> fakeRequirement = new HashMap<>();
+        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
 
         // exercise
-        this.computePlugin.detailFlavors(ANY_URL, flavorIds, cloudUser);
+        FlavorIndex<HardwareRequirements> flavorIndex = this.computePlugin.getFlavorIndex(cloudUser);
+        this.computePlugin.getFlavorIndex(cloudUser);
+        this.computePlugin.flavorHasRequirements(cloudUser, fakeRequirement, bestFlavorId);
+        this.computePlugin.flavorHasRequirements(cloudUser, fakeRequirement, bestFlavorId);
 
-        Assert.fail();
+        // verify
+        Assert.assertEquals(new ArrayList<>(getHardwareRequirementsList()), flavorIndex.getFlavors());
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .fetchFlavors(Mockito.eq(FAKE_PROJECT_ID), Mockito.eq(cloudUser));
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .fetchFlavorExtraSpecs(Mockito.eq(FAKE_PROJECT_ID), Mockito.eq(bestFlavorId), Mockito.eq(cloudUser));
     }
 
     @Test
@@ -465,81 +475,6 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
         GetFlavorExtraSpecsResponse.fromJson(Mockito.anyString());
     }
 
-    // test case: the updateFlavors() should perform a HTTP request for the flavors and
-    // update the current data the plugin holds
-    @Test
-    public void testUpdateFlavorsSuccessfully() throws FogbowException, HttpResponseException {
-        // set up
-        PowerMockito.mockStatic(OpenStackPluginUtils.class);
-        BDDMockito.given(OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser)))
-                .willReturn(ANY_STRING);
-
-        Mockito.doReturn(ANY_URL).when(this.computePlugin)
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        String getAllFlavorsResponseJson = createGetAllFlavorsResponseJson();
-        Mockito.doReturn(getAllFlavorsResponseJson)
-                .when(computePlugin).doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.spy(GetAllFlavorsResponse.class);
-        BDDMockito.given(GetAllFlavorsResponse.fromJson(Mockito.anyString()))
-                .willCallRealMethod();
-
-        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
-        computeOrder.setRequirements(fakeRequirement);
-
-        Mockito.doNothing().when(this.computePlugin).setHardwareRequirementsList(Mockito.any());
-        Mockito.doReturn(false).doReturn(true).when(this.computePlugin)
-                .flavorHasRequirements(Mockito.eq(cloudUser), Mockito.any(), Mockito.any());
-
-        Mockito.doReturn(getHardwareRequirementsList()).when(this.computePlugin)
-                .detailFlavors(Mockito.any(), Mockito.any(), Mockito.any());
-
-        // exercise
-        this.computePlugin.updateFlavors(computeOrder, cloudUser);
-
-        // verify
-        PowerMockito.verifyStatic(OpenStackPluginUtils.class);
-        OpenStackPluginUtils.getProjectIdFrom(Mockito.eq(cloudUser));
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .getComputeEndpoint(Mockito.anyString(), Mockito.anyString());
-
-        Mockito.verify(computePlugin, Mockito.times(testUtils.RUN_ONCE))
-                .doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser));
-
-        PowerMockito.verifyStatic(GetAllFlavorsResponse.class);
-        GetAllFlavorsResponse.fromJson(Mockito.anyString());
-
-        Mockito.verify(this.computePlugin, Mockito.atLeast(1))
-                .flavorHasRequirements(Mockito.eq(cloudUser), Mockito.any(), Mockito.any());
-
-        Mockito.verify(this.computePlugin, Mockito.times(1))
-                .detailFlavors(Mockito.any(), Mockito.any(), Mockito.any());
-
-        Mockito.verify(this.computePlugin, Mockito.times(1)).setHardwareRequirementsList(Mockito.any());
-    }
-
-    // test case: when a request is unsuccessful, it should thrown InternalServerErrorException
-    @Test(expected = InternalServerErrorException.class)
-    public void testUpdateFlavorsUnsuccessfully() throws FogbowException, HttpResponseException {
-        // set up
-        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
-        Map<String, String> fakeRequirement = new HashMap<>();
-        fakeRequirement.put(FAKE_REQUIREMENT, ANY_STRING);
-        computeOrder.setRequirements(fakeRequirement);
-
-        Mockito.when(clientMock.doGetRequest(Mockito.anyString(), Mockito.eq(cloudUser)))
-                .thenThrow(InternalServerErrorException.class);
-
-        // exercise
-        this.computePlugin.updateFlavors(computeOrder, cloudUser);
-
-        Assert.fail();
-    }
-
     // test case: given and order, it should call
     @Test
     public void testDeleteInstance() throws FogbowException, HttpResponseException {
@@ -604,6 +539,89 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
         Assert.fail();
     }
 
+    // test case: When calling the getInstances method, it must list the servers of the project
+    // and return the instances of the orders given, keyed by the order ids.
+    @Test
+    public void testGetInstancesSuccessfully() throws FogbowException {
+        // set up
+        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
+        computeOrder.setInstanceId(testUtils.FAKE_INSTANCE_ID);
+        ComputeOrder otherComputeOrder = testUtils.createLocalComputeOrder();
+        otherComputeOrder.setInstanceId(this.instanceId);
+
+        String serversJson = createGetAllComputesResponseJson(false, testUtils.FAKE_INSTANCE_ID, ANY_STRING);
+        Mockito.doReturn(serversJson).when(this.computePlugin)
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+
+        // exercise
+        Map<String, ComputeInstance> instances = this.computePlugin.getInstances(
+                Arrays.asList(computeOrder, otherComputeOrder), this.cloudUser);
+
+        // verify
+        Assert.assertEquals(1, instances.size());
+        ComputeInstance computeInstance = instances.get(computeOrder.getId());
+        Assert.assertEquals(testUtils.FAKE_INSTANCE_ID, computeInstance.getId());
+        Assert.assertEquals(defaultNetworkId, computeInstance.getNetworks().get(0).getId());
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+    }
+
+    // test case: When the servers are paginated, the getInstances method must request the next
+    // pages, starting after the last server of the previous one, until the last page.
+    @Test
+    public void testGetInstancesFollowsPages() throws FogbowException {
+        // set up
+        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
+        computeOrder.setInstanceId(testUtils.FAKE_INSTANCE_ID);
+        ComputeOrder otherComputeOrder = testUtils.createLocalComputeOrder();
+        otherComputeOrder.setInstanceId(this.instanceId);
+
+        String firstPageJson = createGetAllComputesResponseJson(true, testUtils.FAKE_INSTANCE_ID);
+        String secondPageJson = createGetAllComputesResponseJson(false, this.instanceId);
+        Mockito.doReturn(firstPageJson).doReturn(secondPageJson).when(this.computePlugin)
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+
+        // exercise
+        Map<String, ComputeInstance> instances = this.computePlugin.getInstances(
+                Arrays.asList(computeOrder, otherComputeOrder), this.cloudUser);
+
+        // verify
+        Assert.assertEquals(2, instances.size());
+        Assert.assertEquals(this.instanceId, instances.get(otherComputeOrder.getId()).getId());
+        Mockito.verify(this.computePlugin, Mockito.times(2))
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .doGetInstance(Mockito.endsWith(OpenStackComputePlugin.MARKER_QUERY_PARAMETER
+                        + testUtils.FAKE_INSTANCE_ID), Mockito.eq(this.cloudUser));
+    }
+
+    // test case: The batches of orders checked shortly one after the other must share a single
+    // listing of the servers.
+    @Test
+    public void testGetInstancesSharesListing() throws FogbowException {
+        // set up
+        ComputeOrder computeOrder = testUtils.createLocalComputeOrder();
+        computeOrder.setInstanceId(testUtils.FAKE_INSTANCE_ID);
+        ComputeOrder otherComputeOrder = testUtils.createLocalComputeOrder();
+        otherComputeOrder.setInstanceId(this.instanceId);
+
+        String serversJson = createGetAllComputesResponseJson(false, testUtils.FAKE_INSTANCE_ID, this.instanceId);
+        Mockito.doReturn(serversJson).when(this.computePlugin)
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+
+        // exercise
+        Map<String, ComputeInstance> instances = this.computePlugin.getInstances(
+                Arrays.asList(computeOrder), this.cloudUser);
+        Map<String, ComputeInstance> otherInstances = this.computePlugin.getInstances(
+                Arrays.asList(otherComputeOrder), this.cloudUser);
+
+        // verify
+        Assert.assertEquals(testUtils.FAKE_INSTANCE_ID, instances.get(computeOrder.getId()).getId());
+        Assert.assertEquals(this.instanceId, otherInstances.get(otherComputeOrder.getId()).getId());
+        Mockito.verify(this.computePlugin, Mockito.times(testUtils.RUN_ONCE))
+                .doGetInstance(Mockito.anyString(), Mockito.eq(this.cloudUser));
+    }
+
     // test case: Test if the networkdIds contain the defaultNetworkId
     @Test
     public void testGetNetworkIds() {
@@ -699,24 +717,27 @@ public class OpenStackComputePluginTest extends BaseUnitTests {
                 "[{\"addr\":\"192.168.0.3\"}]},\"flavor\":{\"id\":1},\"status\":\"ACTIVE\"}}";
     }
 
+    private String createGetAllComputesResponseJson(boolean hasNextPage, String... ids) {
+        List<String> servers = new ArrayList<>();
+        for (String id : ids) {
+            servers.add("{\"id\":\"" + id + "\",\"name\":\"" + FAKE_INSTANCE_NAME + "\",\"status\":\"ACTIVE\"}");
+        }
+        String links = hasNextPage ? ",\"servers_links\":[{\"href\":\"" + ANY_URL + "\",\"rel\":\"next\"}]" : "";
+        return "{\"servers\":[" + String.join(",", servers) + "]" + links + "}";
+    }
+
     private String createGetAllFlavorsResponseJson() {
-        return "{\"flavors\":[{\"id\":\"1\"},{\"id\":\"2\"},{\"id\":\"3\"},{\"id\":\"4\"}]}";
+        return "{\"flavors\":["
+                + "{\"id\":\"" + bestFlavorId + "\",\"name\":\"" + ANY_STRING + "\",\"vcpus\":" + (FAKE_FLAVOR_VCPU * 2)
+                + ",\"ram\":" + (FAKE_FLAVOR_MEMORY * 2) + ",\"disk\":" + (FAKE_FLAVOR_DISK * 2) + "},"
+                + "{\"id\":\"" + FAKE_FLAVOR_ID + "\",\"name\":\"" + FAKE_FLAVOR_NAME + "\",\"vcpus\":" + FAKE_FLAVOR_VCPU
+                + ",\"ram\":" + FAKE_FLAVOR_MEMORY + ",\"disk\":" + FAKE_FLAVOR_DISK + "}]}";
     }
 
     private String createCreateComputeResponseJson () {
         return "{\"server\":{\"id\":\""+this.instanceId+"\"}}";
     }
 
-    private List<String> getFlavorIdsFromHardwareRequirementsList() {
-        List<String> flavorIds = new ArrayList();
-        TreeSet<HardwareRequirements> requirements = getHardwareRequirementsList();
-
-        for (HardwareRequirements requirement : requirements) {
-            flavorIds.add(requirement.getFlavorId());
-        }
-        return flavorIds;
-    }
-
     private List<String> getMockedNetworkIds() {
         List<String> networksIds = new ArrayList<>();
         int qtd = 5;
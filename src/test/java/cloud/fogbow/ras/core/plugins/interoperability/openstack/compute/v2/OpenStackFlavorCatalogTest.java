@@ -0,0 +1,120 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.compute.v2;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.models.FlavorIndex;
+import cloud.fogbow.ras.core.models.HardwareRequirements;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OpenStackFlavorCatalogTest {
+
+    private static final long TIME_TO_LIVE = 1000;
+    private static final long LOAD_TIME = 10000;
+    private static final String FAKE_PROJECT_ID = "fake-project-id";
+    private static final String FAKE_FLAVOR_ID = "fake-flavor-id";
+    private static final String FAKE_FLAVOR_NAME = "fake-flavor-name";
+
+    private OpenStackFlavorCatalog flavorCatalog;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        this.flavorCatalog = Mockito.spy(new OpenStackFlavorCatalog(TIME_TO_LIVE));
+        Mockito.doReturn(LOAD_TIME).when(this.flavorCatalog).getCurrentTime();
+        Mockito.doNothing().when(this.flavorCatalog).refreshInBackground(Mockito.any(), Mockito.any());
+        this.loads = new AtomicInteger();
+    }
+
+    // test case: The flavors of a project must be loaded by the first caller, and then served
+    // from memory while they are fresh.
+    @Test
+    public void testGetFlavorsLoadsOnce() throws FogbowException {
+        // exercise
+        FlavorIndex<HardwareRequirements> flavorIndex = this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID,
+                this::loadFlavors);
+        this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID, this::loadFlavors);
+
+        // verify
+        Assert.assertEquals(1, this.loads.get());
+        Assert.assertEquals(FAKE_FLAVOR_ID, flavorIndex.getFlavors().get(0).getFlavorId());
+        Mockito.verify(this.flavorCatalog, Mockito.never()).refreshInBackground(Mockito.any(), Mockito.any());
+    }
+
+    // test case: Once the flavors are older than the time to live, the caller must get the flavors
+    // already known while a refresh starts in the background.
+    @Test
+    public void testGetFlavorsRefreshesExpiredInBackground() throws FogbowException {
+        // set up
+        FlavorIndex<HardwareRequirements> flavorIndex = this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID,
+                this::loadFlavors);
+        Mockito.doReturn(LOAD_TIME + TIME_TO_LIVE).when(this.flavorCatalog).getCurrentTime();
+
+        // exercise
+        FlavorIndex<HardwareRequirements> expiredFlavorIndex = this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID,
+                this::loadFlavors);
+
+        // verify
+        Assert.assertSame(flavorIndex, expiredFlavorIndex);
+        Assert.assertEquals(1, this.loads.get());
+        Mockito.verify(this.flavorCatalog, Mockito.times(1))
+                .refreshInBackground(Mockito.eq(FAKE_PROJECT_ID), Mockito.any());
+    }
+
+    // test case: The extra specs of a flavor must be loaded once while the flavors of its project
+    // are kept, and loaded again after the flavors are invalidated.
+    @Test
+    public void testGetExtraSpecs() throws FogbowException {
+        // set up
+        this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID, this::loadFlavors);
+        AtomicInteger extraSpecsLoads = new AtomicInteger();
+        OpenStackFlavorCatalog.Loader<Map<String, String>> extraSpecsLoader = () -> {
+            extraSpecsLoads.incrementAndGet();
+            return new HashMap<>();
+        };
+
+        // exercise
+        this.flavorCatalog.getExtraSpecs(FAKE_PROJECT_ID, FAKE_FLAVOR_ID, extraSpecsLoader);
+        this.flavorCatalog.getExtraSpecs(FAKE_PROJECT_ID, FAKE_FLAVOR_ID, extraSpecsLoader);
+        this.flavorCatalog.invalidate(FAKE_PROJECT_ID);
+        this.flavorCatalog.getExtraSpecs(FAKE_PROJECT_ID, FAKE_FLAVOR_ID, extraSpecsLoader);
+
+        // verify
+        Assert.assertEquals(2, extraSpecsLoads.get());
+    }
+
+    // test case: When the first load fails, the error must reach the caller and nothing must be kept.
+    @Test
+    public void testGetFlavorsFailure() throws FogbowException {
+        // set up
+        OpenStackFlavorCatalog.Loader<Collection<HardwareRequirements>> failingLoader = () -> {
+            throw new InternalServerErrorException();
+        };
+
+        // exercise
+        try {
+            this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID, failingLoader);
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            this.flavorCatalog.getFlavorIndex(FAKE_PROJECT_ID, this::loadFlavors);
+            Assert.assertEquals(1, this.loads.get());
+        }
+    }
+
+    private Collection<HardwareRequirements> loadFlavors() {
+        this.loads.incrementAndGet();
+        List<HardwareRequirements> flavors = new ArrayList<>();
+        flavors.add(new HardwareRequirements(FAKE_FLAVOR_NAME, FAKE_FLAVOR_ID, 1, 1024, 10));
+        return flavors;
+    }
+}
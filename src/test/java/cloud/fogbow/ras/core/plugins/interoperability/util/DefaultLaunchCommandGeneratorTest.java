@@ -163,6 +163,28 @@ public class DefaultLaunchCommandGeneratorTest {
         Assert.assertEquals(expectedMimeString, replacedMimeString);
     }
 
+    // test case: The tokens must be replaced in a single pass, thus a token within a replacement value,
+    // such as a public key of the user, must be kept as given.
+    @Test
+    public void testApplyTokensReplacementsInSinglePass() {
+
+        // set up
+        ComputeOrder order = this.createComputeOrder();
+        String publicKey = "fake-public-key " + DefaultLaunchCommandGenerator.TOKEN_ID;
+        order.setPublicKey(publicKey);
+
+        String mimeString = DefaultLaunchCommandGenerator.TOKEN_USER_SSH_PUBLIC_KEY + "|"
+                + DefaultLaunchCommandGenerator.TOKEN_ID + "|" + DefaultLaunchCommandGenerator.TOKEN_ID;
+        String expectedMimeString = publicKey + "|" + order.getId() + "|" + order.getId();
+
+        // exercise
+        String replacedMimeString =
+                this.launchCommandGenerator.applyTokensReplacements(order, mimeString);
+
+        // verify
+        Assert.assertEquals(expectedMimeString, replacedMimeString);
+    }
+
     private ComputeOrder createComputeOrder() {
         SystemUser systemUser = Mockito.mock(SystemUser.class);
         String imageName = "fake-image-name";
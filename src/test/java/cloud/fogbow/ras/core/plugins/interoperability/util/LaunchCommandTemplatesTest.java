@@ -0,0 +1,80 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+
+public class LaunchCommandTemplatesTest {
+
+    private static final String TEMPLATE_CONTENT = "#!/bin/bash\necho #TOKEN_ID#\n";
+    private static final String EDITED_TEMPLATE_CONTENT = "#!/bin/bash\necho edited\n";
+    private static final long LAST_MODIFIED = 1000000000000L;
+
+    private File templateFile;
+
+    @Before
+    public void setUp() throws IOException {
+        LaunchCommandTemplates.clear();
+        this.templateFile = File.createTempFile("launch-command-template", ".sh");
+        write(TEMPLATE_CONTENT, LAST_MODIFIED);
+    }
+
+    @After
+    public void tearDown() {
+        LaunchCommandTemplates.clear();
+        this.templateFile.delete();
+    }
+
+    // test case: A template must be served from memory while the file is unchanged, even if its
+    // content changed without changing its modification time nor size.
+    @Test
+    public void testGetContentIsCached() throws IOException {
+        // set up
+        String content = LaunchCommandTemplates.getContent(this.templateFile.getPath());
+        String sameSizeContent = TEMPLATE_CONTENT.replace('#', '!');
+        write(sameSizeContent, LAST_MODIFIED);
+
+        // exercise
+        String cachedContent = LaunchCommandTemplates.getContent(this.templateFile.getPath());
+
+        // verify
+        Assert.assertEquals(TEMPLATE_CONTENT, content);
+        Assert.assertSame(content, cachedContent);
+    }
+
+    // test case: Once the file is modified, the next caller must get its new content.
+    @Test
+    public void testGetContentAfterFileChanged() throws IOException {
+        // set up
+        LaunchCommandTemplates.getContent(this.templateFile.getPath());
+        write(EDITED_TEMPLATE_CONTENT, LAST_MODIFIED + 1000);
+
+        // exercise
+        String content = LaunchCommandTemplates.getContent(this.templateFile.getPath());
+
+        // verify
+        Assert.assertEquals(EDITED_TEMPLATE_CONTENT, content);
+    }
+
+    // test case: A missing file must make the caller fail with an IOException.
+    @Test(expected = NoSuchFileException.class)
+    public void testGetContentOfMissingFile() throws IOException {
+        // set up
+        this.templateFile.delete();
+
+        // exercise
+        LaunchCommandTemplates.getContent(this.templateFile.getPath());
+    }
+
+    private void write(String content, long lastModified) throws IOException {
+        Files.write(this.templateFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        this.templateFile.setLastModified(lastModified);
+    }
+}
@@ -0,0 +1,135 @@
+package cloud.fogbow.ras.core.plugins.mapper;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudUser;
+import cloud.fogbow.ras.core.TestUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class CloudUserCacheTest {
+
+    private static final long LIFETIME = 1000;
+    private static final long REFRESH_AHEAD = 100;
+    private static final long NOW = 10000;
+
+    private CloudUserCache.CloudUserLoader<CloudUser> loader;
+    private CloudUserCache<CloudUser> cache;
+    private Map<String, String> credentials;
+    private CloudUser cloudUser;
+
+    @Before
+    public void setUp() throws FogbowException {
+        this.loader = Mockito.mock(CloudUserCache.CloudUserLoader.class);
+        this.cache = Mockito.spy(new CloudUserCache<>(this.loader, LIFETIME, REFRESH_AHEAD));
+        this.credentials = new HashMap<>();
+        this.credentials.put(TestUtils.FAKE_USER_NAME, TestUtils.ANY_VALUE);
+        this.cloudUser = new CloudUser(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, TestUtils.FAKE_TOKEN_VALUE);
+        Mockito.doReturn(this.cloudUser).when(this.loader).load(Mockito.eq(this.credentials));
+        Mockito.doReturn(NOW).when(this.cache).getCurrentTime();
+    }
+
+    // test case: When calling the get method twice within the lifetime of the cloud user,
+    // the identity provider must be reached only once.
+    @Test
+    public void testGetWithinLifetime() throws FogbowException {
+        // exercise
+        CloudUser first = this.cache.get(this.credentials);
+        CloudUser second = this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).load(Mockito.eq(this.credentials));
+        Mockito.verify(this.cache, Mockito.never()).refreshInBackground(Mockito.eq(this.credentials));
+        Assert.assertSame(this.cloudUser, first);
+        Assert.assertSame(this.cloudUser, second);
+    }
+
+    // test case: When calling the get method close to the expiration of the cloud user, the
+    // cached cloud user must be returned and a background refresh must be triggered.
+    @Test
+    public void testGetCloseToExpiration() throws FogbowException {
+        // set up
+        this.cache.get(this.credentials);
+        Mockito.doNothing().when(this.cache).refreshInBackground(Mockito.eq(this.credentials));
+        Mockito.doReturn(NOW + LIFETIME - REFRESH_AHEAD).when(this.cache).getCurrentTime();
+
+        // exercise
+        CloudUser cachedCloudUser = this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.cache, Mockito.times(TestUtils.RUN_ONCE)).refreshInBackground(Mockito.eq(this.credentials));
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_ONCE)).load(Mockito.eq(this.credentials));
+        Assert.assertSame(this.cloudUser, cachedCloudUser);
+    }
+
+    // test case: When calling the get method after the expiration of the cloud user, a new
+    // cloud user must be obtained from the identity provider.
+    @Test
+    public void testGetAfterExpiration() throws FogbowException {
+        // set up
+        this.cache.get(this.credentials);
+        Mockito.doReturn(NOW + LIFETIME).when(this.cache).getCurrentTime();
+
+        // exercise
+        this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load(Mockito.eq(this.credentials));
+    }
+
+    // test case: When calling the get method after invalidating the cloud user, a new cloud
+    // user must be obtained from the identity provider.
+    @Test
+    public void testGetAfterInvalidate() throws FogbowException {
+        // set up
+        this.cache.get(this.credentials);
+
+        // exercise
+        this.cache.invalidate(this.credentials);
+        this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load(Mockito.eq(this.credentials));
+    }
+
+    // test case: When the identity provider fails, the exception must be propagated and nothing
+    // must be cached.
+    @Test
+    public void testGetWhenIdentityProviderFails() throws FogbowException {
+        // set up
+        Mockito.doThrow(new UnavailableProviderException()).doReturn(this.cloudUser)
+                .when(this.loader).load(Mockito.eq(this.credentials));
+
+        // exercise
+        try {
+            this.cache.get(this.credentials);
+            Assert.fail();
+        } catch (UnavailableProviderException e) {
+            // expected
+        }
+        CloudUser cachedCloudUser = this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load(Mockito.eq(this.credentials));
+        Assert.assertSame(this.cloudUser, cachedCloudUser);
+    }
+
+    // test case: When the lifetime is not positive, caching must be disabled.
+    @Test
+    public void testGetWithCachingDisabled() throws FogbowException {
+        // set up
+        this.cache = new CloudUserCache<>(this.loader, 0, REFRESH_AHEAD);
+
+        // exercise
+        this.cache.get(this.credentials);
+        this.cache.get(this.credentials);
+
+        // verify
+        Mockito.verify(this.loader, Mockito.times(TestUtils.RUN_TWICE)).load(Mockito.eq(this.credentials));
+    }
+}
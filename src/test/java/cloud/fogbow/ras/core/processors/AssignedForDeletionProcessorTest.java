@@ -17,14 +17,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.Map;
 
 @PrepareForTest({ DatabaseManager.class,
         CloudConnectorFactory.class,
-        Thread.class,
         AssignedForDeletionProcessor.class })
 public class AssignedForDeletionProcessorTest extends BaseUnitTests {
 
@@ -227,9 +225,7 @@ public class AssignedForDeletionProcessorTest extends BaseUnitTests {
             throws InterruptedException, FogbowException {
 
         // set up
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+        SharedOrderHolders.getInstance().getWakeUpSignal(OrderState.ASSIGNED_FOR_DELETION).signal();
 
         // exercise
         this.processor.assignForDeletion();
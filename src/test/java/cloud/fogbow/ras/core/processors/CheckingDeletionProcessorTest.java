@@ -18,14 +18,12 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.Map;
 
 @PrepareForTest({DatabaseManager.class,
         CloudConnectorFactory.class,
-        Thread.class,
         CheckingDeletionProcessor.class})
 public class CheckingDeletionProcessorTest extends BaseUnitTests {
 
@@ -207,9 +205,7 @@ public class CheckingDeletionProcessorTest extends BaseUnitTests {
             throws InterruptedException, InternalServerErrorException {
 
         // set up
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+        SharedOrderHolders.getInstance().getWakeUpSignal(OrderState.CHECKING_DELETION).signal();
 
         // exercise
         this.processor.checkDeletion();
@@ -225,9 +221,7 @@ public class CheckingDeletionProcessorTest extends BaseUnitTests {
     @Test(expected = InterruptedException.class)
     public void testCheckDeletionFailWhenThrowsInterruptedException() throws InterruptedException {
         // set up
-        PowerMockito.spy(Thread.class);
-        PowerMockito.doThrow(new InterruptedException()).when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+        Thread.currentThread().interrupt();
 
         // exercise
         this.processor.checkDeletion();
@@ -0,0 +1,162 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.api.http.response.ComputeInstance;
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@PrepareForTest({ CloudConnectorFactory.class, DatabaseManager.class })
+public class InstancePrefetcherTest extends BaseUnitTests {
+
+    private static final int BATCH_SIZE = 2;
+    private static final String OTHER_CLOUD_NAME = "other-cloud";
+
+    private LocalCloudConnector localCloudConnector;
+    private InstancePrefetcher instancePrefetcher;
+
+    @Before
+    public void setUp() throws Exception {
+        this.testUtils.mockReadOrdersFromDataBase();
+        this.localCloudConnector = this.testUtils.mockLocalCloudConnectorFromFactory();
+        this.instancePrefetcher = new InstancePrefetcher(TestUtils.LOCAL_MEMBER_ID, BATCH_SIZE);
+    }
+
+    // test case: When calling the add method, it must return the orders of a cloud only when the
+    // batch of that cloud is full.
+    @Test
+    public void testAddFillsBatchPerCloud() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        Order otherCloudOrder = this.testUtils.createLocalComputeOrder();
+        otherCloudOrder.setCloudName(OTHER_CLOUD_NAME);
+        Order otherOrder = this.testUtils.createLocalComputeOrder();
+
+        // exercise and verify
+        Assert.assertTrue(this.instancePrefetcher.add(order).isEmpty());
+        Assert.assertTrue(this.instancePrefetcher.add(otherCloudOrder).isEmpty());
+        Assert.assertEquals(Arrays.asList(order, otherOrder), this.instancePrefetcher.add(otherOrder));
+        Assert.assertEquals(Arrays.asList(otherCloudOrder), this.instancePrefetcher.flush());
+        Assert.assertTrue(this.instancePrefetcher.flush().isEmpty());
+    }
+
+    // test case: The instances of a batch must not be fetched until one of its orders takes its
+    // instance, and then all at once; each prefetched instance can only be taken once.
+    @Test
+    public void testTakeFetchesBatch() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        Order otherOrder = this.testUtils.createLocalComputeOrder();
+        this.instancePrefetcher.add(order);
+        this.instancePrefetcher.add(otherOrder);
+
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        Map<String, OrderInstance> instances = new HashMap<>();
+        instances.put(order.getId(), instance);
+        Mockito.doReturn(instances).when(this.localCloudConnector).getInstances(Mockito.anyList());
+        Mockito.verify(this.localCloudConnector, Mockito.never()).getInstances(Mockito.anyList());
+
+        // exercise
+        OrderInstance takenInstance = this.instancePrefetcher.take(order);
+
+        // verify
+        Assert.assertSame(instance, takenInstance);
+        Assert.assertNull(this.instancePrefetcher.take(order));
+        Assert.assertNull(this.instancePrefetcher.take(otherOrder));
+        Mockito.verify(this.localCloudConnector, Mockito.times(TestUtils.RUN_ONCE))
+                .getInstances(Mockito.eq(Arrays.asList(order, otherOrder)));
+    }
+
+    // test case: When an order of a batch is discarded, its instance must not be fetched, while the
+    // other orders of the batch keep theirs until they take them.
+    @Test
+    public void testDiscard() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        Order otherOrder = this.testUtils.createLocalComputeOrder();
+        Order discardedOrder = this.testUtils.createLocalComputeOrder();
+        this.instancePrefetcher = new InstancePrefetcher(TestUtils.LOCAL_MEMBER_ID, BATCH_SIZE + 1);
+        this.instancePrefetcher.add(order);
+        this.instancePrefetcher.add(otherOrder);
+        this.instancePrefetcher.add(discardedOrder);
+
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        Map<String, OrderInstance> instances = new HashMap<>();
+        instances.put(otherOrder.getId(), instance);
+        Mockito.doReturn(instances).when(this.localCloudConnector).getInstances(Mockito.anyList());
+
+        // exercise
+        this.instancePrefetcher.discard(discardedOrder);
+        this.instancePrefetcher.take(order);
+
+        // verify
+        Mockito.verify(this.localCloudConnector, Mockito.times(TestUtils.RUN_ONCE))
+                .getInstances(Mockito.eq(Arrays.asList(order, otherOrder)));
+        Assert.assertSame(instance, this.instancePrefetcher.take(otherOrder));
+    }
+
+    // test case: An order still waiting for the instance of an earlier batch is in flight, so it must
+    // be left out of the new batch.
+    @Test
+    public void testAddOrderInFlight() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.instancePrefetcher.add(order);
+        this.instancePrefetcher.add(this.testUtils.createLocalComputeOrder());
+        this.instancePrefetcher.add(order);
+
+        // exercise
+        List<Order> orders = this.instancePrefetcher.add(this.testUtils.createLocalComputeOrder());
+
+        // verify
+        Assert.assertEquals(1, orders.size());
+        Assert.assertFalse(orders.contains(order));
+    }
+
+    // test case: When the batch holds a single order, its instance must not be prefetched, so that
+    // the order is checked the usual way.
+    @Test
+    public void testTakeSingleOrder() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.instancePrefetcher.add(order);
+        this.instancePrefetcher.flush();
+
+        // exercise
+        OrderInstance instance = this.instancePrefetcher.take(order);
+
+        // verify
+        Assert.assertNull(instance);
+        Mockito.verify(this.localCloudConnector, Mockito.never()).getInstances(Mockito.anyList());
+    }
+
+    // test case: When getting the instances fails, the orders of the batch must be left without
+    // prefetched instances.
+    @Test
+    public void testTakeFetchFailure() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+        this.instancePrefetcher.add(order);
+        this.instancePrefetcher.add(this.testUtils.createLocalComputeOrder());
+        Mockito.doThrow(new RuntimeException()).when(this.localCloudConnector).getInstances(Mockito.anyList());
+
+        // exercise
+        OrderInstance instance = this.instancePrefetcher.take(order);
+
+        // verify
+        Assert.assertNull(instance);
+    }
+}
@@ -0,0 +1,137 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class OrderCheckSchedulerTest {
+
+    private static final long NOW = 100000;
+    private static final long MIN_INTERVAL = 1000;
+    private static final long MAX_INTERVAL = 3000;
+    private static final double BACKOFF_FACTOR = 2;
+    private static final long VOLUME_INTERVAL = 500;
+
+    private TestUtils testUtils;
+    private OrderCheckScheduler scheduler;
+    private Order order;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        Map<ResourceType, OrderCheckPolicy> policies = new EnumMap<>(ResourceType.class);
+        policies.put(ResourceType.VOLUME, new OrderCheckPolicy(VOLUME_INTERVAL, VOLUME_INTERVAL, BACKOFF_FACTOR));
+        OrderCheckPolicy defaultPolicy = new OrderCheckPolicy(MIN_INTERVAL, MAX_INTERVAL, BACKOFF_FACTOR);
+        this.scheduler = Mockito.spy(new OrderCheckScheduler(OrderState.FULFILLED, defaultPolicy, policies));
+        Mockito.doReturn(NOW).when(this.scheduler).getCurrentTime();
+
+        this.order = this.testUtils.createLocalComputeOrder();
+        this.order.setOrderStateInTestMode(OrderState.FULFILLED);
+    }
+
+    // test case: When calling the isDue method with an order that has never been checked,
+    // it must return true.
+    @Test
+    public void testIsDueNeverChecked() {
+        // exercise and verify
+        Assert.assertTrue(this.scheduler.isDue(this.order));
+    }
+
+    // test case: When an order keeps being found in the same state, the interval between
+    // its checks must grow by the backoff factor, up to the maximum interval.
+    @Test
+    public void testScheduleNextBackoff() {
+        // exercise and verify
+        this.scheduler.scheduleNext(this.order);
+        assertDueAfter(MIN_INTERVAL);
+
+        this.scheduler.scheduleNext(this.order);
+        assertDueAfter((long) (MIN_INTERVAL * BACKOFF_FACTOR));
+
+        this.scheduler.scheduleNext(this.order);
+        assertDueAfter(MAX_INTERVAL);
+
+        this.scheduler.scheduleNext(this.order);
+        assertDueAfter(MAX_INTERVAL);
+    }
+
+    // test case: When calling the scheduleNext method with an order of a resource type that has
+    // a policy of its own, that policy must be used.
+    @Test
+    public void testScheduleNextWithResourceTypePolicy() {
+        // set up
+        this.order = this.testUtils.createLocalVolumeOrder();
+        this.order.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        // exercise
+        this.scheduler.scheduleNext(this.order);
+
+        // verify
+        assertDueAfter(VOLUME_INTERVAL);
+    }
+
+    // test case: When calling the scheduleNext method with an order that has left the state of
+    // the processor, its schedule must be discarded.
+    @Test
+    public void testScheduleNextOrderChangedState() {
+        // set up
+        this.scheduler.scheduleNext(this.order);
+        this.order.setOrderStateInTestMode(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+
+        // exercise
+        this.scheduler.scheduleNext(this.order);
+
+        // verify
+        Assert.assertEquals(0, this.scheduler.getScheduledOrders());
+        Assert.assertTrue(this.scheduler.isDue(this.order));
+    }
+
+    // test case: When calling the endPass method, the schedules of the orders not visited in the
+    // pass must be discarded.
+    @Test
+    public void testEndPassDiscardsOrdersNotVisited() {
+        // set up
+        Order visitedOrder = this.testUtils.createLocalComputeOrder();
+        visitedOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.scheduler.scheduleNext(this.order);
+        this.scheduler.scheduleNext(visitedOrder);
+        this.scheduler.isDue(visitedOrder);
+
+        // exercise
+        this.scheduler.endPass();
+
+        // verify
+        Assert.assertEquals(1, this.scheduler.getScheduledOrders());
+        Assert.assertFalse(this.scheduler.isDue(visitedOrder));
+    }
+
+    // test case: A scheduler built without policies must consider every order due on every pass.
+    @Test
+    public void testSchedulerWithoutPolicies() {
+        // set up
+        this.scheduler = new OrderCheckScheduler(OrderState.FULFILLED);
+
+        // exercise
+        this.scheduler.scheduleNext(this.order);
+
+        // verify
+        Assert.assertTrue(this.scheduler.isDue(this.order));
+    }
+
+    private void assertDueAfter(long interval) {
+        Mockito.doReturn(NOW + interval - 1).when(this.scheduler).getCurrentTime();
+        Assert.assertFalse(this.scheduler.isDue(this.order));
+        Mockito.doReturn(NOW + interval).when(this.scheduler).getCurrentTime();
+        Assert.assertTrue(this.scheduler.isDue(this.order));
+        // The next check is scheduled from the time of the current one
+        Mockito.doReturn(NOW).when(this.scheduler).getCurrentTime();
+    }
+}
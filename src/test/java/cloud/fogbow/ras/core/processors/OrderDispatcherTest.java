@@ -0,0 +1,203 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class OrderDispatcherTest {
+
+    private static final String DISPATCHER_NAME = "test-proc";
+    private static final int WORKERS = 2;
+    private static final int ONE_ORDER_PER_CLOUD = 1;
+    private static final long TIMEOUT = 5;
+    private static final long POLLING_INTERVAL = 10;
+
+    private TestUtils testUtils;
+    private OrderDispatcher dispatcher;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.started = new CountDownLatch(1);
+        this.release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        this.release.countDown();
+        if (this.dispatcher != null) {
+            this.dispatcher.shutdown();
+        }
+    }
+
+    // test case: When calling the dispatch method on a serial dispatcher, the order must be
+    // processed by the calling thread before the method returns.
+    @Test
+    public void testDispatchSerial() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+
+        // exercise
+        boolean dispatched = this.dispatcher.dispatch(order, dispatchedOrder -> processingThread.set(Thread.currentThread()));
+
+        // verify
+        Assert.assertTrue(dispatched);
+        Assert.assertSame(Thread.currentThread(), processingThread.get());
+        Assert.assertEquals(1, this.dispatcher.getProcessedOrders());
+        Assert.assertEquals(0, this.dispatcher.getQueueDepth());
+    }
+
+    // test case: When calling the dispatch method on a dispatcher with many workers, the order
+    // must be processed by one of the workers and the metrics must be updated once it finishes.
+    @Test
+    public void testDispatchToWorker() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME, WORKERS, OrderDispatcher.UNLIMITED);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        AtomicReference<Thread> processingThread = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+
+        // exercise
+        boolean dispatched = this.dispatcher.dispatch(order, dispatchedOrder -> {
+            processingThread.set(Thread.currentThread());
+            finished.countDown();
+        });
+
+        // verify
+        Assert.assertTrue(dispatched);
+        Assert.assertTrue(finished.await(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertNotSame(Thread.currentThread(), processingThread.get());
+        Assert.assertTrue(processingThread.get().getName().startsWith(DISPATCHER_NAME));
+        waitUntilIdle();
+        Assert.assertEquals(1, this.dispatcher.getProcessedOrders());
+        Assert.assertTrue(this.dispatcher.getMaxLatency() >= this.dispatcher.getAverageLatency());
+    }
+
+    // test case: When calling the dispatch method with an order that is still being processed,
+    // the order must be skipped instead of being processed twice at the same time.
+    @Test
+    public void testDispatchOrderInFlight() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME, WORKERS, OrderDispatcher.UNLIMITED);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        this.dispatcher.dispatch(order, blockingProcessor());
+        Assert.assertTrue(this.started.await(TIMEOUT, TimeUnit.SECONDS));
+
+        // exercise
+        boolean dispatched = this.dispatcher.dispatch(order, blockingProcessor());
+
+        // verify
+        Assert.assertFalse(dispatched);
+        Assert.assertEquals(1, this.dispatcher.getOrdersInFlight());
+        Assert.assertEquals(1, this.dispatcher.getSkippedOrders());
+    }
+
+    // test case: When calling the dispatch method with an order whose cloud has already reached
+    // its concurrency limit, the order must wait for the order of its cloud to finish, while the
+    // orders of other clouds go on.
+    @Test
+    public void testDispatchCloudLimitReached() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME, WORKERS, ONE_ORDER_PER_CLOUD);
+        this.started = new CountDownLatch(2);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        Order sameCloudOrder = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        Order otherCloudOrder = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        otherCloudOrder.setCloudName(TestUtils.ANY_VALUE);
+        this.dispatcher.dispatch(order, blockingProcessor());
+        AtomicReference<Order> waitingOrder = new AtomicReference<>();
+
+        // exercise
+        boolean sameCloudDispatched = this.dispatcher.dispatch(sameCloudOrder, waitingOrder::set);
+        boolean otherCloudDispatched = this.dispatcher.dispatch(otherCloudOrder, blockingProcessor());
+
+        // verify
+        Assert.assertTrue(sameCloudDispatched);
+        Assert.assertTrue(otherCloudDispatched);
+        Assert.assertTrue(this.started.await(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertNull(waitingOrder.get());
+        Assert.assertEquals(1, this.dispatcher.getQueueDepth());
+        Assert.assertEquals(0, this.dispatcher.getSkippedOrders());
+
+        // exercise
+        this.release.countDown();
+        waitUntilIdle();
+
+        // verify
+        Assert.assertSame(sameCloudOrder, waitingOrder.get());
+        Assert.assertEquals(3, this.dispatcher.getProcessedOrders());
+    }
+
+    // test case: When the limit of a cloud is set on its own, it must be used for the orders of that
+    // cloud instead of the limit of the other clouds.
+    @Test
+    public void testDispatchWithLimitPerCloud() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME, WORKERS,
+                cloudName -> TestUtils.ANY_VALUE.equals(cloudName) ? OrderDispatcher.UNLIMITED : ONE_ORDER_PER_CLOUD);
+        this.started = new CountDownLatch(2);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        order.setCloudName(TestUtils.ANY_VALUE);
+        Order sameCloudOrder = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        sameCloudOrder.setCloudName(TestUtils.ANY_VALUE);
+
+        // exercise
+        this.dispatcher.dispatch(order, blockingProcessor());
+        this.dispatcher.dispatch(sameCloudOrder, blockingProcessor());
+
+        // verify
+        Assert.assertTrue(this.started.await(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertEquals(0, this.dispatcher.getQueueDepth());
+    }
+
+    // test case: When the processing of an order fails with an unexpected error, the worker must
+    // survive it and the order must be released so that it can be dispatched again.
+    @Test
+    public void testDispatchProcessingFails() throws InterruptedException {
+        // set up
+        this.dispatcher = new OrderDispatcher(DISPATCHER_NAME, WORKERS, ONE_ORDER_PER_CLOUD);
+        Order order = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+        this.dispatcher.dispatch(order, dispatchedOrder -> {
+            throw new RuntimeException();
+        });
+        waitUntilIdle();
+
+        // exercise
+        boolean dispatched = this.dispatcher.dispatch(order, blockingProcessor());
+
+        // verify
+        Assert.assertTrue(dispatched);
+        Assert.assertTrue(this.started.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    private Consumer<Order> blockingProcessor() {
+        return order -> {
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private void waitUntilIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+        while (this.dispatcher.getOrdersInFlight() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLLING_INTERVAL);
+        }
+        Assert.assertEquals(0, this.dispatcher.getOrdersInFlight());
+    }
+}
@@ -0,0 +1,175 @@
+package cloud.fogbow.ras.core.processors;
+
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RemoteOrderStateNotifierTest extends BaseUnitTests {
+
+    private static final long RETRY_INTERVAL = 1000;
+    private static final long CURRENT_TIME = 10000;
+    private static final int BATCH_SIZE = 2;
+
+    private RemoteOrderStateNotifier notifier;
+    private List<List<RemoteOrderUpdate>> notifications;
+    private boolean requesterUnavailable;
+    private boolean notificationsNotSupported;
+
+    @Before
+    public void setUp() throws Exception {
+        this.notifier = Mockito.spy(new RemoteOrderStateNotifier(TestUtils.LOCAL_MEMBER_ID, RETRY_INTERVAL,
+                BATCH_SIZE));
+        Mockito.doReturn(CURRENT_TIME).when(this.notifier).getCurrentTime();
+        this.notifications = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            if (this.requesterUnavailable) {
+                throw new UnavailableProviderException(TestUtils.ANY_VALUE);
+            }
+            if (this.notificationsNotSupported) {
+                return false;
+            }
+            this.notifications.add((List<RemoteOrderUpdate>) invocation.getArguments()[1]);
+            return true;
+        }).when(this.notifier).sendNotification(Mockito.eq(TestUtils.FAKE_REMOTE_MEMBER_ID), Mockito.anyList());
+    }
+
+    // test case: Only the orders requested by remote providers must be notified, and the changes of the
+    // same order must be coalesced into a single notification carrying its current state.
+    @Test
+    public void testNotifyRequesters() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.SPAWNING);
+        Order otherOrder = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        otherOrder.setOrderStateInTestMode(OrderState.FAILED_ON_REQUEST);
+        Order localOrder = this.testUtils.createLocalOrder(TestUtils.LOCAL_MEMBER_ID);
+
+        this.notifier.enqueue(order);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.notifier.enqueue(order);
+        this.notifier.enqueue(otherOrder);
+        this.notifier.enqueue(localOrder);
+
+        // exercise
+        this.notifier.notifyRequesters();
+
+        // verify
+        Assert.assertEquals(1, this.notifications.size());
+        List<RemoteOrderUpdate> orderUpdates = this.notifications.get(0);
+        Assert.assertEquals(2, orderUpdates.size());
+        Assert.assertEquals(order.getId(), orderUpdates.get(0).getOrderId());
+        Assert.assertEquals(OrderState.FULFILLED, orderUpdates.get(0).toOrder().getOrderState());
+        Assert.assertTrue(orderUpdates.get(0).getSequence() > 0);
+        Assert.assertEquals(order.getRemoteUpdateSequence(), orderUpdates.get(0).getSequence());
+        Assert.assertEquals(otherOrder.getId(), orderUpdates.get(1).getOrderId());
+        Assert.assertEquals(OrderState.FAILED_ON_REQUEST, orderUpdates.get(1).toOrder().getOrderState());
+        Assert.assertEquals(0, this.notifier.getPendingOrders());
+    }
+
+    // test case: When the requester cannot be notified, its notifications must be kept and sent again
+    // only once the retry interval has passed.
+    @Test
+    public void testNotifyRequestersRetriesAfterFailure() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.notifier.enqueue(order);
+
+        this.requesterUnavailable = true;
+        this.notifier.notifyRequesters();
+        this.requesterUnavailable = false;
+        Mockito.doReturn(CURRENT_TIME + RETRY_INTERVAL - 1).when(this.notifier).getCurrentTime();
+
+        // exercise
+        this.notifier.notifyRequesters();
+
+        // verify
+        Assert.assertTrue(this.notifications.isEmpty());
+        Assert.assertEquals(1, this.notifier.getPendingOrders());
+
+        // exercise
+        Mockito.doReturn(CURRENT_TIME + RETRY_INTERVAL).when(this.notifier).getCurrentTime();
+        this.notifier.notifyRequesters();
+
+        // verify
+        Assert.assertEquals(1, this.notifications.size());
+        Assert.assertEquals(0, this.notifier.getPendingOrders());
+    }
+
+    // test case: The notifications of a requester must be sent in requests of up to the batch size.
+    @Test
+    public void testNotifyRequestersInBatches() throws Exception {
+        // set up
+        for (int i = 0; i < BATCH_SIZE + 1; i++) {
+            Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+            order.setOrderStateInTestMode(OrderState.FULFILLED);
+            this.notifier.enqueue(order);
+        }
+
+        // exercise
+        this.notifier.notifyRequesters();
+
+        // verify
+        Assert.assertEquals(2, this.notifications.size());
+        Assert.assertEquals(BATCH_SIZE, this.notifications.get(0).size());
+        Assert.assertEquals(1, this.notifications.get(1).size());
+    }
+
+    // test case: When the requester cannot be notified MAX_NOTIFICATION_ATTEMPTS times in a row, its
+    // notifications must be dropped.
+    @Test
+    public void testNotifyRequestersGivesUp() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.notifier.enqueue(order);
+        this.requesterUnavailable = true;
+
+        // exercise
+        for (int i = 0; i < RemoteOrderStateNotifier.MAX_NOTIFICATION_ATTEMPTS; i++) {
+            Mockito.doReturn(CURRENT_TIME + i * RETRY_INTERVAL).when(this.notifier).getCurrentTime();
+            this.notifier.notifyRequesters();
+        }
+
+        // verify
+        Mockito.verify(this.notifier, Mockito.times(RemoteOrderStateNotifier.MAX_NOTIFICATION_ATTEMPTS))
+                .sendNotification(Mockito.anyString(), Mockito.anyList());
+        Assert.assertEquals(0, this.notifier.getPendingOrders());
+    }
+
+    // test case: When the requester answers that it does not take notifications, the notifications to
+    // it must be dropped, and no more must be queued until NOT_SUPPORTED_RETRY_INTERVAL has passed.
+    @Test
+    public void testNotifyRequestersNotSupported() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalOrderWithRemoteRequester(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.notifier.enqueue(order);
+        this.notificationsNotSupported = true;
+
+        // exercise
+        this.notifier.notifyRequesters();
+        this.notifier.enqueue(order);
+
+        // verify
+        Assert.assertEquals(0, this.notifier.getPendingOrders());
+
+        // exercise
+        Mockito.doReturn(CURRENT_TIME + RemoteOrderStateNotifier.NOT_SUPPORTED_RETRY_INTERVAL)
+                .when(this.notifier).getCurrentTime();
+        this.notifier.enqueue(order);
+
+        // verify
+        Assert.assertEquals(1, this.notifier.getPendingOrders());
+    }
+}
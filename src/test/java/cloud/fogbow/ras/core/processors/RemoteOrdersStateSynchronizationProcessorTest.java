@@ -12,24 +12,38 @@ import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import cloud.fogbow.ras.core.models.orders.RemoteOrderUpdate;
+import com.google.gson.Gson;
 import org.apache.log4j.Level;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 @PrepareForTest({ RemoteCloudConnector.class,
         DatabaseManager.class,
         CloudConnectorFactory.class,
-        Thread.class,
         RemoteOrdersStateSynchronizationProcessor.class })
 public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests {
 
+    private static final int BATCH_SIZE = 2;
+    private static final String FAKE_VERSION = "fake-version";
+    private static final long RECONCILIATION_PERIOD = 60000;
+    private static final long CURRENT_TIME = 100000;
+
     private ChainedList<Order> remoteOrderList;
     private RemoteOrdersStateSynchronizationProcessor processor;
 
@@ -202,9 +216,7 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
     public void testAssignForDeletionSuccessfullyWhenThereIsNoOrder() throws InterruptedException, InternalServerErrorException {
 
         // set up
-        PowerMockito.mockStatic(Thread.class);
-        PowerMockito.doNothing().when(Thread.class);
-        Thread.sleep(Mockito.anyLong());
+        SharedOrderHolders.getInstance().getWakeUpSignal(OrderState.PENDING).signal();
 
         // exercise
         this.processor.synchronizeWithRemote();
@@ -215,4 +227,193 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         this.loggerTestChecking.verifyIfEmpty();
     }
 
+    // test case: When processing a batch of remote orders, only the orders answered by the provider must be
+    // updated, and the version of their state must be sent in the next synchronization.
+    @Test
+    public void testProcessBatchUpdatesOnlyChangedOrders() throws Exception {
+        // set up
+        this.processor = Mockito.spy(createBatchingProcessor());
+        Order order = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        Order unchangedOrder = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        unchangedOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+        List<Order> batch = Arrays.asList(order, unchangedOrder);
+
+        ComputeOrder remoteOrder = new ComputeOrder();
+        remoteOrder.setOrderStateInTestMode(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+        remoteOrder.setOnceFaultMessage(TestUtils.ANY_VALUE);
+        RemoteOrderUpdate orderUpdate = new RemoteOrderUpdate(order.getId(), FAKE_VERSION,
+                ComputeOrder.class.getName(), new Gson().toJson(remoteOrder));
+
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        Mockito.when(remoteCloudConnector.getRemoteOrderUpdatesAsync(Mockito.anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.singletonList(orderUpdate)))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        // exercise
+        this.processor.processBatch(TestUtils.FAKE_REMOTE_MEMBER_ID, batch);
+        this.processor.processBatch(TestUtils.FAKE_REMOTE_MEMBER_ID, batch);
+
+        // verify
+        Assert.assertEquals(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST, order.getOrderState());
+        Assert.assertEquals(TestUtils.ANY_VALUE, order.getFaultMessage());
+        Assert.assertEquals(OrderState.FULFILLED, unchangedOrder.getOrderState());
+
+        ArgumentCaptor<Map> versionsCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.RUN_TWICE))
+                .getRemoteOrderUpdatesAsync(versionsCaptor.capture());
+        Map<String, String> lastVersions = versionsCaptor.getValue();
+        Assert.assertEquals(FAKE_VERSION, lastVersions.get(order.getId()));
+        Assert.assertEquals("", lastVersions.get(unchangedOrder.getId()));
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrder(Mockito.any());
+    }
+
+    // test case: When the batch request fails, for instance because the provider does not support it, each
+    // order of the batch must be synchronized with a request of its own.
+    @Test
+    public void testProcessBatchFallsBackToSingleRequests() throws Exception {
+        // set up
+        this.processor = Mockito.spy(createBatchingProcessor());
+        Order order = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        Order otherOrder = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        otherOrder.setOrderStateInTestMode(OrderState.SPAWNING);
+
+        CompletableFuture<List<RemoteOrderUpdate>> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new FogbowException(TestUtils.ANY_VALUE));
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        Mockito.when(remoteCloudConnector.getRemoteOrderUpdatesAsync(Mockito.anyMap())).thenReturn(failedResponse);
+        Mockito.doNothing().when(this.processor).processRemoteProviderOrder(Mockito.any(Order.class));
+
+        // exercise
+        this.processor.processBatch(TestUtils.FAKE_REMOTE_MEMBER_ID, Arrays.asList(order, otherOrder));
+        this.processor.awaitPendingBatches();
+
+        // verify
+        Mockito.verify(this.processor, Mockito.times(TestUtils.RUN_ONCE)).processRemoteProviderOrder(Mockito.eq(order));
+        Mockito.verify(this.processor, Mockito.times(TestUtils.RUN_ONCE)).processRemoteProviderOrder(Mockito.eq(otherOrder));
+    }
+
+    // test case: A batch must be sent without waiting for the answer of the batches sent before it, and the
+    // answers must be applied as they arrive, before the pass ends.
+    @Test
+    public void testProcessBatchDoesNotWaitForAnswers() throws Exception {
+        // set up
+        this.processor = Mockito.spy(createBatchingProcessor());
+        Order order = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        Order otherOrder = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        otherOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+
+        ComputeOrder remoteOrder = new ComputeOrder();
+        remoteOrder.setOrderStateInTestMode(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+        remoteOrder.setOnceFaultMessage(TestUtils.ANY_VALUE);
+        RemoteOrderUpdate orderUpdate = new RemoteOrderUpdate(order.getId(), FAKE_VERSION,
+                ComputeOrder.class.getName(), new Gson().toJson(remoteOrder));
+
+        CompletableFuture<List<RemoteOrderUpdate>> response = new CompletableFuture<>();
+        CompletableFuture<List<RemoteOrderUpdate>> otherResponse = new CompletableFuture<>();
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        Mockito.when(remoteCloudConnector.getRemoteOrderUpdatesAsync(Mockito.anyMap()))
+                .thenReturn(response)
+                .thenReturn(otherResponse);
+
+        // exercise
+        this.processor.processBatch(TestUtils.FAKE_REMOTE_MEMBER_ID, Collections.singletonList(order));
+        this.processor.processBatch(TestUtils.FAKE_REMOTE_MEMBER_ID, Collections.singletonList(otherOrder));
+
+        // verify
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.RUN_TWICE))
+                .getRemoteOrderUpdatesAsync(Mockito.anyMap());
+        Assert.assertEquals(OrderState.FULFILLED, order.getOrderState());
+
+        // exercise
+        response.complete(Collections.singletonList(orderUpdate));
+        otherResponse.complete(Collections.emptyList());
+        this.processor.awaitPendingBatches();
+
+        // verify
+        Assert.assertEquals(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST, order.getOrderState());
+        Assert.assertEquals(OrderState.FULFILLED, otherOrder.getOrderState());
+        Mockito.verify(this.processor, Mockito.times(TestUtils.NEVER_RUN))
+                .processRemoteProviderOrder(Mockito.any(Order.class));
+    }
+
+    // test case: When batching is enabled, the orders visited must be sent to their provider once the batch
+    // is full, and the rest of them at the end of the pass.
+    @Test
+    public void testSynchronizeWithRemoteInBatches() throws Exception {
+        // set up
+        this.processor = Mockito.spy(createBatchingProcessor());
+        for (int i = 0; i < BATCH_SIZE + 1; i++) {
+            Order order = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+            order.setOrderStateInTestMode(OrderState.FULFILLED);
+            this.remoteOrderList.addItem(order);
+        }
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        Mockito.when(remoteCloudConnector.getRemoteOrderUpdatesAsync(Mockito.anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        SharedOrderHolders.getInstance().getWakeUpSignal(OrderState.PENDING).signal();
+
+        // exercise
+        for (int i = 0; i < BATCH_SIZE + 2; i++) {
+            this.processor.synchronizeWithRemote();
+        }
+
+        // verify
+        Mockito.verify(this.processor, Mockito.times(TestUtils.RUN_TWICE))
+                .processBatch(Mockito.eq(TestUtils.FAKE_REMOTE_MEMBER_ID), Mockito.anyList());
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.RUN_TWICE))
+                .getRemoteOrderUpdatesAsync(Mockito.anyMap());
+        Mockito.verify(this.processor, Mockito.times(TestUtils.NEVER_RUN))
+                .processRemoteProviderOrder(Mockito.any(Order.class));
+    }
+
+    // test case: The orders of a provider known to push their state changes must be synchronized once per
+    // reconciliation period, instead of in every pass.
+    @Test
+    public void testSynchronizeWithRemoteReconcilesPushingProvider() throws Exception {
+        // set up
+        this.processor = Mockito.spy(new RemoteOrdersStateSynchronizationProcessor(TestUtils.LOCAL_MEMBER_ID,
+                ConfigurationPropertyDefaults.CHECKING_DELETION_ORDERS_SLEEP_TIME,
+                new OrderDispatcher(RemoteOrdersStateSynchronizationProcessor.class.getSimpleName()), BATCH_SIZE,
+                RECONCILIATION_PERIOD));
+        Mockito.doReturn(CURRENT_TIME).when(this.processor).getCurrentTime();
+        Order order = this.testUtils.createRemoteOrder(TestUtils.LOCAL_MEMBER_ID);
+        order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.remoteOrderList.addItem(order);
+        SharedOrderHolders.getInstance().addPushingProvider(TestUtils.FAKE_REMOTE_MEMBER_ID);
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        Mockito.when(remoteCloudConnector.getRemoteOrderUpdatesAsync(Mockito.anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+
+        // exercise
+        synchronizePass();
+        synchronizePass();
+
+        // verify
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.RUN_ONCE))
+                .getRemoteOrderUpdatesAsync(Mockito.anyMap());
+
+        // exercise
+        Mockito.doReturn(CURRENT_TIME + RECONCILIATION_PERIOD).when(this.processor).getCurrentTime();
+        synchronizePass();
+
+        // verify
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.RUN_TWICE))
+                .getRemoteOrderUpdatesAsync(Mockito.anyMap());
+    }
+
+    // Visits the only order in the list, and then ends the pass
+    private void synchronizePass() throws InterruptedException {
+        SharedOrderHolders.getInstance().getWakeUpSignal(OrderState.PENDING).signal();
+        this.processor.synchronizeWithRemote();
+        this.processor.synchronizeWithRemote();
+    }
+
+    private RemoteOrdersStateSynchronizationProcessor createBatchingProcessor() {
+        return new RemoteOrdersStateSynchronizationProcessor(TestUtils.LOCAL_MEMBER_ID,
+                ConfigurationPropertyDefaults.CHECKING_DELETION_ORDERS_SLEEP_TIME,
+                new OrderDispatcher(RemoteOrdersStateSynchronizationProcessor.class.getSimpleName()), BATCH_SIZE);
+    }
 }
@@ -98,6 +98,82 @@ public class ImageTest {
         Assert.assertEquals(3, resultList.size());
     }
 
+    // test case: Test getAllImages() with a name filter and a page, it must return only the page
+    // of the matching images ordered by name, along with the number of matching images.
+    @Test
+    public void testGetAllImagesFilteredAndPaged() throws Exception {
+        // set up
+        List<ImageSummary> imageSummaryList = new ArrayList<>();
+        imageSummaryList.add(new ImageSummary("image-id3", "ubuntu-20.04"));
+        imageSummaryList.add(new ImageSummary("image-id1", "Ubuntu-16.04"));
+        imageSummaryList.add(new ImageSummary("image-id4", "centos-7"));
+        imageSummaryList.add(new ImageSummary("image-id2", "ubuntu-18.04"));
+
+        Mockito.doReturn(imageSummaryList).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        String query = "?" + Image.NAME_PARAMETER + "=UBUNTU&" + Image.PAGE_PARAMETER + "=1&"
+                + Image.PAGE_SIZE_PARAMETER + "=2";
+        RequestBuilder requestBuilder = createRequestBuilder(IMAGE_ENDPOINT + "/provider/cloud" + query,
+                getHttpHeaders(), "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.OK.value();
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+        Assert.assertEquals("3", result.getResponse().getHeader(CommonKeys.TOTAL_COUNT_HEADER_KEY));
+
+        TypeToken<List<ImageSummary>> token = new TypeToken<List<ImageSummary>>() {};
+        List<ImageSummary> resultList = new Gson().fromJson(result.getResponse().getContentAsString(), token.getType());
+        Assert.assertEquals(1, resultList.size());
+        Assert.assertEquals("image-id3", resultList.get(0).getId());
+    }
+
+    // test case: Test getAllImages() with the ETag of a previous response in the If-None-Match header,
+    // it must return NOT_MODIFIED while the images are unchanged.
+    @Test
+    public void testGetAllImagesNotModified() throws Exception {
+        // set up
+        List<ImageSummary> imageSummaryList = new ArrayList<>();
+        imageSummaryList.add(new ImageSummary("image-id1", "image-name1"));
+
+        Mockito.doReturn(imageSummaryList).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        RequestBuilder requestBuilder = createRequestBuilder(IMAGE_ENDPOINT + "/provider/cloud", getHttpHeaders(), "");
+        String eTag = this.mockMvc.perform(requestBuilder).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        HttpHeaders headers = getHttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        requestBuilder = createRequestBuilder(IMAGE_ENDPOINT + "/provider/cloud", headers, "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.NOT_MODIFIED.value();
+        Assert.assertNotNull(eTag);
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+        Assert.assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    // test case: Test getAllImages() with a page but without a page size, it must return BAD_REQUEST.
+    @Test
+    public void testGetAllImagesWithPageWithoutPageSize() throws Exception {
+        // set up
+        Mockito.doReturn(new ArrayList<ImageSummary>()).when(this.facade).getAllImages(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+        RequestBuilder requestBuilder = createRequestBuilder(IMAGE_ENDPOINT + "/provider/cloud?"
+                + Image.PAGE_PARAMETER + "=1", getHttpHeaders(), "");
+
+        // exercise
+        MvcResult result = this.mockMvc.perform(requestBuilder).andReturn();
+
+        // verify
+        int expectedStatus = HttpStatus.BAD_REQUEST.value();
+        Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
+    }
+
     // test case: Test if given an existing image id, the getImageId() returns that image properly.
     @Test
     public void testGetImageById() throws Exception {